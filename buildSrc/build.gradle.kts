@@ -9,6 +9,7 @@ repositories {
 
 dependencies {
     implementation("gradle.plugin.com.ewerk.gradle.plugins:querydsl-plugin:1.0.10")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
 }
 
 java {
@@ -18,6 +18,11 @@ public final class BuildDependencies {
         return Dependency.SPRING_KAFKA.getCoordinate();
     }
 
+    // Metrics - the MeterRegistry bean is auto-configured by actuator
+    public static String getSpringBootStarterActuator() {
+        return Dependency.SPRING_BOOT_STARTER_ACTUATOR.getCoordinateWithSpringBootVersion();
+    }
+
     public static String getMysqlConnectorRuntime() {
         return Dependency.MYSQL_CONNECTOR.getCoordinate();
     }
@@ -79,8 +79,17 @@ public class CommonPlugin implements Plugin<Project> {
     }
 
     private void configureTest(Project project) {
+        // Benchmarks are tagged "benchmark" and only run with -Pbenchmark
+        boolean benchmark = project.hasProperty("benchmark");
+
         project.getTasks().withType(Test.class).configureEach(test -> {
-            test.useJUnitPlatform();
+            test.useJUnitPlatform(options -> {
+                if (benchmark) {
+                    options.includeTags("benchmark");
+                } else {
+                    options.excludeTags("benchmark");
+                }
+            });
             test.finalizedBy(project.getTasks().named("jacocoTestReport"));
 
             test.setJvmArgs(Arrays.asList(
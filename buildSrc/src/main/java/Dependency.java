@@ -7,6 +7,7 @@ public enum Dependency {
     SPRING_BOOT_STARTER_DATA_REDIS("org.springframework.boot", "spring-boot-starter-data-redis", Version.SPRING_BOOT),
     SPRING_BOOT_STARTER_SECURITY("org.springframework.boot", "spring-boot-starter-security", Version.SPRING_BOOT),
     SPRING_BOOT_STARTER_VALIDATION("org.springframework.boot", "spring-boot-starter-validation", Version.SPRING_BOOT),
+    SPRING_BOOT_STARTER_ACTUATOR("org.springframework.boot", "spring-boot-starter-actuator", Version.SPRING_BOOT),
     SPRING_BOOT_STARTER_TEST("org.springframework.boot", "spring-boot-starter-test", Version.SPRING_BOOT),
 
     // Database
@@ -28,6 +29,9 @@ public enum Dependency {
     JJWT_IMPL("io.jsonwebtoken", "jjwt-impl", "0.11.5"),
     JJWT_JACKSON("io.jsonwebtoken", "jjwt-jackson", "0.11.5"),
 
+    // Metrics
+    MICROMETER_CORE("io.micrometer", "micrometer-core"),  // Version managed by Spring Boot
+
     // Kafka
     SPRING_KAFKA("org.springframework.kafka", "spring-kafka"),  // Version managed by Spring Boot
     SPRING_KAFKA_TEST("org.springframework.kafka", "spring-kafka-test"),  // Version managed by Spring Boot
@@ -45,6 +45,11 @@ public class JavaLibraryPlugin implements Plugin<Project> {
         project.getDependencies().add("annotationProcessor", Dependency.LOMBOK.getCoordinate());
         project.getDependencies().add("testImplementation", Dependency.SPRING_BOOT_STARTER_TEST.getCoordinate());
         project.getDependencies().add("api", Dependency.SPRING_KAFKA.getCoordinate());
+        project.getDependencies().add("api", Dependency.MICROMETER_CORE.getCoordinate());
+
+        // Redis is provided at runtime only by the services that use it
+        project.getDependencies().add("compileOnly", Dependency.SPRING_BOOT_STARTER_DATA_REDIS.getCoordinate());
+        project.getDependencies().add("testImplementation", Dependency.SPRING_BOOT_STARTER_DATA_REDIS.getCoordinate());
         
         project.getDependencies().add("testImplementation", Dependency.H2_DATABASE.getCoordinate());
         project.getDependencies().add("testImplementation", Dependency.SPRING_KAFKA_TEST.getCoordinate());
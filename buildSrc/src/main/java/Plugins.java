@@ -17,6 +17,9 @@ public enum Plugins {
     // QueryDSL
     QUERYDSL("com.ewerk.gradle.plugins.querydsl", Version.QUERYDSL_PLUGIN),
 
+    // Benchmarks
+    JMH("me.champeau.jmh", Version.JMH_PLUGIN),
+
     // Custom buildSrc plugins (no version needed)
     JAVA_LIBRARY_PLUGIN("java-library-plugin"),
     QUERYDSL_PLUGIN("querydsl-plugin");
@@ -4,6 +4,8 @@ public enum Version {
     SONARQUBE("6.2.0.5505"),
     FLYWAY("10.21.0"),
     QUERYDSL_PLUGIN("1.0.10"),
+    JMH_PLUGIN("0.7.3"),
+    JMH("1.37"),
     JAVA_VERSION("21");
 
     private final String version;
@@ -1,6 +1,12 @@
 plugins {
     id(Plugins.JAVA_LIBRARY_PLUGIN.id)
     id(Plugins.QUERYDSL_PLUGIN.id)
+    id(Plugins.JMH.id)
+}
+
+// Benchmarks live in src/jmh and run with ./gradlew :common:jmh
+jmh {
+    jmhVersion = Version.JMH.version
 }
 
 dependencies {
@@ -0,0 +1,93 @@
+package com.msa.commerce.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이벤트 1천만 건의 PG/플랫폼 수수료와 정산 금액 계산을 BigDecimal 과 {@link Money} 로 비교한다.
+ * 한 번 호출에 1천만 건을 모두 계산하고, 금액은 같은 시드로 미리 만들어 두어 난수 생성 시간은 재지 않는다.
+ * {@code ./gradlew :common:jmh} 로 실행한다.
+ * <p>
+ * 측정값(JMH 1.37, Temurin 17.0.9, x86_64 1 vCPU, 1 fork, 워밍업 3회, 측정 5회, 1천만 건당 평균 ± 99.9% 오차).
+ * 프로젝트 툴체인인 Java 21 이 없는 환경에서 잰 값이므로 Java 21 에서는 다시 재야 한다.
+ * <pre>
+ * Benchmark                  Mode  Cnt    Score     Error  Units
+ * MoneyBenchmark.bigDecimal  avgt    5  457.918 ± 219.632  ms/op
+ * MoneyBenchmark.money       avgt    5   89.680 ±  17.142  ms/op
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoneyBenchmark {
+
+    private static final int EVENTS = 10_000_000;
+
+    private static final long SEED = 46L;
+
+    private static final int GATEWAY_RATE = 275;      // 0.0275
+
+    private static final int PLATFORM_RATE = 100;     // 0.0100
+
+    private static final BigDecimal GATEWAY_RATE_DECIMAL = BigDecimal.valueOf(GATEWAY_RATE, 4);
+
+    private static final BigDecimal PLATFORM_RATE_DECIMAL = BigDecimal.valueOf(PLATFORM_RATE, 4);
+
+    private long[] grossMinor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        grossMinor = new long[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            grossMinor[i] = random.nextLong(100L, 10_000_000L);
+        }
+        if (bigDecimal() != money()) {
+            throw new IllegalStateException("BigDecimal and Money settlements differ");
+        }
+    }
+
+    @Benchmark
+    public long bigDecimal() {
+        long checksum = 0L;
+        for (long minor : grossMinor) {
+            BigDecimal gross = BigDecimal.valueOf(minor, 2);
+            BigDecimal gatewayFee = gross.multiply(GATEWAY_RATE_DECIMAL).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal platformFee = gross.multiply(PLATFORM_RATE_DECIMAL).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal net = gross.subtract(gatewayFee).subtract(platformFee);
+            checksum += net.unscaledValue().longValue();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long money() {
+        long checksum = 0L;
+        for (long minor : grossMinor) {
+            Money gross = Money.ofMinor(minor, "KRW");
+            Money gatewayFee = gross.multiplyByRate(GATEWAY_RATE, 4);
+            Money platformFee = gross.multiplyByRate(PLATFORM_RATE, 4);
+            Money net = gross.minus(gatewayFee).minus(platformFee);
+            checksum += net.minor();
+        }
+        return checksum;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.msa.commerce.common.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.eventstore.EventStore;
+import com.msa.commerce.common.eventstore.JdbcEventStore;
+import com.msa.commerce.common.eventstore.JdbcSnapshotStore;
+import com.msa.commerce.common.eventstore.SnapshotPolicy;
+import com.msa.commerce.common.eventstore.SnapshotStore;
+
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.event-store", name = "enabled", havingValue = "true")
+public class EventStoreConfig {
+
+    // MySQL Connector/J 는 Integer.MIN_VALUE 일 때 행 단위 스트리밍 결과셋을 사용한다
+    @Value("${commerce.event-store.streaming-fetch-size:-2147483648}")
+    private int streamingFetchSize;
+
+    // 기본값 0 은 스냅샷 미사용. 타입별 주기는 "Order=100,Product=50" 형식
+    @Value("${commerce.event-store.snapshot.default-interval:0}")
+    private int defaultSnapshotInterval;
+
+    @Value("${commerce.event-store.snapshot.intervals:}")
+    private String snapshotIntervals;
+
+    @Bean
+    public EventStore eventStore(DataSource dataSource, ObjectMapper objectMapper) {
+        return new JdbcEventStore(dataSource, objectMapper, streamingFetchSize);
+    }
+
+    @Bean
+    public SnapshotStore snapshotStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcSnapshotStore(jdbcTemplate);
+    }
+
+    @Bean
+    public SnapshotPolicy snapshotPolicy() {
+        return SnapshotPolicy.parse(defaultSnapshotInterval, snapshotIntervals);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.msa.commerce.common.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.msa.commerce.common.kafka.idempotency.EventDeduplicator;
+import com.msa.commerce.common.kafka.idempotency.IdempotentBatchInterceptor;
+import com.msa.commerce.common.kafka.idempotency.IdempotentRecordInterceptor;
+import com.msa.commerce.common.kafka.idempotency.JdbcProcessedEventStore;
+import com.msa.commerce.common.kafka.idempotency.ProcessedEventStore;
+import com.msa.commerce.common.kafka.idempotency.RedisProcessedEventStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.kafka.idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyConfig {
+
+    @Value("${commerce.kafka.idempotency.cache-size:100000}")
+    private int cacheSize;
+
+    @Value("${commerce.kafka.idempotency.batch-size:500}")
+    private int batchSize;
+
+    @Value("${commerce.kafka.idempotency.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Bean(destroyMethod = "close")
+    public EventDeduplicator eventDeduplicator(ProcessedEventStore processedEventStore,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new EventDeduplicator(
+            processedEventStore,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            cacheSize,
+            batchSize,
+            Duration.ofMillis(flushIntervalMs));
+    }
+
+    @Bean
+    public IdempotentRecordInterceptor idempotentRecordInterceptor(EventDeduplicator eventDeduplicator) {
+        return new IdempotentRecordInterceptor(eventDeduplicator);
+    }
+
+    @Bean
+    public IdempotentBatchInterceptor idempotentBatchInterceptor(EventDeduplicator eventDeduplicator) {
+        return new IdempotentBatchInterceptor(eventDeduplicator);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "commerce.kafka.idempotency", name = "store", havingValue = "jdbc", matchIfMissing = true)
+    static class JdbcStoreConfig {
+
+        @Bean
+        public ProcessedEventStore jdbcProcessedEventStore(JdbcTemplate jdbcTemplate,
+            @Value("${commerce.kafka.idempotency.window-seconds:86400}") long windowSeconds) {
+            return new JdbcProcessedEventStore(jdbcTemplate, Duration.ofSeconds(windowSeconds));
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+    @ConditionalOnProperty(prefix = "commerce.kafka.idempotency", name = "store", havingValue = "redis")
+    static class RedisStoreConfig {
+
+        @Bean
+        public ProcessedEventStore redisProcessedEventStore(StringRedisTemplate redisTemplate,
+            @Value("${commerce.kafka.idempotency.window-seconds:86400}") long windowSeconds) {
+            return new RedisProcessedEventStore(redisTemplate, Duration.ofSeconds(windowSeconds));
+        }
+
+    }
+
+}
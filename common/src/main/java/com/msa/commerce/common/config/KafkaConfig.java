@@ -6,8 +6,11 @@ import java.util.Map;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,19 +21,41 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.BatchInterceptor;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.msa.commerce.common.kafka.idempotency.EventDeduplicator;
+import com.msa.commerce.common.kafka.idempotency.EventIdPrefetchInterceptor;
 
 @Configuration
 public class KafkaConfig {
 
+    public static final String DLT_SUFFIX = "-dlt";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${commerce.kafka.error.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${commerce.kafka.error.initial-interval-ms:500}")
+    private long initialIntervalMs;
+
+    @Value("${commerce.kafka.error.max-interval-ms:5000}")
+    private long maxIntervalMs;
+
     @Bean
     public KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
@@ -42,15 +67,18 @@ public class KafkaConfig {
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // Producer reliability settings
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        // 역직렬화에 실패한 원본(byte[])은 DLT 로 그대로 재발행해야 하므로 byte[] 는 JSON 으로 감싸지 않는다
+        DelegatingByTypeSerializer valueSerializer = new DelegatingByTypeSerializer(Map.of(
+            byte[].class, new ByteArraySerializer(),
+            Object.class, new JsonSerializer<>()), true);
+
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), valueSerializer);
     }
 
     @Bean
@@ -64,7 +92,10 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+
+        // 역직렬화 실패가 poll 루프에서 무한 반복되지 않도록 ErrorHandlingDeserializer 로 감싼다
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
 
         // Consumer reliability settings
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -76,15 +107,99 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
+    /**
+     * 재시도 후에도 실패한 레코드를 {@code <topic>-dlt} 로 보내고 다음 오프셋으로 진행한다.
+     * 재시도 토픽(KafkaRetryTopicConfig)을 쓰지 않는 리스너와 배치 리스너에 적용되는 기본 핸들러다.
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler() {
+        // 파티션은 브로커에 맡긴다 (DLT 파티션 수가 원본과 달라도 발행 가능)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate(),
+            (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(initialIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(maxIntervalMs);
+
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+        ObjectProvider<RecordInterceptor<String, Object>> recordInterceptor,
+        ObjectProvider<EventDeduplicator> eventDeduplicator) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        EventDeduplicator deduplicator = eventDeduplicator.getIfAvailable();
+        factory.setConsumerFactory(deduplicator != null ? prefetchingConsumerFactory(deduplicator) : consumerFactory());
 
         // Manual acknowledgment mode for reliable message processing
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
 
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+
+        // commerce.kafka.idempotency.enabled=true 인 경우 중복 이벤트를 리스너 호출 전에 걸러낸다
+        recordInterceptor.ifAvailable(factory::setRecordInterceptor);
+
+        return factory;
+    }
+
+    /**
+     * 중복 판별용 저장소 조회를 poll 당 한 번으로 묶도록 {@link EventIdPrefetchInterceptor} 를 붙인 컨슈머 팩토리.
+     */
+    private ConsumerFactory<String, Object> prefetchingConsumerFactory(EventDeduplicator deduplicator) {
+        Map<String, Object> configProps = new HashMap<>(consumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, EventIdPrefetchInterceptor.class.getName());
+        configProps.put(EventIdPrefetchInterceptor.DEDUPLICATOR_CONFIG, deduplicator);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+        ObjectProvider<BatchInterceptor<String, Object>> batchInterceptor,
+        ObjectProvider<EventDeduplicator> eventDeduplicator) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        EventDeduplicator deduplicator = eventDeduplicator.getIfAvailable();
+        factory.setConsumerFactory(deduplicator != null ? prefetchingConsumerFactory(deduplicator) : consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+
+        // commerce.kafka.idempotency.enabled=true 인 경우 poll 배치에서 중복 이벤트를 빼고 리스너에 넘긴다
+        batchInterceptor.ifAvailable(factory::setBatchInterceptor);
+
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, String> deadLetterConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + DLT_SUFFIX);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        // DLT 에는 역직렬화 불가능한 원본도 들어오므로 payload 는 문자열로만 읽는다
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * DLT 소비용 배치 팩토리. DLT 처리 실패가 다시 DLT 를 만들지 않도록 짧게 재시도한 뒤 로그만 남기고 넘어간다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> deadLetterKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(deadLetterConsumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3L)));
+
         return factory;
     }
 
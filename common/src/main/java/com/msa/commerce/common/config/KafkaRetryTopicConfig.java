@@ -0,0 +1,53 @@
+package com.msa.commerce.common.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+/**
+ * Non-blocking 재시도 토픽 설정.
+ * <p>
+ * 실패한 레코드는 {@code <topic>-retry-N} 토픽으로 옮겨져 지수 백오프 후 다시 소비되고,
+ * 최대 시도 횟수를 넘으면 {@code <topic>-dlt} 로 이동한다. 원본 파티션은 막히지 않는다.
+ * 배치 리스너는 재시도 토픽을 지원하지 않으므로 대상 토픽을 명시적으로 지정한다.
+ */
+@Configuration
+@EnableKafkaRetryTopic
+@ConditionalOnProperty(prefix = "commerce.kafka.retry", name = "topics")
+public class KafkaRetryTopicConfig {
+
+    @Value("${commerce.kafka.retry.topics}")
+    private List<String> topics;
+
+    @Value("${commerce.kafka.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${commerce.kafka.retry.initial-interval-ms:1000}")
+    private long initialIntervalMs;
+
+    @Value("${commerce.kafka.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${commerce.kafka.retry.max-interval-ms:30000}")
+    private long maxIntervalMs;
+
+    @Bean
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaTemplate<String, Object> kafkaTemplate) {
+        return RetryTopicConfigurationBuilder.newInstance()
+            .includeTopics(topics)
+            .maxAttempts(maxAttempts)
+            .exponentialBackoff(initialIntervalMs, multiplier, maxIntervalMs)
+            .retryTopicSuffix("-retry")
+            .suffixTopicsWithIndexValues()
+            .dltSuffix(KafkaConfig.DLT_SUFFIX)
+            .create(kafkaTemplate);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.msa.commerce.common.events;
+
+/**
+ * 서비스 간 Kafka 로 전달되는 도메인 이벤트.
+ * eventId 는 event_store.event_id 와 동일한 값이며 컨슈머 측 중복 제거의 키로 사용된다.
+ */
+public interface DomainEvent {
+
+    String getEventId();
+
+}
@@ -0,0 +1,65 @@
+package com.msa.commerce.common.events.order;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문이 생성되었을 때 발행된다. version 은 주문 스트림 버전으로 생성 시 1 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCreatedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long orderId;
+
+    private String orderNumber;
+
+    private Long userId;
+
+    private long version;
+
+    private String status;
+
+    private BigDecimal totalAmount;
+
+    private String currency;
+
+    private Instant createdAt;
+
+    private Instant occurredAt;
+
+    private List<Item> items;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private Long productId;
+
+        private Long categoryId;
+
+        private String productSku;
+
+        private String productName;
+
+        private int quantity;
+
+        private BigDecimal totalPrice;
+
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.common.events.order;
+
+/**
+ * 주문 관련 도메인 이벤트 토픽. 파티션 키는 orderId 문자열이다.
+ */
+public final class OrderEventTopics {
+
+    public static final String ORDER_CREATED = "order.created";
+
+    public static final String ORDER_STATUS_CHANGED = "order.status-changed";
+
+    private OrderEventTopics() {
+    }
+
+}
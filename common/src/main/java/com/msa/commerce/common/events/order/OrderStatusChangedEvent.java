@@ -0,0 +1,45 @@
+package com.msa.commerce.common.events.order;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태가 바뀌었을 때 발행된다.
+ * 생성 이벤트보다 먼저 도착하는 컨슈머도 요약을 만들 수 있도록 주문 요약 필드를 함께 싣는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusChangedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long orderId;
+
+    private String orderNumber;
+
+    private Long userId;
+
+    private long version;
+
+    private String previousStatus;
+
+    private String status;
+
+    private BigDecimal totalAmount;
+
+    private String currency;
+
+    private Instant createdAt;
+
+    private Instant occurredAt;
+
+}
@@ -0,0 +1,40 @@
+package com.msa.commerce.common.events.payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 사가 매입을 거절해 결제가 FAILED 가 되었을 때 발행된다. 주문 쪽은 이 이벤트로 주문을 보상한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCaptureFailedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long paymentId;
+
+    private Long orderId;
+
+    private String gatewayProvider;
+
+    private String paymentMethodType;
+
+    private BigDecimal amount;
+
+    private String currency;
+
+    private String failureReason;
+
+    private Instant occurredAt;
+
+}
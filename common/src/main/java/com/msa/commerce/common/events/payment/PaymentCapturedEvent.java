@@ -0,0 +1,40 @@
+package com.msa.commerce.common.events.payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 승인된 결제가 매입되어 COMPLETED 가 되었을 때 발행된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCapturedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long paymentId;
+
+    private Long orderId;
+
+    private String gatewayProvider;
+
+    private String paymentMethodType;
+
+    private String gatewayTransactionId;
+
+    private BigDecimal amount;
+
+    private String currency;
+
+    private Instant occurredAt;
+
+}
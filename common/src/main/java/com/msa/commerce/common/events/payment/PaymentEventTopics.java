@@ -0,0 +1,17 @@
+package com.msa.commerce.common.events.payment;
+
+/**
+ * 결제 관련 도메인 이벤트 토픽. 파티션 키는 orderId 문자열이다.
+ */
+public final class PaymentEventTopics {
+
+    public static final String PAYMENT_CAPTURED = "payment.captured";
+
+    public static final String PAYMENT_CAPTURE_FAILED = "payment.capture-failed";
+
+    public static final String PAYMENT_REFUNDED = "payment.refunded";
+
+    private PaymentEventTopics() {
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.msa.commerce.common.events.payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매입된 결제가 환불되었을 때 발행된다. amount 는 이번에 환불된 금액이고, 결제 금액보다 작으면 partial 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRefundedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long paymentId;
+
+    private Long orderId;
+
+    private String gatewayProvider;
+
+    private String paymentMethodType;
+
+    private String gatewayTransactionId;
+
+    private BigDecimal amount;
+
+    private String currency;
+
+    private boolean partial;
+
+    private Instant occurredAt;
+
+}
@@ -0,0 +1,50 @@
+package com.msa.commerce.common.events.product;
+
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 기본 정보와 소속 카테고리가 바뀌었을 때 발행된다. 항상 변경 후의 전체 값을 담는다.
+ * version 은 상품 스트림 버전으로, 컨슈머는 이보다 작거나 같은 버전의 이벤트를 무시한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailsChangedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long productId;
+
+    private long version;
+
+    private String sku;
+
+    private String name;
+
+    private String shortDescription;
+
+    private String description;
+
+    private String brand;
+
+    private String status;
+
+    private String visibility;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private String categoryPath;
+
+    private Instant occurredAt;
+
+}
@@ -0,0 +1,17 @@
+package com.msa.commerce.common.events.product;
+
+/**
+ * 상품 관련 도메인 이벤트 토픽. 파티션 키는 productId 문자열이다.
+ */
+public final class ProductEventTopics {
+
+    public static final String PRODUCT_DETAILS_CHANGED = "product.details-changed";
+
+    public static final String PRODUCT_PRICE_CHANGED = "product.price-changed";
+
+    public static final String PRODUCT_INVENTORY_CHANGED = "product.inventory-changed";
+
+    private ProductEventTopics() {
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.msa.commerce.common.events.product;
+
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고가 바뀌었을 때 발행된다. version 은 product_inventory.version_number 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductInventoryChangedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long productId;
+
+    private long version;
+
+    private int availableQuantity;
+
+    private int reservedQuantity;
+
+    private boolean backorderAllowed;
+
+    private Instant occurredAt;
+
+}
@@ -0,0 +1,36 @@
+package com.msa.commerce.common.events.product;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 판매가가 바뀌었을 때 발행된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPriceChangedEvent implements DomainEvent {
+
+    private String eventId;
+
+    private Long productId;
+
+    private long version;
+
+    private BigDecimal price;
+
+    private BigDecimal comparePrice;
+
+    private String currency;
+
+    private Instant occurredAt;
+
+}
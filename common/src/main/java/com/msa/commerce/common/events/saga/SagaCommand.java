@@ -0,0 +1,59 @@
+package com.msa.commerce.common.events.saga;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오케스트레이터가 참여 서비스에 보내는 사가 단계 실행/보상 요청.
+ * <p>
+ * eventId 는 (orderId, 실행 번호, step, compensation, 시도) 로 결정된다. 오케스트레이터가 재시작 등으로 사가를 이어서
+ * 실행하면 실행 번호가 올라가므로 다시 보낸 커맨드는 새 eventId 를 갖고, 같은 eventId 는 브로커 재전달뿐이라
+ * eventId 중복 제거로 걸러내도 된다. 참여 서비스는 (orderId, step, compensation) 단위로 멱등하게 처리하고,
+ * 이미 처리한 단계의 커맨드에는 이전 결과로 다시 응답해야 한다.
+ * 보상 커맨드는 대상 단계가 실행되지 않았더라도 성공으로 응답해야 한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaCommand implements DomainEvent {
+
+    private String eventId;
+
+    private Long orderId;
+
+    private String step;
+
+    private boolean compensation;
+
+    private Long userId;
+
+    private BigDecimal amount;
+
+    private String currency;
+
+    private List<Line> lines;
+
+    private Instant occurredAt;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+
+        private Long productId;
+
+        private int quantity;
+
+    }
+
+}
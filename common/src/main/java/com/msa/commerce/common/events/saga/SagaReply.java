@@ -0,0 +1,37 @@
+package com.msa.commerce.common.events.saga;
+
+import java.time.Instant;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link SagaCommand} 처리 결과. step 과 compensation 은 요청 커맨드의 값을 그대로 돌려준다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaReply implements DomainEvent {
+
+    private String eventId;
+
+    private String commandId;
+
+    private Long orderId;
+
+    private String step;
+
+    private boolean compensation;
+
+    private boolean success;
+
+    private String reason;
+
+    private Instant occurredAt;
+
+}
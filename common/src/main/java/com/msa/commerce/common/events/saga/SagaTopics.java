@@ -0,0 +1,17 @@
+package com.msa.commerce.common.events.saga;
+
+/**
+ * 주문 사가 커맨드/응답 토픽. 파티션 키는 orderId 문자열이다.
+ */
+public final class SagaTopics {
+
+    public static final String INVENTORY_COMMANDS = "saga.inventory-commands";
+
+    public static final String PAYMENT_COMMANDS = "saga.payment-commands";
+
+    public static final String ORDER_SAGA_REPLIES = "saga.order-replies";
+
+    private SagaTopics() {
+    }
+
+}
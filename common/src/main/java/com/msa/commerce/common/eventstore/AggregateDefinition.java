@@ -0,0 +1,17 @@
+package com.msa.commerce.common.eventstore;
+
+/**
+ * 이벤트 소싱 애그리거트를 EventSourcedRepository 에 연결하기 위한 정의.
+ * 상태 타입은 스냅샷으로 JSON 직렬화되므로 Jackson 으로 읽고 쓸 수 있어야 한다.
+ */
+public interface AggregateDefinition<A> {
+
+    String aggregateType();
+
+    Class<A> stateType();
+
+    A initialState(String aggregateId);
+
+    A apply(A state, StoredEvent event);
+
+}
@@ -0,0 +1,24 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.Set;
+
+import com.msa.commerce.common.exception.DuplicateResourceException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * append 한 이벤트 중 일부의 event_id 가 이미 기록된 경우 발생한다. 버전 충돌과 달리 다시 읽고 재시도해도 해결되지 않는다.
+ * 모든 event_id 가 이미 기록된 append 는 같은 append 의 재시도로 보고 예외 없이 무시한다.
+ */
+@Getter
+public class DuplicateEventException extends DuplicateResourceException {
+
+    private final Set<String> eventIds;
+
+    public DuplicateEventException(Set<String> eventIds, Throwable cause) {
+        super("Events already appended: " + eventIds, ErrorCode.EVENT_ALREADY_APPENDED.getCode(), cause);
+        this.eventIds = Set.copyOf(eventIds);
+    }
+
+}
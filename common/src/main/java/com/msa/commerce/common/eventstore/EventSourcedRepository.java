@@ -0,0 +1,102 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스냅샷 + 이후 이벤트(tail)로 애그리거트를 복원하고, 새 이벤트 저장 시 정책에 따라 스냅샷을 남긴다.
+ */
+@Slf4j
+public class EventSourcedRepository<A> {
+
+    private final AggregateDefinition<A> definition;
+
+    private final EventStore eventStore;
+
+    private final SnapshotStore snapshotStore;
+
+    private final SnapshotPolicy snapshotPolicy;
+
+    private final ObjectMapper objectMapper;
+
+    public EventSourcedRepository(AggregateDefinition<A> definition, EventStore eventStore,
+        SnapshotStore snapshotStore, SnapshotPolicy snapshotPolicy, ObjectMapper objectMapper) {
+        this.definition = definition;
+        this.eventStore = eventStore;
+        this.snapshotStore = snapshotStore;
+        this.snapshotPolicy = snapshotPolicy;
+        this.objectMapper = objectMapper;
+    }
+
+    public LoadedAggregate<A> load(String aggregateId) {
+        String aggregateType = definition.aggregateType();
+
+        A state = definition.initialState(aggregateId);
+        long version = 0;
+
+        if (snapshotPolicy.intervalFor(aggregateType) > 0) {
+            Optional<Snapshot> snapshot = snapshotStore.findLatest(aggregateType, aggregateId);
+            Optional<A> restored = snapshot.flatMap(this::fromSnapshot);
+            if (restored.isPresent()) {
+                state = restored.get();
+                version = snapshot.get().version();
+            }
+        }
+
+        int replayed = 0;
+        try (Stream<StoredEvent> tail = eventStore.readStream(aggregateType, aggregateId, version + 1)) {
+            Iterator<StoredEvent> events = tail.iterator();
+            while (events.hasNext()) {
+                StoredEvent event = events.next();
+                state = definition.apply(state, event);
+                version = event.getVersion();
+                replayed++;
+            }
+        }
+
+        return new LoadedAggregate<>(aggregateId, state, version, replayed);
+    }
+
+    /**
+     * 새 이벤트를 저장하고 새 스트림 버전을 반환한다.
+     *
+     * @param newState 이벤트가 반영된 상태. 스냅샷 주기에 도달한 경우에만 직렬화된다.
+     */
+    public long save(String aggregateId, long expectedVersion, List<NewEvent> events, A newState) {
+        String aggregateType = definition.aggregateType();
+        long newVersion = eventStore.append(aggregateType, aggregateId, expectedVersion, events);
+
+        if (snapshotPolicy.shouldSnapshot(aggregateType, expectedVersion, newVersion)) {
+            saveSnapshot(aggregateType, aggregateId, newVersion, newState);
+        }
+        return newVersion;
+    }
+
+    private void saveSnapshot(String aggregateType, String aggregateId, long version, A state) {
+        // 스냅샷은 최적화일 뿐이므로 실패해도 이벤트 저장 결과에는 영향을 주지 않는다
+        try {
+            snapshotStore.save(new Snapshot(aggregateType, aggregateId, version, objectMapper.writeValueAsString(state)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to save snapshot for {}/{} at version {}", aggregateType, aggregateId, version, e);
+        }
+    }
+
+    private Optional<A> fromSnapshot(Snapshot snapshot) {
+        // 상태 클래스가 바뀌어 읽을 수 없는 스냅샷은 버리고 전체 이벤트를 재생한다
+        try {
+            return Optional.of(objectMapper.readValue(snapshot.data(), definition.stateType()));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable snapshot for {}/{} at version {}",
+                snapshot.aggregateType(), snapshot.aggregateId(), snapshot.version(), e);
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface EventStore {
+
+    /**
+     * 스트림에 이벤트를 추가하고 새 스트림 버전을 반환한다.
+     * 이벤트들은 expectedVersion + 1 부터 연속된 버전으로 하나의 INSERT 문에 저장된다.
+     *
+     * 모든 이벤트의 event_id 가 이미 기록돼 있으면 같은 append 의 재시도로 보고 아무것도 하지 않는다.
+     *
+     * @throws EventStreamConflictException 다른 writer 가 먼저 같은 버전을 기록한 경우
+     * @throws DuplicateEventException 일부 이벤트의 event_id 가 이미 기록된 경우
+     * @throws IllegalArgumentException expectedVersion 이 현재 스트림 버전보다 앞선 경우
+     */
+    long append(String aggregateType, String aggregateId, long expectedVersion, List<NewEvent> events);
+
+    /**
+     * 여러 스트림에 대한 append 를 하나의 INSERT 문으로 처리한다. 하나라도 충돌하면 전체가 실패하고,
+     * {@link EventStreamConflictException} 에 충돌한 스트림을 모두 담는다.
+     */
+    void appendAll(List<StreamAppend> appends);
+
+    long currentVersion(String aggregateType, String aggregateId);
+
+    /**
+     * fromVersion 이상인 이벤트를 버전 순으로 스트리밍한다.
+     * 커넥션을 점유하므로 반드시 try-with-resources 로 닫아야 한다.
+     */
+    Stream<StoredEvent> readStream(String aggregateType, String aggregateId, long fromVersion);
+
+    /**
+     * 전역 순서(id)가 position 보다 큰 이벤트를 최대 limit 건 읽는다. 프로젝션 재구성용.
+     */
+    List<StoredEvent> readAllAfter(long position, int limit);
+
+}
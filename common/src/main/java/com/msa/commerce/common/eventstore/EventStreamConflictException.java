@@ -0,0 +1,26 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.List;
+
+import com.msa.commerce.common.exception.DuplicateResourceException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 기대한 스트림 버전 이후에 다른 writer 가 이미 이벤트를 추가한 경우 발생한다.
+ * 여러 스트림을 한 번에 추가했으면 충돌한 스트림을 모두 담는다.
+ * 호출자는 스트림을 다시 읽고 커맨드를 재시도해야 한다.
+ */
+@Getter
+public class EventStreamConflictException extends DuplicateResourceException {
+
+    private final List<StreamConflict> conflicts;
+
+    public EventStreamConflictException(List<StreamConflict> conflicts, Throwable cause) {
+        super("Event streams have moved past expected versions: " + conflicts,
+            ErrorCode.EVENT_STREAM_VERSION_CONFLICT.getCode(), cause);
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.msa.commerce.common.eventstore;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * MySQL event_store 테이블 기반 이벤트 스토어.
+ * <p>
+ * 낙관적 동시성 제어는 (aggregate_type, aggregate_id, event_version) 유니크 키로 보장한다.
+ * 같은 버전을 두 writer 가 동시에 기록하면 늦은 쪽의 INSERT 전체가 실패한다.
+ * 스트림 끝보다 앞선 expectedVersion 은 버전 사이에 빈 칸을 만들므로 INSERT 전에 스트림 끝을 한 문장으로 읽어 거부한다.
+ * INSERT 가 유니크 키에 걸리면 event_id 를 다시 조회해 버전 충돌과 이미 기록된 이벤트를 구분한다.
+ * 스트림 읽기는 별도 JdbcTemplate 의 fetchSize 로 서버 커서를 사용해 전체 결과를 메모리에 올리지 않는다.
+ */
+public class JdbcEventStore implements EventStore {
+
+    static final int MAX_EVENTS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO event_store
+            (event_id, event_type, aggregate_type, aggregate_id, event_version, event_data, metadata, occurred_at)
+        VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS = """
+        SELECT id, event_id, event_type, aggregate_type, aggregate_id, event_version, event_data, metadata, occurred_at
+        FROM event_store
+        """;
+
+    private static final String STREAM_HEAD_SQL = """
+        SELECT %d AS ordinal, COALESCE(MAX(event_version), 0) AS head
+        FROM event_store WHERE aggregate_type = ? AND aggregate_id = ?""";
+
+    private static final String SELECT_EVENT_IDS_SQL = "SELECT event_id FROM event_store WHERE event_id IN (:eventIds)";
+
+    private static final RowMapper<StoredEvent> ROW_MAPPER = JdbcEventStore::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param streamingFetchSize MySQL 에서 Integer.MIN_VALUE 는 행 단위 스트리밍을 의미한다
+     */
+    public JdbcEventStore(DataSource dataSource, ObjectMapper objectMapper, int streamingFetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(streamingFetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long append(String aggregateType, String aggregateId, long expectedVersion, List<NewEvent> events) {
+        StreamAppend streamAppend = new StreamAppend(aggregateType, aggregateId, expectedVersion, events);
+        appendAll(List.of(streamAppend));
+        return expectedVersion + events.size();
+    }
+
+    @Override
+    public void appendAll(List<StreamAppend> appends) {
+        int rowCount = appends.stream().mapToInt(append -> append.events().size()).sum();
+        if (rowCount == 0) {
+            return;
+        }
+        if (rowCount > MAX_EVENTS_PER_STATEMENT) {
+            throw new IllegalArgumentException(
+                "Too many events in one append: " + rowCount + " (max " + MAX_EVENTS_PER_STATEMENT + ")");
+        }
+
+        rejectVersionsAhead(appends);
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rowCount, VALUES_ROW));
+
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                int index = 1;
+                for (StreamAppend append : appends) {
+                    long version = append.expectedVersion();
+                    for (NewEvent event : append.events()) {
+                        ps.setString(index++, event.getEventId());
+                        ps.setString(index++, event.getEventType());
+                        ps.setString(index++, append.aggregateType());
+                        ps.setString(index++, append.aggregateId());
+                        ps.setLong(index++, ++version);
+                        ps.setString(index++, toJson(event.getData()));
+                        ps.setString(index++, event.getMetadata() != null ? toJson(event.getMetadata()) : null);
+                        ps.setTimestamp(index++, Timestamp.valueOf(event.getOccurredAt()));
+                    }
+                }
+                return ps;
+            });
+        } catch (DuplicateKeyException e) {
+            List<String> eventIds = appends.stream()
+                .flatMap(append -> append.events().stream())
+                .map(NewEvent::getEventId)
+                .toList();
+            Set<String> appended = new HashSet<>(namedJdbcTemplate.queryForList(
+                SELECT_EVENT_IDS_SQL, new MapSqlParameterSource("eventIds", eventIds), String.class));
+            if (appended.size() == eventIds.size()) {
+                // 이미 커밋된 같은 append 의 재시도
+                return;
+            }
+            if (!appended.isEmpty()) {
+                throw new DuplicateEventException(appended, e);
+            }
+            throw new EventStreamConflictException(conflictsOf(appends), e);
+        }
+    }
+
+    /**
+     * 스트림 끝을 다시 읽어 expectedVersion 을 지나간 스트림을 모두 고른다. 충돌한 writer 가 그 사이 롤백되어
+     * 지나간 스트림이 없으면 어느 스트림인지 알 수 없으므로 요청한 스트림을 모두 돌려준다.
+     */
+    private List<StreamConflict> conflictsOf(List<StreamAppend> appends) {
+        List<StreamAppend> written = appends.stream().filter(append -> !append.events().isEmpty()).toList();
+        long[] heads = streamHeads(written);
+        List<StreamConflict> streams = new ArrayList<>(written.size());
+        for (int i = 0; i < written.size(); i++) {
+            StreamAppend append = written.get(i);
+            streams.add(new StreamConflict(append.aggregateType(), append.aggregateId(),
+                append.expectedVersion(), heads[i]));
+        }
+        List<StreamConflict> moved = streams.stream()
+            .filter(stream -> stream.currentVersion() > stream.expectedVersion())
+            .toList();
+        return moved.isEmpty() ? streams : moved;
+    }
+
+    /**
+     * 새 스트림(expectedVersion 0)은 앞설 수 없으므로 나머지 스트림의 끝만 UNION ALL 한 문장으로 읽는다.
+     * 읽은 뒤 다른 writer 가 스트림을 늘리면 expectedVersion 은 앞서는 것이 아니라 뒤처진 것이 되고, INSERT 가 유니크 키로 막는다.
+     */
+    private void rejectVersionsAhead(List<StreamAppend> appends) {
+        List<StreamAppend> existing = appends.stream()
+            .filter(append -> append.expectedVersion() > 0 && !append.events().isEmpty())
+            .toList();
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        long[] heads = streamHeads(existing);
+        for (int i = 0; i < existing.size(); i++) {
+            StreamAppend append = existing.get(i);
+            if (append.expectedVersion() > heads[i]) {
+                throw new IllegalArgumentException("Expected version " + append.expectedVersion() + " of "
+                    + append.aggregateType() + "/" + append.aggregateId() + " is ahead of stream version " + heads[i]);
+            }
+        }
+    }
+
+    /**
+     * 스트림별 끝 버전을 UNION ALL 한 문장으로 읽어 appends 순서대로 돌려준다.
+     */
+    private long[] streamHeads(List<StreamAppend> appends) {
+        long[] heads = new long[appends.size()];
+        if (appends.isEmpty()) {
+            return heads;
+        }
+        List<String> parts = new ArrayList<>(appends.size());
+        List<Object> args = new ArrayList<>(appends.size() * 2);
+        for (int i = 0; i < appends.size(); i++) {
+            parts.add(STREAM_HEAD_SQL.formatted(i));
+            args.add(appends.get(i).aggregateType());
+            args.add(appends.get(i).aggregateId());
+        }
+        jdbcTemplate.query(String.join("\nUNION ALL\n", parts),
+            rs -> {
+                heads[rs.getInt("ordinal")] = rs.getLong("head");
+            }, args.toArray());
+        return heads;
+    }
+
+    @Override
+    public long currentVersion(String aggregateType, String aggregateId) {
+        Long version = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(event_version), 0) FROM event_store WHERE aggregate_type = ? AND aggregate_id = ?",
+            Long.class, aggregateType, aggregateId);
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public Stream<StoredEvent> readStream(String aggregateType, String aggregateId, long fromVersion) {
+        return streamingJdbcTemplate.queryForStream(
+            SELECT_COLUMNS + "WHERE aggregate_type = ? AND aggregate_id = ? AND event_version >= ? ORDER BY event_version",
+            ROW_MAPPER, aggregateType, aggregateId, fromVersion);
+    }
+
+    @Override
+    public List<StoredEvent> readAllAfter(long position, int limit) {
+        return jdbcTemplate.query(
+            SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?",
+            ROW_MAPPER, position, limit);
+    }
+
+    private String toJson(Object value) {
+        if (value instanceof String json) {
+            return json;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize event payload: " + value.getClass().getName(), e);
+        }
+    }
+
+    private static StoredEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return StoredEvent.builder()
+            .id(rs.getLong("id"))
+            .eventId(rs.getString("event_id"))
+            .eventType(rs.getString("event_type"))
+            .aggregateType(rs.getString("aggregate_type"))
+            .aggregateId(rs.getString("aggregate_id"))
+            .version(rs.getLong("event_version"))
+            .data(rs.getString("event_data"))
+            .metadata(rs.getString("metadata"))
+            .occurredAt(rs.getTimestamp("occurred_at").toLocalDateTime())
+            .build();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * event_snapshots 테이블 기반 스냅샷 저장소. 스트림당 최신 스냅샷 한 건만 유지한다.
+ */
+public class JdbcSnapshotStore implements SnapshotStore {
+
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 data 를 먼저 비교/갱신한 뒤 version 을 갱신한다
+    private static final String UPSERT_SQL = """
+        INSERT INTO event_snapshots (aggregate_type, aggregate_id, snapshot_version, snapshot_data)
+        VALUES (?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            snapshot_data = CASE WHEN VALUES(snapshot_version) > snapshot_version
+                THEN VALUES(snapshot_data) ELSE snapshot_data END,
+            snapshot_version = GREATEST(snapshot_version, VALUES(snapshot_version))
+        """;
+
+    private static final String SELECT_SQL = """
+        SELECT snapshot_version, snapshot_data
+        FROM event_snapshots
+        WHERE aggregate_type = ? AND aggregate_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSnapshotStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Snapshot> findLatest(String aggregateType, String aggregateId) {
+        List<Snapshot> snapshots = jdbcTemplate.query(SELECT_SQL,
+            (rs, rowNum) -> new Snapshot(aggregateType, aggregateId,
+                rs.getLong("snapshot_version"), rs.getString("snapshot_data")),
+            aggregateType, aggregateId);
+        return snapshots.stream().findFirst();
+    }
+
+    @Override
+    public void save(Snapshot snapshot) {
+        jdbcTemplate.update(UPSERT_SQL,
+            snapshot.aggregateType(), snapshot.aggregateId(), snapshot.version(), snapshot.data());
+    }
+
+}
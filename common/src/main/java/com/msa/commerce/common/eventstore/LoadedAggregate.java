@@ -0,0 +1,12 @@
+package com.msa.commerce.common.eventstore;
+
+/**
+ * 복원된 애그리거트 상태와 스트림 버전. 다음 append 의 expectedVersion 으로 version 을 사용한다.
+ */
+public record LoadedAggregate<A>(String aggregateId, A state, long version, int replayedEvents) {
+
+    public boolean isNew() {
+        return version == 0;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.msa.commerce.common.eventstore;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스트림에 추가할 이벤트. data / metadata 는 저장 시 JSON 으로 직렬화되며, 문자열 data 는 이미 직렬화된 JSON 으로 간주한다.
+ */
+@Getter
+public class NewEvent {
+
+    private final String eventId;
+
+    private final String eventType;
+
+    private final Object data;
+
+    private final Map<String, Object> metadata;
+
+    private final LocalDateTime occurredAt;
+
+    @Builder
+    public NewEvent(String eventId, String eventType, Object data, Map<String, Object> metadata,
+        LocalDateTime occurredAt) {
+        if (eventType == null || eventType.isBlank()) {
+            throw new IllegalArgumentException("Event type is required.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Event data is required.");
+        }
+        this.eventId = eventId != null ? eventId : UUID.randomUUID().toString();
+        this.eventType = eventType;
+        this.data = data;
+        this.metadata = metadata;
+        this.occurredAt = occurredAt != null ? occurredAt : LocalDateTime.now();
+    }
+
+    public static NewEvent of(String eventType, Object data) {
+        return NewEvent.builder()
+            .eventType(eventType)
+            .data(data)
+            .build();
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.msa.commerce.common.eventstore;
+
+/**
+ * 특정 스트림 버전까지의 애그리거트 상태를 직렬화한 스냅샷.
+ */
+public record Snapshot(String aggregateType, String aggregateId, long version, String data) {
+}
@@ -0,0 +1,51 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애그리거트 타입별 스냅샷 주기. 스트림 버전이 주기의 배수를 넘어설 때마다 스냅샷을 남긴다.
+ * 주기가 0 이하이면 해당 타입은 스냅샷을 사용하지 않는다.
+ */
+public class SnapshotPolicy {
+
+    private final int defaultInterval;
+
+    private final Map<String, Integer> intervals;
+
+    public SnapshotPolicy(int defaultInterval, Map<String, Integer> intervals) {
+        this.defaultInterval = defaultInterval;
+        this.intervals = Map.copyOf(intervals);
+    }
+
+    public static SnapshotPolicy disabled() {
+        return new SnapshotPolicy(0, Map.of());
+    }
+
+    /**
+     * "Order=100,Product=50" 형식의 설정값을 파싱한다.
+     */
+    public static SnapshotPolicy parse(int defaultInterval, String intervals) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (intervals != null && !intervals.isBlank()) {
+            for (String entry : intervals.split(",")) {
+                String[] pair = entry.split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid snapshot interval entry: " + entry);
+                }
+                parsed.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+        }
+        return new SnapshotPolicy(defaultInterval, parsed);
+    }
+
+    public int intervalFor(String aggregateType) {
+        return intervals.getOrDefault(aggregateType, defaultInterval);
+    }
+
+    public boolean shouldSnapshot(String aggregateType, long previousVersion, long newVersion) {
+        int interval = intervalFor(aggregateType);
+        return interval > 0 && newVersion / interval > previousVersion / interval;
+    }
+
+}
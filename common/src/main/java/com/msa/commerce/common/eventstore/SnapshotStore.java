@@ -0,0 +1,14 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.Optional;
+
+public interface SnapshotStore {
+
+    Optional<Snapshot> findLatest(String aggregateType, String aggregateId);
+
+    /**
+     * 스냅샷을 저장한다. 이미 더 높은 버전의 스냅샷이 있으면 무시된다.
+     */
+    void save(Snapshot snapshot);
+
+}
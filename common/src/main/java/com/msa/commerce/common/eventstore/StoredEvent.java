@@ -0,0 +1,33 @@
+package com.msa.commerce.common.eventstore;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * event_store 에 저장된 이벤트. id 는 전역 순서(global position)로 사용된다.
+ */
+@Getter
+@Builder
+public class StoredEvent {
+
+    private final long id;
+
+    private final String eventId;
+
+    private final String eventType;
+
+    private final String aggregateType;
+
+    private final String aggregateId;
+
+    private final long version;
+
+    private final String data;
+
+    private final String metadata;
+
+    private final LocalDateTime occurredAt;
+
+}
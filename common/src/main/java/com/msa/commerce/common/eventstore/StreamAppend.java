@@ -0,0 +1,23 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.List;
+
+/**
+ * 하나의 스트림에 대한 append 요청. expectedVersion 은 마지막으로 읽은 스트림 버전이며 새 스트림은 0 이다.
+ */
+public record StreamAppend(String aggregateType, String aggregateId, long expectedVersion, List<NewEvent> events) {
+
+    public StreamAppend {
+        if (aggregateType == null || aggregateType.isBlank()) {
+            throw new IllegalArgumentException("Aggregate type is required.");
+        }
+        if (aggregateId == null || aggregateId.isBlank()) {
+            throw new IllegalArgumentException("Aggregate ID is required.");
+        }
+        if (expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative: " + expectedVersion);
+        }
+        events = List.copyOf(events);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.msa.commerce.common.eventstore;
+
+/**
+ * append 가 기대한 스트림 버전과 충돌을 확인한 시점의 스트림 버전.
+ */
+public record StreamConflict(String aggregateType, String aggregateId, long expectedVersion, long currentVersion) {
+
+    @Override
+    public String toString() {
+        return aggregateType + "/" + aggregateId + " (expected " + expectedVersion + ", current " + currentVersion
+            + ")";
+    }
+
+}
@@ -6,4 +6,8 @@ public class DuplicateResourceException extends BusinessException {
         super(message, errorCode);
     }
 
+    public DuplicateResourceException(String message, String errorCode, Throwable cause) {
+        super(message, errorCode, cause);
+    }
+
 }
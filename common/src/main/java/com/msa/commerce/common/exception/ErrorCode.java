@@ -27,6 +27,31 @@ public enum ErrorCode {
     // 주문 관련 에러
     ORDER_NOT_FOUND("O1001", "Order not found"),
     ORDER_ALREADY_CANCELLED("O1002", "Order already cancelled"),
+    ORDER_SAGA_NOT_FOUND("O1003", "Order saga not found"),
+    ORDER_INVALID_STATUS_TRANSITION("O1004", "Invalid order status transition"),
+    ORDER_STATUS_CONFLICT("O1005", "Order status changed concurrently"),
+
+    // 장바구니 관련 에러
+    CART_EMPTY("C1001", "Cart is empty"),
+    CART_ITEM_NOT_FOUND("C1002", "Cart item not found"),
+    CART_ITEM_LIMIT_EXCEEDED("C1003", "Cart item limit exceeded"),
+    CART_CHANGED_DURING_CHECKOUT("C1004", "Cart changed during checkout"),
+    CART_ITEM_NOT_AVAILABLE("C1005", "Product is not available for sale"),
+
+    // 결제 관련 에러
+    PAYMENT_NOT_FOUND("PM1001", "Payment not found"),
+    IDEMPOTENCY_KEY_REQUIRED("PM1002", "Idempotency key is required"),
+    IDEMPOTENCY_KEY_REUSED("PM1003", "Idempotency key was used with a different request"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("PM1004", "Request with the same idempotency key is in progress"),
+    PAYMENT_GATEWAY_NOT_SUPPORTED("PM1005", "Payment gateway is not supported"),
+
+    // 이벤트 스토어 관련 에러
+    EVENT_STREAM_VERSION_CONFLICT("EV1001", "Event stream version conflict"),
+    EVENT_ALREADY_APPENDED("EV1002", "Event with the same id already appended"),
+
+    // 구체화 뷰 관련 에러
+    REPLAY_PROJECTION_NOT_FOUND("MV1001", "Replay projection not found"),
+    REPLAY_ALREADY_RUNNING("MV1002", "Replay is already running"),
 
     // 시스템 에러
     INTERNAL_SERVER_ERROR("S1001", "Internal server error"),
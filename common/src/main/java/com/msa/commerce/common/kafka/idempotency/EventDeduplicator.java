@@ -0,0 +1,198 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.msa.commerce.common.util.StripedLruCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨슈머 측 이벤트 중복 제거기.
+ * <p>
+ * 1차로 로컬 LRU 를 확인하고, 없을 때만 공유 저장소(Redis/DB)를 조회한다.
+ * 저장소 조회는 poll 한 번에 받은 레코드를 {@link #prefetch} 로 한 번에 묶어 하고, 결과는 그 poll 을 처리하는
+ * 컨슈머 스레드에만 둔다. prefetch 되지 않은 레코드만 건별로 조회한다.
+ * 처리 완료 기록은 리스너 스레드에서 큐에만 적재하고 백그라운드에서 배치로 저장하므로
+ * 메시지당 오버헤드는 캐시 히트 시 락 한 번, 미스 시 poll 당 저장소 조회 한 번이다.
+ */
+@Slf4j
+public class EventDeduplicator implements AutoCloseable {
+
+    private static final Boolean PROCESSED = Boolean.TRUE;
+
+    private final ProcessedEventStore store;
+
+    private final StripedLruCache<String, Boolean> recentlyProcessed;
+
+    private final ThreadLocal<Map<String, Boolean>> prefetched = new ThreadLocal<>();
+
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final int batchSize;
+
+    private final ScheduledExecutorService flusher;
+
+    private final Counter cacheDuplicates;
+
+    private final Counter storeDuplicates;
+
+    private final Counter flushFailures;
+
+    public EventDeduplicator(ProcessedEventStore store, MeterRegistry meterRegistry,
+        int cacheSize, int batchSize, Duration flushInterval) {
+        this.store = store;
+        this.recentlyProcessed = new StripedLruCache<>(cacheSize, Runtime.getRuntime().availableProcessors() * 4);
+        this.batchSize = batchSize;
+
+        this.cacheDuplicates = Counter.builder("commerce.kafka.dedup.duplicates")
+            .description("Redelivered events dropped before reaching the listener")
+            .tag("source", "cache")
+            .register(meterRegistry);
+        this.storeDuplicates = Counter.builder("commerce.kafka.dedup.duplicates")
+            .description("Redelivered events dropped before reaching the listener")
+            .tag("source", "store")
+            .register(meterRegistry);
+        this.flushFailures = Counter.builder("commerce.kafka.dedup.flush.failures")
+            .register(meterRegistry);
+        Gauge.builder("commerce.kafka.dedup.pending", pendingCount, AtomicInteger::get)
+            .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-dedup-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::purgeExpired, 1, 1, TimeUnit.HOURS);
+    }
+
+    public boolean isDuplicate(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        if (recentlyProcessed.containsKey(eventId)) {
+            cacheDuplicates.increment();
+            return true;
+        }
+        Map<String, Boolean> polled = prefetched.get();
+        Boolean processed = polled != null ? polled.get(eventId) : null;
+        if (processed == null) {
+            processed = store.isProcessed(eventId);
+        }
+        if (processed) {
+            recentlyProcessed.put(eventId, PROCESSED);
+            storeDuplicates.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 호출한 스레드가 곧 처리할 이벤트들 중 로컬 LRU 에 없는 것만 저장소에 한 번에 조회해 둔다.
+     * 이전 prefetch 결과는 버린다. 조회에 실패하면 각 레코드가 건별 조회로 돌아간다.
+     */
+    public void prefetch(Collection<String> eventIds) {
+        prefetched.remove();
+        List<String> misses = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (eventId != null && !recentlyProcessed.containsKey(eventId)) {
+                misses.add(eventId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return;
+        }
+
+        Set<String> found;
+        try {
+            found = store.findProcessed(misses);
+        } catch (RuntimeException e) {
+            log.warn("Failed to prefetch {} processed event ids", misses.size(), e);
+            return;
+        }
+        Map<String, Boolean> polled = new HashMap<>(misses.size() * 2);
+        misses.forEach(eventId -> polled.put(eventId, found.contains(eventId)));
+        prefetched.set(polled);
+    }
+
+    public void markProcessed(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+        recentlyProcessed.put(eventId, PROCESSED);
+        pending.add(eventId);
+
+        // 배치 크기에 도달하면 주기를 기다리지 않고 즉시 flush 를 예약한다
+        if (pendingCount.incrementAndGet() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    void flush() {
+        while (true) {
+            List<String> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                store.markProcessed(batch);
+            } catch (RuntimeException e) {
+                // 로컬 LRU 에는 남아 있으므로 같은 인스턴스에서는 계속 중복으로 걸러진다
+                flushFailures.increment();
+                log.warn("Failed to persist {} processed event ids", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    private List<String> drain() {
+        List<String> batch = new ArrayList<>(batchSize);
+        String eventId;
+        while (batch.size() < batchSize && (eventId = pending.poll()) != null) {
+            batch.add(eventId);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void purgeExpired() {
+        try {
+            int purged = store.purgeExpired();
+            if (purged > 0) {
+                log.debug("Purged {} expired processed event ids", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge expired processed event ids", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flush();
+    }
+
+}
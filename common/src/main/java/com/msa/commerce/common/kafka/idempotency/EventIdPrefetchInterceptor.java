@@ -0,0 +1,50 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * poll 이 돌려주는 레코드 전체의 eventId 를 컨슈머 스레드에서 {@link EventDeduplicator#prefetch} 로 넘긴다.
+ * 리스너는 같은 스레드에서 호출되므로 {@link IdempotentRecordInterceptor} 와 {@link IdempotentBatchInterceptor} 의
+ * 중복 판별이 건별 저장소 조회 대신 poll 당 한 번의 조회 결과를 쓴다.
+ * Kafka 클라이언트가 클래스 이름으로 만들기 때문에 중복 제거기는 컨슈머 설정 {@value #DEDUPLICATOR_CONFIG} 로 받는다.
+ */
+public class EventIdPrefetchInterceptor implements ConsumerInterceptor<String, Object> {
+
+    public static final String DEDUPLICATOR_CONFIG = "commerce.kafka.idempotency.deduplicator";
+
+    private EventDeduplicator deduplicator;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.deduplicator = (EventDeduplicator)configs.get(DEDUPLICATOR_CONFIG);
+    }
+
+    @Override
+    public ConsumerRecords<String, Object> onConsume(ConsumerRecords<String, Object> records) {
+        if (deduplicator != null && !records.isEmpty()) {
+            List<String> eventIds = new ArrayList<>(records.count());
+            for (ConsumerRecord<String, Object> record : records) {
+                eventIds.add(IdempotentRecordInterceptor.resolveEventId(record));
+            }
+            deduplicator.prefetch(eventIds);
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
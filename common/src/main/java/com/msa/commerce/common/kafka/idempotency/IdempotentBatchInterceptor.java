@@ -0,0 +1,78 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 리스너용 {@link IdempotentRecordInterceptor}. poll 배치에서 이미 처리된 이벤트를 빼고 나머지만 리스너에 넘긴다.
+ * 모두 중복이면 null 을 반환해 리스너를 부르지 않고, 리스너가 ack 하지 않으므로 배치의 다음 오프셋을 여기서 직접 커밋한다.
+ * 일부만 빠졌으면 리스너가 남은 레코드까지 ack 한다. 파티션 끝에서 빠진 중복은 커밋되지 않은 채 남지만
+ * 다시 전달되어도 또 걸러진다. 처리 완료 기록은 리스너가 예외 없이 끝난 배치(success)의 레코드에만 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotentBatchInterceptor implements BatchInterceptor<String, Object> {
+
+    private final EventDeduplicator deduplicator;
+
+    @Override
+    public ConsumerRecords<String, Object> intercept(ConsumerRecords<String, Object> records,
+        Consumer<String, Object> consumer) {
+        Map<TopicPartition, List<ConsumerRecord<String, Object>>> fresh = new LinkedHashMap<>();
+        int skipped = 0;
+        for (ConsumerRecord<String, Object> record : records) {
+            if (deduplicator.isDuplicate(IdempotentRecordInterceptor.resolveEventId(record))) {
+                skipped++;
+                continue;
+            }
+            fresh.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), tp -> new ArrayList<>())
+                .add(record);
+        }
+        if (skipped == 0) {
+            return records;
+        }
+
+        log.debug("Skipping {} duplicate events of {} in batch", skipped, records.count());
+        if (fresh.isEmpty()) {
+            commitSkipped(records, consumer);
+            return null;
+        }
+        return new ConsumerRecords<>(fresh);
+    }
+
+    @Override
+    public void success(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        for (ConsumerRecord<String, Object> record : records) {
+            deduplicator.markProcessed(IdempotentRecordInterceptor.resolveEventId(record));
+        }
+    }
+
+    private void commitSkipped(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, Object>> partitionRecords = records.records(partition);
+            long last = partitionRecords.get(partitionRecords.size() - 1).offset();
+            offsets.put(partition, new OffsetAndMetadata(last + 1));
+        }
+        try {
+            consumer.commitSync(offsets);
+        } catch (RuntimeException e) {
+            // 커밋하지 못해도 다시 전달되면 또 중복으로 걸러진다
+            log.warn("Failed to commit skipped duplicate batch {}", offsets, e);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너 호출 전에 이미 처리된 이벤트를 걸러내는 인터셉터.
+ * null 을 반환하면 컨테이너는 리스너를 호출하지 않는다. MANUAL 계열 ack 모드에서는 리스너가 ack 하지 않은 레코드를
+ * 컨테이너가 커밋하지 않으므로 걸러낸 레코드의 다음 오프셋을 여기서 직접 커밋한다.
+ * 인터셉터는 컨슈머 스레드에서 호출되고 앞선 레코드는 이미 리스너가 ack 했으므로 커밋이 앞지르지 않는다.
+ * 처리 완료 기록은 리스너가 예외 없이 끝난 경우(success)에만 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotentRecordInterceptor implements RecordInterceptor<String, Object> {
+
+    public static final String EVENT_ID_HEADER = "event_id";
+
+    private final EventDeduplicator deduplicator;
+
+    @Override
+    public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record,
+        Consumer<String, Object> consumer) {
+        String eventId = resolveEventId(record);
+        if (deduplicator.isDuplicate(eventId)) {
+            log.debug("Skipping duplicate event {} from {}-{}@{}",
+                eventId, record.topic(), record.partition(), record.offset());
+            commitSkipped(record, consumer);
+            return null;
+        }
+        return record;
+    }
+
+    @Override
+    public void success(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        deduplicator.markProcessed(resolveEventId(record));
+    }
+
+    private void commitSkipped(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        try {
+            consumer.commitSync(Map.of(new TopicPartition(record.topic(), record.partition()),
+                new OffsetAndMetadata(record.offset() + 1)));
+        } catch (RuntimeException e) {
+            // 커밋하지 못해도 다시 전달되면 또 중복으로 걸러진다
+            log.warn("Failed to commit skipped duplicate {}-{}@{}", record.topic(), record.partition(),
+                record.offset(), e);
+        }
+    }
+
+    static String resolveEventId(ConsumerRecord<String, Object> record) {
+        Header header = record.headers().lastHeader(EVENT_ID_HEADER);
+        if (header != null && header.value() != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+
+        Object payload = record.value();
+        if (payload instanceof DomainEvent event) {
+            return event.getEventId();
+        }
+        if (payload instanceof Map<?, ?> map) {
+            Object eventId = map.containsKey("eventId") ? map.get("eventId") : map.get(EVENT_ID_HEADER);
+            return eventId != null ? eventId.toString() : null;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * processed_events 테이블 기반 저장소.
+ * 기록은 INSERT IGNORE 배치로, 조회는 IN 절 한 번으로 처리한다.
+ */
+public class JdbcProcessedEventStore implements ProcessedEventStore {
+
+    private static final String INSERT_SQL =
+        "INSERT IGNORE INTO processed_events (event_id, processed_at) VALUES (?, ?)";
+
+    private static final String SELECT_SQL =
+        "SELECT event_id FROM processed_events WHERE event_id IN (:eventIds)";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM processed_events WHERE processed_at < ? LIMIT 10000";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final Duration retention;
+
+    public JdbcProcessedEventStore(JdbcTemplate jdbcTemplate, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.retention = retention;
+    }
+
+    @Override
+    public boolean isProcessed(String eventId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM processed_events WHERE event_id = ?", Integer.class, eventId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> found = namedJdbcTemplate.queryForList(
+            SELECT_SQL, new MapSqlParameterSource("eventIds", eventIds), String.class);
+        return new HashSet<>(found);
+    }
+
+    @Override
+    public void markProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, eventIds, eventIds.size(), (ps, eventId) -> {
+            ps.setString(1, eventId);
+            ps.setTimestamp(2, now);
+        });
+    }
+
+    @Override
+    public int purgeExpired() {
+        Timestamp threshold = Timestamp.from(Instant.now().minus(retention));
+        return jdbcTemplate.update(PURGE_SQL, threshold);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 처리 완료된 이벤트 ID 의 공유 저장소.
+ * 인스턴스 간 / 재기동 이후의 중복 판별에 사용되며 로컬 LRU 에서 놓친 경우에만 조회된다.
+ */
+public interface ProcessedEventStore {
+
+    boolean isProcessed(String eventId);
+
+    Set<String> findProcessed(Collection<String> eventIds);
+
+    void markProcessed(Collection<String> eventIds);
+
+    /**
+     * 보관 기간이 지난 기록을 정리한다. TTL 을 지원하는 저장소는 별도 작업이 필요 없다.
+     */
+    default int purgeExpired() {
+        return 0;
+    }
+
+}
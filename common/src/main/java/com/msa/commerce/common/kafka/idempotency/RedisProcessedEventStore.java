@@ -0,0 +1,79 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * Redis 키 TTL 로 중복 판별 윈도우를 유지하는 저장소.
+ * 기록은 SET NX EX 를 파이프라인으로 묶어 한 번의 왕복으로 처리한다.
+ */
+public class RedisProcessedEventStore implements ProcessedEventStore {
+
+    private static final String KEY_PREFIX = "processed-event:";
+
+    private static final byte[] MARKER = {'1'};
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Duration window;
+
+    public RedisProcessedEventStore(StringRedisTemplate redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    @Override
+    public boolean isProcessed(String eventId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + eventId));
+    }
+
+    @Override
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ids = new ArrayList<>(eventIds);
+        List<String> keys = ids.stream().map(id -> KEY_PREFIX + id).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Set<String> processed = new HashSet<>();
+        if (values == null) {
+            return processed;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                processed.add(ids.get(i));
+            }
+        }
+        return processed;
+    }
+
+    @Override
+    public void markProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(window);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(
+                    (KEY_PREFIX + eventId).getBytes(StandardCharsets.UTF_8),
+                    MARKER,
+                    expiration,
+                    RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+    }
+
+}
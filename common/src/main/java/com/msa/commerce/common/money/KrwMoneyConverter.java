@@ -0,0 +1,15 @@
+package com.msa.commerce.common.money;
+
+import jakarta.persistence.Converter;
+
+/**
+ * 원화 금액 컬럼용. 엔티티 필드에 {@code @Convert(converter = KrwMoneyConverter.class)} 로 지정한다.
+ */
+@Converter
+public class KrwMoneyConverter extends MoneyAttributeConverter {
+
+    public KrwMoneyConverter() {
+        super("KRW");
+    }
+
+}
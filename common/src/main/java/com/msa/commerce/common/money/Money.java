@@ -0,0 +1,121 @@
+package com.msa.commerce.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 최소 단위(1/100) long 과 통화 코드로 표현한 금액.
+ * <p>
+ * 금액 컬럼이 모두 DECIMAL(_,2) 이므로 통화와 상관없이 소수 둘째 자리까지 들고, 더 작은 자리는 MySQL 이
+ * DECIMAL 에 저장할 때와 같이 HALF_UP(0 에서 먼 쪽)으로 반올림한다. 연산은 long 으로 하고 넘치면
+ * {@link ArithmeticException} 을 던진다. 통화가 다른 금액끼리는 계산하지 않는다.
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public record Money(long minor, String currency) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    public Money {
+        if (currency == null || currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code: " + currency);
+        }
+    }
+
+    public static Money ofMinor(long minor, String currency) {
+        return new Money(minor, currency);
+    }
+
+    public static Money zero(String currency) {
+        return new Money(0L, currency);
+    }
+
+    /**
+     * 소수 셋째 자리 이하는 DECIMAL(_,2) 저장과 같은 HALF_UP 으로 반올림한다.
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact(), currency);
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minor, other.minor), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minor, other.minor), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minor), currency);
+    }
+
+    public Money times(long multiplier) {
+        return new Money(Math.multiplyExact(minor, multiplier), currency);
+    }
+
+    /**
+     * 소수 rateScale 자리 비율(unscaledRate x 10^-rateScale)을 곱한다. 예를 들어 2.75% 는 (275, 4) 다.
+     * 결과는 HALF_UP 으로 반올림하고, 음수(환불) 금액은 절대값 기준으로 반올림해 부호만 되돌린다.
+     * 절대값을 long 으로 나타낼 수 없는 {@link Long#MIN_VALUE} 는 금액이든 비율이든 {@link ArithmeticException} 이다.
+     */
+    public Money multiplyByRate(long unscaledRate, int rateScale) {
+        if (rateScale < 0 || rateScale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Rate scale out of range: " + rateScale);
+        }
+        long denominator = POWERS_OF_TEN[rateScale];
+        long product = Math.multiplyExact(Math.absExact(minor), Math.absExact(unscaledRate));
+        long rounded = product / denominator + (product % denominator >= (denominator + 1) / 2 ? 1 : 0);
+        return new Money((minor < 0) != (unscaledRate < 0) ? -rounded : rounded, currency);
+    }
+
+    public boolean isZero() {
+        return minor == 0L;
+    }
+
+    public boolean isNegative() {
+        return minor < 0L;
+    }
+
+    /**
+     * DECIMAL(precision, 2) 컬럼에 넘치지 않고 들어가는지 확인한다.
+     */
+    public boolean fitsDecimal(int precision) {
+        if (precision <= SCALE || precision >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Precision out of range: " + precision);
+        }
+        return minor != Long.MIN_VALUE && Math.abs(minor) < POWERS_OF_TEN[precision];
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+}
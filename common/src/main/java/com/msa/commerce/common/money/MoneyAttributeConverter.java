@@ -0,0 +1,35 @@
+package com.msa.commerce.common.money;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * 금액 컬럼(DECIMAL(_,2)) 하나를 {@link Money} 로 매핑한다. 테이블에 통화 컬럼이 없거나 한 통화만 쓰는 경우를
+ * 위한 것이므로 통화는 하위 클래스가 정한다.
+ */
+public abstract class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    private final String currency;
+
+    protected MoneyAttributeConverter(String currency) {
+        this.currency = currency;
+    }
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        if (money == null) {
+            return null;
+        }
+        if (!currency.equals(money.currency())) {
+            throw new IllegalArgumentException("Column currency is " + currency + " but got " + money);
+        }
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount, currency);
+    }
+
+}
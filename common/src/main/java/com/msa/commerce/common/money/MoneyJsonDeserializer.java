@@ -0,0 +1,44 @@
+package com.msa.commerce.common.money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * {@link MoneyJsonSerializer} 형식을 읽는다. amount 는 숫자와 문자열 모두 받고, 숫자는 double 을 거치지 않고
+ * 원문 그대로 BigDecimal 로 읽는다.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (Money)context.handleUnexpectedToken(Money.class, parser);
+        }
+        BigDecimal amount = null;
+        String currency = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "amount" -> amount = token == JsonToken.VALUE_STRING
+                    ? new BigDecimal(parser.getText().trim())
+                    : parser.getDecimalValue();
+                case "currency" -> currency = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        if (amount == null || currency == null) {
+            return (Money)context.reportInputMismatch(Money.class, "Money requires amount and currency");
+        }
+        return Money.of(amount, currency);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.msa.commerce.common.money;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {"amount": 1000.50, "currency": "KRW"} 로 쓴다. amount 는 이벤트의 BigDecimal 금액 필드와 같은 숫자 형식이다.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("amount");
+        generator.writeNumber(money.toBigDecimal());
+        generator.writeStringField("currency", money.currency());
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 스냅샷 유무에 따른 애그리거트 복원 시간 비교. {@code ./gradlew :common:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("EventSourcedRepository 스냅샷 복원 벤치마크")
+class EventSourcedRepositoryBenchmarkTest {
+
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    private static final int WRITE_CHUNK = 25;
+
+    private static final int ITERATIONS = 20;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcEventStore eventStore;
+
+    private static JdbcSnapshotStore snapshotStore;
+
+    @BeforeAll
+    static void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        dataSource = new HikariDataSource(config);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE event_store
+            (
+                id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+                event_id       VARCHAR(36)  NOT NULL UNIQUE,
+                event_type     VARCHAR(100) NOT NULL,
+                aggregate_type VARCHAR(100) NOT NULL,
+                aggregate_id   VARCHAR(100) NOT NULL,
+                event_version  INT          NOT NULL DEFAULT 1,
+                event_data     JSON         NOT NULL,
+                metadata       JSON,
+                occurred_at    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                UNIQUE KEY uk_event_store_stream (aggregate_type, aggregate_id, event_version)
+            ) ENGINE = InnoDB
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE event_snapshots
+            (
+                aggregate_type   VARCHAR(100) NOT NULL,
+                aggregate_id     VARCHAR(100) NOT NULL,
+                snapshot_version INT          NOT NULL,
+                snapshot_data    JSON         NOT NULL,
+                created_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                updated_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                PRIMARY KEY (aggregate_type, aggregate_id)
+            ) ENGINE = InnoDB
+            """);
+
+        eventStore = new JdbcEventStore(dataSource, OBJECT_MAPPER, Integer.MIN_VALUE);
+        snapshotStore = new JdbcSnapshotStore(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @ParameterizedTest(name = "{0} events")
+    @ValueSource(ints = {10, 1_000, 10_000})
+    void rebuild(int eventCount) {
+        String aggregateId = "order-" + eventCount;
+        EventSourcedRepository<OrderTotals> withSnapshots = repository(SnapshotPolicy.parse(0, "Order=" + SNAPSHOT_INTERVAL));
+        EventSourcedRepository<OrderTotals> withoutSnapshots = repository(SnapshotPolicy.disabled());
+
+        // given: 스냅샷 정책이 적용된 저장소로 이벤트를 기록해 스냅샷을 남긴다
+        OrderTotals state = new OrderTotals(aggregateId, 0, 0);
+        long version = 0;
+        while (version < eventCount) {
+            int size = (int)Math.min(WRITE_CHUNK, eventCount - version);
+            List<NewEvent> events = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                events.add(NewEvent.of("OrderItemAdded", Map.of("quantity", 1, "amount", 1000)));
+                state = new OrderTotals(aggregateId, state.itemCount() + 1, state.totalAmount() + 1000);
+            }
+            version = withSnapshots.save(aggregateId, version, events, state);
+        }
+
+        // when
+        long withoutNanos = measure(withoutSnapshots, aggregateId);
+        long withNanos = measure(withSnapshots, aggregateId);
+
+        // then
+        LoadedAggregate<OrderTotals> fromSnapshot = withSnapshots.load(aggregateId);
+        LoadedAggregate<OrderTotals> fromScratch = withoutSnapshots.load(aggregateId);
+        assertThat(fromSnapshot.state()).isEqualTo(fromScratch.state());
+        assertThat(fromSnapshot.version()).isEqualTo(eventCount);
+
+        System.out.printf("[snapshot] %,6d events: full replay %.3f ms (%d events), snapshot+tail %.3f ms (%d events)%n",
+            eventCount, withoutNanos / 1_000_000.0, fromScratch.replayedEvents(),
+            withNanos / 1_000_000.0, fromSnapshot.replayedEvents());
+    }
+
+    private long measure(EventSourcedRepository<OrderTotals> repository, String aggregateId) {
+        // warm-up
+        for (int i = 0; i < 3; i++) {
+            repository.load(aggregateId);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            repository.load(aggregateId);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private EventSourcedRepository<OrderTotals> repository(SnapshotPolicy policy) {
+        return new EventSourcedRepository<>(new OrderTotalsDefinition(), eventStore, snapshotStore, policy, OBJECT_MAPPER);
+    }
+
+    record OrderTotals(String orderId, long itemCount, long totalAmount) {
+    }
+
+    static class OrderTotalsDefinition implements AggregateDefinition<OrderTotals> {
+
+        @Override
+        public String aggregateType() {
+            return "Order";
+        }
+
+        @Override
+        public Class<OrderTotals> stateType() {
+            return OrderTotals.class;
+        }
+
+        @Override
+        public OrderTotals initialState(String aggregateId) {
+            return new OrderTotals(aggregateId, 0, 0);
+        }
+
+        @Override
+        public OrderTotals apply(OrderTotals state, StoredEvent event) {
+            try {
+                Map<?, ?> data = OBJECT_MAPPER.readValue(event.getData(), Map.class);
+                long quantity = ((Number)data.get("quantity")).longValue();
+                long amount = ((Number)data.get("amount")).longValue();
+                return new OrderTotals(state.orderId(), state.itemCount() + quantity, state.totalAmount() + amount);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.msa.commerce.common.eventstore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSourcedRepository 테스트")
+class EventSourcedRepositoryTest {
+
+    @Mock
+    private EventStore eventStore;
+
+    @Mock
+    private SnapshotStore snapshotStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EventSourcedRepository<Tally> repository;
+
+    @BeforeEach
+    void setUp() {
+        SnapshotPolicy policy = SnapshotPolicy.parse(0, "Tally=10");
+        repository = new EventSourcedRepository<>(new TallyDefinition(), eventStore, snapshotStore, policy, objectMapper);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 스냅샷 버전 이후 이벤트만 재생한다")
+    void loadFromSnapshot() throws Exception {
+        // given
+        given(snapshotStore.findLatest("Tally", "t-1"))
+            .willReturn(Optional.of(new Snapshot("Tally", "t-1", 10, objectMapper.writeValueAsString(new Tally("t-1", 10)))));
+        given(eventStore.readStream("Tally", "t-1", 11)).willReturn(events(11, 12));
+
+        // when
+        LoadedAggregate<Tally> loaded = repository.load("t-1");
+
+        // then
+        assertThat(loaded.version()).isEqualTo(12);
+        assertThat(loaded.state().count()).isEqualTo(12);
+        assertThat(loaded.replayedEvents()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 처음부터 재생한다")
+    void loadWithoutSnapshot() {
+        // given
+        given(snapshotStore.findLatest("Tally", "t-1")).willReturn(Optional.empty());
+        given(eventStore.readStream("Tally", "t-1", 1)).willReturn(events(1, 3));
+
+        // when
+        LoadedAggregate<Tally> loaded = repository.load("t-1");
+
+        // then
+        assertThat(loaded.version()).isEqualTo(3);
+        assertThat(loaded.state().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 스냅샷은 무시하고 전체 이벤트를 재생한다")
+    void ignoreUnreadableSnapshot() {
+        // given
+        given(snapshotStore.findLatest("Tally", "t-1"))
+            .willReturn(Optional.of(new Snapshot("Tally", "t-1", 10, "{not-json")));
+        given(eventStore.readStream("Tally", "t-1", 1)).willReturn(events(1, 2));
+
+        // when
+        LoadedAggregate<Tally> loaded = repository.load("t-1");
+
+        // then
+        assertThat(loaded.version()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 주기를 넘는 저장에서만 스냅샷을 남긴다")
+    void saveSnapshotOnInterval() {
+        // given
+        given(eventStore.append(eq("Tally"), eq("t-1"), eq(8L), anyList())).willReturn(10L);
+        given(eventStore.append(eq("Tally"), eq("t-1"), eq(10L), anyList())).willReturn(11L);
+
+        // when
+        repository.save("t-1", 8, List.of(NewEvent.of("Incremented", Map.of()), NewEvent.of("Incremented", Map.of())),
+            new Tally("t-1", 10));
+        repository.save("t-1", 10, List.of(NewEvent.of("Incremented", Map.of())), new Tally("t-1", 11));
+
+        // then
+        ArgumentCaptor<Snapshot> captor = ArgumentCaptor.forClass(Snapshot.class);
+        verify(snapshotStore, times(1)).save(captor.capture());
+        assertThat(captor.getValue().version()).isEqualTo(10);
+    }
+
+    private Stream<StoredEvent> events(long fromVersion, long toVersion) {
+        return LongStream.rangeClosed(fromVersion, toVersion)
+            .mapToObj(version -> StoredEvent.builder()
+                .id(version)
+                .eventId("e-" + version)
+                .eventType("Incremented")
+                .aggregateType("Tally")
+                .aggregateId("t-1")
+                .version(version)
+                .data("{}")
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    record Tally(String id, long count) {
+    }
+
+    static class TallyDefinition implements AggregateDefinition<Tally> {
+
+        @Override
+        public String aggregateType() {
+            return "Tally";
+        }
+
+        @Override
+        public Class<Tally> stateType() {
+            return Tally.class;
+        }
+
+        @Override
+        public Tally initialState(String aggregateId) {
+            return new Tally(aggregateId, 0);
+        }
+
+        @Override
+        public Tally apply(Tally state, StoredEvent event) {
+            return new Tally(state.id(), state.count() + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 이벤트 스토어 append 처리량 측정. 새 스트림과 이벤트가 있는 스트림 모두 초당 목표 건수
+ * ({@code benchmark.eventstore.target}, 기본 2만)를 넘어야 한다. {@code ./gradlew :common:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("JdbcEventStore 처리량 벤치마크")
+class JdbcEventStoreBenchmarkTest {
+
+    private static final int THREADS = 8;
+
+    private static final int EVENTS_PER_THREAD = 25_000;
+
+    private static final double TARGET_APPENDS_PER_SECOND =
+        Double.parseDouble(System.getProperty("benchmark.eventstore.target", "20000"));
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcEventStore eventStore;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(THREADS * 2);
+        dataSource = new HikariDataSource(config);
+        eventStore = new JdbcEventStore(dataSource, new ObjectMapper(), Integer.MIN_VALUE);
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void recreateTable() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event_store");
+        jdbcTemplate.execute("""
+            CREATE TABLE event_store
+            (
+                id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+                event_id       VARCHAR(36)  NOT NULL UNIQUE,
+                event_type     VARCHAR(100) NOT NULL,
+                aggregate_type VARCHAR(100) NOT NULL,
+                aggregate_id   VARCHAR(100) NOT NULL,
+                event_version  INT          NOT NULL DEFAULT 1,
+                event_data     JSON         NOT NULL,
+                metadata       JSON,
+                occurred_at    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                UNIQUE KEY uk_event_store_stream (aggregate_type, aggregate_id, event_version)
+            ) ENGINE = InnoDB
+            """);
+    }
+
+    @Test
+    @DisplayName("스트림당 단건 append")
+    void singleEventAppends() throws Exception {
+        double rate = run("single", 1, 1, 0);
+        assertThat(rate).isGreaterThanOrEqualTo(TARGET_APPENDS_PER_SECOND);
+    }
+
+    @Test
+    @DisplayName("스트림당 10건 배치 append")
+    void batchedAppends() throws Exception {
+        double rate = run("batch-10", 10, 1, 0);
+        assertThat(rate).isGreaterThanOrEqualTo(TARGET_APPENDS_PER_SECOND);
+    }
+
+    @Test
+    @DisplayName("50개 스트림을 한 문장으로 appendAll")
+    void multiStreamAppends() throws Exception {
+        double rate = run("multi-stream-50x2", 2, 50, 0);
+        assertThat(rate).isGreaterThanOrEqualTo(TARGET_APPENDS_PER_SECOND);
+    }
+
+    @Test
+    @DisplayName("이벤트가 있는 스트림 50개에 이어서 appendAll")
+    void existingStreamAppends() throws Exception {
+        double rate = run("existing-50x2", 2, 50, 3);
+        assertThat(rate).isGreaterThanOrEqualTo(TARGET_APPENDS_PER_SECOND);
+    }
+
+    /**
+     * @param existingVersion 0 보다 크면 측정 전에 각 스트림에 그만큼 이벤트를 미리 넣어 두고 그 뒤에 이어서 추가한다.
+     *                        이어서 추가할 때만 INSERT 전에 스트림 끝 조회가 함께 나간다.
+     */
+    private double run(String name, int eventsPerStream, int streamsPerStatement, int existingVersion)
+        throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicLong appended = new AtomicLong();
+        Map<String, Object> payload = Map.of("orderId", 1L, "amount", "10000.00", "currency", "KRW");
+        int eventsPerStatement = eventsPerStream * streamsPerStatement;
+        int statements = EVENTS_PER_THREAD / eventsPerStatement;
+        if (existingVersion > 0) {
+            seed(statements * streamsPerStatement, existingVersion, payload);
+        }
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int s = 0; s < statements; s++) {
+                    List<StreamAppend> appends = new ArrayList<>(streamsPerStatement);
+                    for (int a = 0; a < streamsPerStatement; a++) {
+                        appends.add(new StreamAppend("Order", streamId(thread, s * streamsPerStatement + a),
+                            existingVersion, events(eventsPerStream, payload)));
+                    }
+                    eventStore.appendAll(appends);
+                    appended.addAndGet(eventsPerStatement);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double rate = appended.get() / seconds;
+        System.out.printf("[event-store] %-18s %,d events in %.2fs -> %,.0f appends/sec%n",
+            name, appended.get(), seconds, rate);
+        return rate;
+    }
+
+    private static void seed(int streamsPerThread, int version, Map<String, Object> payload) {
+        int streamsPerStatement = JdbcEventStore.MAX_EVENTS_PER_STATEMENT / version;
+        for (int t = 0; t < THREADS; t++) {
+            for (int from = 0; from < streamsPerThread; from += streamsPerStatement) {
+                List<StreamAppend> appends = new ArrayList<>(streamsPerStatement);
+                for (int i = from; i < Math.min(from + streamsPerStatement, streamsPerThread); i++) {
+                    appends.add(new StreamAppend("Order", streamId(t, i), 0, events(version, payload)));
+                }
+                eventStore.appendAll(appends);
+            }
+        }
+    }
+
+    private static String streamId(int thread, int stream) {
+        return thread + "-" + stream;
+    }
+
+    private static List<NewEvent> events(int count, Map<String, Object> payload) {
+        List<NewEvent> events = new ArrayList<>(count);
+        for (int e = 0; e < count; e++) {
+            events.add(NewEvent.of("OrderCreated", payload));
+        }
+        return events;
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.msa.commerce.common.eventstore;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JdbcEventStore 테스트")
+class JdbcEventStoreTest {
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcEventStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        new JdbcTemplate(dataSource).execute("""
+            CREATE TABLE event_store (
+                id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+                event_id       VARCHAR(36)  NOT NULL UNIQUE,
+                event_type     VARCHAR(100) NOT NULL,
+                aggregate_type VARCHAR(100) NOT NULL,
+                aggregate_id   VARCHAR(100) NOT NULL,
+                event_version  INT          NOT NULL,
+                event_data     CLOB         NOT NULL,
+                metadata       CLOB,
+                occurred_at    TIMESTAMP    NOT NULL,
+                CONSTRAINT uk_event_store_stream UNIQUE (aggregate_type, aggregate_id, event_version)
+            )
+            """);
+        eventStore = new JdbcEventStore(dataSource, new ObjectMapper(), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("새 스트림에 여러 이벤트를 추가하면 1부터 연속된 버전이 부여된다")
+    void appendToNewStream() {
+        // when
+        long version = eventStore.append("Order", "1", 0,
+            List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1)), NewEvent.of("OrderConfirmed", Map.of("orderId", 1))));
+
+        // then
+        assertThat(version).isEqualTo(2);
+        assertThat(eventStore.currentVersion("Order", "1")).isEqualTo(2);
+        try (Stream<StoredEvent> stream = eventStore.readStream("Order", "1", 1)) {
+            assertThat(stream.map(StoredEvent::getVersion).toList()).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 진행된 버전을 기대하고 추가하면 충돌 예외가 발생하고 아무것도 기록되지 않는다")
+    void appendWithStaleVersion() {
+        // given
+        eventStore.append("Order", "1", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1))));
+
+        // when & then
+        assertThatThrownBy(() -> eventStore.append("Order", "1", 0,
+            List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1)), NewEvent.of("OrderConfirmed", Map.of()))))
+            .isInstanceOf(EventStreamConflictException.class);
+        assertThat(eventStore.currentVersion("Order", "1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트림 끝보다 앞선 버전을 기대하고 추가하면 버전 사이에 빈 칸을 만들지 않고 거부한다")
+    void appendAheadOfStream() {
+        // given
+        eventStore.append("Order", "1", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1))));
+
+        // when & then
+        assertThatThrownBy(() -> eventStore.append("Order", "1", 3, List.of(NewEvent.of("OrderConfirmed", Map.of()))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> eventStore.append("Order", "2", 1, List.of(NewEvent.of("OrderCreated", Map.of()))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(eventStore.currentVersion("Order", "1")).isEqualTo(1);
+        assertThat(eventStore.currentVersion("Order", "2")).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 기록된 append 를 그대로 다시 보내면 무시하고, 일부 event_id 만 겹치면 버전 충돌과 다른 예외가 발생한다")
+    void appendDuplicateEventIds() {
+        // given
+        NewEvent created = NewEvent.builder().eventId("event-1").eventType("OrderCreated").data(Map.of()).build();
+        NewEvent confirmed = NewEvent.builder().eventId("event-2").eventType("OrderConfirmed").data(Map.of()).build();
+        eventStore.append("Order", "1", 0, List.of(created, confirmed));
+
+        // when
+        long retried = eventStore.append("Order", "1", 0, List.of(created, confirmed));
+
+        // then
+        assertThat(retried).isEqualTo(2);
+        assertThat(eventStore.currentVersion("Order", "1")).isEqualTo(2);
+        assertThatThrownBy(() -> eventStore.append("Order", "1", 2,
+            List.of(confirmed, NewEvent.of("OrderShipped", Map.of()))))
+            .isInstanceOfSatisfying(DuplicateEventException.class,
+                e -> assertThat(e.getEventIds()).containsExactly("event-2"));
+        assertThat(eventStore.currentVersion("Order", "1")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스트림을 한 번에 추가하고 전역 순서로 읽을 수 있다")
+    void appendAllAndReadAllAfter() {
+        // given
+        eventStore.appendAll(List.of(
+            new StreamAppend("Order", "1", 0, List.of(NewEvent.of("OrderCreated", "{\"orderId\":1}"))),
+            new StreamAppend("Order", "2", 0, List.of(NewEvent.of("OrderCreated", "{\"orderId\":2}")))));
+
+        // when
+        List<StoredEvent> firstPage = eventStore.readAllAfter(0, 1);
+        List<StoredEvent> secondPage = eventStore.readAllAfter(firstPage.get(0).getId(), 10);
+
+        // then
+        assertThat(firstPage).extracting(StoredEvent::getAggregateId).containsExactly("1");
+        assertThat(secondPage).extracting(StoredEvent::getAggregateId).containsExactly("2");
+        assertThat(secondPage.get(0).getData()).isEqualTo("{\"orderId\":2}");
+    }
+
+    @Test
+    @DisplayName("여러 스트림을 한 번에 추가하다 충돌하면 충돌한 스트림을 모두 알려주고 아무것도 기록하지 않는다")
+    void appendAllReportsEveryConflict() {
+        // given
+        eventStore.append("Order", "1", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1))));
+        eventStore.append("Order", "3", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 3)),
+            NewEvent.of("OrderConfirmed", Map.of("orderId", 3))));
+
+        // when & then
+        assertThatThrownBy(() -> eventStore.appendAll(List.of(
+            new StreamAppend("Order", "1", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 1)))),
+            new StreamAppend("Order", "2", 0, List.of(NewEvent.of("OrderCreated", Map.of("orderId", 2)))),
+            new StreamAppend("Order", "3", 1, List.of(NewEvent.of("OrderShipped", Map.of("orderId", 3)))))))
+            .isInstanceOfSatisfying(EventStreamConflictException.class, e -> assertThat(e.getConflicts())
+                .containsExactly(new StreamConflict("Order", "1", 0, 1), new StreamConflict("Order", "3", 1, 2)));
+        assertThat(eventStore.currentVersion("Order", "2")).isZero();
+    }
+
+    @Test
+    @DisplayName("fromVersion 이후의 이벤트만 스트리밍한다")
+    void readStreamFromVersion() {
+        // given
+        eventStore.append("Product", "10", 0, List.of(
+            NewEvent.of("ProductCreated", Map.of()),
+            NewEvent.of("ProductPriceChanged", Map.of()),
+            NewEvent.of("ProductPriceChanged", Map.of())));
+
+        // when
+        List<String> types;
+        try (Stream<StoredEvent> stream = eventStore.readStream("Product", "10", 2)) {
+            types = stream.map(StoredEvent::getEventType).toList();
+        }
+
+        // then
+        assertThat(types).containsExactly("ProductPriceChanged", "ProductPriceChanged");
+    }
+
+    @Test
+    @DisplayName("한 문장의 최대 이벤트 수를 넘으면 예외가 발생한다")
+    void tooManyEvents() {
+        // given
+        List<NewEvent> events = Collections.nCopies(JdbcEventStore.MAX_EVENTS_PER_STATEMENT + 1,
+            NewEvent.of("OrderCreated", Map.of()));
+
+        // when & then
+        assertThatThrownBy(() -> eventStore.append("Order", "1", 0, events))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 LRU 에 없는 이벤트의 중복 판별을 레코드마다 저장소에 조회할 때와 poll 단위로 prefetch 할 때의 처리량을 비교한다.
+ * poll 하나는 500건이고 그중 10% 는 이미 처리된(재전달된) 이벤트다. {@code ./gradlew :common:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("EventDeduplicator 저장소 조회 벤치마크")
+class EventDeduplicatorBenchmarkTest {
+
+    private static final int POLLS = 200;
+
+    private static final int RECORDS_PER_POLL = 500;
+
+    private static final int REDELIVERED_PER_POLL = RECORDS_PER_POLL / 10;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcProcessedEventStore store;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE processed_events
+            (
+                event_id     VARCHAR(36) NOT NULL PRIMARY KEY,
+                processed_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                INDEX idx_processed_events_processed_at (processed_at)
+            )
+            """);
+        store = new JdbcProcessedEventStore(jdbcTemplate, Duration.ofDays(1));
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("레코드별 조회와 poll 단위 prefetch 의 처리량")
+    void lookupThroughput() {
+        report("per-record", run(false));
+        report("prefetch", run(true));
+    }
+
+    /**
+     * 매번 새 중복 제거기와 새 이벤트로 돌려 로컬 LRU 가 결과에 끼어들지 않게 한다.
+     */
+    private static double run(boolean prefetch) {
+        List<List<String>> polls = polls();
+        try (EventDeduplicator deduplicator = new EventDeduplicator(store, new SimpleMeterRegistry(),
+            1_000, RECORDS_PER_POLL, Duration.ofHours(1))) {
+            int duplicates = 0;
+            long start = System.nanoTime();
+            for (List<String> poll : polls) {
+                if (prefetch) {
+                    deduplicator.prefetch(poll);
+                }
+                for (String eventId : poll) {
+                    if (deduplicator.isDuplicate(eventId)) {
+                        duplicates++;
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            assertThat(duplicates).isEqualTo(POLLS * REDELIVERED_PER_POLL);
+            return POLLS * RECORDS_PER_POLL / seconds;
+        }
+    }
+
+    /**
+     * poll 마다 앞쪽 10% 는 저장소에 이미 기록된 이벤트다.
+     */
+    private static List<List<String>> polls() {
+        List<List<String>> polls = new ArrayList<>(POLLS);
+        for (int i = 0; i < POLLS; i++) {
+            List<String> poll = new ArrayList<>(RECORDS_PER_POLL);
+            for (int j = 0; j < RECORDS_PER_POLL; j++) {
+                poll.add(UUID.randomUUID().toString());
+            }
+            store.markProcessed(poll.subList(0, REDELIVERED_PER_POLL));
+            polls.add(poll);
+        }
+        return polls;
+    }
+
+    private static void report(String name, double recordsPerSecond) {
+        System.out.printf("[dedup-lookup] %-10s %,.0f records/sec%n", name, recordsPerSecond);
+    }
+
+}
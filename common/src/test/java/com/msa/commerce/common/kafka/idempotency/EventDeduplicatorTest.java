@@ -0,0 +1,219 @@
+package com.msa.commerce.common.kafka.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventDeduplicator 테스트")
+class EventDeduplicatorTest {
+
+    @Mock
+    private ProcessedEventStore store;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new EventDeduplicator(store, meterRegistry, 1000, 3, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deduplicator.close();
+    }
+
+    @Test
+    @DisplayName("처리 완료된 이벤트는 저장소 조회 없이 로컬 캐시에서 중복으로 판별된다")
+    void duplicateFromCache() {
+        // given
+        deduplicator.markProcessed("event-1");
+
+        // when
+        boolean duplicate = deduplicator.isDuplicate("event-1");
+
+        // then
+        assertThat(duplicate).isTrue();
+        verify(store, never()).isProcessed(anyString());
+        assertThat(meterRegistry.get("commerce.kafka.dedup.duplicates").tag("source", "cache").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 저장소를 조회하고 결과를 캐시에 올린다")
+    void duplicateFromStore() {
+        // given
+        given(store.isProcessed("event-2")).willReturn(true);
+
+        // when
+        boolean first = deduplicator.isDuplicate("event-2");
+        boolean second = deduplicator.isDuplicate("event-2");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(store, times(1)).isProcessed("event-2");
+        assertThat(meterRegistry.get("commerce.kafka.dedup.duplicates").tag("source", "store").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처음 보는 이벤트와 eventId 가 없는 이벤트는 중복이 아니다")
+    void notDuplicate() {
+        // given
+        given(store.isProcessed("event-3")).willReturn(false);
+
+        // when & then
+        assertThat(deduplicator.isDuplicate("event-3")).isFalse();
+        assertThat(deduplicator.isDuplicate(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("prefetch 한 이벤트는 건별 조회 없이 한 번의 저장소 조회 결과로 판별된다")
+    void duplicateFromPrefetch() {
+        // given
+        deduplicator.markProcessed("cached");
+        given(store.findProcessed(List.of("event-4", "event-5"))).willReturn(Set.of("event-4"));
+
+        // when
+        deduplicator.prefetch(Arrays.asList("cached", "event-4", "event-5", null));
+
+        // then
+        assertThat(deduplicator.isDuplicate("cached")).isTrue();
+        assertThat(deduplicator.isDuplicate("event-4")).isTrue();
+        assertThat(deduplicator.isDuplicate("event-5")).isFalse();
+        verify(store, never()).isProcessed(anyString());
+    }
+
+    @Test
+    @DisplayName("걸러낸 중복 레코드는 리스너가 ack 하지 않으므로 다음 오프셋을 직접 커밋한다")
+    @SuppressWarnings("unchecked")
+    void commitsSkippedDuplicate() {
+        // given
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        IdempotentRecordInterceptor interceptor = new IdempotentRecordInterceptor(deduplicator);
+        deduplicator.markProcessed("event-6");
+        ConsumerRecord<String, Object> record =
+            new ConsumerRecord<>("topic", 1, 41L, "key", Map.of("eventId", "event-6"));
+
+        // when
+        ConsumerRecord<String, Object> intercepted = interceptor.intercept(record, consumer);
+
+        // then
+        assertThat(intercepted).isNull();
+        verify(consumer).commitSync(Map.of(new TopicPartition("topic", 1), new OffsetAndMetadata(42L)));
+    }
+
+    @Test
+    @DisplayName("배치 리스너에는 중복을 뺀 레코드만 넘기고 리스너가 성공한 레코드만 처리 완료로 기록한다")
+    @SuppressWarnings("unchecked")
+    void filtersDuplicatesFromBatch() {
+        // given
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        IdempotentBatchInterceptor interceptor = new IdempotentBatchInterceptor(deduplicator);
+        deduplicator.markProcessed("event-7");
+        ConsumerRecord<String, Object> duplicate =
+            new ConsumerRecord<>("topic", 0, 10L, "key", Map.of("eventId", "event-7"));
+        ConsumerRecord<String, Object> fresh =
+            new ConsumerRecord<>("topic", 0, 11L, "key", Map.of("eventId", "event-8"));
+        ConsumerRecords<String, Object> batch =
+            new ConsumerRecords<>(Map.of(new TopicPartition("topic", 0), List.of(duplicate, fresh)));
+
+        // when
+        ConsumerRecords<String, Object> intercepted = interceptor.intercept(batch, consumer);
+        interceptor.success(intercepted, consumer);
+
+        // then
+        assertThat(intercepted).containsExactly(fresh);
+        assertThat(deduplicator.isDuplicate("event-8")).isTrue();
+        verify(consumer, never()).commitSync(anyMap());
+    }
+
+    @Test
+    @DisplayName("모두 중복인 배치는 리스너를 건너뛰고 파티션별 다음 오프셋을 직접 커밋한다")
+    @SuppressWarnings("unchecked")
+    void commitsSkippedDuplicateBatch() {
+        // given
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        IdempotentBatchInterceptor interceptor = new IdempotentBatchInterceptor(deduplicator);
+        deduplicator.markProcessed("event-9");
+        deduplicator.markProcessed("event-10");
+        ConsumerRecord<String, Object> first =
+            new ConsumerRecord<>("topic", 0, 20L, "key", Map.of("eventId", "event-9"));
+        ConsumerRecord<String, Object> second =
+            new ConsumerRecord<>("topic", 1, 30L, "key", Map.of("eventId", "event-10"));
+        ConsumerRecords<String, Object> batch = new ConsumerRecords<>(Map.of(
+            new TopicPartition("topic", 0), List.of(first),
+            new TopicPartition("topic", 1), List.of(second)));
+
+        // when
+        ConsumerRecords<String, Object> intercepted = interceptor.intercept(batch, consumer);
+
+        // then
+        assertThat(intercepted).isNull();
+        verify(consumer).commitSync(Map.of(
+            new TopicPartition("topic", 0), new OffsetAndMetadata(21L),
+            new TopicPartition("topic", 1), new OffsetAndMetadata(31L)));
+    }
+
+    @Test
+    @DisplayName("처리 완료 기록은 배치 단위로 저장소에 저장된다")
+    @SuppressWarnings("unchecked")
+    void flushInBatches() {
+        // given
+        List.of("a", "b", "c", "d").forEach(deduplicator::markProcessed);
+
+        // when
+        deduplicator.flush();
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(store, atLeastOnce()).markProcessed(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(captor.getAllValues().stream().flatMap(Collection::stream))
+            .containsExactlyInAnyOrder("a", "b", "c", "d");
+    }
+
+    @Test
+    @DisplayName("eventId 는 헤더를 우선하고 없으면 payload 에서 찾는다")
+    void resolveEventId() {
+        // given
+        ConsumerRecord<String, Object> withHeader = new ConsumerRecord<>("topic", 0, 0L, "key", Map.of("eventId", "payload-id"));
+        withHeader.headers().add(IdempotentRecordInterceptor.EVENT_ID_HEADER, "header-id".getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, Object> withPayload = new ConsumerRecord<>("topic", 0, 1L, "key", Map.of("eventId", "payload-id"));
+        ConsumerRecord<String, Object> withoutId = new ConsumerRecord<>("topic", 0, 2L, "key", "plain");
+
+        // when & then
+        assertThat(IdempotentRecordInterceptor.resolveEventId(withHeader)).isEqualTo("header-id");
+        assertThat(IdempotentRecordInterceptor.resolveEventId(withPayload)).isEqualTo("payload-id");
+        assertThat(IdempotentRecordInterceptor.resolveEventId(withoutId)).isNull();
+    }
+
+}
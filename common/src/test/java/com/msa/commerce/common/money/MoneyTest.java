@@ -0,0 +1,117 @@
+package com.msa.commerce.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Money 테스트")
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("BigDecimal 은 DECIMAL(10,2) 저장과 같이 소수 셋째 자리에서 HALF_UP 으로 반올림된다")
+    void roundsLikeDecimalColumn() {
+        // when & then
+        assertThat(Money.of(new BigDecimal("10.005"), "KRW").minor()).isEqualTo(1_001L);
+        assertThat(Money.of(new BigDecimal("10.004"), "KRW").minor()).isEqualTo(1_000L);
+        assertThat(Money.of(new BigDecimal("-10.005"), "KRW").minor()).isEqualTo(-1_001L);
+        assertThat(Money.of(new BigDecimal("1E+3"), "KRW").minor()).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("비율 곱셈은 BigDecimal 곱셈 후 HALF_UP 반올림과 같은 결과를 낸다")
+    void multipliesByRateLikeBigDecimal() {
+        // given
+        SplittableRandom random = new SplittableRandom(46L);
+
+        for (int i = 0; i < 100_000; i++) {
+            long minor = random.nextLong(-99_999_999_99L, 99_999_999_99L);
+            long rate = random.nextLong(0L, 10_001L);
+
+            // when
+            Money result = Money.ofMinor(minor, "KRW").multiplyByRate(rate, 4);
+
+            // then
+            BigDecimal expected = BigDecimal.valueOf(minor, 2)
+                .multiply(BigDecimal.valueOf(rate, 4))
+                .setScale(2, RoundingMode.HALF_UP);
+            assertThat(result.toBigDecimal()).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("통화가 다른 금액끼리는 계산하거나 비교하지 않는다")
+    void rejectsCurrencyMismatch() {
+        // given
+        Money krw = Money.ofMinor(100L, "KRW");
+        Money usd = Money.ofMinor(100L, "USD");
+
+        // when & then
+        assertThatThrownBy(() -> krw.plus(usd)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> krw.compareTo(usd)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 계산은 조용히 넘치지 않고 예외를 던진다")
+    void failsOnOverflow() {
+        // when & then
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE, "KRW").plus(Money.ofMinor(1L, "KRW")))
+            .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.ofMinor(9_999_999_999L, "KRW").fitsDecimal(10)).isTrue();
+        assertThat(Money.ofMinor(10_000_000_000L, "KRW").fitsDecimal(10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("절대값이 long 으로 표현되지 않는 금액이나 비율은 비율 곱셈에서 예외를 던진다")
+    void rejectsMinValueInRateMultiplication() {
+        // when & then
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE, "KRW").multiplyByRate(1L, 0))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(1L, "KRW").multiplyByRate(Long.MIN_VALUE, 0))
+            .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.ofMinor(Long.MIN_VALUE + 1, "KRW").multiplyByRate(1L, 0).minor())
+            .isEqualTo(Long.MIN_VALUE + 1);
+    }
+
+    @Test
+    @DisplayName("JSON 은 amount 숫자와 currency 로 쓰고, 숫자와 문자열 amount 를 모두 읽는다")
+    void roundTripsJson() throws Exception {
+        // given
+        Money money = Money.ofMinor(100_050L, "KRW");
+
+        // when
+        String json = objectMapper.writeValueAsString(money);
+
+        // then
+        assertThat(json).isEqualTo("{\"amount\":1000.50,\"currency\":\"KRW\"}");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+        assertThat(objectMapper.readValue("{\"currency\":\"KRW\",\"amount\":\"1000.5\"}", Money.class))
+            .isEqualTo(money);
+        assertThatThrownBy(() -> objectMapper.readValue("{\"amount\":1}", Money.class))
+            .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    @DisplayName("JPA 컨버터는 컬럼 통화와 다른 금액을 저장하지 않는다")
+    void convertsKrwColumn() {
+        // given
+        KrwMoneyConverter converter = new KrwMoneyConverter();
+
+        // when & then
+        assertThat(converter.convertToDatabaseColumn(Money.ofMinor(1_050L, "KRW"))).isEqualTo(new BigDecimal("10.50"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("10.50"))).isEqualTo(Money.ofMinor(1_050L, "KRW"));
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn(Money.ofMinor(1L, "USD")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -4,6 +4,7 @@ dependencies {
     // Service-specific dependencies
     implementation(BuildDependencies.getSpringBootStarterDataRedis())
     implementation(BuildDependencies.getSpringKafka())
+    implementation(BuildDependencies.getSpringBootStarterActuator())
 
     // Database connector
     runtimeOnly(BuildDependencies.getMysqlConnectorRuntime())
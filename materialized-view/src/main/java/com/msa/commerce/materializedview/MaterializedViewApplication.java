@@ -3,7 +3,10 @@ package com.msa.commerce.materializedview;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+    "com.msa.commerce.materializedview",
+    "com.msa.commerce.common"
+})
 public class MaterializedViewApplication {
 
     public static void main(String[] args) {
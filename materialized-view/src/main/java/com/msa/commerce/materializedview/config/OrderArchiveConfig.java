@@ -0,0 +1,41 @@
+package com.msa.commerce.materializedview.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.msa.commerce.materializedview.orderhistory.OrderArchiveReader;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class OrderArchiveConfig {
+
+    @Value("${commerce.order-history.source.url}")
+    private String url;
+
+    @Value("${commerce.order-history.source.username}")
+    private String username;
+
+    @Value("${commerce.order-history.source.password}")
+    private String password;
+
+    @Value("${commerce.order-history.source.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Bean(destroyMethod = "close")
+    public OrderArchiveReader orderArchiveReader() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("order-archive");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setReadOnly(true);
+        // 오래된 이력 조회용이므로 원본 DB 가 내려가 있어도 서비스 기동은 막지 않는다
+        config.setInitializationFailTimeout(-1);
+
+        return new OrderArchiveReader(new HikariDataSource(config));
+    }
+
+}
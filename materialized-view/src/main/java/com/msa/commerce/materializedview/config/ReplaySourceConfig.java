@@ -0,0 +1,44 @@
+package com.msa.commerce.materializedview.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.eventstore.JdbcEventStore;
+import com.msa.commerce.materializedview.replay.ReplaySource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class ReplaySourceConfig {
+
+    @Value("${commerce.replay.source.url}")
+    private String url;
+
+    @Value("${commerce.replay.source.username}")
+    private String username;
+
+    @Value("${commerce.replay.source.password}")
+    private String password;
+
+    @Value("${commerce.replay.source.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Bean(destroyMethod = "close")
+    public ReplaySource replaySource(ObjectMapper objectMapper) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replay-source");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setReadOnly(true);
+        // 원본 DB 가 내려가 있어도 서비스 기동은 막지 않는다
+        config.setInitializationFailTimeout(-1);
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        return new ReplaySource(dataSource, new JdbcEventStore(dataSource, objectMapper, Integer.MIN_VALUE));
+    }
+
+}
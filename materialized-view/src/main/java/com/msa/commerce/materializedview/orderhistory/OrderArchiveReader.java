@@ -0,0 +1,55 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Redis 에 남아 있지 않은 오래된 주문을 db_order.orders 에서 키셋으로 읽는다.
+ * 서비스 자체 DataSource 자동 설정을 가리지 않도록 DataSource 를 빈으로 노출하지 않는다.
+ */
+public class OrderArchiveReader implements AutoCloseable {
+
+    private static final String SELECT_COLUMNS =
+        "SELECT id, order_number, status, total_amount, currency, created_at FROM orders WHERE user_id = ? ";
+
+    private static final RowMapper<OrderSummary> ROW_MAPPER = (rs, rowNum) -> new OrderSummary(
+        rs.getLong("id"),
+        rs.getString("order_number"),
+        rs.getString("status"),
+        rs.getBigDecimal("total_amount"),
+        rs.getString("currency"),
+        rs.getTimestamp("created_at").toInstant(),
+        0L);
+
+    private final HikariDataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderArchiveReader(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<OrderSummary> findOlderThan(long userId, OrderHistoryCursor cursor, int limit) {
+        if (cursor == null) {
+            return jdbcTemplate.query(SELECT_COLUMNS + "ORDER BY created_at DESC, id DESC LIMIT ?",
+                ROW_MAPPER, userId, limit);
+        }
+        // 커서는 created_at 과 같은 초 단위다
+        Timestamp createdAt = Timestamp.from(cursor.createdAt());
+        return jdbcTemplate.query(SELECT_COLUMNS
+                + "AND (created_at < ? OR (created_at = ? AND id < ?)) ORDER BY created_at DESC, id DESC LIMIT ?",
+            ROW_MAPPER, userId, createdAt, createdAt, cursor.orderId(), limit);
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+/**
+ * (created_at, order_id) 키셋 커서. 클라이언트에는 불투명한 base64url 문자열로 노출한다.
+ * orders.created_at 이 초 단위 DATETIME 이므로 Redis 점수와 커서도 초 단위로 맞춰 두 저장소에서 같은 순서를 쓴다.
+ */
+public record OrderHistoryCursor(long createdAtSeconds, long orderId) {
+
+    public static OrderHistoryCursor after(OrderSummary summary) {
+        return new OrderHistoryCursor(summary.createdAt().getEpochSecond(), summary.orderId());
+    }
+
+    public static OrderHistoryCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new OrderHistoryCursor(
+                Long.parseLong(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException("Invalid order history cursor", ErrorCode.INVALID_INPUT.getCode(), e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((createdAtSeconds + ":" + orderId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서보다 뒤(더 오래된) 주문인지 판단한다. 정렬 기준은 created_at DESC, order_id DESC 이다.
+     */
+    public boolean isBefore(OrderSummary summary) {
+        long createdAt = summary.createdAt().getEpochSecond();
+        return createdAt < createdAtSeconds || (createdAt == createdAtSeconds && summary.orderId() < orderId);
+    }
+
+    public Instant createdAt() {
+        return Instant.ofEpochSecond(createdAtSeconds);
+    }
+
+}
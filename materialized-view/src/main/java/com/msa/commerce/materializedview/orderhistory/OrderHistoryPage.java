@@ -0,0 +1,6 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.util.List;
+
+public record OrderHistoryPage(List<OrderSummary> orders, String nextCursor) {
+}
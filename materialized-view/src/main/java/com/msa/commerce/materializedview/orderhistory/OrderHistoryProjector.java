@@ -0,0 +1,57 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.order.OrderEventTopics;
+import com.msa.commerce.common.events.order.OrderStatusChangedEvent;
+import com.msa.commerce.materializedview.projection.Projection;
+import com.msa.commerce.materializedview.projection.ProjectionWriter;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OrderHistoryProjector implements Projection {
+
+    public static final String NAME = "order-history";
+
+    private final UserOrderHistoryRepository historyRepository;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Collection<String> topics() {
+        return List.of(OrderEventTopics.ORDER_CREATED, OrderEventTopics.ORDER_STATUS_CHANGED);
+    }
+
+    @Override
+    public void apply(Object event, ProjectionWriter writer) {
+        if (event instanceof OrderCreatedEvent created) {
+            historyRepository.upsert(writer, created.getUserId(), new OrderSummary(
+                created.getOrderId(),
+                created.getOrderNumber(),
+                created.getStatus(),
+                created.getTotalAmount(),
+                created.getCurrency(),
+                created.getCreatedAt(),
+                created.getVersion()));
+        } else if (event instanceof OrderStatusChangedEvent changed) {
+            historyRepository.upsert(writer, changed.getUserId(), new OrderSummary(
+                changed.getOrderId(),
+                changed.getOrderNumber(),
+                changed.getStatus(),
+                changed.getTotalAmount(),
+                changed.getCurrency(),
+                changed.getCreatedAt(),
+                changed.getVersion()));
+        }
+    }
+
+}
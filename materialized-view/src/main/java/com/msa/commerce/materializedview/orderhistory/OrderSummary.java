@@ -0,0 +1,18 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 주문 목록 한 줄에 필요한 최소 정보. version 은 같은 주문의 늦게 도착한 이벤트를 걸러내는 데 쓰인다.
+ */
+public record OrderSummary(
+    Long orderId,
+    String orderNumber,
+    String status,
+    BigDecimal totalAmount,
+    String currency,
+    Instant createdAt,
+    long version
+) {
+}
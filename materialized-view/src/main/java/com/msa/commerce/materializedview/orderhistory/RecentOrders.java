@@ -0,0 +1,10 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.util.List;
+
+/**
+ * Redis 에서 읽은 최근 주문 한 묶음. complete 이면 Redis 가 사용자의 주문을 하나도 잘라내지 않고 모두 가지고 있어
+ * 이보다 오래된 주문을 MySQL 에서 찾을 필요가 없다.
+ */
+public record RecentOrders(List<OrderSummary> orders, boolean complete) {
+}
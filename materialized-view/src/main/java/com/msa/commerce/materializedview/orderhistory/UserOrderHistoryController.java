@@ -0,0 +1,26 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/users/{userId}/orders")
+@RequiredArgsConstructor
+public class UserOrderHistoryController {
+
+    private final UserOrderHistoryService userOrderHistoryService;
+
+    @GetMapping
+    public ResponseEntity<OrderHistoryPage> getOrders(@PathVariable Long userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userOrderHistoryService.findOrders(userId, cursor, size));
+    }
+
+}
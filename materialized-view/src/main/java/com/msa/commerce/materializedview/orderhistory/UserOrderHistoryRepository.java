@@ -0,0 +1,192 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.materializedview.projection.ProjectionWriter;
+
+/**
+ * 사용자별 최근 주문을 Redis 에 보관한다.
+ * <p>
+ * user-orders:{userId} ZSET(score=생성 시각 초, member=orderId)으로 순서를 유지하고,
+ * user-orders:{userId}:summaries 해시에 주문 요약 JSON 을 둔다. 점수는 orders.created_at 과 같은 초 단위다.
+ * user-orders:{userId}:complete 는 Redis 가 사용자의 주문을 모두 가지고 있다는 표시로, 상한을 넘겨 오래된 주문을
+ * 잘라내면 지운다. 세 키는 같은 해시 태그를 써서 클러스터에서도 한 슬롯에 놓이며, 갱신과 상한 초과분 정리를
+ * Lua 스크립트 하나로 처리한다.
+ */
+@Repository
+public class UserOrderHistoryRepository {
+
+    static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[2], ARGV[1])
+        if current and tonumber(ARGV[4]) <= tonumber(cjson.decode(current).version or 0) then
+            return 0
+        end
+        redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+        redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+        local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[5])
+        if overflow > 0 then
+            local evicted = redis.call('ZPOPMIN', KEYS[1], overflow)
+            for i = 1, #evicted, 2 do
+                redis.call('HDEL', KEYS[2], evicted[i])
+            end
+            redis.call('DEL', KEYS[3])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * 한 번도 잘라내지 않았을 때만(상한 미만) 완전 표시를 남긴다. 잘라낸 뒤에는 ZCARD 가 상한과 같아 남기지 않는다.
+     */
+    static final RedisScript<Long> MARK_COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[1]) then
+            redis.call('SET', KEYS[2], '1')
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    /**
+     * (점수, orderId) 커서 다음 주문을 읽는다. ARGV[1] 은 커서 점수(없으면 +inf), ARGV[2] 는 커서 orderId(없으면 빈 문자열)다.
+     * 같은 점수의 멤버는 문자열 순서로 놓여 orderId 순서와 다르므로, 커서 점수에서는 그 점수의 멤버를 모두 읽어
+     * orderId 로 거르고 그보다 오래된 쪽은 점수 미만(배타)으로 limit 건 읽는다. limit 에서 잘린 마지막 점수도 그 점수의
+     * 멤버를 모두 읽어 다음 커서가 같은 초의 주문을 건너뛰지 않게 한다. 정렬과 limit 은 호출자가 적용한다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>("""
+        local complete = redis.call('EXISTS', KEYS[3])
+        local ids = {}
+        local maxScore = ARGV[1]
+        if ARGV[2] ~= '' then
+            local cursorId = tonumber(ARGV[2])
+            for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])) do
+                if tonumber(id) < cursorId then
+                    table.insert(ids, id)
+                end
+            end
+            maxScore = '(' .. ARGV[1]
+        end
+        local older = redis.call('ZREVRANGEBYSCORE', KEYS[1], maxScore, '-inf', 'WITHSCORES',
+            'LIMIT', 0, tonumber(ARGV[3]))
+        if #older > 0 then
+            local lastScore = older[#older]
+            for i = 1, #older, 2 do
+                if older[i + 1] ~= lastScore then
+                    table.insert(ids, older[i])
+                end
+            end
+            for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], lastScore, lastScore)) do
+                table.insert(ids, id)
+            end
+        end
+        if #ids == 0 then
+            return {complete}
+        end
+        local summaries = redis.call('HMGET', KEYS[2], unpack(ids))
+        table.insert(summaries, 1, complete)
+        return summaries
+        """, List.class);
+
+    private static final Comparator<OrderSummary> NEWEST_FIRST = Comparator
+        .comparing(OrderSummary::createdAt)
+        .thenComparing(OrderSummary::orderId)
+        .reversed();
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${commerce.order-history.max-orders-per-user:100}")
+    private int maxOrdersPerUser;
+
+    public UserOrderHistoryRepository(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 주문 요약 저장을 writer 에 기록한다. 이미 같거나 더 새로운 버전이 있으면 스크립트가 아무것도 하지 않는다.
+     */
+    public void upsert(ProjectionWriter writer, long userId, OrderSummary summary) {
+        writer.evalLatest(summariesKey(userId) + "#" + summary.orderId(), summary.version(), UPSERT_SCRIPT,
+            List.of(ordersKey(userId), summariesKey(userId), completeKey(userId)),
+            String.valueOf(summary.orderId()),
+            String.valueOf(summary.createdAt().getEpochSecond()),
+            toJson(summary),
+            String.valueOf(summary.version()),
+            String.valueOf(maxOrdersPerUser));
+    }
+
+    /**
+     * 커서보다 오래된 주문을 최신순으로 최대 limit 건 읽는다. 한 번의 왕복으로 ZSET, 해시와 완전 표시를 함께 조회한다.
+     */
+    public RecentOrders findPage(long userId, OrderHistoryCursor cursor, int limit) {
+        List<?> values = redisTemplate.execute(PAGE_SCRIPT,
+            List.of(ordersKey(userId), summariesKey(userId), completeKey(userId)),
+            cursor != null ? String.valueOf(cursor.createdAtSeconds()) : "+inf",
+            cursor != null ? String.valueOf(cursor.orderId()) : "",
+            String.valueOf(limit));
+        if (values == null || values.isEmpty()) {
+            return new RecentOrders(List.of(), false);
+        }
+
+        List<OrderSummary> summaries = new ArrayList<>(values.size() - 1);
+        for (Object value : values.subList(1, values.size())) {
+            if (value != null) {
+                summaries.add(fromJson(value.toString()));
+            }
+        }
+        return new RecentOrders(summaries.stream()
+            .filter(summary -> cursor == null || cursor.isBefore(summary))
+            .sorted(NEWEST_FIRST)
+            .limit(limit)
+            .toList(), Long.valueOf(1L).equals(values.get(0)));
+    }
+
+    /**
+     * MySQL 에 Redis 보다 오래된 주문이 없다는 것을 확인했을 때 호출한다. 이후 이 사용자는 Redis 만으로 조회한다.
+     */
+    public void markComplete(long userId) {
+        redisTemplate.execute(MARK_COMPLETE_SCRIPT, List.of(ordersKey(userId), completeKey(userId)),
+            String.valueOf(maxOrdersPerUser));
+    }
+
+    static String ordersKey(long userId) {
+        return "user-orders:{" + userId + "}";
+    }
+
+    static String summariesKey(long userId) {
+        return ordersKey(userId) + ":summaries";
+    }
+
+    static String completeKey(long userId) {
+        return ordersKey(userId) + ":complete";
+    }
+
+    private String toJson(OrderSummary summary) {
+        try {
+            return objectMapper.writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize order summary " + summary.orderId(), e);
+        }
+    }
+
+    private OrderSummary fromJson(String json) {
+        try {
+            return Objects.requireNonNull(objectMapper.readValue(json, OrderSummary.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable order summary: " + json, e);
+        }
+    }
+
+}
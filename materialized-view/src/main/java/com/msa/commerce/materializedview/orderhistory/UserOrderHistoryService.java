@@ -0,0 +1,55 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * "내 주문" 목록 조회. 최근 주문은 Redis 에서 읽고, Redis 가 상한을 넘겨 오래된 주문을 잘라낸 사용자만
+ * 보관된 범위를 넘어서는 페이지를 MySQL 에서 이어 읽는다.
+ * <p>
+ * Redis 가 사용자의 주문을 모두 가지고 있는지는 처음 MySQL 을 읽었을 때 확인한다. Redis 보다 오래된 주문이 없으면
+ * 완전 표시를 남기고, 그 뒤로는 Redis 에서 페이지가 모자라도 MySQL 을 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserOrderHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final UserOrderHistoryRepository historyRepository;
+
+    private final OrderArchiveReader archiveReader;
+
+    public OrderHistoryPage findOrders(long userId, String cursorValue, Integer requestedSize) {
+        int size = requestedSize == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+        OrderHistoryCursor cursor = OrderHistoryCursor.decode(cursorValue);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 읽는다
+        RecentOrders recent = historyRepository.findPage(userId, cursor, size + 1);
+        List<OrderSummary> orders = new ArrayList<>(recent.orders());
+        if (orders.size() <= size && !recent.complete()) {
+            OrderHistoryCursor archiveCursor = orders.isEmpty()
+                ? cursor
+                : OrderHistoryCursor.after(orders.get(orders.size() - 1));
+            List<OrderSummary> older = archiveReader.findOlderThan(userId, archiveCursor, size + 1 - orders.size());
+            // Redis 의 가장 오래된 주문(또는 첫 페이지) 뒤로 MySQL 에도 없으면 Redis 가 전부 가지고 있다
+            if (older.isEmpty() && (cursor == null || !orders.isEmpty())) {
+                historyRepository.markComplete(userId);
+            }
+            orders.addAll(older);
+        }
+
+        if (orders.size() > size) {
+            List<OrderSummary> page = orders.subList(0, size);
+            return new OrderHistoryPage(List.copyOf(page), OrderHistoryCursor.after(page.get(size - 1)).encode());
+        }
+        return new OrderHistoryPage(List.copyOf(orders), null);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.exception.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/product-details")
+@RequiredArgsConstructor
+public class ProductDetailController {
+
+    private final ProductDetailViewRepository viewRepository;
+
+    /**
+     * Redis GET 한 번으로 저장된 JSON 문서를 그대로 응답한다.
+     */
+    @GetMapping(value = "/{productId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getProductDetail(@PathVariable Long productId) {
+        return viewRepository.findJson(productId)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new ResourceNotFoundException("Product detail not found: " + productId,
+                ErrorCode.PRODUCT_NOT_FOUND.getCode()));
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.product.ProductDetailsChangedEvent;
+import com.msa.commerce.common.events.product.ProductEventTopics;
+import com.msa.commerce.common.events.product.ProductInventoryChangedEvent;
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.materializedview.projection.Projection;
+import com.msa.commerce.materializedview.projection.ProjectionWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품/가격/재고 이벤트를 상품 상세 문서의 해당 섹션에 반영한다.
+ * 이벤트 하나가 섹션 하나만 덮어쓰므로 다른 섹션을 다시 조회하거나 재계산하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailProjector implements Projection {
+
+    public static final String NAME = "product-detail";
+
+    private final ProductDetailViewRepository viewRepository;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Collection<String> topics() {
+        return List.of(
+            ProductEventTopics.PRODUCT_DETAILS_CHANGED,
+            ProductEventTopics.PRODUCT_PRICE_CHANGED,
+            ProductEventTopics.PRODUCT_INVENTORY_CHANGED);
+    }
+
+    @Override
+    public void apply(Object event, ProjectionWriter writer) {
+        if (event instanceof ProductDetailsChangedEvent details) {
+            applyDetails(details, writer);
+        } else if (event instanceof ProductPriceChangedEvent price) {
+            applyPrice(price, writer);
+        } else if (event instanceof ProductInventoryChangedEvent inventory) {
+            applyInventory(inventory, writer);
+        }
+    }
+
+    private void applyDetails(ProductDetailsChangedEvent event, ProjectionWriter writer) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("sku", event.getSku());
+        values.put("name", event.getName());
+        values.put("shortDescription", event.getShortDescription());
+        values.put("description", event.getDescription());
+        values.put("brand", event.getBrand());
+        values.put("status", event.getStatus());
+        values.put("visibility", event.getVisibility());
+
+        Map<String, Object> category = new LinkedHashMap<>();
+        category.put("id", event.getCategoryId());
+        category.put("name", event.getCategoryName());
+        category.put("path", event.getCategoryPath());
+        values.put("category", category);
+
+        viewRepository.mergeSection(writer, event.getProductId(), ProductDetailSection.DETAILS, event.getVersion(), values);
+    }
+
+    private void applyPrice(ProductPriceChangedEvent event, ProjectionWriter writer) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        // Lua cjson 은 숫자를 double 로 다루므로 금액은 문자열로 저장해 정밀도를 유지한다
+        values.put("price", plain(event.getPrice()));
+        values.put("comparePrice", plain(event.getComparePrice()));
+        values.put("currency", event.getCurrency());
+
+        viewRepository.mergeSection(writer, event.getProductId(), ProductDetailSection.PRICE, event.getVersion(), values);
+    }
+
+    private void applyInventory(ProductInventoryChangedEvent event, ProjectionWriter writer) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("availableQuantity", event.getAvailableQuantity());
+        values.put("availability", availability(event));
+
+        viewRepository.mergeSection(writer, event.getProductId(), ProductDetailSection.INVENTORY, event.getVersion(), values);
+    }
+
+    static String availability(ProductInventoryChangedEvent event) {
+        if (event.getAvailableQuantity() > 0) {
+            return "IN_STOCK";
+        }
+        return event.isBackorderAllowed() ? "BACKORDER" : "OUT_OF_STOCK";
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount != null ? amount.toPlainString() : null;
+    }
+
+}
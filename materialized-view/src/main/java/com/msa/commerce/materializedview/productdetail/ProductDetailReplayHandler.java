@@ -0,0 +1,54 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.events.product.ProductDetailsChangedEvent;
+import com.msa.commerce.common.events.product.ProductInventoryChangedEvent;
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.common.eventstore.StoredEvent;
+import com.msa.commerce.materializedview.projection.ProjectionRuntime;
+import com.msa.commerce.materializedview.replay.ReplayHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * event_store 재생으로 상품 상세 문서를 다시 만든다. 섹션 버전 비교 덕분에 이미 반영된 이벤트는 무시된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailReplayHandler implements ReplayHandler {
+
+    private final ProductDetailProjector projector;
+
+    private final ProjectionRuntime projectionRuntime;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String projection() {
+        return ProductDetailProjector.NAME;
+    }
+
+    @Override
+    public void handle(StoredEvent event) {
+        Class<?> eventType = switch (event.getEventType()) {
+            case "ProductDetailsChanged" -> ProductDetailsChangedEvent.class;
+            case "ProductPriceChanged" -> ProductPriceChangedEvent.class;
+            case "ProductInventoryChanged" -> ProductInventoryChangedEvent.class;
+            // 상품 상세 문서와 관계없는 이벤트
+            default -> null;
+        };
+        if (eventType == null) {
+            return;
+        }
+
+        try {
+            projectionRuntime.applyDirect(projector, objectMapper.readValue(event.getData(), eventType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable event " + event.getEventId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import lombok.Getter;
+
+/**
+ * 상품 상세 문서를 구성하는 섹션. 섹션마다 원본 이벤트 스트림이 달라 버전을 따로 관리한다.
+ */
+@Getter
+public enum ProductDetailSection {
+
+    DETAILS("details"),
+    PRICE("price"),
+    INVENTORY("inventory");
+
+    private final String field;
+
+    ProductDetailSection(String field) {
+        this.field = field;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.materializedview.projection.ProjectionWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세 문서를 Redis 문자열 키 하나에 JSON 으로 저장한다.
+ * <p>
+ * 섹션 갱신은 Lua 스크립트로 읽기-비교-쓰기를 원자적으로 수행한다. 문서의 versions 에 기록된
+ * 섹션 버전보다 작거나 같은 이벤트는 순서가 뒤바뀌었거나 중복된 것이므로 버린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductDetailViewRepository {
+
+    static final String KEY_PREFIX = "product-detail:";
+
+    static final RedisScript<Long> MERGE_SECTION_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        local view
+        if current then
+            view = cjson.decode(current)
+        else
+            view = { productId = tonumber(ARGV[1]), versions = {} }
+        end
+        local section = ARGV[2]
+        local version = tonumber(ARGV[3])
+        if version <= tonumber(view.versions[section] or 0) then
+            return 0
+        end
+        view[section] = cjson.decode(ARGV[4])
+        view.versions[section] = version
+        view.updatedAt = ARGV[5]
+        redis.call('SET', KEYS[1], cjson.encode(view))
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 섹션 갱신을 writer 에 기록한다. 이미 같거나 더 새로운 버전이 반영돼 있으면 스크립트가 아무것도 하지 않는다.
+     */
+    public void mergeSection(ProjectionWriter writer, long productId, ProductDetailSection section, long version,
+        Map<String, Object> values) {
+        writer.evalLatest(key(productId) + "#" + section.getField(), version, MERGE_SECTION_SCRIPT,
+            List.of(key(productId)),
+            String.valueOf(productId),
+            section.getField(),
+            String.valueOf(version),
+            toJson(values),
+            Instant.now().toString());
+    }
+
+    /**
+     * 저장된 문서를 역직렬화 없이 그대로 반환한다.
+     */
+    public Optional<String> findJson(long productId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key(productId)));
+    }
+
+    static String key(long productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    private String toJson(Map<String, Object> values) {
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize product detail section", e);
+        }
+    }
+
+}
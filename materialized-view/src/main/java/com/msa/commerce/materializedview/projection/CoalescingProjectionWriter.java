@@ -0,0 +1,89 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 한 컨슈머 배치 동안 갱신을 모았다가 flush 시 한꺼번에 내보낸다.
+ * evalLatest 갱신은 coalesceKey 별로 가장 높은 버전 하나만 남기고, 처음 등장한 위치의 순서를 유지한다.
+ */
+class CoalescingProjectionWriter implements ProjectionWriter {
+
+    private final ProjectionWriter delegate;
+
+    private final List<PendingUpdate> updates = new ArrayList<>();
+
+    private final Map<String, PendingUpdate> latestByKey = new HashMap<>();
+
+    private int coalesced;
+
+    CoalescingProjectionWriter(ProjectionWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void eval(RedisScript<?> script, List<String> keys, String... args) {
+        updates.add(new PendingUpdate(script, keys, args, Long.MIN_VALUE));
+    }
+
+    @Override
+    public void evalLatest(String coalesceKey, long version, RedisScript<?> script, List<String> keys,
+        String... args) {
+        PendingUpdate existing = latestByKey.get(coalesceKey);
+        if (existing == null) {
+            PendingUpdate update = new PendingUpdate(script, keys, args, version);
+            updates.add(update);
+            latestByKey.put(coalesceKey, update);
+            return;
+        }
+        coalesced++;
+        if (version > existing.version) {
+            existing.replace(script, keys, args, version);
+        }
+    }
+
+    /**
+     * 모은 갱신을 delegate 로 내보내고 실행한 명령 수를 반환한다.
+     */
+    int flush() {
+        for (PendingUpdate update : updates) {
+            delegate.eval(update.script, update.keys, update.args);
+        }
+        int flushed = updates.size();
+        updates.clear();
+        latestByKey.clear();
+        return flushed;
+    }
+
+    int coalescedCount() {
+        return coalesced;
+    }
+
+    private static final class PendingUpdate {
+
+        private RedisScript<?> script;
+
+        private List<String> keys;
+
+        private String[] args;
+
+        private long version;
+
+        private PendingUpdate(RedisScript<?> script, List<String> keys, String[] args, long version) {
+            replace(script, keys, args, version);
+        }
+
+        private void replace(RedisScript<?> script, List<String> keys, String[] args, long version) {
+            this.script = script;
+            this.keys = keys;
+            this.args = args;
+            this.version = version;
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.util.Collection;
+
+/**
+ * Redis 뷰를 갱신하는 프로젝션. 빈으로 등록하면 {@link ProjectionRuntime} 이 전용 컨슈머 그룹으로 구독을 시작한다.
+ */
+public interface Projection {
+
+    /**
+     * 컨슈머 그룹과 오프셋 키 이름에 쓰인다. 바꾸면 처음부터 다시 구독한다.
+     */
+    String name();
+
+    Collection<String> topics();
+
+    /**
+     * 이벤트 하나를 뷰에 반영한다. writer 로 실행한 명령은 오프셋 기록과 같은 트랜잭션으로 묶인다.
+     */
+    void apply(Object event, ProjectionWriter writer);
+
+}
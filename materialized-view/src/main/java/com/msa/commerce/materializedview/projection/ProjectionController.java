@@ -0,0 +1,24 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/projections")
+@RequiredArgsConstructor
+public class ProjectionController {
+
+    private final ProjectionRuntime projectionRuntime;
+
+    @GetMapping
+    public ResponseEntity<List<ProjectionStatus>> getProjections() {
+        return ResponseEntity.ok(projectionRuntime.statuses());
+    }
+
+}
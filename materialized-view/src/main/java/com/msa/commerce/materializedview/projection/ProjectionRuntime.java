@@ -0,0 +1,267 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.BatchConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 등록된 {@link Projection} 마다 전용 컨슈머 그룹을 띄우고, 뷰 갱신과 소비 오프셋을 한 Redis 트랜잭션으로 기록한다.
+ * <p>
+ * 배치마다 파티션별 오프셋 키를 WATCH 한 뒤 이미 반영된 레코드를 걸러내고, MULTI 안에서 뷰 갱신과 새 오프셋 SET 을
+ * 함께 EXEC 한다. commerce.projection.coalesce 가 켜져 있으면 같은 키에 대한 버전 갱신은 배치 안에서 최신 하나로 합친다.
+ * 재시작이나 리밸런스 후에는 Kafka 커밋 오프셋이 아니라 Redis 에 기록된 오프셋 다음부터 읽으므로
+ * 같은 레코드가 두 번 반영되지 않는다. 리밸런스 직후 이전 소유자가 늦게 쓰면 WATCH 로 EXEC 가 취소된다.
+ * <p>
+ * 오프셋 키와 뷰 키가 한 트랜잭션에 묶이므로 단일 노드(또는 Sentinel) Redis 를 전제로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectionRuntime implements SmartLifecycle {
+
+    static final String OFFSET_KEY_PREFIX = "projection-offset:";
+
+    private final List<Projection> projections;
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+
+    private final DefaultErrorHandler kafkaErrorHandler;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ProjectionState> states = new ConcurrentHashMap<>();
+
+    private final List<ConcurrentMessageListenerContainer<String, Object>> containers = new ArrayList<>();
+
+    @Value("${commerce.projection.concurrency:1}")
+    private int concurrency;
+
+    @Value("${commerce.projection.coalesce:true}")
+    private boolean coalesce;
+
+    @Value("${commerce.projection.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${commerce.projection.flush-interval-ms:50}")
+    private int flushIntervalMs;
+
+    @Value("${commerce.projection.min-batch-bytes:16384}")
+    private int minBatchBytes;
+
+    private volatile boolean running;
+
+    @Override
+    public synchronized void start() {
+        for (Projection projection : projections) {
+            ProjectionState state = new ProjectionState(projection);
+            states.put(projection.name(), state);
+            Gauge.builder("commerce.projection.lag", state, ProjectionState::totalLag)
+                .tag("projection", projection.name())
+                .register(meterRegistry);
+
+            ConcurrentMessageListenerContainer<String, Object> container = createContainer(projection, state);
+            container.start();
+            containers.add(container);
+            log.info("Started projection {} on {}", projection.name(), projection.topics());
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        containers.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public List<ProjectionStatus> statuses() {
+        return states.values().stream()
+            .map(ProjectionState::toStatus)
+            .toList();
+    }
+
+    /**
+     * 오프셋 기록 없이 바로 반영한다. 이벤트 스토어 재생처럼 Kafka 밖에서 들어온 이벤트에 쓴다.
+     */
+    public void applyDirect(Projection projection, Object event) {
+        redisTemplate.execute((RedisCallback<Void>)connection -> {
+            projection.apply(event, new RedisProjectionWriter(connection));
+            return null;
+        });
+    }
+
+    void applyBatch(Projection projection, List<ConsumerRecord<String, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, byte[]> offsetKeys = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            offsetKeys.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                partition -> offsetKey(projection, partition));
+        }
+
+        Integer applied = redisTemplate.execute((RedisCallback<Integer>)connection -> {
+            byte[][] keys = offsetKeys.values().toArray(byte[][]::new);
+            connection.watch(keys);
+            Map<TopicPartition, Long> committed = readOffsets(connection, offsetKeys);
+
+            Map<byte[], byte[]> nextOffsets = new LinkedHashMap<>();
+            int count = 0;
+            connection.multi();
+            ProjectionWriter redisWriter = new RedisProjectionWriter(connection);
+            CoalescingProjectionWriter coalescingWriter = coalesce ? new CoalescingProjectionWriter(redisWriter) : null;
+            ProjectionWriter writer = coalescingWriter != null ? coalescingWriter : redisWriter;
+            for (ConsumerRecord<String, Object> record : records) {
+                TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                if (record.offset() <= committed.getOrDefault(partition, -1L)) {
+                    continue;
+                }
+                // 역직렬화에 실패한 레코드는 값이 null 이며 오프셋만 전진시킨다
+                if (record.value() != null) {
+                    projection.apply(record.value(), writer);
+                    count++;
+                }
+                nextOffsets.put(offsetKeys.get(partition), toBytes(String.valueOf(record.offset())));
+            }
+
+            if (nextOffsets.isEmpty()) {
+                connection.discard();
+                return 0;
+            }
+            if (coalescingWriter != null) {
+                coalescingWriter.flush();
+            }
+            connection.stringCommands().mSet(nextOffsets);
+            List<Object> results = connection.exec();
+            if (results == null || results.isEmpty()) {
+                throw new IllegalStateException("Projection " + projection.name()
+                    + " offsets were modified concurrently; partitions may have been reassigned");
+            }
+            return count;
+        });
+
+        ProjectionState state = states.get(projection.name());
+        if (state != null && applied != null) {
+            state.recordApplied(applied);
+        }
+    }
+
+    void seekToStoredOffsets(Projection projection, Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, byte[]> offsetKeys = new LinkedHashMap<>();
+        partitions.forEach(partition -> offsetKeys.put(partition, offsetKey(projection, partition)));
+
+        Map<TopicPartition, Long> stored = redisTemplate.execute(
+            (RedisCallback<Map<TopicPartition, Long>>)connection -> readOffsets(connection, offsetKeys));
+        if (stored == null) {
+            return;
+        }
+        stored.forEach((partition, offset) -> {
+            consumer.seek(partition, offset + 1);
+            log.info("Projection {} resumes {} at offset {}", projection.name(), partition, offset + 1);
+        });
+    }
+
+    private ConcurrentMessageListenerContainer<String, Object> createContainer(Projection projection,
+        ProjectionState state) {
+        ContainerProperties properties = new ContainerProperties(projection.topics().toArray(String[]::new));
+        properties.setGroupId("materialized-view-" + projection.name());
+        // Redis 에 기록된 오프셋이 기준이므로 Kafka 커밋은 모니터링 용도로만 남긴다
+        properties.setAckMode(ContainerProperties.AckMode.BATCH);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // 브로커가 min-batch-bytes 가 모이거나 flush-interval 이 지날 때까지 응답을 미뤄 배치를 키운다
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxBatch));
+        consumerProperties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, String.valueOf(flushIntervalMs));
+        consumerProperties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, String.valueOf(minBatchBytes));
+        properties.setKafkaConsumerProperties(consumerProperties);
+
+        properties.setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+
+            @Override
+            public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                seekToStoredOffsets(projection, consumer, partitions);
+            }
+
+            @Override
+            public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                state.forget(partitions);
+            }
+
+        });
+        properties.setMessageListener((BatchConsumerAwareMessageListener<String, Object>)(records, consumer) -> {
+            applyBatch(projection, records);
+            state.updateLag(consumer);
+        });
+
+        ConcurrentMessageListenerContainer<String, Object> container =
+            new ConcurrentMessageListenerContainer<>(consumerFactory, properties);
+        container.setConcurrency(concurrency);
+        container.setCommonErrorHandler(kafkaErrorHandler);
+        container.setBeanName("projection-" + projection.name());
+        return container;
+    }
+
+    private static Map<TopicPartition, Long> readOffsets(RedisConnection connection,
+        Map<TopicPartition, byte[]> offsetKeys) {
+        List<byte[]> values = connection.stringCommands().mGet(offsetKeys.values().toArray(byte[][]::new));
+        Map<TopicPartition, Long> offsets = new LinkedHashMap<>();
+        if (values == null) {
+            return offsets;
+        }
+        int index = 0;
+        for (TopicPartition partition : offsetKeys.keySet()) {
+            byte[] value = values.get(index++);
+            if (value != null) {
+                offsets.put(partition, Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+            }
+        }
+        return offsets;
+    }
+
+    private static byte[] offsetKey(Projection projection, TopicPartition partition) {
+        return toBytes(OFFSET_KEY_PREFIX + projection.name() + ":" + partition.topic() + "-" + partition.partition());
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * 프로젝션별 처리 현황. lag 는 마지막 poll 시점에 컨슈머가 알고 있는 파티션별 지연의 합이다.
+ */
+class ProjectionState {
+
+    private final String name;
+
+    private final List<String> topics;
+
+    private final Map<TopicPartition, Long> lags = new ConcurrentHashMap<>();
+
+    private final AtomicLong appliedEvents = new AtomicLong();
+
+    private volatile Instant lastAppliedAt;
+
+    ProjectionState(Projection projection) {
+        this.name = projection.name();
+        this.topics = List.copyOf(projection.topics());
+    }
+
+    void recordApplied(int count) {
+        appliedEvents.addAndGet(count);
+        lastAppliedAt = Instant.now();
+    }
+
+    void updateLag(Consumer<?, ?> consumer) {
+        for (TopicPartition partition : consumer.assignment()) {
+            consumer.currentLag(partition).ifPresent(lag -> lags.put(partition, lag));
+        }
+    }
+
+    void forget(Collection<TopicPartition> partitions) {
+        partitions.forEach(lags::remove);
+    }
+
+    double totalLag() {
+        return lags.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    ProjectionStatus toStatus() {
+        Map<String, Long> partitionLags = new TreeMap<>();
+        lags.forEach((partition, lag) -> partitionLags.put(partition.toString(), lag));
+        return new ProjectionStatus(name, topics, (long)totalLag(), partitionLags, appliedEvents.get(), lastAppliedAt);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record ProjectionStatus(
+    String name,
+    List<String> topics,
+    long lag,
+    Map<String, Long> partitionLags,
+    long appliedEvents,
+    Instant lastAppliedAt
+) {
+}
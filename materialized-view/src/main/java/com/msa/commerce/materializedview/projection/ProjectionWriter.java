@@ -0,0 +1,24 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 프로젝션이 뷰를 갱신할 때 쓰는 Redis 명령 창구.
+ * MULTI 안에서는 명령이 큐에 쌓이기만 하므로 결과를 돌려주지 않는다.
+ */
+public interface ProjectionWriter {
+
+    void eval(RedisScript<?> script, List<String> keys, String... args);
+
+    /**
+     * 버전 비교로 최신 값만 남기는 갱신. 같은 배치 안에서 coalesceKey 가 같은 갱신이 여러 번 오면
+     * 가장 높은 version 의 갱신만 실행해도 결과가 같으므로, 구현체는 나머지를 생략할 수 있다.
+     */
+    default void evalLatest(String coalesceKey, long version, RedisScript<?> script, List<String> keys,
+        String... args) {
+        eval(script, keys, args);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 스크립트를 EVALSHA 가 아닌 EVAL 로 보낸다. MULTI 안에서는 NOSCRIPT 오류가 EXEC 시점에야 드러나
+ * 트랜잭션 전체가 실패하므로, 스크립트 캐시 상태와 관계없이 항상 실행되도록 본문을 함께 전송한다.
+ */
+class RedisProjectionWriter implements ProjectionWriter {
+
+    private final RedisConnection connection;
+
+    RedisProjectionWriter(RedisConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void eval(RedisScript<?> script, List<String> keys, String... args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        for (int i = 0; i < args.length; i++) {
+            keysAndArgs[keys.size() + i] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+        connection.scriptingCommands().eval(
+            script.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+            ReturnType.fromJavaType(script.getResultType()),
+            keys.size(),
+            keysAndArgs);
+    }
+
+}
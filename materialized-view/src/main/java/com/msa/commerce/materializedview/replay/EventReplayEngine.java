@@ -0,0 +1,346 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.eventstore.StoredEvent;
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.exception.ResourceNotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * event_store 전체를 재생해 프로젝션을 다시 만드는 엔진.
+ * <p>
+ * 단일 리더가 id 키셋 페이지로 원본을 한 번만 스캔하고, aggregate_id 해시로 고른 파티션 워커의
+ * bounded queue 에 이벤트를 넣는다. 같은 aggregate 는 항상 같은 워커가 id 순서대로 처리하므로
+ * aggregate 단위 순서가 보장되고, 큐가 가득 차면 리더가 멈춰 메모리 사용량이 제한된다.
+ * <p>
+ * 페이지마다 각 큐에 watermark 를 넣어 "이 위치까지 배정된 이벤트는 모두 적용됨"을 파티션별로 기록하고,
+ * 이를 replay_checkpoints 에 주기적으로 저장해 중단 후 이어서 재생할 수 있다.
+ */
+@Slf4j
+@Component
+public class EventReplayEngine {
+
+    private static final ReplayItem END = new ReplayItem(null, -1);
+
+    private final ReplaySource replaySource;
+
+    private final ReplayCheckpointRepository checkpointRepository;
+
+    private final Map<String, List<ReplayHandler>> handlersByProjection;
+
+    private final Map<String, ReplayRun> runs = new ConcurrentHashMap<>();
+
+    @Value("${commerce.replay.partitions:8}")
+    private int partitions;
+
+    @Value("${commerce.replay.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${commerce.replay.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${commerce.replay.max-events-per-second:50000}")
+    private long maxEventsPerSecond;
+
+    @Value("${commerce.replay.checkpoint-interval-ms:5000}")
+    private long checkpointIntervalMs;
+
+    public EventReplayEngine(ReplaySource replaySource, ReplayCheckpointRepository checkpointRepository,
+        List<ReplayHandler> handlers) {
+        this.replaySource = replaySource;
+        this.checkpointRepository = checkpointRepository;
+        this.handlersByProjection = handlers.stream()
+            .collect(Collectors.groupingBy(ReplayHandler::projection));
+    }
+
+    /**
+     * 재생을 비동기로 시작한다. fromScratch 가 false 이면 저장된 체크포인트에서 이어서 진행한다.
+     */
+    public ReplayProgress start(String projection, boolean fromScratch) {
+        List<ReplayHandler> handlers = handlersByProjection.get(projection);
+        if (handlers == null) {
+            throw new ResourceNotFoundException("Replay projection not found: " + projection,
+                ErrorCode.REPLAY_PROJECTION_NOT_FOUND.getCode());
+        }
+
+        ReplayRun run = runs.compute(projection, (name, existing) -> {
+            if (existing != null && existing.progress.getStatus() == ReplayStatus.RUNNING) {
+                throw new BusinessException("Replay is already running: " + projection,
+                    ErrorCode.REPLAY_ALREADY_RUNNING.getCode());
+            }
+            if (fromScratch) {
+                checkpointRepository.reset(projection);
+            }
+            return new ReplayRun(projection, handlers, checkpointRepository.load(projection, partitions));
+        });
+
+        Thread.ofPlatform().name("replay-" + projection).start(run);
+        return run.progress;
+    }
+
+    public ReplayProgress progress(String projection) {
+        ReplayRun run = runs.get(projection);
+        if (run == null) {
+            throw new ResourceNotFoundException("No replay has been started for " + projection,
+                ErrorCode.REPLAY_PROJECTION_NOT_FOUND.getCode());
+        }
+        return run.progress;
+    }
+
+    public void stop(String projection) {
+        ReplayRun run = runs.get(projection);
+        if (run != null) {
+            run.stopRequested = true;
+        }
+    }
+
+    private int partitionOf(String aggregateId) {
+        return Math.floorMod(aggregateId.hashCode(), partitions);
+    }
+
+    private record ReplayItem(StoredEvent event, long watermark) {
+    }
+
+    private final class ReplayRun implements Runnable {
+
+        private final String projection;
+
+        private final List<ReplayHandler> handlers;
+
+        private final Worker[] workers;
+
+        private final ReplayProgress progress;
+
+        private volatile boolean stopRequested;
+
+        private volatile Throwable failure;
+
+        private ReplayRun(String projection, List<ReplayHandler> handlers, Map<Integer, Long> checkpoints) {
+            this.projection = projection;
+            this.handlers = handlers;
+
+            // 가장 뒤처진 파티션부터 다시 읽고, 이미 적용한 이벤트는 각 워커가 건너뛴다
+            long startPosition = checkpoints.size() == partitions
+                ? checkpoints.values().stream().mapToLong(Long::longValue).min().orElse(0L)
+                : 0L;
+            this.progress = new ReplayProgress(projection, partitions, startPosition, replaySource.maxPosition());
+
+            this.workers = new Worker[partitions];
+            for (int partition = 0; partition < partitions; partition++) {
+                workers[partition] = new Worker(this, partition, checkpoints.getOrDefault(partition, startPosition));
+            }
+        }
+
+        @Override
+        public void run() {
+            log.info("Replay {} started from position {} up to {} with {} partitions",
+                projection, progress.getStartPosition(), progress.getTargetPosition(), partitions);
+
+            Thread[] threads = new Thread[partitions];
+            boolean workersStopped = false;
+            try {
+                for (int partition = 0; partition < partitions; partition++) {
+                    threads[partition] = Thread.ofPlatform()
+                        .name("replay-" + projection + "-" + partition)
+                        .start(workers[partition]);
+                }
+
+                readAndDispatch();
+                for (Worker worker : workers) {
+                    worker.queue.put(END);
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                workersStopped = true;
+                saveCheckpoints();
+
+                if (failure != null) {
+                    progress.finish(ReplayStatus.FAILED, failure.getMessage());
+                } else {
+                    progress.finish(stopRequested ? ReplayStatus.STOPPED : ReplayStatus.COMPLETED, null);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workersStopped = stopWorkers(threads);
+                progress.finish(ReplayStatus.STOPPED, "Interrupted");
+            } catch (RuntimeException e) {
+                log.error("Replay {} failed", projection, e);
+                workersStopped = stopWorkers(threads);
+                progress.finish(ReplayStatus.FAILED, e.getMessage());
+            } finally {
+                if (!workersStopped) {
+                    stopWorkers(threads);
+                }
+                logProgress();
+                recordRefresh();
+            }
+        }
+
+        /**
+         * 리더가 END 를 넣지 못하고 끝난 경우 워커는 queue.take() 에서 영원히 기다리므로 인터럽트해 끝내고 기다린다.
+         * 워커의 safePosition 은 watermark 까지 처리한 뒤에만 전진하므로 도중에 멈춰도 체크포인트는 안전하다.
+         */
+        private boolean stopWorkers(Thread[] threads) {
+            boolean interrupted = Thread.interrupted();
+            for (Thread thread : threads) {
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+            for (Thread thread : threads) {
+                while (thread != null) {
+                    try {
+                        thread.join();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+
+        private void readAndDispatch() throws InterruptedException {
+            ReplayThrottle throttle = new ReplayThrottle(maxEventsPerSecond);
+            long target = progress.getTargetPosition();
+            long position = progress.getStartPosition();
+            long lastCheckpointAt = System.nanoTime();
+
+            while (!stopRequested && failure == null && position < target) {
+                List<StoredEvent> page = replaySource.readAfter(position, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                for (StoredEvent event : page) {
+                    if (event.getId() > target) {
+                        break;
+                    }
+                    workers[partitionOf(event.getAggregateId())].queue.put(new ReplayItem(event, event.getId()));
+                    position = event.getId();
+                }
+                if (page.get(page.size() - 1).getId() > target) {
+                    position = target;
+                }
+
+                for (Worker worker : workers) {
+                    worker.queue.put(new ReplayItem(null, position));
+                }
+                progress.advanceReadPosition(position);
+                throttle.acquire(page.size());
+
+                if (System.nanoTime() - lastCheckpointAt >= TimeUnit.MILLISECONDS.toNanos(checkpointIntervalMs)) {
+                    saveCheckpoints();
+                    logProgress();
+                    lastCheckpointAt = System.nanoTime();
+                }
+            }
+        }
+
+        private void saveCheckpoints() {
+            long[] lastEventIds = new long[partitions];
+            long[] processed = new long[partitions];
+            for (int partition = 0; partition < partitions; partition++) {
+                lastEventIds[partition] = workers[partition].safePosition;
+                processed[partition] = workers[partition].processed;
+            }
+            checkpointRepository.save(projection, partitions, lastEventIds, processed);
+        }
+
+        private void logProgress() {
+            log.info("Replay {} [{}]: {} events, {} events/sec, {}% complete, ETA {}s",
+                projection, progress.getStatus(), progress.getProcessedEventCount(),
+                String.format("%.0f", progress.getEventsPerSecond()),
+                String.format("%.1f", progress.getPercentComplete()),
+                progress.getEtaSeconds());
+        }
+
+        private void recordRefresh() {
+            try {
+                checkpointRepository.recordRefresh(progress);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record refresh status for {}", projection, e);
+            }
+        }
+
+    }
+
+    private final class Worker implements Runnable {
+
+        private final ReplayRun run;
+
+        private final int partition;
+
+        private final long resumeAfter;
+
+        private final BlockingQueue<ReplayItem> queue;
+
+        private volatile long safePosition;
+
+        private volatile long processed;
+
+        private Worker(ReplayRun run, int partition, long resumeAfter) {
+            this.run = run;
+            this.partition = partition;
+            this.resumeAfter = resumeAfter;
+            this.safePosition = resumeAfter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        @Override
+        public void run() {
+            boolean failed = false;
+            try {
+                while (true) {
+                    ReplayItem item = queue.take();
+                    if (item == END) {
+                        return;
+                    }
+                    // 실패 이후에는 큐만 비워 리더가 막히지 않게 하고 체크포인트는 전진시키지 않는다
+                    if (failed) {
+                        continue;
+                    }
+                    if (item.event() == null) {
+                        safePosition = Math.max(safePosition, item.watermark());
+                        continue;
+                    }
+                    if (item.event().getId() <= resumeAfter) {
+                        continue;
+                    }
+                    try {
+                        for (ReplayHandler handler : run.handlers) {
+                            handler.handle(item.event());
+                        }
+                        processed++;
+                        run.progress.recordProcessed();
+                    } catch (RuntimeException e) {
+                        failed = true;
+                        run.failure = e;
+                        log.error("Replay {} partition {} failed at event {}",
+                            run.projection, partition, item.event().getEventId(), e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
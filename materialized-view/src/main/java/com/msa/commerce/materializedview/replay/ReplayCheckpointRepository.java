@@ -0,0 +1,85 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파티션별 재생 체크포인트. last_event_id 는 해당 파티션에 배정된 이벤트 중 적용이 끝난 위치다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReplayCheckpointRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO replay_checkpoints (replay_name, partition_no, partition_count, last_event_id, events_processed)
+        VALUES (?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            partition_count = VALUES(partition_count),
+            last_event_id = VALUES(last_event_id),
+            events_processed = VALUES(events_processed)
+        """;
+
+    private static final String REFRESH_STATUS_SQL = """
+        INSERT INTO view_refresh_status (view_name, last_refresh_at, refresh_status, records_processed, error_message, refresh_duration_ms)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            last_refresh_at = VALUES(last_refresh_at),
+            refresh_status = VALUES(refresh_status),
+            records_processed = VALUES(records_processed),
+            error_message = VALUES(error_message),
+            refresh_duration_ms = VALUES(refresh_duration_ms)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 체크포인트를 읽는다. 파티션 수가 바뀌었으면 해시 배정이 달라지므로 빈 결과를 반환한다.
+     */
+    public Map<Integer, Long> load(String replayName, int partitionCount) {
+        Map<Integer, Long> checkpoints = new HashMap<>();
+        boolean[] mismatch = {false};
+        jdbcTemplate.query(
+            "SELECT partition_no, partition_count, last_event_id FROM replay_checkpoints WHERE replay_name = ?",
+            rs -> {
+                if (rs.getInt("partition_count") != partitionCount) {
+                    mismatch[0] = true;
+                }
+                checkpoints.put(rs.getInt("partition_no"), rs.getLong("last_event_id"));
+            },
+            replayName);
+        return mismatch[0] ? Map.of() : checkpoints;
+    }
+
+    public void save(String replayName, int partitionCount, long[] lastEventIds, long[] eventsProcessed) {
+        List<Object[]> rows = new ArrayList<>(lastEventIds.length);
+        for (int partition = 0; partition < lastEventIds.length; partition++) {
+            rows.add(new Object[] {replayName, partition, partitionCount, lastEventIds[partition], eventsProcessed[partition]});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    public void reset(String replayName) {
+        jdbcTemplate.update("DELETE FROM replay_checkpoints WHERE replay_name = ?", replayName);
+    }
+
+    public void recordRefresh(ReplayProgress progress) {
+        long durationMs = progress.getFinishedAt().toEpochMilli() - progress.getStartedAt().toEpochMilli();
+        jdbcTemplate.update(REFRESH_STATUS_SQL,
+            progress.getProjection(),
+            Timestamp.from(Instant.now()),
+            progress.getStatus() == ReplayStatus.COMPLETED ? "SUCCESS" : progress.getStatus().name(),
+            (int)Math.min(Integer.MAX_VALUE, progress.getProcessedEventCount()),
+            progress.getErrorMessage(),
+            durationMs);
+    }
+
+}
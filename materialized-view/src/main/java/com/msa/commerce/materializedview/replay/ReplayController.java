@@ -0,0 +1,40 @@
+package com.msa.commerce.materializedview.replay;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/replays")
+@RequiredArgsConstructor
+public class ReplayController {
+
+    private final EventReplayEngine eventReplayEngine;
+
+    @PostMapping("/{projection}")
+    public ResponseEntity<ReplayProgress> start(@PathVariable String projection,
+        @RequestParam(defaultValue = "false") boolean fromScratch) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(eventReplayEngine.start(projection, fromScratch));
+    }
+
+    @GetMapping("/{projection}")
+    public ResponseEntity<ReplayProgress> progress(@PathVariable String projection) {
+        return ResponseEntity.ok(eventReplayEngine.progress(projection));
+    }
+
+    @DeleteMapping("/{projection}")
+    public ResponseEntity<Void> stop(@PathVariable String projection) {
+        eventReplayEngine.stop(projection);
+        return ResponseEntity.noContent().build();
+    }
+
+}
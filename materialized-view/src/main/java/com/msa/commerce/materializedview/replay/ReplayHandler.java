@@ -0,0 +1,19 @@
+package com.msa.commerce.materializedview.replay;
+
+import com.msa.commerce.common.eventstore.StoredEvent;
+
+/**
+ * 이벤트 재생 시 호출되는 프로젝션 핸들러.
+ * 같은 aggregate 의 이벤트는 항상 같은 워커 스레드에서 버전 순서대로 전달되지만,
+ * 서로 다른 aggregate 는 병렬로 전달되므로 구현체는 스레드 안전해야 한다.
+ */
+public interface ReplayHandler {
+
+    /**
+     * 재생 대상 프로젝션 이름. 같은 이름의 핸들러들이 하나의 재생 작업으로 묶인다.
+     */
+    String projection();
+
+    void handle(StoredEvent event);
+
+}
@@ -0,0 +1,98 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 재생 작업 진행 상황. ETA 는 event_store id 범위 기준의 근사치다.
+ */
+@Getter
+public class ReplayProgress {
+
+    private final String projection;
+
+    private final int partitions;
+
+    private final long startPosition;
+
+    private final long targetPosition;
+
+    private final Instant startedAt = Instant.now();
+
+    private volatile ReplayStatus status = ReplayStatus.RUNNING;
+
+    private volatile Instant finishedAt;
+
+    private volatile String errorMessage;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong processedEvents = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong readPosition = new AtomicLong();
+
+    ReplayProgress(String projection, int partitions, long startPosition, long targetPosition) {
+        this.projection = projection;
+        this.partitions = partitions;
+        this.startPosition = startPosition;
+        this.targetPosition = targetPosition;
+        this.readPosition.set(startPosition);
+    }
+
+    public long getProcessedEventCount() {
+        return processedEvents.get();
+    }
+
+    public long getCurrentPosition() {
+        return readPosition.get();
+    }
+
+    public double getEventsPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Duration.between(startedAt, end).toMillis() / 1000.0;
+        return seconds > 0 ? processedEvents.get() / seconds : 0.0;
+    }
+
+    public double getPercentComplete() {
+        long total = targetPosition - startPosition;
+        if (total <= 0) {
+            return 100.0;
+        }
+        return Math.min(100.0, (readPosition.get() - startPosition) * 100.0 / total);
+    }
+
+    /**
+     * 남은 id 범위를 지금까지의 id 소비 속도로 나눈 예상 남은 시간(초). 계산할 수 없으면 -1.
+     */
+    public long getEtaSeconds() {
+        if (status != ReplayStatus.RUNNING) {
+            return 0;
+        }
+        double seconds = Duration.between(startedAt, Instant.now()).toMillis() / 1000.0;
+        long consumed = readPosition.get() - startPosition;
+        if (seconds <= 0 || consumed <= 0) {
+            return -1;
+        }
+        double idsPerSecond = consumed / seconds;
+        return (long)Math.ceil((targetPosition - readPosition.get()) / idsPerSecond);
+    }
+
+    void recordProcessed() {
+        processedEvents.incrementAndGet();
+    }
+
+    void advanceReadPosition(long position) {
+        readPosition.set(position);
+    }
+
+    void finish(ReplayStatus status, String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+}
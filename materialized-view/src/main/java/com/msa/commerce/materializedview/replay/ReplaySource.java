@@ -0,0 +1,47 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.msa.commerce.common.eventstore.EventStore;
+import com.msa.commerce.common.eventstore.StoredEvent;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 재생 원본 event_store 에 대한 읽기 전용 연결.
+ * 서비스 자체 DataSource 자동 설정을 가리지 않도록 DataSource 를 빈으로 노출하지 않는다.
+ */
+public class ReplaySource implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+
+    private final EventStore eventStore;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReplaySource(HikariDataSource dataSource, EventStore eventStore) {
+        this.dataSource = dataSource;
+        this.eventStore = eventStore;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public List<StoredEvent> readAfter(long position, int limit) {
+        return eventStore.readAllAfter(position, limit);
+    }
+
+    public long maxPosition() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM event_store", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+}
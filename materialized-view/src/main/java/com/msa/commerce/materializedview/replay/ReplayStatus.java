@@ -0,0 +1,9 @@
+package com.msa.commerce.materializedview.replay;
+
+public enum ReplayStatus {
+
+    RUNNING,
+    COMPLETED,
+    STOPPED,
+    FAILED
+}
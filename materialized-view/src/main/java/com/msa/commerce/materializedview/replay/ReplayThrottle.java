@@ -0,0 +1,32 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본 DB 보호를 위한 읽기 속도 제한. 누적 처리량이 목표 속도를 넘으면 그만큼 대기한다.
+ */
+class ReplayThrottle {
+
+    private final long maxEventsPerSecond;
+
+    private final long startNanos = System.nanoTime();
+
+    private long permitsUsed;
+
+    ReplayThrottle(long maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    void acquire(int permits) throws InterruptedException {
+        if (maxEventsPerSecond <= 0) {
+            return;
+        }
+        permitsUsed += permits;
+        long expectedNanos = TimeUnit.SECONDS.toNanos(permitsUsed) / maxEventsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.time.LocalDate;
+
+import lombok.Getter;
+
+/**
+ * product_sales_summary 에 더할 상품별 일간 증분.
+ */
+@Getter
+class PendingDailySales {
+
+    private final long productId;
+
+    private final LocalDate day;
+
+    private String productSku;
+
+    private String productName;
+
+    private long orders;
+
+    private long units;
+
+    private long gmvMinor;
+
+    PendingDailySales(long productId, LocalDate day) {
+        this.productId = productId;
+        this.day = day;
+    }
+
+    /**
+     * 취소·환불은 음수 증분으로 더한다.
+     */
+    void add(String productSku, String productName, long orders, long units, long gmvMinor) {
+        if (productSku != null) {
+            this.productSku = productSku;
+        }
+        if (productName != null) {
+            this.productName = productName;
+        }
+        this.orders += orders;
+        this.units += units;
+        this.gmvMinor += gmvMinor;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.msa.commerce.materializedview.sales;
+
+import lombok.Getter;
+
+/**
+ * sales_window_buckets 에 더할 윈도우 버킷 하나의 증분. 취소·환불은 음수로 들어온다.
+ */
+@Getter
+class PendingWindowSales {
+
+    private final Key key;
+
+    private long orders;
+
+    private long units;
+
+    private long gmvMinor;
+
+    PendingWindowSales(Key key) {
+        this.key = key;
+    }
+
+    void add(long orders, long units, long gmvMinor) {
+        this.orders += orders;
+        this.units += units;
+        this.gmvMinor += gmvMinor;
+    }
+
+    record Key(SalesWindow window, long bucketEpoch, SalesDimension dimension, long id) {
+    }
+
+}
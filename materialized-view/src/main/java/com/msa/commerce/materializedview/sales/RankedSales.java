@@ -0,0 +1,9 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.math.BigDecimal;
+
+/**
+ * 순위 집계 결과 한 건. id 는 차원에 따라 상품 ID 또는 카테고리 ID 다.
+ */
+public record RankedSales(long id, long orders, long units, BigDecimal gmv) {
+}
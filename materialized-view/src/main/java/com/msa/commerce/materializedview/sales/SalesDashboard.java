@@ -0,0 +1,444 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.order.OrderStatusChangedEvent;
+import com.msa.commerce.common.events.payment.PaymentRefundedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이벤트로 상품/카테고리별 1분·1시간·1일 윈도우 판매 지표를 메모리에서 집계한다.
+ * <p>
+ * 쓰기는 키별 링 버퍼 카운터에만 반영하고, 순위는 주기적으로 미리 계산해 불변 스냅샷으로 교체한다.
+ * 조회 API 는 스냅샷을 읽기만 하므로 키 개수와 관계없이 응답 시간이 일정하다.
+ * 상품별 일간 증분(product_sales_summary)과 윈도우 버킷 증분(sales_window_buckets)은 중복 판정에 쓰는 sales_orders 행과
+ * 같은 트랜잭션에서 저장하고, 커밋된 뒤에만 메모리 카운터에 더한다. 따라서 처리 도중 종료되어도 주문 표시만 남고
+ * 증분이 사라지는 일이 없다.
+ * <p>
+ * 메모리 윈도우는 인스턴스가 소비한 파티션의 주문만 담으므로 윈도우 버킷도 인스턴스 ID 별로 나눠 저장하고,
+ * 기동할 때 자기 인스턴스의 만료되지 않은 버킷으로만 카운터를 복원한다.
+ * <p>
+ * 주문 취소와 환불은 주문 시각의 윈도우와 일자에서 판매량을 뺀다. 이벤트에 상품 구성이 없으므로 집계할 때
+ * {@link SalesOrderRepository} 에 남긴 구성을 읽고, 부분 환불은 상품별 GMV 비율로 나눠 뺀다.
+ */
+@Slf4j
+@Component
+public class SalesDashboard {
+
+    static final int GMV_SCALE = 2;
+
+    private static final String CANCELLED = "CANCELLED";
+
+    private final SalesSummaryRepository summaryRepository;
+
+    private final SalesOrderRepository orderRepository;
+
+    private final SalesWindowRepository windowRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Clock clock;
+
+    private final Map<SalesDimension, ConcurrentHashMap<Long, WindowedSalesCounter>> counters =
+        new EnumMap<>(SalesDimension.class);
+
+    private volatile Map<RankingKey, List<RankedSales>> rankings = Map.of();
+
+    @Value("${commerce.sales-dashboard.ranking-size:100}")
+    private int rankingSize = 100;
+
+    @Value("${commerce.sales-dashboard.order-retention-days:90}")
+    private int orderRetentionDays = 90;
+
+    /**
+     * 재시작해도 바뀌지 않아야 한다. 바뀌면 이전 ID 로 저장된 버킷은 복원되지 않고 만료될 때 지워진다.
+     */
+    @Value("${commerce.sales-dashboard.instance-id:${HOSTNAME:local}}")
+    private String instanceId = "local";
+
+    @Autowired
+    public SalesDashboard(SalesSummaryRepository summaryRepository, SalesOrderRepository orderRepository,
+        SalesWindowRepository windowRepository, TransactionTemplate transactionTemplate) {
+        this(summaryRepository, orderRepository, windowRepository, transactionTemplate, Clock.systemUTC());
+    }
+
+    SalesDashboard(SalesSummaryRepository summaryRepository, SalesOrderRepository orderRepository,
+        SalesWindowRepository windowRepository, TransactionTemplate transactionTemplate, Clock clock) {
+        this.summaryRepository = summaryRepository;
+        this.orderRepository = orderRepository;
+        this.windowRepository = windowRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        for (SalesDimension dimension : SalesDimension.values()) {
+            counters.put(dimension, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 주문을 처음 보는 경우에만 집계한다. 이미 집계했거나 먼저 도착한 취소가 기록된 주문은 건너뛴다.
+     * 주문 기록과 증분 저장 중 하나라도 실패하면 함께 롤백되고 예외가 전파되어 이벤트가 다시 전달된다.
+     */
+    public void record(OrderCreatedEvent event) {
+        if (event.getOrderId() == null || event.getItems() == null || event.getItems().isEmpty()) {
+            return;
+        }
+        long eventTime = event.getCreatedAt() != null ? event.getCreatedAt().toEpochMilli() : clock.millis();
+
+        // 한 주문에 같은 상품이 여러 줄 있어도 상품별로 합쳐 주문 수는 한 번만 센다
+        Map<Long, OrderCreatedEvent.Item> snapshots = new LinkedHashMap<>();
+        Map<Long, long[]> productTotals = new LinkedHashMap<>();
+        Map<Long, Long> productCategories = new HashMap<>();
+        for (OrderCreatedEvent.Item item : event.getItems()) {
+            if (item.getProductId() == null) {
+                continue;
+            }
+            snapshots.putIfAbsent(item.getProductId(), item);
+            accumulate(productTotals, item.getProductId(), item.getQuantity(), toMinor(item.getTotalPrice()));
+            if (item.getCategoryId() != null) {
+                productCategories.putIfAbsent(item.getProductId(), item.getCategoryId());
+            }
+        }
+        if (productTotals.isEmpty()) {
+            return;
+        }
+
+        List<SalesOrderLine> lines = new ArrayList<>(productTotals.size());
+        productTotals.forEach((productId, total) -> lines.add(
+            new SalesOrderLine(productId, productCategories.get(productId), total[0], total[1])));
+        long[] units = new long[lines.size()];
+        long[] gmvMinor = new long[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            units[i] = lines.get(i).units();
+            gmvMinor[i] = lines.get(i).gmvMinor();
+        }
+        SalesDelta delta = delta(eventTime, lines, snapshots, 1, units, gmvMinor);
+
+        Boolean recorded = transactionTemplate.execute(status -> {
+            if (!orderRepository.insert(event.getOrderId(), Instant.ofEpochMilli(eventTime), lines)) {
+                return false;
+            }
+            persist(delta);
+            return true;
+        });
+        if (Boolean.TRUE.equals(recorded)) {
+            count(delta);
+        }
+    }
+
+    /**
+     * 취소된 주문의 주문 수, 수량, 아직 환불로 빠지지 않은 GMV 를 뺀다.
+     */
+    public void cancel(OrderStatusChangedEvent event) {
+        if (event.getOrderId() != null && CANCELLED.equals(event.getStatus())) {
+            reverse(() -> orderRepository.cancel(event.getOrderId()));
+        }
+    }
+
+    /**
+     * 환불 금액만큼 GMV 를 뺀다. 주문 수와 수량은 그대로 둔다.
+     */
+    public void refund(PaymentRefundedEvent event) {
+        if (event.getOrderId() != null && event.getAmount() != null) {
+            reverse(() -> orderRepository.refund(event.getOrderId(), toMinor(event.getAmount())));
+        }
+    }
+
+    /**
+     * 이 인스턴스가 저장한 윈도우 버킷 중 아직 윈도우 안에 있는 것으로 카운터를 채운다.
+     * 리스너 컨테이너가 시작되기 전에 실행된다.
+     */
+    @PostConstruct
+    public void restoreWindows() {
+        long now = clock.millis();
+        for (SalesWindow window : SalesWindow.values()) {
+            List<PendingWindowSales> buckets;
+            try {
+                buckets = windowRepository.findBuckets(instanceId, window, firstLiveEpoch(window, now));
+            } catch (RuntimeException e) {
+                log.warn("Failed to restore {} sales window buckets", window.getCode(), e);
+                continue;
+            }
+            for (PendingWindowSales bucket : buckets) {
+                PendingWindowSales.Key key = bucket.getKey();
+                counters.get(key.dimension())
+                    .computeIfAbsent(key.id(), id -> new WindowedSalesCounter())
+                    .add(window, key.bucketEpoch(), bucket.getOrders(), bucket.getUnits(), bucket.getGmvMinor());
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 계산된 순위 스냅샷에서 상위 limit 건을 반환한다.
+     */
+    public List<RankedSales> top(SalesDimension dimension, SalesWindow window, boolean tumbling, SalesMetric metric,
+        int limit) {
+        List<RankedSales> ranking = rankings.getOrDefault(new RankingKey(dimension, window, tumbling, metric), List.of());
+        return ranking.subList(0, Math.min(Math.max(limit, 0), ranking.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.sales-dashboard.ranking-refresh-ms:1000}")
+    public void refreshRankings() {
+        long now = clock.millis();
+        Map<RankingKey, List<RankedSales>> next = new HashMap<>();
+        for (SalesDimension dimension : SalesDimension.values()) {
+            ConcurrentHashMap<Long, WindowedSalesCounter> dimensionCounters = counters.get(dimension);
+            for (SalesWindow window : SalesWindow.values()) {
+                rank(dimension, dimensionCounters, window, false, now, next);
+                rank(dimension, dimensionCounters, window, true, now, next);
+            }
+            // 하루 넘게 판매가 없는 키는 메모리에서 제거한다
+            for (Long id : dimensionCounters.keySet()) {
+                dimensionCounters.computeIfPresent(id, (key, counter) -> counter.isIdle(now) ? null : counter);
+            }
+        }
+        rankings = next;
+    }
+
+    /**
+     * 가장 긴 윈도우에서도 벗어난 버킷을 인스턴스와 관계없이 지운다.
+     */
+    @Scheduled(fixedDelayString = "${commerce.sales-dashboard.bucket-cleanup-interval-ms:60000}")
+    public void deleteExpiredBuckets() {
+        long now = clock.millis();
+        for (SalesWindow window : SalesWindow.values()) {
+            try {
+                windowRepository.deleteBefore(window, firstLiveEpoch(window, now));
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete expired {} sales window buckets", window.getCode(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.sales-dashboard.order-purge-interval-ms:3600000}")
+    public void purgeOrders() {
+        try {
+            int purged = orderRepository.purgeRecordedBefore(
+                Instant.ofEpochMilli(clock.millis()).minus(Duration.ofDays(orderRetentionDays)));
+            if (purged > 0) {
+                log.debug("Purged {} sales orders", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge sales orders", e);
+        }
+    }
+
+    /**
+     * 되돌릴 판매량을 정하는 주문 행 갱신과 음수 증분 저장을 한 트랜잭션으로 묶고, 커밋된 뒤 카운터에서 뺀다.
+     */
+    private void reverse(Supplier<Optional<SalesReversal>> reversal) {
+        Optional<SalesDelta> reversed = transactionTemplate.execute(status -> {
+            Optional<SalesDelta> delta = reversal.get().flatMap(SalesDashboard::delta);
+            delta.ifPresent(this::persist);
+            return delta;
+        });
+        if (reversed != null) {
+            reversed.ifPresent(this::count);
+        }
+    }
+
+    private static Optional<SalesDelta> delta(SalesReversal reversal) {
+        List<SalesOrderLine> lines = reversal.lines();
+        if (reversal.orderedAt() == null || lines.isEmpty()) {
+            return Optional.empty();
+        }
+        long[] before = allocate(lines, reversal.reversedBefore());
+        long[] after = allocate(lines, reversal.reversedAfter());
+        long[] units = new long[lines.size()];
+        long[] gmvMinor = new long[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            units[i] = reversal.cancelled() ? -lines.get(i).units() : 0L;
+            gmvMinor[i] = before[i] - after[i];
+        }
+        return Optional.of(delta(reversal.orderedAt().toEpochMilli(), lines, Map.of(), reversal.cancelled() ? -1 : 0,
+            units, gmvMinor));
+    }
+
+    /**
+     * 주문 GMV 중 amountMinor 를 상품별 GMV 비율로 나눈다. 나눗셈 나머지는 앞 상품부터 1 씩 더해 합이 정확히
+     * amountMinor 가 되게 하므로, 누적 환불액이 늘 때마다 나눈 값의 차이만큼 빼면 여러 번에 걸친 환불도 합이 맞는다.
+     */
+    static long[] allocate(List<SalesOrderLine> lines, long amountMinor) {
+        long[] shares = new long[lines.size()];
+        long total = lines.stream().mapToLong(SalesOrderLine::gmvMinor).sum();
+        long amount = Math.min(amountMinor, total);
+        if (amount <= 0) {
+            return shares;
+        }
+        long allocated = 0;
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = BigInteger.valueOf(lines.get(i).gmvMinor())
+                .multiply(BigInteger.valueOf(amount))
+                .divide(BigInteger.valueOf(total))
+                .longValueExact();
+            allocated += shares[i];
+        }
+        for (int i = 0; i < shares.length && allocated < amount; i++) {
+            if (shares[i] < lines.get(i).gmvMinor()) {
+                shares[i]++;
+                allocated++;
+            }
+        }
+        return shares;
+    }
+
+    /**
+     * 주문 하나의 상품별·카테고리별 증분과 상품별 일간 증분을 만든다. 취소·환불은 음수로 들어온다.
+     * 같은 행을 갱신하는 트랜잭션끼리 교착되지 않도록 ID 순서로 정렬해 둔다.
+     */
+    private static SalesDelta delta(long eventTime, List<SalesOrderLine> lines,
+        Map<Long, OrderCreatedEvent.Item> snapshots, long orders, long[] units, long[] gmvMinor) {
+        LocalDate day = LocalDate.ofInstant(Instant.ofEpochMilli(eventTime), ZoneOffset.UTC);
+        Map<Long, long[]> productTotals = new TreeMap<>();
+        Map<Long, long[]> categoryTotals = new TreeMap<>();
+        Map<Long, PendingDailySales> daily = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            SalesOrderLine line = lines.get(i);
+            if (orders == 0 && units[i] == 0 && gmvMinor[i] == 0) {
+                continue;
+            }
+            accumulate(productTotals, line.productId(), units[i], gmvMinor[i]);
+            if (line.categoryId() != null) {
+                accumulate(categoryTotals, line.categoryId(), units[i], gmvMinor[i]);
+            }
+            OrderCreatedEvent.Item snapshot = snapshots.get(line.productId());
+            daily.computeIfAbsent(line.productId(), productId -> new PendingDailySales(productId, day))
+                .add(snapshot != null ? snapshot.getProductSku() : null,
+                    snapshot != null ? snapshot.getProductName() : null, orders, units[i], gmvMinor[i]);
+        }
+        return new SalesDelta(eventTime, orders, productTotals, categoryTotals, List.copyOf(daily.values()));
+    }
+
+    /**
+     * 일간 증분과 아직 만료되지 않은 윈도우 버킷 증분을 호출한 쪽의 트랜잭션 안에서 저장한다.
+     */
+    private void persist(SalesDelta delta) {
+        summaryRepository.addDailyTotals(delta.daily());
+        long now = clock.millis();
+        List<PendingWindowSales> buckets = new ArrayList<>();
+        for (SalesWindow window : SalesWindow.values()) {
+            long epoch = delta.eventTime() / window.getBucketMillis();
+            if (epoch < firstLiveEpoch(window, now)) {
+                continue;
+            }
+            buckets(buckets, window, epoch, SalesDimension.PRODUCT, delta.productTotals(), delta.orders());
+            buckets(buckets, window, epoch, SalesDimension.CATEGORY, delta.categoryTotals(), delta.orders());
+        }
+        windowRepository.addBuckets(instanceId, buckets);
+    }
+
+    private static void buckets(List<PendingWindowSales> buckets, SalesWindow window, long epoch,
+        SalesDimension dimension, Map<Long, long[]> totals, long orders) {
+        totals.forEach((id, total) -> {
+            PendingWindowSales bucket =
+                new PendingWindowSales(new PendingWindowSales.Key(window, epoch, dimension, id));
+            bucket.add(orders, total[0], total[1]);
+            buckets.add(bucket);
+        });
+    }
+
+    private void count(SalesDelta delta) {
+        add(SalesDimension.PRODUCT, delta.productTotals(), delta.eventTime(), delta.orders());
+        add(SalesDimension.CATEGORY, delta.categoryTotals(), delta.eventTime(), delta.orders());
+    }
+
+    private void add(SalesDimension dimension, Map<Long, long[]> totals, long eventTime, long orders) {
+        ConcurrentHashMap<Long, WindowedSalesCounter> dimensionCounters = counters.get(dimension);
+        totals.forEach((id, total) -> dimensionCounters.compute(id, (key, counter) -> {
+            WindowedSalesCounter target = counter != null ? counter : new WindowedSalesCounter();
+            target.add(eventTime, orders, total[0], total[1]);
+            return target;
+        }));
+    }
+
+    private static long firstLiveEpoch(SalesWindow window, long nowMillis) {
+        return nowMillis / window.getBucketMillis() - window.getBuckets() + 1;
+    }
+
+    private void rank(SalesDimension dimension, Map<Long, WindowedSalesCounter> dimensionCounters,
+        SalesWindow window, boolean tumbling, long now, Map<RankingKey, List<RankedSales>> result) {
+        Map<SalesMetric, PriorityQueue<RankedSales>> heaps = new EnumMap<>(SalesMetric.class);
+        for (SalesMetric metric : SalesMetric.values()) {
+            heaps.put(metric, new PriorityQueue<>(rankingSize + 1, comparator(metric)));
+        }
+
+        long[] sum = new long[SalesMetric.values().length];
+        for (Map.Entry<Long, WindowedSalesCounter> entry : dimensionCounters.entrySet()) {
+            entry.getValue().sum(window, tumbling, now, sum);
+            if (sum[SalesMetric.ORDERS.ordinal()] == 0) {
+                continue;
+            }
+            RankedSales sales = new RankedSales(entry.getKey(),
+                sum[SalesMetric.ORDERS.ordinal()],
+                sum[SalesMetric.UNITS.ordinal()],
+                BigDecimal.valueOf(sum[SalesMetric.GMV.ordinal()], GMV_SCALE));
+            for (PriorityQueue<RankedSales> heap : heaps.values()) {
+                heap.offer(sales);
+                if (heap.size() > rankingSize) {
+                    heap.poll();
+                }
+            }
+        }
+
+        heaps.forEach((metric, heap) -> {
+            List<RankedSales> ranking = new ArrayList<>(heap);
+            ranking.sort(comparator(metric).reversed());
+            result.put(new RankingKey(dimension, window, tumbling, metric), List.copyOf(ranking));
+        });
+    }
+
+    private static Comparator<RankedSales> comparator(SalesMetric metric) {
+        Comparator<RankedSales> byMetric = switch (metric) {
+            case ORDERS -> Comparator.comparingLong(RankedSales::orders);
+            case UNITS -> Comparator.comparingLong(RankedSales::units);
+            case GMV -> Comparator.comparing(RankedSales::gmv);
+        };
+        // 값이 같으면 ID 가 작은 쪽을 앞에 둔다
+        return byMetric.thenComparing(Comparator.comparingLong(RankedSales::id).reversed());
+    }
+
+    private static void accumulate(Map<Long, long[]> totals, Long id, long units, long gmvMinor) {
+        long[] total = totals.computeIfAbsent(id, key -> new long[2]);
+        total[0] += units;
+        total[1] += gmvMinor;
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount != null ? amount.setScale(GMV_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    private record SalesDelta(long eventTime, long orders, Map<Long, long[]> productTotals,
+        Map<Long, long[]> categoryTotals, List<PendingDailySales> daily) {
+    }
+
+    private record RankingKey(SalesDimension dimension, SalesWindow window, boolean tumbling, SalesMetric metric) {
+    }
+
+}
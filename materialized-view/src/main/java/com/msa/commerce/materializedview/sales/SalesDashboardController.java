@@ -0,0 +1,43 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/sales")
+@RequiredArgsConstructor
+public class SalesDashboardController {
+
+    private final SalesDashboard salesDashboard;
+
+    @GetMapping("/top-products")
+    public ResponseEntity<List<RankedSales>> topProducts(
+        @RequestParam(defaultValue = "1h") String window,
+        @RequestParam(defaultValue = "sliding") String mode,
+        @RequestParam(defaultValue = "gmv") String metric,
+        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(top(SalesDimension.PRODUCT, window, mode, metric, limit));
+    }
+
+    @GetMapping("/top-categories")
+    public ResponseEntity<List<RankedSales>> topCategories(
+        @RequestParam(defaultValue = "1h") String window,
+        @RequestParam(defaultValue = "sliding") String mode,
+        @RequestParam(defaultValue = "gmv") String metric,
+        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(top(SalesDimension.CATEGORY, window, mode, metric, limit));
+    }
+
+    private List<RankedSales> top(SalesDimension dimension, String window, String mode, String metric, int limit) {
+        return salesDashboard.top(dimension, SalesWindow.fromCode(window), "tumbling".equalsIgnoreCase(mode),
+            SalesMetric.fromCode(metric), limit);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.msa.commerce.materializedview.sales;
+
+public enum SalesDimension {
+
+    PRODUCT,
+    CATEGORY
+
+}
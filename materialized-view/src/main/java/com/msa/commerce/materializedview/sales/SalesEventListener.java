@@ -0,0 +1,55 @@
+package com.msa.commerce.materializedview.sales;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.order.OrderEventTopics;
+import com.msa.commerce.common.events.order.OrderStatusChangedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+import com.msa.commerce.common.events.payment.PaymentRefundedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성은 판매량에 더하고, 주문 취소와 환불은 뺀다.
+ * 재전달된 이벤트는 commerce.kafka.idempotency 설정의 레코드 인터셉터가 리스너 호출 전에 걸러낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesEventListener {
+
+    private final SalesDashboard salesDashboard;
+
+    @KafkaListener(
+        id = "sales-dashboard",
+        groupId = "materialized-view-sales-dashboard",
+        topics = OrderEventTopics.ORDER_CREATED
+    )
+    public void onOrderCreated(OrderCreatedEvent event, Acknowledgment acknowledgment) {
+        salesDashboard.record(event);
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(
+        id = "sales-dashboard-cancellations",
+        groupId = "materialized-view-sales-dashboard",
+        topics = OrderEventTopics.ORDER_STATUS_CHANGED
+    )
+    public void onOrderStatusChanged(OrderStatusChangedEvent event, Acknowledgment acknowledgment) {
+        salesDashboard.cancel(event);
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(
+        id = "sales-dashboard-refunds",
+        groupId = "materialized-view-sales-dashboard",
+        topics = PaymentEventTopics.PAYMENT_REFUNDED
+    )
+    public void onPaymentRefunded(PaymentRefundedEvent event, Acknowledgment acknowledgment) {
+        salesDashboard.refund(event);
+        acknowledgment.acknowledge();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.msa.commerce.materializedview.sales;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+/**
+ * 윈도우마다 집계하는 지표. ordinal 이 카운터 배열 안의 위치다.
+ */
+public enum SalesMetric {
+
+    ORDERS,
+    UNITS,
+    GMV;
+
+    public static SalesMetric fromCode(String code) {
+        try {
+            return valueOf(code.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Unknown sales metric: " + code, ErrorCode.INVALID_INPUT.getCode(), e);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.msa.commerce.materializedview.sales;
+
+/**
+ * 주문 하나에서 상품별로 합친 판매량. 취소·환불을 되돌릴 때 어느 상품/카테고리에서 얼마를 뺄지 정한다.
+ */
+record SalesOrderLine(long productId, Long categoryId, long units, long gmvMinor) {
+}
@@ -0,0 +1,160 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드에 반영한 주문의 상품 구성과 이미 되돌린 금액을 sales_orders / sales_order_lines 에 둔다.
+ * <p>
+ * 취소·환불 이벤트에는 상품 구성이 없으므로 여기서 읽어 되돌릴 판매량을 정한다. 주문 행을 FOR UPDATE 로 잠근 뒤
+ * 되돌린 금액과 취소 여부를 바꾸므로, 같은 주문의 취소와 환불이 다른 파티션에서 동시에 와도 GMV 를 두 번 빼지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesOrderRepository {
+
+    private static final String INSERT_ORDER_SQL = """
+        INSERT IGNORE INTO sales_orders (order_id, ordered_at, gmv_minor) VALUES (?, ?, ?)
+        """;
+
+    private static final String INSERT_LINE_SQL = """
+        INSERT INTO sales_order_lines (order_id, product_id, category_id, units, gmv_minor) VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_CANCELLED_SQL = """
+        INSERT IGNORE INTO sales_orders (order_id, cancelled) VALUES (?, TRUE)
+        """;
+
+    private static final String SELECT_ORDER_FOR_UPDATE_SQL = """
+        SELECT ordered_at, gmv_minor, refunded_minor, cancelled FROM sales_orders WHERE order_id = ? FOR UPDATE
+        """;
+
+    private static final String SELECT_LINES_SQL = """
+        SELECT product_id, category_id, units, gmv_minor FROM sales_order_lines WHERE order_id = ? ORDER BY product_id
+        """;
+
+    private static final String UPDATE_REFUNDED_SQL = "UPDATE sales_orders SET refunded_minor = ? WHERE order_id = ?";
+
+    private static final String UPDATE_CANCELLED_SQL = "UPDATE sales_orders SET cancelled = TRUE WHERE order_id = ?";
+
+    private static final String DELETE_EXPIRED_LINES_SQL = """
+        DELETE FROM sales_order_lines
+        WHERE order_id IN (SELECT order_id FROM sales_orders WHERE recorded_at < ?)
+        """;
+
+    private static final String DELETE_EXPIRED_ORDERS_SQL = "DELETE FROM sales_orders WHERE recorded_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문을 처음 보는 경우에만 상품 구성을 저장하고 true 를 반환한다. 이미 있거나 먼저 도착한 취소가 기록되어 있으면
+     * false 이고, 호출한 쪽은 그 주문을 집계하지 않는다.
+     */
+    public boolean insert(long orderId, Instant orderedAt, List<SalesOrderLine> lines) {
+        long gmvMinor = lines.stream().mapToLong(SalesOrderLine::gmvMinor).sum();
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(INSERT_ORDER_SQL, orderId, Timestamp.from(orderedAt), gmvMinor) == 0) {
+                return false;
+            }
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, lines, lines.size(), (ps, line) -> {
+                ps.setLong(1, orderId);
+                ps.setLong(2, line.productId());
+                ps.setObject(3, line.categoryId());
+                ps.setLong(4, line.units());
+                ps.setLong(5, line.gmvMinor());
+            });
+            return true;
+        }));
+    }
+
+    /**
+     * 주문을 취소로 표시하고 아직 되돌리지 않은 판매량 전체를 반환한다. 이미 취소되었으면 비어 있다.
+     * 생성 이벤트보다 먼저 오면 자리표시자만 남겨 나중에 온 생성 이벤트가 집계되지 않게 한다.
+     */
+    public Optional<SalesReversal> cancel(long orderId) {
+        return transactionTemplate.execute(status -> {
+            Optional<LockedOrder> order = lock(orderId);
+            if (order.isEmpty()) {
+                jdbcTemplate.update(INSERT_CANCELLED_SQL, orderId);
+                return Optional.empty();
+            }
+            LockedOrder locked = order.get();
+            if (locked.cancelled()) {
+                return Optional.empty();
+            }
+            jdbcTemplate.update(UPDATE_CANCELLED_SQL, orderId);
+            return Optional.of(new SalesReversal(locked.orderedAt(), findLines(orderId),
+                locked.refundedMinor(), locked.gmvMinor(), true));
+        });
+    }
+
+    /**
+     * 환불 금액만큼 GMV 를 되돌린다. 누적 환불액은 주문 GMV 를 넘지 않는다.
+     * 취소된 주문은 취소할 때 남은 GMV 를 모두 되돌렸으므로, 집계되지 않은 주문과 마찬가지로 비어 있다.
+     */
+    public Optional<SalesReversal> refund(long orderId, long amountMinor) {
+        return transactionTemplate.execute(status -> {
+            Optional<LockedOrder> order = lock(orderId);
+            if (order.isEmpty() || order.get().cancelled()) {
+                return Optional.empty();
+            }
+            LockedOrder locked = order.get();
+            long refunded = Math.min(locked.gmvMinor(), locked.refundedMinor() + Math.max(amountMinor, 0L));
+            if (refunded == locked.refundedMinor()) {
+                return Optional.empty();
+            }
+            jdbcTemplate.update(UPDATE_REFUNDED_SQL, refunded, orderId);
+            return Optional.of(new SalesReversal(locked.orderedAt(), findLines(orderId),
+                locked.refundedMinor(), refunded, false));
+        });
+    }
+
+    /**
+     * recordedBefore 이전에 기록한 주문을 지운다. 그보다 늦게 오는 취소·환불은 대시보드에 반영되지 않는다.
+     */
+    public int purgeRecordedBefore(Instant recordedBefore) {
+        Timestamp cutoff = Timestamp.from(recordedBefore);
+        Integer purged = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(DELETE_EXPIRED_LINES_SQL, cutoff);
+            return jdbcTemplate.update(DELETE_EXPIRED_ORDERS_SQL, cutoff);
+        });
+        return purged != null ? purged : 0;
+    }
+
+    private Optional<LockedOrder> lock(long orderId) {
+        List<LockedOrder> orders = jdbcTemplate.query(SELECT_ORDER_FOR_UPDATE_SQL, (rs, rowNum) -> {
+            Timestamp orderedAt = rs.getTimestamp("ordered_at");
+            return new LockedOrder(
+                orderedAt != null ? orderedAt.toInstant() : null,
+                rs.getLong("gmv_minor"),
+                rs.getLong("refunded_minor"),
+                rs.getBoolean("cancelled"));
+        }, orderId);
+        return orders.stream().findFirst();
+    }
+
+    private List<SalesOrderLine> findLines(long orderId) {
+        return jdbcTemplate.query(SELECT_LINES_SQL, (rs, rowNum) -> {
+            long categoryId = rs.getLong("category_id");
+            return new SalesOrderLine(
+                rs.getLong("product_id"),
+                rs.wasNull() ? null : categoryId,
+                rs.getLong("units"),
+                rs.getLong("gmv_minor"));
+        }, orderId);
+    }
+
+    private record LockedOrder(Instant orderedAt, long gmvMinor, long refundedMinor, boolean cancelled) {
+    }
+
+}
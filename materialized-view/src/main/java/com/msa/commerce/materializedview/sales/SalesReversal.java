@@ -0,0 +1,12 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 취소·환불로 되돌릴 판매량. 주문 GMV 중 이미 되돌린 금액이 reversedBefore 에서 reversedAfter 로 늘었고,
+ * cancelled 면 주문 수와 수량까지 뺀다. 주문 시각 기준 윈도우와 일자에서 뺀다.
+ */
+record SalesReversal(Instant orderedAt, List<SalesOrderLine> lines, long reversedBefore, long reversedAfter,
+                     boolean cancelled) {
+}
@@ -0,0 +1,66 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품별 일간 판매 증분을 product_sales_summary(summary_period=DAILY)에 누적한다.
+ * 절대값이 아닌 증분을 더하므로 재시작으로 메모리 카운터가 비어도 이미 저장된 합계는 유지된다.
+ * 취소·환불로 들어오는 음수 증분에는 상품 스냅샷이 없으므로 저장된 SKU/이름을 그대로 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesSummaryRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO product_sales_summary
+            (product_id, product_sku, product_name, total_quantity_sold, total_revenue, average_selling_price,
+             total_orders, summary_period, period_start_date, period_end_date, first_sale_date, last_sale_date)
+        VALUES (?, ?, ?, ?, ?, ?, ?, 'DAILY', ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            product_sku = IF(VALUES(product_sku) = '', product_sku, VALUES(product_sku)),
+            product_name = IF(VALUES(product_name) = '', product_name, VALUES(product_name)),
+            total_quantity_sold = total_quantity_sold + VALUES(total_quantity_sold),
+            total_revenue = total_revenue + VALUES(total_revenue),
+            total_orders = total_orders + VALUES(total_orders),
+            average_selling_price = IF(total_quantity_sold = 0, 0, total_revenue / total_quantity_sold),
+            last_sale_date = VALUES(last_sale_date)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addDailyTotals(Collection<PendingDailySales> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        for (PendingDailySales sales : pending) {
+            BigDecimal revenue = BigDecimal.valueOf(sales.getGmvMinor(), SalesDashboard.GMV_SCALE);
+            BigDecimal average = sales.getUnits() > 0
+                ? revenue.divide(BigDecimal.valueOf(sales.getUnits()), SalesDashboard.GMV_SCALE, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+            Date day = Date.valueOf(sales.getDay());
+            rows.add(new Object[] {
+                sales.getProductId(),
+                sales.getProductSku() != null ? sales.getProductSku() : "",
+                sales.getProductName() != null ? sales.getProductName() : "",
+                sales.getUnits(),
+                revenue,
+                average,
+                sales.getOrders(),
+                day, day, day, day
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 집계 윈도우. 윈도우를 같은 길이의 버킷으로 나눠 링 버퍼에 담고, 가장 오래된 버킷부터 재사용한다.
+ */
+@Getter
+public enum SalesWindow {
+
+    ONE_MINUTE("1m", Duration.ofMinutes(1), 6),
+    ONE_HOUR("1h", Duration.ofHours(1), 12),
+    ONE_DAY("1d", Duration.ofDays(1), 24);
+
+    private final String code;
+
+    private final long windowMillis;
+
+    private final int buckets;
+
+    private final long bucketMillis;
+
+    SalesWindow(String code, Duration window, int buckets) {
+        this.code = code;
+        this.windowMillis = window.toMillis();
+        this.buckets = buckets;
+        this.bucketMillis = windowMillis / buckets;
+    }
+
+    public static SalesWindow fromCode(String code) {
+        return Arrays.stream(values())
+            .filter(window -> window.code.equalsIgnoreCase(code))
+            .findFirst()
+            .orElseThrow(() -> new BusinessException("Unknown sales window: " + code, ErrorCode.INVALID_INPUT.getCode()));
+    }
+
+}
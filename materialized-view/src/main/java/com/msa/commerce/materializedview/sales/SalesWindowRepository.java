@@ -0,0 +1,80 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 윈도우 버킷별 증분을 인스턴스별로 sales_window_buckets 에 누적하고, 재시작할 때 그 인스턴스의 아직 만료되지 않은
+ * 버킷을 읽어 메모리 카운터를 복원한다. 버킷 epoch 는 UTC epoch 밀리초를 윈도우의 버킷 길이로 나눈 값이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesWindowRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO sales_window_buckets
+            (instance_id, window_name, bucket_epoch, dimension, dimension_id, orders, units, gmv_minor)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            orders = orders + VALUES(orders),
+            units = units + VALUES(units),
+            gmv_minor = gmv_minor + VALUES(gmv_minor)
+        """;
+
+    private static final String SELECT_SQL = """
+        SELECT bucket_epoch, dimension, dimension_id, orders, units, gmv_minor
+        FROM sales_window_buckets
+        WHERE instance_id = ? AND window_name = ? AND bucket_epoch >= ?
+        """;
+
+    private static final String DELETE_EXPIRED_SQL =
+        "DELETE FROM sales_window_buckets WHERE window_name = ? AND bucket_epoch < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addBuckets(String instanceId, Collection<PendingWindowSales> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        for (PendingWindowSales sales : pending) {
+            PendingWindowSales.Key key = sales.getKey();
+            rows.add(new Object[] {
+                instanceId,
+                key.window().name(),
+                key.bucketEpoch(),
+                key.dimension().name(),
+                key.id(),
+                sales.getOrders(),
+                sales.getUnits(),
+                sales.getGmvMinor()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * instanceId 가 저장한 window 의 fromEpoch 이후 버킷을 모두 읽는다.
+     */
+    public List<PendingWindowSales> findBuckets(String instanceId, SalesWindow window, long fromEpoch) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            PendingWindowSales sales = new PendingWindowSales(new PendingWindowSales.Key(window,
+                rs.getLong("bucket_epoch"),
+                SalesDimension.valueOf(rs.getString("dimension")),
+                rs.getLong("dimension_id")));
+            sales.add(rs.getLong("orders"), rs.getLong("units"), rs.getLong("gmv_minor"));
+            return sales;
+        }, instanceId, window.name(), fromEpoch);
+    }
+
+    public int deleteBefore(SalesWindow window, long beforeEpoch) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, window.name(), beforeEpoch);
+    }
+
+}
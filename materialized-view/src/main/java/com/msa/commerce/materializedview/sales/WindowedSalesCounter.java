@@ -0,0 +1,98 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.util.Arrays;
+
+/**
+ * 한 상품(또는 카테고리)의 윈도우별 링 버퍼 카운터.
+ * <p>
+ * 윈도우마다 버킷 시작 epoch 배열과 [버킷 x 지표] long 배열을 둔다. 쓰기 시 슬롯의 epoch 가 현재 버킷과 다르면
+ * 그 자리에서 0 으로 초기화하므로 버킷 이동을 위한 별도 작업이 필요 없다. 키당 메모리는 약 1.3KB 로 고정이다.
+ */
+class WindowedSalesCounter {
+
+    private static final SalesWindow[] WINDOWS = SalesWindow.values();
+
+    private static final int METRICS = SalesMetric.values().length;
+
+    private final long[][] epochs = new long[WINDOWS.length][];
+
+    private final long[][] values = new long[WINDOWS.length][];
+
+    WindowedSalesCounter() {
+        for (SalesWindow window : WINDOWS) {
+            epochs[window.ordinal()] = new long[window.getBuckets()];
+            values[window.ordinal()] = new long[window.getBuckets() * METRICS];
+            Arrays.fill(epochs[window.ordinal()], -1L);
+        }
+    }
+
+    synchronized void add(long eventTimeMillis, long orders, long units, long gmvMinor) {
+        for (SalesWindow window : WINDOWS) {
+            add(window, eventTimeMillis / window.getBucketMillis(), orders, units, gmvMinor);
+        }
+    }
+
+    /**
+     * 한 윈도우의 epoch 버킷에만 더한다. 재시작할 때 저장된 버킷을 복원하는 데 쓴다.
+     */
+    synchronized void add(SalesWindow window, long epoch, long orders, long units, long gmvMinor) {
+        int slot = (int)(epoch % window.getBuckets());
+        long[] windowEpochs = epochs[window.ordinal()];
+        long[] windowValues = values[window.ordinal()];
+
+        if (windowEpochs[slot] > epoch) {
+            // 링이 이미 한 바퀴 넘게 지나간 오래된 이벤트
+            return;
+        }
+        int offset = slot * METRICS;
+        if (windowEpochs[slot] < epoch) {
+            windowEpochs[slot] = epoch;
+            windowValues[offset] = 0;
+            windowValues[offset + 1] = 0;
+            windowValues[offset + 2] = 0;
+        }
+        windowValues[offset + SalesMetric.ORDERS.ordinal()] += orders;
+        windowValues[offset + SalesMetric.UNITS.ordinal()] += units;
+        windowValues[offset + SalesMetric.GMV.ordinal()] += gmvMinor;
+    }
+
+    /**
+     * 윈도우 합계를 out[지표] 에 채운다.
+     *
+     * @param tumbling true 면 현재 정렬된 윈도우(UTC 기준 이번 분/시/일) 시작 이후, false 면 최근 윈도우 길이만큼의 합
+     */
+    synchronized void sum(SalesWindow window, boolean tumbling, long nowMillis, long[] out) {
+        long currentEpoch = nowMillis / window.getBucketMillis();
+        long firstEpoch = tumbling
+            ? (nowMillis - Math.floorMod(nowMillis, window.getWindowMillis())) / window.getBucketMillis()
+            : currentEpoch - window.getBuckets() + 1;
+
+        long[] windowEpochs = epochs[window.ordinal()];
+        long[] windowValues = values[window.ordinal()];
+        Arrays.fill(out, 0L);
+        for (int slot = 0; slot < windowEpochs.length; slot++) {
+            long epoch = windowEpochs[slot];
+            if (epoch >= firstEpoch && epoch <= currentEpoch) {
+                int offset = slot * METRICS;
+                for (int metric = 0; metric < METRICS; metric++) {
+                    out[metric] += windowValues[offset + metric];
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 긴 윈도우에서도 값이 모두 만료되었으면 true. 맵에서 제거해도 된다.
+     */
+    synchronized boolean isIdle(long nowMillis) {
+        SalesWindow longest = WINDOWS[WINDOWS.length - 1];
+        long firstEpoch = nowMillis / longest.getBucketMillis() - longest.getBuckets() + 1;
+        for (long epoch : epochs[longest.ordinal()]) {
+            if (epoch >= firstEpoch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
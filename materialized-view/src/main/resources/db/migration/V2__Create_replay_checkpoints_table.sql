@@ -0,0 +1,18 @@
+-- ============================================================================
+-- 이벤트 재생 체크포인트 (Event replay checkpoints)
+-- 프로젝션 재생을 파티션 단위로 이어서 진행하기 위한 위치 기록
+-- last_event_id: 해당 파티션에 배정된 이벤트 중 적용이 끝난 event_store.id
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS replay_checkpoints
+(
+    replay_name      VARCHAR(50) NOT NULL,
+    partition_no     INT         NOT NULL,
+    partition_count  INT         NOT NULL,
+    last_event_id    BIGINT      NOT NULL DEFAULT 0,
+    events_processed BIGINT      NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (replay_name, partition_no)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
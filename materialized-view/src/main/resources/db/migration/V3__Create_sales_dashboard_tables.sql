@@ -0,0 +1,45 @@
+-- ============================================================================
+-- 판매 대시보드 상태 (Sales dashboard state)
+-- sales_orders / sales_order_lines: 취소·환불을 되돌리기 위한 주문별 상품 구성과 이미 되돌린 금액
+--   cancelled 가 TRUE 이고 ordered_at 이 NULL 인 행은 생성 이벤트보다 먼저 도착한 취소를 기록한 자리표시자다
+-- sales_window_buckets: 재시작 후 1분/1시간/1일 윈도우를 복원하기 위한 윈도우 버킷별 누적값
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS sales_orders
+(
+    order_id       BIGINT      NOT NULL PRIMARY KEY,
+    ordered_at     TIMESTAMP(3) NULL,
+    gmv_minor      BIGINT      NOT NULL DEFAULT 0,
+    refunded_minor BIGINT      NOT NULL DEFAULT 0,
+    cancelled      BOOLEAN     NOT NULL DEFAULT FALSE,
+    recorded_at    TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_sales_orders_recorded_at (recorded_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS sales_order_lines
+(
+    order_id    BIGINT NOT NULL,
+    product_id  BIGINT NOT NULL,
+    category_id BIGINT NULL,
+    units       BIGINT NOT NULL,
+    gmv_minor   BIGINT NOT NULL,
+    PRIMARY KEY (order_id, product_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS sales_window_buckets
+(
+    window_name  VARCHAR(16) NOT NULL,
+    bucket_epoch BIGINT      NOT NULL,
+    dimension    VARCHAR(16) NOT NULL,
+    dimension_id BIGINT      NOT NULL,
+    orders       BIGINT      NOT NULL DEFAULT 0,
+    units        BIGINT      NOT NULL DEFAULT 0,
+    gmv_minor    BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (window_name, bucket_epoch, dimension, dimension_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,10 @@
+-- ============================================================================
+-- 판매 대시보드 윈도우 버킷을 인스턴스별로 나눈다 (Scope sales window buckets by instance)
+-- 메모리 윈도우는 인스턴스가 소비한 파티션의 주문만 담으므로, 재시작할 때 자기 인스턴스의 버킷만 복원한다
+-- ============================================================================
+
+ALTER TABLE sales_window_buckets
+    ADD COLUMN instance_id VARCHAR(64) NOT NULL DEFAULT '' FIRST,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (instance_id, window_name, bucket_epoch, dimension, dimension_id),
+    ADD INDEX idx_sales_window_buckets_expiry (window_name, bucket_epoch);
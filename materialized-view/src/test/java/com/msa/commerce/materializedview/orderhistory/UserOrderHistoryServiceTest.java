@@ -0,0 +1,143 @@
+package com.msa.commerce.materializedview.orderhistory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.common.exception.BusinessException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserOrderHistoryService 테스트")
+class UserOrderHistoryServiceTest {
+
+    private static final long USER_ID = 7L;
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private UserOrderHistoryRepository historyRepository;
+
+    @Mock
+    private OrderArchiveReader archiveReader;
+
+    @InjectMocks
+    private UserOrderHistoryService service;
+
+    @Test
+    @DisplayName("Redis 에 한 페이지 이상 있으면 MySQL 을 조회하지 않고 다음 커서를 돌려준다")
+    void servedFromRedis() {
+        // given
+        given(historyRepository.findPage(USER_ID, null, 3)).willReturn(recent(false, 10, 9, 8));
+
+        // when
+        OrderHistoryPage page = service.findOrders(USER_ID, null, 2);
+
+        // then
+        assertThat(page.orders()).extracting(OrderSummary::orderId).containsExactly(10L, 9L);
+        assertThat(OrderHistoryCursor.decode(page.nextCursor())).isEqualTo(OrderHistoryCursor.after(summary(9)));
+        then(archiveReader).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Redis 에 남은 주문이 부족하면 마지막 주문 이후부터 MySQL 에서 이어 읽는다")
+    void fallsBackToArchive() {
+        // given
+        given(historyRepository.findPage(USER_ID, null, 4)).willReturn(recent(false, 10, 9));
+        given(archiveReader.findOlderThan(USER_ID, OrderHistoryCursor.after(summary(9)), 2)).willReturn(summaries(8, 7));
+
+        // when
+        OrderHistoryPage page = service.findOrders(USER_ID, null, 3);
+
+        // then
+        assertThat(page.orders()).extracting(OrderSummary::orderId).containsExactly(10L, 9L, 8L);
+        assertThat(page.nextCursor()).isNotNull();
+        then(historyRepository).should(never()).markComplete(anyLong());
+    }
+
+    @Test
+    @DisplayName("MySQL 에 Redis 보다 오래된 주문이 없으면 완전 표시를 남기고, 완전한 사용자는 MySQL 을 읽지 않는다")
+    void skipsArchiveWhenComplete() {
+        // given
+        given(historyRepository.findPage(USER_ID, null, 21)).willReturn(recent(false, 10, 9), recent(true, 10, 9));
+        given(archiveReader.findOlderThan(USER_ID, OrderHistoryCursor.after(summary(9)), 19)).willReturn(List.of());
+
+        // when
+        OrderHistoryPage first = service.findOrders(USER_ID, null, null);
+        OrderHistoryPage second = service.findOrders(USER_ID, null, null);
+
+        // then
+        assertThat(first.orders()).extracting(OrderSummary::orderId).containsExactly(10L, 9L);
+        assertThat(second.orders()).extracting(OrderSummary::orderId).containsExactly(10L, 9L);
+        assertThat(second.nextCursor()).isNull();
+        then(historyRepository).should().markComplete(USER_ID);
+        then(archiveReader).should(times(1)).findOlderThan(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에는 다음 커서가 없다")
+    void lastPage() {
+        // given
+        OrderHistoryCursor cursor = OrderHistoryCursor.after(summary(3));
+        given(historyRepository.findPage(USER_ID, cursor, 21)).willReturn(recent(false));
+        given(archiveReader.findOlderThan(eq(USER_ID), eq(cursor), anyInt())).willReturn(summaries(2, 1));
+
+        // when
+        OrderHistoryPage page = service.findOrders(USER_ID, cursor.encode(), null);
+
+        // then
+        assertThat(page.orders()).extracting(OrderSummary::orderId).containsExactly(2L, 1L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서는 created_at 과 같은 초 단위로 비교해 같은 초 안에서는 주문 id 로 순서를 정한다")
+    void cursorUsesSecondPrecision() {
+        // given
+        OrderHistoryCursor cursor = OrderHistoryCursor.after(new OrderSummary(42L, "ORD-42", "CONFIRMED",
+            new BigDecimal("10000.00"), "KRW", BASE.plusMillis(900), 1L));
+        OrderSummary sameSecond = new OrderSummary(41L, "ORD-41", "CONFIRMED", new BigDecimal("10000.00"), "KRW",
+            BASE.plusMillis(100), 1L);
+
+        // when & then
+        assertThat(cursor.createdAt()).isEqualTo(BASE);
+        assertThat(cursor.isBefore(sameSecond)).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩 후 디코딩하면 같은 값이고, 잘못된 커서는 예외가 발생한다")
+    void cursorRoundTrip() {
+        // given
+        OrderHistoryCursor cursor = new OrderHistoryCursor(BASE.getEpochSecond(), 42L);
+
+        // when & then
+        assertThat(OrderHistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThatThrownBy(() -> OrderHistoryCursor.decode("not-a-cursor"))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    private static RecentOrders recent(boolean complete, long... orderIds) {
+        return new RecentOrders(summaries(orderIds), complete);
+    }
+
+    private static List<OrderSummary> summaries(long... orderIds) {
+        return LongStream.of(orderIds).mapToObj(UserOrderHistoryServiceTest::summary).toList();
+    }
+
+    private static OrderSummary summary(long orderId) {
+        return new OrderSummary(orderId, "ORD-" + orderId, "CONFIRMED", new BigDecimal("10000.00"), "KRW",
+            BASE.plusSeconds(orderId), 1L);
+    }
+
+}
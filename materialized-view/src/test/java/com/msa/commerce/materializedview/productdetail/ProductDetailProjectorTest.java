@@ -0,0 +1,109 @@
+package com.msa.commerce.materializedview.productdetail;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.common.events.product.ProductDetailsChangedEvent;
+import com.msa.commerce.common.events.product.ProductInventoryChangedEvent;
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.materializedview.projection.ProjectionWriter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailProjector 테스트")
+class ProductDetailProjectorTest {
+
+    @Mock
+    private ProductDetailViewRepository viewRepository;
+
+    @Mock
+    private ProjectionWriter writer;
+
+    @InjectMocks
+    private ProductDetailProjector projector;
+
+    @Test
+    @DisplayName("상품 정보 이벤트는 카테고리를 포함한 details 섹션만 갱신한다")
+    @SuppressWarnings("unchecked")
+    void applyDetails() {
+        // given
+        ProductDetailsChangedEvent event = ProductDetailsChangedEvent.builder()
+            .eventId("e-1")
+            .productId(10L)
+            .version(3)
+            .sku("SKU-10")
+            .name("키보드")
+            .status("ACTIVE")
+            .categoryId(2L)
+            .categoryName("주변기기")
+            .build();
+
+        // when
+        projector.apply(event, writer);
+
+        // then
+        ArgumentCaptor<Map<String, Object>> values = ArgumentCaptor.forClass(Map.class);
+        then(viewRepository).should()
+            .mergeSection(eq(writer), eq(10L), eq(ProductDetailSection.DETAILS), eq(3L), values.capture());
+        assertThat(values.getValue()).containsEntry("name", "키보드").containsEntry("status", "ACTIVE");
+        assertThat((Map<String, Object>)values.getValue().get("category")).containsEntry("name", "주변기기");
+    }
+
+    @Test
+    @DisplayName("가격은 정밀도를 잃지 않도록 문자열로 저장한다")
+    @SuppressWarnings("unchecked")
+    void applyPrice() {
+        // given
+        ProductPriceChangedEvent event = ProductPriceChangedEvent.builder()
+            .productId(10L)
+            .version(4)
+            .price(new BigDecimal("12900.50"))
+            .currency("KRW")
+            .build();
+
+        // when
+        projector.apply(event, writer);
+
+        // then
+        ArgumentCaptor<Map<String, Object>> values = ArgumentCaptor.forClass(Map.class);
+        then(viewRepository).should()
+            .mergeSection(eq(writer), eq(10L), eq(ProductDetailSection.PRICE), eq(4L), values.capture());
+        assertThat(values.getValue()).containsEntry("price", "12900.50").containsEntry("comparePrice", null);
+    }
+
+    @Test
+    @DisplayName("재고 이벤트에서 구매 가능 상태를 계산한다")
+    void availability() {
+        // given
+        ProductInventoryChangedEvent inStock = ProductInventoryChangedEvent.builder().availableQuantity(3).build();
+        ProductInventoryChangedEvent backorder = ProductInventoryChangedEvent.builder().backorderAllowed(true).build();
+        ProductInventoryChangedEvent soldOut = ProductInventoryChangedEvent.builder().build();
+
+        // when & then
+        assertThat(ProductDetailProjector.availability(inStock)).isEqualTo("IN_STOCK");
+        assertThat(ProductDetailProjector.availability(backorder)).isEqualTo("BACKORDER");
+        assertThat(ProductDetailProjector.availability(soldOut)).isEqualTo("OUT_OF_STOCK");
+    }
+
+    @Test
+    @DisplayName("구독 토픽에 섞여 들어온 다른 이벤트는 무시한다")
+    void ignoreUnknownEvent() {
+        // when
+        projector.apply(Map.of("eventId", "e-9"), writer);
+
+        // then
+        then(viewRepository).shouldHaveNoInteractions();
+    }
+
+}
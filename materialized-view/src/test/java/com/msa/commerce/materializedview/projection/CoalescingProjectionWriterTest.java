@@ -0,0 +1,63 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingProjectionWriter 테스트")
+class CoalescingProjectionWriterTest {
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("return 1", Long.class);
+
+    @Mock
+    private ProjectionWriter delegate;
+
+    @Test
+    @DisplayName("같은 키의 갱신은 가장 높은 버전 하나만 처음 등장한 순서대로 내보낸다")
+    void keepLatestVersionPerKey() {
+        // given
+        CoalescingProjectionWriter writer = new CoalescingProjectionWriter(delegate);
+        writer.evalLatest("product:1#price", 1, SCRIPT, List.of("product:1"), "v1");
+        writer.evalLatest("product:2#price", 1, SCRIPT, List.of("product:2"), "p2");
+        writer.evalLatest("product:1#price", 3, SCRIPT, List.of("product:1"), "v3");
+        writer.evalLatest("product:1#price", 2, SCRIPT, List.of("product:1"), "v2");
+
+        // when
+        int flushed = writer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(writer.coalescedCount()).isEqualTo(2);
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).eval(SCRIPT, List.of("product:1"), "v3");
+        inOrder.verify(delegate).eval(SCRIPT, List.of("product:2"), "p2");
+        then(delegate).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("버전이 없는 일반 갱신은 합치지 않는다")
+    void plainEvalIsNotCoalesced() {
+        // given
+        CoalescingProjectionWriter writer = new CoalescingProjectionWriter(delegate);
+        writer.eval(SCRIPT, List.of("counter"), "1");
+        writer.eval(SCRIPT, List.of("counter"), "1");
+
+        // when
+        int flushed = writer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        then(delegate).should(times(2)).eval(SCRIPT, List.of("counter"), "1");
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectionRuntime 테스트")
+class ProjectionRuntimeTest {
+
+    private static final String TOPIC = "order.created";
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private RedisConnection connection;
+
+    private final List<Object> applied = new ArrayList<>();
+
+    private final Projection projection = new Projection() {
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public Collection<String> topics() {
+            return List.of(TOPIC);
+        }
+
+        @Override
+        public void apply(Object event, ProjectionWriter writer) {
+            applied.add(event);
+            writer.eval(RedisScript.of("return 1", Long.class), List.of("view:" + event), event.toString());
+        }
+    };
+
+    private ProjectionRuntime runtime;
+
+    @BeforeEach
+    void setUp() {
+        runtime = new ProjectionRuntime(List.of(projection), consumerFactory, new DefaultErrorHandler(),
+            redisTemplate, new SimpleMeterRegistry());
+        given(redisTemplate.execute(any(RedisCallback.class)))
+            .willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 오프셋 이하의 레코드는 건너뛰고 뷰 갱신과 새 오프셋을 한 트랜잭션으로 기록한다")
+    @SuppressWarnings("unchecked")
+    void applyBatchAtomically() {
+        // given
+        given(connection.stringCommands().mGet(any(byte[][].class))).willReturn(List.of(bytes("11")));
+        given(connection.exec()).willReturn(List.of(1L, 1L, true));
+
+        // when
+        runtime.applyBatch(projection, List.of(record(10, "a"), record(11, "b"), record(12, "c"), record(13, "d")));
+
+        // then
+        assertThat(applied).containsExactly("c", "d");
+        then(connection).should().watch(any(byte[][].class));
+        then(connection).should().multi();
+        then(connection.scriptingCommands()).should(times(2)).eval(any(byte[].class), any(), eq(1), any(byte[][].class));
+
+        ArgumentCaptor<Map<byte[], byte[]>> offsets = ArgumentCaptor.forClass(Map.class);
+        then(connection.stringCommands()).should().mSet(offsets.capture());
+        assertThat(offsets.getValue().values()).singleElement()
+            .satisfies(value -> assertThat(new String(value, StandardCharsets.UTF_8)).isEqualTo("13"));
+    }
+
+    @Test
+    @DisplayName("배치 전체가 이미 반영되었으면 트랜잭션을 취소한다")
+    void discardWhenNothingToApply() {
+        // given
+        given(connection.stringCommands().mGet(any(byte[][].class))).willReturn(List.of(bytes("20")));
+
+        // when
+        runtime.applyBatch(projection, List.of(record(19, "a"), record(20, "b")));
+
+        // then
+        assertThat(applied).isEmpty();
+        then(connection).should().discard();
+        then(connection).should(never()).exec();
+    }
+
+    @Test
+    @DisplayName("WATCH 한 오프셋이 바뀌어 EXEC 가 취소되면 예외를 던져 배치를 다시 처리하게 한다")
+    void failWhenOffsetsChanged() {
+        // given
+        given(connection.stringCommands().mGet(any(byte[][].class))).willReturn(Arrays.asList((byte[])null));
+        given(connection.exec()).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> runtime.applyBatch(projection, List.of(record(0, "a"))))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("파티션을 할당받으면 Redis 에 기록된 오프셋 다음부터 읽는다")
+    void seekOnAssignment() {
+        // given
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        TopicPartition stored = new TopicPartition(TOPIC, 0);
+        TopicPartition fresh = new TopicPartition(TOPIC, 1);
+        given(connection.stringCommands().mGet(any(byte[][].class))).willReturn(Arrays.asList(bytes("41"), null));
+
+        // when
+        runtime.seekToStoredOffsets(projection, consumer, List.of(stored, fresh));
+
+        // then
+        then(consumer).should().seek(stored, 42L);
+        then(consumer).should(never()).seek(eq(fresh), anyLong());
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key", value);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
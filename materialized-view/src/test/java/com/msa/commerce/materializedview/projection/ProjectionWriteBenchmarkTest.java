@@ -0,0 +1,185 @@
+package com.msa.commerce.materializedview.projection;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.events.product.ProductEventTopics;
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.materializedview.productdetail.ProductDetailProjector;
+import com.msa.commerce.materializedview.productdetail.ProductDetailViewRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 프로젝션 Redis 쓰기 처리량 비교. 이벤트의 80% 는 인기 상품 50개에 몰려 한 배치 안에 같은 상품 갱신이 여러 번 섞인다.
+ * {@code ./gradlew :materialized-view:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("프로젝션 Redis 쓰기 벤치마크")
+class ProjectionWriteBenchmarkTest {
+
+    private static final int PRODUCTS = 2_000;
+
+    private static final int HOT_PRODUCTS = 50;
+
+    private static final int HOT_PERCENT = 80;
+
+    private static final int EVENTS = 200_000;
+
+    private static final int SINGLE_EVENTS = 20_000;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    private ProductDetailProjector projector;
+
+    private ProjectionRuntime runtime;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>)connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        projector = new ProductDetailProjector(new ProductDetailViewRepository(redisTemplate, new ObjectMapper()));
+        runtime = new ProjectionRuntime(List.of(projector), mock(ConsumerFactory.class), new DefaultErrorHandler(),
+            redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("이벤트마다 한 번씩 쓰기")
+    void perEvent() {
+        List<ConsumerRecord<String, Object>> records = records(SINGLE_EVENTS);
+
+        long start = System.nanoTime();
+        for (ConsumerRecord<String, Object> record : records) {
+            runtime.applyDirect(projector, record.value());
+        }
+        report("per-event", records.size(), start);
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션, 합치기 없음")
+    void batchedWithoutCoalescing() {
+        ReflectionTestUtils.setField(runtime, "coalesce", false);
+        List<ConsumerRecord<String, Object>> records = records(EVENTS);
+        runBatches("batch", records);
+        assertLatestPriceApplied(records);
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션, 같은 키 합치기")
+    void batchedWithCoalescing() {
+        ReflectionTestUtils.setField(runtime, "coalesce", true);
+        List<ConsumerRecord<String, Object>> records = records(EVENTS);
+        runBatches("batch+coalesce", records);
+        assertLatestPriceApplied(records);
+    }
+
+    private void runBatches(String name, List<ConsumerRecord<String, Object>> records) {
+        long keys = 0;
+        long start = System.nanoTime();
+        for (int from = 0; from < records.size(); from += BATCH_SIZE) {
+            List<ConsumerRecord<String, Object>> batch =
+                records.subList(from, Math.min(from + BATCH_SIZE, records.size()));
+            runtime.applyBatch(projector, batch);
+            keys += distinctKeys(batch);
+        }
+        report(name, records.size(), start);
+        System.out.printf("[projection-write] %-16s %.1f distinct products per %d-event batch%n",
+            name, keys / Math.ceil(records.size() / (double)BATCH_SIZE), BATCH_SIZE);
+    }
+
+    private void assertLatestPriceApplied(List<ConsumerRecord<String, Object>> records) {
+        // 상품마다 마지막 이벤트의 가격이 반영되어 있어야 한다
+        Set<String> checked = new HashSet<>();
+        for (int i = records.size() - 1; i >= 0 && checked.size() < HOT_PRODUCTS; i--) {
+            ConsumerRecord<String, Object> record = records.get(i);
+            if (checked.add(record.key())) {
+                String document = redisTemplate.opsForValue().get("product-detail:" + record.key());
+                assertThat(document).contains("\"price\":\"" + record.offset() + "\"");
+            }
+        }
+    }
+
+    private static long distinctKeys(List<ConsumerRecord<String, Object>> batch) {
+        return batch.stream().map(ConsumerRecord::key).distinct().count();
+    }
+
+    /**
+     * 고정 시드로 상품을 고르므로 두 배치 테스트가 같은 이벤트열을 쓴다. 가격은 오프셋과 같고 버전은 상품마다 1 씩 오른다.
+     */
+    private static List<ConsumerRecord<String, Object>> records(int count) {
+        Random random = new Random(42);
+        long[] versions = new long[PRODUCTS];
+        List<ConsumerRecord<String, Object>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int productId = random.nextInt(100) < HOT_PERCENT ? random.nextInt(HOT_PRODUCTS) : random.nextInt(PRODUCTS);
+            ProductPriceChangedEvent event = ProductPriceChangedEvent.builder()
+                .eventId("event-" + i)
+                .productId((long)productId)
+                .version(++versions[productId])
+                .price(BigDecimal.valueOf(i))
+                .currency("KRW")
+                .build();
+            records.add(new ConsumerRecord<>(ProductEventTopics.PRODUCT_PRICE_CHANGED, productId % 4, i,
+                String.valueOf(productId), event));
+        }
+        return records;
+    }
+
+    private static void report(String name, int events, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("[projection-write] %-16s %,d events in %.2fs -> %,.0f events/sec%n",
+            name, events, seconds, events / seconds);
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.msa.commerce.materializedview.replay;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.msa.commerce.common.eventstore.StoredEvent;
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ResourceNotFoundException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventReplayEngine 테스트")
+class EventReplayEngineTest {
+
+    private static final String PROJECTION = "product-catalog";
+
+    private static final int PARTITIONS = 4;
+
+    @Mock
+    private ReplaySource replaySource;
+
+    @Mock
+    private ReplayCheckpointRepository checkpointRepository;
+
+    private final List<StoredEvent> events = new ArrayList<>();
+
+    private final List<StoredEvent> handled = Collections.synchronizedList(new ArrayList<>());
+
+    private RuntimeException failOn;
+
+    private long failingEventId = -1;
+
+    private EventReplayEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 100; id++) {
+            events.add(StoredEvent.builder()
+                .id(id)
+                .eventId("event-" + id)
+                .eventType("ProductUpdated")
+                .aggregateType("Product")
+                .aggregateId(String.valueOf(id % 10))
+                .version(id)
+                .data("{}")
+                .occurredAt(Instant.now())
+                .build());
+        }
+
+        ReplayHandler handler = new ReplayHandler() {
+            @Override
+            public String projection() {
+                return PROJECTION;
+            }
+
+            @Override
+            public void handle(StoredEvent event) {
+                if (event.getId() == failingEventId) {
+                    throw failOn;
+                }
+                handled.add(event);
+            }
+        };
+
+        engine = new EventReplayEngine(replaySource, checkpointRepository, List.of(handler));
+        ReflectionTestUtils.setField(engine, "partitions", PARTITIONS);
+        ReflectionTestUtils.setField(engine, "batchSize", 7);
+        ReflectionTestUtils.setField(engine, "queueCapacity", 16);
+        ReflectionTestUtils.setField(engine, "maxEventsPerSecond", 0L);
+        ReflectionTestUtils.setField(engine, "checkpointIntervalMs", 60_000L);
+
+        lenient().when(replaySource.maxPosition()).thenReturn(100L);
+        lenient().when(replaySource.readAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long position = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return events.stream().filter(event -> event.getId() > position).limit(limit).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("모든 이벤트를 애그리거트별 순서대로 적용하고 마지막 위치를 체크포인트로 남긴다")
+    void replayAll() throws Exception {
+        // given
+        given(checkpointRepository.load(PROJECTION, PARTITIONS)).willReturn(Map.of());
+
+        // when
+        ReplayProgress progress = engine.start(PROJECTION, false);
+        awaitFinished(progress);
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(ReplayStatus.COMPLETED);
+        assertThat(progress.getProcessedEventCount()).isEqualTo(100);
+        assertThat(handled).hasSize(100);
+        for (int aggregate = 0; aggregate < 10; aggregate++) {
+            String aggregateId = String.valueOf(aggregate);
+            assertThat(handled.stream().filter(event -> event.getAggregateId().equals(aggregateId)))
+                .extracting(StoredEvent::getId)
+                .isSorted();
+        }
+
+        ArgumentCaptor<long[]> lastEventIds = ArgumentCaptor.forClass(long[].class);
+        then(checkpointRepository).should(atLeastOnce())
+            .save(eq(PROJECTION), eq(PARTITIONS), lastEventIds.capture(), any());
+        assertThat(lastEventIds.getValue()).containsOnly(100L);
+        then(checkpointRepository).should(timeout(1_000)).recordRefresh(progress);
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 이어서 재생하면 파티션별로 이미 적용한 이벤트를 건너뛴다")
+    void resumeFromCheckpoints() throws Exception {
+        // given
+        given(checkpointRepository.load(PROJECTION, PARTITIONS)).willReturn(Map.of(0, 40L, 1, 60L, 2, 60L, 3, 60L));
+
+        // when
+        ReplayProgress progress = engine.start(PROJECTION, false);
+        awaitFinished(progress);
+
+        // then
+        assertThat(progress.getStartPosition()).isEqualTo(40L);
+        assertThat(handled).allSatisfy(event -> assertThat(event.getId()).isGreaterThan(40L));
+        long expected = events.stream()
+            .filter(event -> event.getId() > 40)
+            .filter(event -> Math.floorMod(event.getAggregateId().hashCode(), PARTITIONS) == 0 || event.getId() > 60)
+            .count();
+        assertThat(handled).hasSize((int)expected);
+        then(checkpointRepository).should(never()).reset(any());
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 FAILED 로 끝나고 실패한 파티션의 체크포인트는 실패 지점 이전에 머문다")
+    void failOnHandlerError() throws Exception {
+        // given
+        given(checkpointRepository.load(PROJECTION, PARTITIONS)).willReturn(Map.of());
+        failingEventId = 50;
+        failOn = new IllegalStateException("projection write failed");
+
+        // when
+        ReplayProgress progress = engine.start(PROJECTION, true);
+        awaitFinished(progress);
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(ReplayStatus.FAILED);
+        assertThat(progress.getErrorMessage()).isEqualTo("projection write failed");
+        then(checkpointRepository).should().reset(PROJECTION);
+
+        int failedPartition = Math.floorMod(String.valueOf(50 % 10).hashCode(), PARTITIONS);
+        ArgumentCaptor<long[]> lastEventIds = ArgumentCaptor.forClass(long[].class);
+        then(checkpointRepository).should(atLeastOnce())
+            .save(eq(PROJECTION), eq(PARTITIONS), lastEventIds.capture(), any());
+        assertThat(lastEventIds.getValue()[failedPartition]).isLessThan(50L);
+    }
+
+    @Test
+    @DisplayName("원본 읽기가 실패해도 FAILED 로 끝나고 파티션 워커 스레드를 남기지 않는다")
+    void stopWorkersOnReadFailure() throws Exception {
+        // given
+        given(checkpointRepository.load(PROJECTION, PARTITIONS)).willReturn(Map.of());
+        given(replaySource.readAfter(anyLong(), anyInt()))
+            .willReturn(events.subList(0, 7))
+            .willThrow(new IllegalStateException("event store unavailable"));
+
+        // when
+        ReplayProgress progress = engine.start(PROJECTION, false);
+        awaitFinished(progress);
+
+        // then
+        assertThat(progress.getStatus()).isEqualTo(ReplayStatus.FAILED);
+        assertThat(progress.getErrorMessage()).isEqualTo("event store unavailable");
+        assertThat(Thread.getAllStackTraces().keySet())
+            .noneMatch(thread -> thread.getName().startsWith("replay-" + PROJECTION + "-"));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 프로젝션은 재생할 수 없다")
+    void unknownProjection() {
+        // when & then
+        assertThatThrownBy(() -> engine.start("unknown", false))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("실행 중인 재생이 있으면 다시 시작할 수 없다")
+    void alreadyRunning() throws Exception {
+        // given
+        given(checkpointRepository.load(PROJECTION, PARTITIONS)).willReturn(Map.of());
+        ReflectionTestUtils.setField(engine, "maxEventsPerSecond", 10L);
+        ReplayProgress progress = engine.start(PROJECTION, false);
+
+        // when & then
+        assertThatThrownBy(() -> engine.start(PROJECTION, false))
+            .isInstanceOf(BusinessException.class);
+
+        engine.stop(PROJECTION);
+        awaitFinished(progress);
+        assertThat(progress.getStatus()).isEqualTo(ReplayStatus.STOPPED);
+    }
+
+    private void awaitFinished(ReplayProgress progress) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (progress.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(progress.getFinishedAt()).as("replay finished").isNotNull();
+    }
+
+}
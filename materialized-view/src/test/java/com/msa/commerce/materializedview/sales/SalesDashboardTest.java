@@ -0,0 +1,339 @@
+package com.msa.commerce.materializedview.sales;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.order.OrderStatusChangedEvent;
+import com.msa.commerce.common.events.payment.PaymentRefundedEvent;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesDashboard 테스트")
+class SalesDashboardTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:20Z");
+
+    @Mock
+    private SalesSummaryRepository summaryRepository;
+
+    @Mock
+    private SalesOrderRepository orderRepository;
+
+    @Mock
+    private SalesWindowRepository windowRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SalesDashboard dashboard;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        dashboard = new SalesDashboard(summaryRepository, orderRepository, windowRepository, transactionTemplate,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("윈도우 길이에 따라 포함되는 주문이 달라진다")
+    void slidingWindows() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        dashboard.record(order(NOW.minusSeconds(30), item(1L, 10L, 2, "20000")));
+        dashboard.record(order(NOW.minusSeconds(600), item(2L, 10L, 5, "5000")));
+
+        // when
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_MINUTE, false, SalesMetric.UNITS, 10))
+            .extracting(RankedSales::id)
+            .containsExactly(1L);
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_HOUR, false, SalesMetric.UNITS, 10))
+            .extracting(RankedSales::id)
+            .containsExactly(2L, 1L);
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_HOUR, false, SalesMetric.GMV, 1))
+            .extracting(RankedSales::gmv)
+            .containsExactly(new BigDecimal("20000.00"));
+        assertThat(dashboard.top(SalesDimension.CATEGORY, SalesWindow.ONE_DAY, false, SalesMetric.ORDERS, 10))
+            .singleElement()
+            .satisfies(sales -> {
+                assertThat(sales.id()).isEqualTo(10L);
+                assertThat(sales.orders()).isEqualTo(2);
+                assertThat(sales.units()).isEqualTo(7);
+            });
+    }
+
+    @Test
+    @DisplayName("tumbling 윈도우는 현재 정렬된 구간만, sliding 윈도우는 최근 구간 전체를 합산한다")
+    void tumblingWindow() {
+        // given: 10:00:20 기준 30초 전은 이전 분에 속한다
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        dashboard.record(order(NOW.minusSeconds(30), item(1L, 10L, 1, "1000")));
+
+        // when
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_MINUTE, false, SalesMetric.ORDERS, 10)).hasSize(1);
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_MINUTE, true, SalesMetric.ORDERS, 10)).isEmpty();
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_HOUR, true, SalesMetric.ORDERS, 10)).isEmpty();
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_DAY, true, SalesMetric.ORDERS, 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("한 주문에 같은 상품이 여러 줄 있어도 주문 수는 한 번만 센다")
+    void countOrderOncePerProduct() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        dashboard.record(order(NOW, item(1L, 10L, 1, "1000"), item(1L, 10L, 2, "2000")));
+
+        // when
+        dashboard.refreshRankings();
+
+        // then
+        RankedSales sales = dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_MINUTE, false, SalesMetric.ORDERS, 1).get(0);
+        assertThat(sales.orders()).isEqualTo(1);
+        assertThat(sales.units()).isEqualTo(3);
+        assertThat(sales.gmv()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("주문 기록과 같은 트랜잭션에서 일간 증분을 저장한다")
+    void persistDailyTotalsWithOrder() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+
+        // when
+        dashboard.record(order(NOW, item(1L, 10L, 1, "1000"), item(1L, 10L, 2, "2000")));
+
+        // then
+        ArgumentCaptor<Collection<PendingDailySales>> captor = dailyCaptor();
+        then(summaryRepository).should().addDailyTotals(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(daily -> {
+            assertThat(daily.getProductSku()).isEqualTo("SKU-1");
+            assertThat(daily.getOrders()).isEqualTo(1);
+            assertThat(daily.getUnits()).isEqualTo(3);
+            assertThat(daily.getGmvMinor()).isEqualTo(300_000L);
+        });
+        then(transactionTemplate).should().execute(any());
+    }
+
+    @Test
+    @DisplayName("증분 저장에 실패하면 예외를 전파하고 메모리 카운터에 더하지 않는다")
+    void failedPersistDoesNotCount() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        willThrow(new IllegalStateException("db down")).given(summaryRepository).addDailyTotals(anyCollection());
+
+        // when
+        assertThatThrownBy(() -> dashboard.record(order(NOW, item(1L, 10L, 1, "1000"))))
+            .isInstanceOf(IllegalStateException.class);
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_DAY, false, SalesMetric.ORDERS, 10))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 집계한 주문이면 다시 더하지 않는다")
+    void skipRecordedOrder() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(false);
+
+        // when
+        dashboard.record(order(NOW, item(1L, 10L, 1, "1000")));
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_DAY, false, SalesMetric.ORDERS, 10)).isEmpty();
+        then(summaryRepository).shouldHaveNoInteractions();
+        then(windowRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("취소된 주문은 주문 시각의 윈도우와 일간 합계에서 주문 수, 수량, GMV 를 모두 뺀다")
+    void cancelOrder() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        dashboard.record(order(NOW.minusSeconds(30), item(1L, 10L, 2, "20000"), item(2L, 10L, 1, "10000")));
+        given(orderRepository.cancel(1L)).willReturn(Optional.of(
+            new SalesReversal(NOW.minusSeconds(30), lines(), 0L, 3_000_000L, true)));
+
+        // when
+        dashboard.cancel(statusChanged("CANCELLED"));
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_HOUR, false, SalesMetric.GMV, 10)).isEmpty();
+        assertThat(dashboard.top(SalesDimension.CATEGORY, SalesWindow.ONE_DAY, false, SalesMetric.GMV, 10)).isEmpty();
+        ArgumentCaptor<Collection<PendingDailySales>> captor = dailyCaptor();
+        then(summaryRepository).should(times(2)).addDailyTotals(captor.capture());
+        assertThat(captor.getAllValues().get(1))
+            .extracting(PendingDailySales::getProductId, PendingDailySales::getOrders, PendingDailySales::getUnits,
+                PendingDailySales::getGmvMinor)
+            .containsExactly(tuple(1L, -1L, -2L, -2_000_000L), tuple(2L, -1L, -1L, -1_000_000L));
+    }
+
+    @Test
+    @DisplayName("취소가 아닌 상태 변경은 무시한다")
+    void ignoreOtherStatusChanges() {
+        // when
+        dashboard.cancel(statusChanged("SHIPPED"));
+
+        // then
+        then(orderRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("부분 환불은 상품별 GMV 비율로 나눠 GMV 만 뺀다")
+    void partialRefund() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+        dashboard.record(order(NOW, item(1L, 10L, 2, "20000"), item(2L, 10L, 1, "10000")));
+        given(orderRepository.refund(1L, 100_000L)).willReturn(Optional.of(
+            new SalesReversal(NOW, lines(), 0L, 100_000L, false)));
+
+        // when
+        dashboard.refund(PaymentRefundedEvent.builder()
+            .orderId(1L)
+            .amount(new BigDecimal("1000"))
+            .partial(true)
+            .build());
+        dashboard.refreshRankings();
+
+        // then
+        assertThat(dashboard.top(SalesDimension.PRODUCT, SalesWindow.ONE_MINUTE, false, SalesMetric.GMV, 10))
+            .extracting(RankedSales::id, RankedSales::orders, RankedSales::units, RankedSales::gmv)
+            .containsExactly(
+                tuple(1L, 1L, 2L, new BigDecimal("19333.33")),
+                tuple(2L, 1L, 1L, new BigDecimal("9666.67")));
+    }
+
+    @Test
+    @DisplayName("여러 번에 나눈 환불도 상품별로 뺀 금액의 합이 환불 금액과 같다")
+    void allocateRefundsExactly() {
+        // given
+        List<SalesOrderLine> lines = List.of(
+            new SalesOrderLine(1L, 10L, 1, 333L),
+            new SalesOrderLine(2L, 10L, 1, 333L),
+            new SalesOrderLine(3L, 10L, 1, 334L));
+
+        // when
+        long[] first = SalesDashboard.allocate(lines, 100L);
+        long[] second = SalesDashboard.allocate(lines, 1_000L);
+
+        // then
+        assertThat(first).containsExactly(34L, 33L, 33L);
+        assertThat(second).containsExactly(333L, 333L, 334L);
+    }
+
+    @Test
+    @DisplayName("기동할 때 이 인스턴스가 저장한 윈도우 버킷으로 카운터를 복원한다")
+    void restoreWindows() {
+        // given
+        given(windowRepository.findBuckets(eq("local"), any(), anyLong())).willAnswer(invocation -> {
+            SalesWindow window = invocation.getArgument(1);
+            PendingWindowSales bucket = new PendingWindowSales(new PendingWindowSales.Key(window,
+                NOW.toEpochMilli() / window.getBucketMillis(), SalesDimension.PRODUCT, 1L));
+            bucket.add(3, 4, 500_000L);
+            return List.of(bucket);
+        });
+
+        // when
+        dashboard.restoreWindows();
+        dashboard.refreshRankings();
+
+        // then
+        for (SalesWindow window : SalesWindow.values()) {
+            assertThat(dashboard.top(SalesDimension.PRODUCT, window, false, SalesMetric.GMV, 10))
+                .containsExactly(new RankedSales(1L, 3, 4, new BigDecimal("5000.00")));
+        }
+    }
+
+    @Test
+    @DisplayName("주문 기록과 같은 트랜잭션에서 인스턴스의 윈도우 버킷 증분을 저장한다")
+    @SuppressWarnings("unchecked")
+    void persistWindowBuckets() {
+        // given
+        given(orderRepository.insert(anyLong(), any(), anyList())).willReturn(true);
+
+        // when
+        dashboard.record(order(NOW, item(1L, 10L, 1, "1000")));
+
+        // then
+        ArgumentCaptor<Collection<PendingWindowSales>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(windowRepository).should().addBuckets(eq("local"), captor.capture());
+        assertThat(captor.getValue())
+            .hasSize(SalesWindow.values().length * SalesDimension.values().length)
+            .allSatisfy(bucket -> assertThat(bucket.getGmvMinor()).isEqualTo(100_000L));
+    }
+
+    @Test
+    @DisplayName("윈도우마다 만료된 버킷을 지운다")
+    void deleteExpiredBuckets() {
+        // when
+        dashboard.deleteExpiredBuckets();
+
+        // then
+        then(windowRepository).should(times(SalesWindow.values().length)).deleteBefore(any(), anyLong());
+    }
+
+    private static OrderCreatedEvent order(Instant createdAt, OrderCreatedEvent.Item... items) {
+        return OrderCreatedEvent.builder()
+            .orderId(1L)
+            .createdAt(createdAt)
+            .items(List.of(items))
+            .build();
+    }
+
+    private static List<SalesOrderLine> lines() {
+        return List.of(new SalesOrderLine(1L, 10L, 2, 2_000_000L), new SalesOrderLine(2L, 10L, 1, 1_000_000L));
+    }
+
+    private static OrderStatusChangedEvent statusChanged(String status) {
+        return OrderStatusChangedEvent.builder()
+            .orderId(1L)
+            .previousStatus("CONFIRMED")
+            .status(status)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<PendingDailySales>> dailyCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static OrderCreatedEvent.Item item(Long productId, Long categoryId, int quantity, String totalPrice) {
+        return OrderCreatedEvent.Item.builder()
+            .productId(productId)
+            .categoryId(categoryId)
+            .productSku("SKU-" + productId)
+            .productName("상품 " + productId)
+            .quantity(quantity)
+            .totalPrice(new BigDecimal(totalPrice))
+            .build();
+    }
+
+}
@@ -5,6 +5,7 @@ dependencies {
     implementation(BuildDependencies.getSpringBootStarterSecurity())
     implementation(BuildDependencies.getSpringBootStarterDataRedis())
     implementation(BuildDependencies.getSpringKafka())
+    implementation(BuildDependencies.getSpringBootStarterActuator())
 
     // JWT
     implementation(BuildDependencies.getJjwtApi())
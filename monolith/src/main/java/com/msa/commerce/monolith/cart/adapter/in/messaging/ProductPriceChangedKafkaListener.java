@@ -0,0 +1,50 @@
+package com.msa.commerce.monolith.cart.adapter.in.messaging;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.product.ProductEventTopics;
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingJobUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격이 바뀐 상품을 재가격 대상으로 넘긴다. 장바구니는 여기서 건드리지 않고
+ * {@link com.msa.commerce.monolith.cart.adapter.in.scheduling.CartRepricingScheduler} 가 모아서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.cart", name = "enabled", havingValue = "true")
+public class ProductPriceChangedKafkaListener {
+
+    private final CartRepricingJobUseCase cartRepricingJobUseCase;
+
+    @KafkaListener(
+        id = "cart-repricing",
+        topics = ProductEventTopics.PRODUCT_PRICE_CHANGED,
+        groupId = "${commerce.cart.pricing.group-id:cart-repricing}",
+        containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void onPriceChanged(List<Object> events, Acknowledgment acknowledgment) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (Object event : events) {
+            if (event instanceof ProductPriceChangedEvent changed) {
+                productIds.add(changed.getProductId());
+            } else {
+                log.warn("Skipping unexpected price change payload: {}", event);
+            }
+        }
+        cartRepricingJobUseCase.request(productIds);
+        acknowledgment.acknowledge();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.msa.commerce.monolith.cart.adapter.in.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.cart.application.port.in.AbandonedCartSweepUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 방치 장바구니 정리를 계속 돌린다. 한 번에 max-batches-per-run 묶음까지만 처리하고 다음 주기로 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.cart", name = "enabled", havingValue = "true")
+public class AbandonedCartSweepScheduler {
+
+    private final AbandonedCartSweepUseCase abandonedCartSweepUseCase;
+
+    @Scheduled(fixedDelayString = "${commerce.cart.abandonment.sweep-interval-ms:60000}",
+        initialDelayString = "${commerce.cart.abandonment.sweep-interval-ms:60000}")
+    public void sweep() {
+        abandonedCartSweepUseCase.sweep();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.msa.commerce.monolith.cart.adapter.in.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingJobUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격 변경 이벤트로 모인 상품을 주기마다 한 번에 재가격한다. 짧은 시간에 여러 번 바뀐 가격은 한 번의 작업으로 합쳐진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.cart", name = "enabled", havingValue = "true")
+public class CartRepricingScheduler {
+
+    private final CartRepricingJobUseCase cartRepricingJobUseCase;
+
+    @Scheduled(fixedDelayString = "${commerce.cart.pricing.job-interval-ms:10000}")
+    public void reprice() {
+        try {
+            cartRepricingJobUseCase.runPending();
+        } catch (RuntimeException e) {
+            log.warn("Cart repricing failed, will retry on next run", e);
+        }
+    }
+
+}
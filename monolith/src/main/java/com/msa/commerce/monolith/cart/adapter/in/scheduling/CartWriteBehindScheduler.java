@@ -0,0 +1,48 @@
+package com.msa.commerce.monolith.cart.adapter.in.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.cart.application.port.in.CartWriteBehindUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * idle-seconds 동안 바뀌지 않은 장바구니를 주기적으로 MySQL 에 쓴다. 한 번에 batch-size 개를 넘게 가져왔으면
+ * 밀린 것이므로 다음 주기를 기다리지 않고 이어서 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.cart", name = "enabled", havingValue = "true")
+public class CartWriteBehindScheduler {
+
+    private final CartWriteBehindUseCase cartWriteBehindUseCase;
+
+    @Value("${commerce.cart.write-behind.idle-seconds:30}")
+    private long idleSeconds;
+
+    @Value("${commerce.cart.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${commerce.cart.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        Duration idle = Duration.ofSeconds(idleSeconds);
+        int total = 0;
+        int flushed;
+        do {
+            flushed = cartWriteBehindUseCase.flushIdleCarts(idle);
+            total += flushed;
+        } while (flushed >= batchSize);
+
+        if (total > 0) {
+            log.debug("Wrote {} carts behind", total);
+        }
+    }
+
+}
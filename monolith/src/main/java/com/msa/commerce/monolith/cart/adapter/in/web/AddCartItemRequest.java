@@ -0,0 +1,29 @@
+package com.msa.commerce.monolith.cart.adapter.in.web;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단가는 받지 않는다. 담을 때의 상품(variant) 가격을 서버가 정한다.
+ */
+@Getter
+@NoArgsConstructor
+public class AddCartItemRequest {
+
+    @NotNull(message = "Product ID is required.")
+    @Positive(message = "Product ID must be positive.")
+    private Long productId;
+
+    @Positive(message = "Product variant ID must be positive.")
+    private Long productVariantId;
+
+    @NotNull(message = "Quantity is required.")
+    @Min(value = 1, message = "Quantity must be at least 1.")
+    @Max(value = 999, message = "Quantity cannot exceed 999.")
+    private Integer quantity;
+
+}
@@ -0,0 +1,85 @@
+package com.msa.commerce.monolith.cart.adapter.in.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.monolith.cart.application.port.in.AddCartItemCommand;
+import com.msa.commerce.monolith.cart.application.port.in.CartCheckoutUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingResponse;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.CartResponse;
+import com.msa.commerce.monolith.cart.application.port.in.CartUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.ChangeCartItemQuantityCommand;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/users/{userId}/cart")
+@RequiredArgsConstructor
+public class CartController {
+
+    private final CartUseCase cartUseCase;
+
+    private final CartCheckoutUseCase cartCheckoutUseCase;
+
+    private final CartRepricingUseCase cartRepricingUseCase;
+
+    @GetMapping
+    public ResponseEntity<CartResponse> getCart(@PathVariable Long userId) {
+        return ResponseEntity.ok(cartUseCase.getCart(userId));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<CartResponse> addItem(@PathVariable Long userId,
+        @Valid @RequestBody AddCartItemRequest request) {
+        return ResponseEntity.ok(cartUseCase.addItem(AddCartItemCommand.builder()
+            .userId(userId)
+            .productId(request.getProductId())
+            .productVariantId(request.getProductVariantId())
+            .quantity(request.getQuantity())
+            .build()));
+    }
+
+    /**
+     * quantity 를 0 으로 보내면 항목을 뺀다.
+     */
+    @PutMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> changeQuantity(@PathVariable Long userId, @PathVariable Long productId,
+        @RequestParam(required = false) Long variantId, @Valid @RequestBody ChangeCartItemQuantityRequest request) {
+        return ResponseEntity.ok(cartUseCase.changeQuantity(ChangeCartItemQuantityCommand.builder()
+            .userId(userId)
+            .productId(productId)
+            .productVariantId(variantId)
+            .quantity(request.getQuantity())
+            .build()));
+    }
+
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> removeItem(@PathVariable Long userId, @PathVariable Long productId,
+        @RequestParam(required = false) Long variantId) {
+        return ResponseEntity.ok(cartUseCase.removeItem(userId, productId, variantId));
+    }
+
+    /**
+     * 단가를 현재 상품 가격으로 맞추고, 바뀐 항목과 판매하지 않는 항목을 함께 돌려준다.
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<CartRepricingResponse> reprice(@PathVariable Long userId) {
+        return ResponseEntity.ok(cartRepricingUseCase.reprice(userId));
+    }
+
+    @PostMapping("/checkout")
+    public ResponseEntity<CartResponse> checkout(@PathVariable Long userId) {
+        return ResponseEntity.ok(cartCheckoutUseCase.checkout(userId));
+    }
+
+}
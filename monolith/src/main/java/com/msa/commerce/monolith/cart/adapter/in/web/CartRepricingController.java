@@ -0,0 +1,31 @@
+package com.msa.commerce.monolith.cart.adapter.in.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingJobUseCase;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가격 변경 이벤트를 발행하지 않는 경로(일괄 가격 수정, 이벤트 유실 복구)에서 가격이 바뀐 상품을 재가격 대상으로 넘긴다.
+ * 이벤트와 같은 대기열에 들어가 다음 재가격 주기에 함께 처리된다.
+ */
+@RestController
+@RequestMapping("/api/v1/cart-repricing")
+@RequiredArgsConstructor
+public class CartRepricingController {
+
+    private final CartRepricingJobUseCase cartRepricingJobUseCase;
+
+    @PostMapping
+    public ResponseEntity<Void> request(@Valid @RequestBody CartRepricingRequest request) {
+        cartRepricingJobUseCase.request(request.getProductIds());
+        return ResponseEntity.accepted().build();
+    }
+
+}
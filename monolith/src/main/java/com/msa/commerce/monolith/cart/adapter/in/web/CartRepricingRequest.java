@@ -0,0 +1,18 @@
+package com.msa.commerce.monolith.cart.adapter.in.web;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CartRepricingRequest {
+
+    @NotEmpty(message = "Product IDs are required.")
+    @Size(max = 10_000, message = "At most 10000 product IDs can be requested at once.")
+    private List<Long> productIds;
+
+}
@@ -0,0 +1,18 @@
+package com.msa.commerce.monolith.cart.adapter.in.web;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChangeCartItemQuantityRequest {
+
+    @NotNull(message = "Quantity is required.")
+    @Min(value = 0, message = "Quantity cannot be negative.")
+    @Max(value = 999, message = "Quantity cannot exceed 999.")
+    private Integer quantity;
+
+}
@@ -0,0 +1,384 @@
+package com.msa.commerce.monolith.cart.adapter.out.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartMutationResult;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+
+/**
+ * 활성 장바구니를 Redis 해시 cart:{userId} 에 보관한다.
+ * <p>
+ * 항목은 item:{productId}:{variantId 또는 -} 필드에 "수량:단가(최소 단위)" 로 두고, version/cartId/currency 필드를 함께 둔다.
+ * 변경은 Lua 스크립트 하나로 검증과 적용, version 증가, TTL 연장, write-behind 표시(cart:dirty ZSET, score=변경 시각 ms)를
+ * 한 번에 처리한다. 스크립트가 장바구니 키와 cart:dirty 를 함께 다루므로 단일 Redis 노드를 전제로 한다.
+ */
+@Repository
+public class CartRedisRepository implements CartCacheRepository {
+
+    static final String DIRTY_KEY = "cart:dirty";
+
+    private static final String ITEM_PREFIX = "item:";
+
+    private static final String NO_VARIANT = "-";
+
+    /**
+     * 변경 스크립트 공통 앞부분. ARGV[1..3] 은 TTL(초), 현재 시각 ms, userId 이고 각 스크립트의 인자는 ARGV[4] 부터다.
+     */
+    private static final String MUTATION_HEAD = """
+        local ttl, now, user = ARGV[1], ARGV[2], ARGV[3]
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return {'NOT_CACHED'}
+        end
+        """;
+
+    private static final String MUTATION_TAIL = """
+        redis.call('HINCRBY', KEYS[1], 'version', 1)
+        redis.call('EXPIRE', KEYS[1], ttl)
+        redis.call('ZADD', KEYS[2], now, user)
+        local result = {'APPLIED'}
+        for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+            table.insert(result, value)
+        end
+        return result
+        """;
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>(MUTATION_HEAD + """
+        local current = redis.call('HGET', KEYS[1], ARGV[4])
+        local quantity = tonumber(ARGV[5])
+        if current then
+            quantity = quantity + tonumber(string.match(current, '^(%d+):'))
+        else
+            local items = 0
+            for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+                if string.sub(field, 1, 5) == 'item:' then
+                    items = items + 1
+                end
+            end
+            if items >= tonumber(ARGV[8]) then
+                return {'LIMIT_EXCEEDED'}
+            end
+        end
+        if quantity > tonumber(ARGV[7]) then
+            return {'LIMIT_EXCEEDED'}
+        end
+        redis.call('HSET', KEYS[1], ARGV[4], quantity .. ':' .. ARGV[6])
+        """ + MUTATION_TAIL, List.class);
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CHANGE_QUANTITY_SCRIPT = new DefaultRedisScript<>(MUTATION_HEAD + """
+        local current = redis.call('HGET', KEYS[1], ARGV[4])
+        if not current then
+            return {'ITEM_NOT_FOUND'}
+        end
+        local quantity = tonumber(ARGV[5])
+        if quantity > tonumber(ARGV[6]) then
+            return {'LIMIT_EXCEEDED'}
+        end
+        if quantity == 0 then
+            redis.call('HDEL', KEYS[1], ARGV[4])
+        else
+            redis.call('HSET', KEYS[1], ARGV[4], quantity .. string.match(current, '(:%-?%d+)$'))
+        end
+        """ + MUTATION_TAIL, List.class);
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>(MUTATION_HEAD + """
+        if redis.call('HDEL', KEYS[1], ARGV[4]) == 0 then
+            return {'ITEM_NOT_FOUND'}
+        end
+        """ + MUTATION_TAIL, List.class);
+
+    /**
+     * ARGV[4] 부터 (필드, 새 단가) 쌍. 없는 항목은 건너뛰고, 바뀐 항목이 없으면 version 과 표시를 건드리지 않는다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> REPRICE_SCRIPT = new DefaultRedisScript<>(MUTATION_HEAD + """
+        local changed = 0
+        for i = 4, #ARGV, 2 do
+            local current = redis.call('HGET', KEYS[1], ARGV[i])
+            if current then
+                local quantity, price = string.match(current, '^(%d+):(%-?%d+)$')
+                if price ~= ARGV[i + 1] then
+                    redis.call('HSET', KEYS[1], ARGV[i], quantity .. ':' .. ARGV[i + 1])
+                    changed = changed + 1
+                end
+            end
+        end
+        if changed == 0 then
+            local result = {'APPLIED'}
+            for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+                table.insert(result, value)
+            end
+            return result
+        end
+        """ + MUTATION_TAIL, List.class);
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> LOAD_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+        end
+        return redis.call('HGETALL', KEYS[1])
+        """, List.class);
+
+    /**
+     * 가져간 장바구니의 score 를 임대 만료 시각으로 올려 다른 인스턴스가 같은 장바구니를 동시에 가져가지 않게 한다.
+     * 임대 중 장바구니가 바뀌면 변경 스크립트가 score 를 다시 변경 시각으로 내린다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+        for _, id in ipairs(ids) do
+            redis.call('ZADD', KEYS[1], ARGV[3], id)
+        end
+        return ids
+        """, List.class);
+
+    static final RedisScript<Long> FLUSHED_SCRIPT = new DefaultRedisScript<>("""
+        local version = redis.call('HGET', KEYS[1], 'version')
+        if version then
+            redis.call('HSET', KEYS[1], 'cartId', ARGV[3])
+            if version ~= ARGV[2] then
+                return 0
+            end
+        end
+        redis.call('ZREM', KEYS[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    static final RedisScript<Long> DELETE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HGET', KEYS[1], 'version') ~= ARGV[2] then
+            return 0
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('ZREM', KEYS[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    private static final Comparator<CartItem> ITEM_ORDER = Comparator
+        .comparingLong(CartItem::productId)
+        .thenComparing(CartItem::productVariantId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${commerce.cart.ttl-seconds:1209600}")
+    private long ttlSeconds;
+
+    public CartRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<Cart> find(long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(userId));
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, String> fields = new HashMap<>(entries.size());
+        entries.forEach((field, value) -> fields.put(field.toString(), value.toString()));
+        return Optional.of(toCart(userId, fields));
+    }
+
+    @Override
+    public Cart load(Cart cart) {
+        List<String> args = new ArrayList<>(cart.items().size() * 2 + 7);
+        args.add(String.valueOf(ttlSeconds));
+        args.add("version");
+        args.add(String.valueOf(cart.version()));
+        args.add("currency");
+        args.add(cart.currency());
+        if (cart.cartId() != null) {
+            args.add("cartId");
+            args.add(String.valueOf(cart.cartId()));
+        }
+        for (CartItem item : cart.items()) {
+            args.add(itemField(item.productId(), item.productVariantId()));
+            args.add(item.quantity() + ":" + item.unitPrice().minor());
+        }
+        List<?> values = redisTemplate.execute(LOAD_SCRIPT, List.of(cartKey(cart.userId())), args.toArray());
+        return toCart(cart.userId(), toFields(values, 0));
+    }
+
+    @Override
+    public CartMutationResult addItem(long userId, CartItem item, int maxQuantityPerItem, int maxItems) {
+        return mutate(ADD_SCRIPT, userId,
+            itemField(item.productId(), item.productVariantId()),
+            String.valueOf(item.quantity()),
+            String.valueOf(item.unitPrice().minor()),
+            String.valueOf(maxQuantityPerItem),
+            String.valueOf(maxItems));
+    }
+
+    @Override
+    public CartMutationResult changeQuantity(long userId, long productId, Long productVariantId, int quantity,
+        int maxQuantityPerItem) {
+        return mutate(CHANGE_QUANTITY_SCRIPT, userId,
+            itemField(productId, productVariantId),
+            String.valueOf(quantity),
+            String.valueOf(maxQuantityPerItem));
+    }
+
+    @Override
+    public CartMutationResult removeItem(long userId, long productId, Long productVariantId) {
+        return mutate(REMOVE_SCRIPT, userId, itemField(productId, productVariantId));
+    }
+
+    @Override
+    public CartMutationResult reprice(long userId, Map<CartItemKey, Money> unitPrices) {
+        List<String> args = new ArrayList<>(unitPrices.size() * 2);
+        unitPrices.forEach((key, price) -> {
+            args.add(itemField(key.productId(), key.productVariantId()));
+            args.add(String.valueOf(price.minor()));
+        });
+        return mutate(REPRICE_SCRIPT, userId, args.toArray(String[]::new));
+    }
+
+    /**
+     * EXISTS 를 파이프라인으로 묶어 한 번의 왕복으로 확인한다.
+     */
+    @Override
+    public Set<Long> findCached(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            for (Long userId : ids) {
+                connection.keyCommands().exists(cartKey(userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Set<Long> cached = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(exists.get(i))) {
+                cached.add(ids.get(i));
+            }
+        }
+        return cached;
+    }
+
+    @Override
+    public List<Long> claimIdle(Instant idleBefore, int limit, Instant leaseUntil) {
+        List<?> ids = redisTemplate.execute(CLAIM_SCRIPT, List.of(DIRTY_KEY),
+            String.valueOf(idleBefore.toEpochMilli()), String.valueOf(limit),
+            String.valueOf(leaseUntil.toEpochMilli()));
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(id -> Long.parseLong(id.toString())).toList();
+    }
+
+    @Override
+    public boolean markFlushed(long userId, long version, long cartId) {
+        Long cleared = redisTemplate.execute(FLUSHED_SCRIPT, List.of(cartKey(userId), DIRTY_KEY),
+            String.valueOf(userId), String.valueOf(version), String.valueOf(cartId));
+        return cleared != null && cleared == 1L;
+    }
+
+    @Override
+    public void discardDirty(long userId) {
+        redisTemplate.opsForZSet().remove(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    @Override
+    public boolean isUnchanged(long userId, long version) {
+        return String.valueOf(version).equals(redisTemplate.opsForHash().get(cartKey(userId), "version"));
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(long userId, long version) {
+        Long deleted = redisTemplate.execute(DELETE_IF_UNCHANGED_SCRIPT, List.of(cartKey(userId), DIRTY_KEY),
+            String.valueOf(userId), String.valueOf(version));
+        return deleted != null && deleted == 1L;
+    }
+
+    static String cartKey(long userId) {
+        return "cart:{" + userId + "}";
+    }
+
+    static String itemField(long productId, Long productVariantId) {
+        return ITEM_PREFIX + productId + ":" + (productVariantId != null ? productVariantId : NO_VARIANT);
+    }
+
+    private CartMutationResult mutate(@SuppressWarnings("rawtypes") RedisScript<List> script, long userId,
+        String... mutationArgs) {
+        Object[] args = new Object[mutationArgs.length + 3];
+        args[0] = String.valueOf(ttlSeconds);
+        args[1] = String.valueOf(System.currentTimeMillis());
+        args[2] = String.valueOf(userId);
+        System.arraycopy(mutationArgs, 0, args, 3, mutationArgs.length);
+
+        List<?> values = redisTemplate.execute(script, List.of(cartKey(userId), DIRTY_KEY), args);
+        if (values == null || values.isEmpty()) {
+            throw new IllegalStateException("Cart script returned no result for user " + userId);
+        }
+        CartMutationResult.Outcome outcome = CartMutationResult.Outcome.valueOf(values.get(0).toString());
+        if (outcome != CartMutationResult.Outcome.APPLIED) {
+            return CartMutationResult.of(outcome);
+        }
+        return new CartMutationResult(outcome, toCart(userId, toFields(values, 1)));
+    }
+
+    private static Map<String, String> toFields(List<?> values, int offset) {
+        if (values == null) {
+            return Map.of();
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = offset; i + 1 < values.size(); i += 2) {
+            fields.put(values.get(i).toString(), values.get(i + 1).toString());
+        }
+        return fields;
+    }
+
+    private static Cart toCart(long userId, Map<String, String> fields) {
+        String currency = fields.get("currency");
+        List<CartItem> items = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            if (field.startsWith(ITEM_PREFIX)) {
+                items.add(toItem(field, value, currency));
+            }
+        });
+        items.sort(ITEM_ORDER);
+        String cartId = fields.get("cartId");
+        return new Cart(userId,
+            cartId != null ? Long.valueOf(cartId) : null,
+            Long.parseLong(fields.getOrDefault("version", "0")),
+            currency,
+            items);
+    }
+
+    private static CartItem toItem(String field, String value, String currency) {
+        String[] key = field.substring(ITEM_PREFIX.length()).split(":");
+        int separator = value.indexOf(':');
+        return new CartItem(
+            Long.parseLong(key[0]),
+            NO_VARIANT.equals(key[1]) ? null : Long.valueOf(key[1]),
+            Integer.parseInt(value.substring(0, separator)),
+            Money.ofMinor(Long.parseLong(value.substring(separator + 1)), currency));
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.msa.commerce.monolith.cart.adapter.out.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingCache;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+/**
+ * 상품 하나의 가격 정보를 문자열 키 product-price:{productId} 하나에 담는다.
+ * <p>
+ * 값은 "가격(최소 단위):판매여부" 뒤에 variant 마다 ";variantId:가격 또는 -:활성여부" 를 붙인 형태다.
+ * 장바구니 하나의 상품을 MGET 한 번으로 읽을 수 있게 상품당 키 하나로 둔다. 가격 변경 이벤트가 오면 지우고,
+ * 이벤트를 놓쳐도 TTL 이 지나면 다시 읽는다.
+ */
+@Repository
+public class ProductPricingRedisCache implements ProductPricingCache {
+
+    private static final String KEY_PREFIX = "product-price:";
+
+    private static final String NO_PRICE = "-";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final long ttlSeconds;
+
+    private final String currency;
+
+    public ProductPricingRedisCache(StringRedisTemplate redisTemplate,
+        @Value("${commerce.cart.pricing.cache-ttl-seconds:300}") long ttlSeconds,
+        @Value("${commerce.cart.currency:KRW}") String currency) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.currency = currency;
+    }
+
+    @Override
+    public Map<Long, ProductPricing> findAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = new ArrayList<>(productIds);
+        List<String> values = redisTemplate.opsForValue()
+            .multiGet(ids.stream().map(ProductPricingRedisCache::key).toList());
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<Long, ProductPricing> pricing = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                pricing.put(ids.get(i), decode(ids.get(i), value));
+            }
+        }
+        return pricing;
+    }
+
+    @Override
+    public void putAll(Collection<ProductPricing> pricing) {
+        if (pricing.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.seconds(ttlSeconds);
+        redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            for (ProductPricing product : pricing) {
+                connection.stringCommands().set(bytes(key(product.productId())), bytes(encode(product)),
+                    expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(Collection<Long> productIds) {
+        if (!productIds.isEmpty()) {
+            redisTemplate.delete(productIds.stream().map(ProductPricingRedisCache::key).toList());
+        }
+    }
+
+    static String key(long productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    static String encode(ProductPricing pricing) {
+        StringBuilder value = new StringBuilder()
+            .append(pricing.price().minor()).append(':').append(pricing.available() ? 1 : 0);
+        pricing.variants().forEach((variantId, variant) -> value.append(';')
+            .append(variantId).append(':')
+            .append(variant.price() != null ? String.valueOf(variant.price().minor()) : NO_PRICE).append(':')
+            .append(variant.active() ? 1 : 0));
+        return value.toString();
+    }
+
+    private ProductPricing decode(long productId, String value) {
+        String[] parts = value.split(";");
+        String[] product = parts[0].split(":");
+        Map<Long, ProductPricing.Variant> variants = new HashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            String[] variant = parts[i].split(":");
+            variants.put(Long.valueOf(variant[0]), new ProductPricing.Variant(
+                NO_PRICE.equals(variant[1]) ? null : Money.ofMinor(Long.parseLong(variant[1]), currency),
+                "1".equals(variant[2])));
+        }
+        return new ProductPricing(productId, Money.ofMinor(Long.parseLong(product[0]), currency),
+            "1".equals(product[1]), variants);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
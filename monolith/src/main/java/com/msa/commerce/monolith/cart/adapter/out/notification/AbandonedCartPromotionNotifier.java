@@ -0,0 +1,57 @@
+package com.msa.commerce.monolith.cart.adapter.out.notification;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartNotifier;
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+import com.msa.commerce.monolith.notification.application.port.out.NotificationRepository;
+import com.msa.commerce.monolith.notification.domain.Notification;
+import com.msa.commerce.monolith.notification.domain.NotificationCategory;
+import com.msa.commerce.monolith.notification.domain.NotificationPriority;
+import com.msa.commerce.monolith.notification.domain.NotificationType;
+import com.msa.commerce.monolith.notification.domain.RecipientType;
+
+/**
+ * 방치 장바구니마다 PROMOTION 알림을 PENDING 으로 쌓는다. 한 묶음을 batch insert 한 번으로 저장하며,
+ * 상태 변경과 같은 트랜잭션에서 호출되므로 같은 장바구니에 알림이 두 번 쌓이지 않는다.
+ */
+@Component
+public class AbandonedCartPromotionNotifier implements AbandonedCartNotifier {
+
+    private static final String REFERENCE_TYPE = "shopping_cart";
+
+    private final NotificationRepository notificationRepository;
+
+    private final NotificationType type;
+
+    public AbandonedCartPromotionNotifier(NotificationRepository notificationRepository,
+        @Value("${commerce.cart.abandonment.notification-type:PUSH}") NotificationType type) {
+        this.notificationRepository = notificationRepository;
+        this.type = type;
+    }
+
+    @Override
+    public void notifyAbandoned(List<AbandonedCart> carts) {
+        notificationRepository.saveAll(carts.stream()
+            .map(this::toNotification)
+            .toList());
+    }
+
+    private Notification toNotification(AbandonedCart cart) {
+        return Notification.builder()
+            .recipientType(RecipientType.USER)
+            .recipientId(cart.userId())
+            .type(type)
+            .category(NotificationCategory.PROMOTION)
+            .priority(NotificationPriority.LOW)
+            .title("장바구니에 담아 둔 상품이 기다리고 있어요")
+            .content("담아 두신 상품을 잊지 마세요. 지금 장바구니에서 주문을 마무리할 수 있습니다.")
+            .referenceType(REFERENCE_TYPE)
+            .referenceId(cart.cartId())
+            .build();
+    }
+
+}
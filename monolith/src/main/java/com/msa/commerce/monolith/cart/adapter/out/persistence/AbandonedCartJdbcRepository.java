@@ -0,0 +1,91 @@
+package com.msa.commerce.monolith.cart.adapter.out.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartRepository;
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+import com.msa.commerce.monolith.cart.domain.CartSweepCursor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 방치 장바구니를 idx_shopping_carts_status_updated_at 의 ACTIVE 구간 범위 스캔으로 찾는다. 보조 인덱스에는 PK 가
+ * 함께 들어 있어 (updated_at, id) 순서로 읽는 스캔은 테이블 행을 읽지 않고, 이미 CONVERTED/ABANDONED 인 장바구니는
+ * 읽지 않는다. 상태 확인과 변경은 그 중 한 묶음의 PK 로만 잠가서 한다.
+ * 기준 시각은 updated_at 을 쓰는 DB 의 NOW() 로 계산해 애플리케이션과 DB 의 시간대 차이에 영향받지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbandonedCartJdbcRepository implements AbandonedCartRepository {
+
+    private static final String SELECT_IDLE_FIRST_SQL = """
+        SELECT id, updated_at FROM shopping_carts
+        WHERE status = 'ACTIVE' AND updated_at < NOW() - INTERVAL ? SECOND
+        ORDER BY updated_at, id
+        LIMIT ?
+        """;
+
+    private static final String SELECT_IDLE_AFTER_SQL = """
+        SELECT id, updated_at FROM shopping_carts
+        WHERE status = 'ACTIVE' AND updated_at < NOW() - INTERVAL ? SECOND
+          AND (updated_at > ? OR (updated_at = ? AND id > ?))
+        ORDER BY updated_at, id
+        LIMIT ?
+        """;
+
+    private static final String LOCK_ACTIVE_SQL = """
+        SELECT id, user_id, updated_at FROM shopping_carts
+        WHERE id IN (:ids) AND status = 'ACTIVE' AND updated_at < NOW() - INTERVAL :idle SECOND
+        ORDER BY id
+        FOR UPDATE
+        """;
+
+    /**
+     * updated_at 을 그대로 두어 마지막 활동 시각을 남기고 인덱스 항목도 옮기지 않는다.
+     */
+    private static final String UPDATE_ABANDONED_SQL = """
+        UPDATE shopping_carts
+        SET status = 'ABANDONED', updated_at = updated_at
+        WHERE id IN (:ids)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<CartSweepCursor> findIdle(CartSweepCursor after, Duration idle, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_IDLE_FIRST_SQL, (rs, rowNum) -> new CartSweepCursor(
+                rs.getTimestamp("updated_at").toLocalDateTime(), rs.getLong("id")), idle.toSeconds(), limit);
+        }
+        Timestamp updatedAt = Timestamp.valueOf(after.updatedAt());
+        return jdbcTemplate.query(SELECT_IDLE_AFTER_SQL, (rs, rowNum) -> new CartSweepCursor(
+                rs.getTimestamp("updated_at").toLocalDateTime(), rs.getLong("id")),
+            idle.toSeconds(), updatedAt, updatedAt, after.cartId(), limit);
+    }
+
+    @Override
+    public List<AbandonedCart> markAbandoned(List<Long> cartIds, Duration idle) {
+        if (cartIds.isEmpty()) {
+            return List.of();
+        }
+        List<AbandonedCart> abandoned = namedParameterJdbcTemplate.query(LOCK_ACTIVE_SQL,
+            Map.of("ids", cartIds, "idle", idle.toSeconds()),
+            (rs, rowNum) -> new AbandonedCart(rs.getLong("id"), rs.getLong("user_id"),
+                rs.getTimestamp("updated_at").toLocalDateTime()));
+        if (!abandoned.isEmpty()) {
+            namedParameterJdbcTemplate.update(UPDATE_ABANDONED_SQL,
+                Map.of("ids", abandoned.stream().map(AbandonedCart::cartId).toList()));
+        }
+        return abandoned;
+    }
+
+}
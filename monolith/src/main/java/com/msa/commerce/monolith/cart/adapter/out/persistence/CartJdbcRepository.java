@@ -0,0 +1,138 @@
+package com.msa.commerce.monolith.cart.adapter.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CartJdbcRepository implements CartRepository {
+
+    private static final String SELECT_ACTIVE_ID_SQL = """
+        SELECT id FROM shopping_carts
+        WHERE user_id = ? AND status = 'ACTIVE'
+        ORDER BY id DESC
+        LIMIT 1
+        """;
+
+    /**
+     * 처음 쓰는 장바구니를 두 인스턴스가 동시에 쓰더라도 user_id 인덱스 구간 잠금으로 한쪽만 행을 만든다.
+     */
+    private static final String LOCK_ACTIVE_ID_SQL = SELECT_ACTIVE_ID_SQL + "FOR UPDATE";
+
+    private static final String SELECT_ITEMS_SQL = """
+        SELECT product_id, product_variant_id, quantity, unit_price
+        FROM shopping_cart_items
+        WHERE cart_id = ?
+        ORDER BY product_id, product_variant_id
+        """;
+
+    private static final String INSERT_CART_SQL = "INSERT INTO shopping_carts (user_id, status) VALUES (?, ?)";
+
+    /**
+     * CONVERTED 는 끝 상태다. 체크아웃 뒤 늦게 도착한 write-behind 가 장바구니를 되살리지 않게 한다.
+     * ABANDONED 장바구니는 다시 담기 시작하면 ACTIVE 로 돌아온다.
+     */
+    private static final String UPDATE_CART_SQL = """
+        UPDATE shopping_carts
+        SET status = ?, updated_at = CURRENT_TIMESTAMP
+        WHERE id = ? AND status <> 'CONVERTED'
+        """;
+
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM shopping_cart_items WHERE cart_id = ?";
+
+    private static final String INSERT_ITEM_SQL = """
+        INSERT INTO shopping_cart_items (cart_id, product_id, product_variant_id, quantity, unit_price)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Cart> findActive(long userId, String currency) {
+        return jdbcTemplate.queryForList(SELECT_ACTIVE_ID_SQL, Long.class, userId).stream()
+            .findFirst()
+            .map(cartId -> new Cart(userId, cartId, 0L, currency, findItems(cartId, currency)));
+    }
+
+    /**
+     * variant 가 없는 항목은 product_variant_id 가 NULL 이라 유니크 키로 upsert 할 수 없으므로,
+     * 항목을 지우고 스냅샷을 한 번의 batch INSERT 로 다시 쓴다. 변경이 몇 번이었든 장바구니당 한 번만 쓴다.
+     */
+    @Override
+    @Transactional
+    public OptionalLong save(Cart cart, CartStatus status) {
+        long cartId;
+        if (cart.cartId() != null) {
+            if (jdbcTemplate.update(UPDATE_CART_SQL, status.name(), cart.cartId()) == 0) {
+                return OptionalLong.empty();
+            }
+            cartId = cart.cartId();
+        } else {
+            cartId = jdbcTemplate.queryForList(LOCK_ACTIVE_ID_SQL, Long.class, cart.userId()).stream()
+                .findFirst()
+                .map(existing -> {
+                    jdbcTemplate.update(UPDATE_CART_SQL, status.name(), existing);
+                    return existing;
+                })
+                .orElseGet(() -> insertCart(cart.userId(), status));
+        }
+
+        jdbcTemplate.update(DELETE_ITEMS_SQL, cartId);
+        if (!cart.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, cart.items(), cart.items().size(), (ps, item) -> {
+                ps.setLong(1, cartId);
+                ps.setLong(2, item.productId());
+                if (item.productVariantId() != null) {
+                    ps.setLong(3, item.productVariantId());
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setInt(4, item.quantity());
+                ps.setBigDecimal(5, item.unitPrice().toBigDecimal());
+            });
+        }
+        return OptionalLong.of(cartId);
+    }
+
+    private List<CartItem> findItems(long cartId, String currency) {
+        return jdbcTemplate.query(SELECT_ITEMS_SQL, (rs, rowNum) -> {
+            long variantId = rs.getLong("product_variant_id");
+            return new CartItem(
+                rs.getLong("product_id"),
+                rs.wasNull() ? null : variantId,
+                rs.getInt("quantity"),
+                Money.of(rs.getBigDecimal("unit_price"), currency));
+        }, cartId);
+    }
+
+    private long insertCart(long userId, CartStatus status) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_CART_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setString(2, status.name());
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+}
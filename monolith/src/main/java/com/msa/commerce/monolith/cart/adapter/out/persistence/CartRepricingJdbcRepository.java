@@ -0,0 +1,116 @@
+package com.msa.commerce.monolith.cart.adapter.out.persistence;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepricingRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartIdRange;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartPriceUpdate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 활성 장바구니를 PK 구간으로 나눠 항목과 함께 한 번의 조인으로 읽는다. 구간마다 PK 범위 스캔이라 구간끼리 겹치지 않고
+ * 병렬로 읽어도 같은 행을 두 번 읽지 않는다. 단가만 바꾸고 shopping_carts.updated_at 은 건드리지 않아 방치 판정에 영향이 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartRepricingJdbcRepository implements CartRepricingRepository {
+
+    private static final String SELECT_ID_RANGE_SQL = """
+        SELECT MIN(id) AS from_id, MAX(id) AS to_id FROM shopping_carts
+        WHERE status = 'ACTIVE'
+        """;
+
+    private static final String SELECT_CARTS_SQL = """
+        SELECT c.id, c.user_id, i.product_id, i.product_variant_id, i.quantity, i.unit_price
+        FROM shopping_carts c
+        JOIN shopping_cart_items i ON i.cart_id = c.id
+        WHERE c.id BETWEEN :fromId AND :toId AND c.status = 'ACTIVE'
+        """;
+
+    private static final String PRODUCT_FILTER_SQL = "AND i.product_id IN (:productIds)\n";
+
+    private static final String ORDER_SQL = "ORDER BY c.id, i.product_id, i.product_variant_id";
+
+    private static final String UPDATE_PRICE_SQL = """
+        UPDATE shopping_cart_items SET unit_price = ?
+        WHERE cart_id = ? AND product_id = ? AND product_variant_id <=> ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Optional<CartIdRange> findActiveIdRange() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_ID_RANGE_SQL, (rs, rowNum) -> {
+            long fromId = rs.getLong("from_id");
+            return rs.wasNull() ? null : new CartIdRange(fromId, rs.getLong("to_id"));
+        }));
+    }
+
+    @Override
+    public List<Cart> findActiveCarts(long fromId, long toId, Set<Long> productIds, String currency) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("fromId", fromId);
+        params.put("toId", toId);
+        String sql = SELECT_CARTS_SQL;
+        if (!productIds.isEmpty()) {
+            params.put("productIds", productIds);
+            sql += PRODUCT_FILTER_SQL;
+        }
+
+        Map<Long, Long> userIds = new HashMap<>();
+        Map<Long, List<CartItem>> items = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(sql + ORDER_SQL, params, rs -> {
+            long cartId = rs.getLong("id");
+            userIds.put(cartId, rs.getLong("user_id"));
+            long variantId = rs.getLong("product_variant_id");
+            items.computeIfAbsent(cartId, id -> new ArrayList<>()).add(new CartItem(
+                rs.getLong("product_id"),
+                rs.wasNull() ? null : variantId,
+                rs.getInt("quantity"),
+                Money.of(rs.getBigDecimal("unit_price"), currency)));
+        });
+
+        List<Cart> carts = new ArrayList<>(items.size());
+        items.forEach((cartId, cartItems) -> carts.add(
+            new Cart(userIds.get(cartId), cartId, 0L, currency, cartItems)));
+        return carts;
+    }
+
+    /**
+     * variant 가 없는 항목도 유니크 키 (cart_id, product_id, product_variant_id) 로 찾도록 NULL 안전 비교를 쓴다.
+     */
+    @Override
+    public void updatePrices(List<CartPriceUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setBigDecimal(1, update.unitPrice().toBigDecimal());
+            ps.setLong(2, update.cartId());
+            ps.setLong(3, update.key().productId());
+            if (update.key().productVariantId() != null) {
+                ps.setLong(4, update.key().productVariantId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+        });
+    }
+
+}
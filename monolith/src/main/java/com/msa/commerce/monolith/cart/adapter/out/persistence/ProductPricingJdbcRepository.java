@@ -0,0 +1,67 @@
+package com.msa.commerce.monolith.cart.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingRepository;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+/**
+ * 상품과 variant 가격을 LEFT JOIN 한 번으로 읽는다. 상품 판매 가능 여부는 상태(ACTIVE)로만 판단하고 재고는 주문 시 예약에서 확인한다.
+ */
+@Repository
+public class ProductPricingJdbcRepository implements ProductPricingRepository {
+
+    private static final String SELECT_PRICING_SQL = """
+        SELECT p.id, p.price, p.status, v.id AS variant_id, v.price AS variant_price, v.is_active
+        FROM products p
+        LEFT JOIN product_variants v ON v.product_id = p.id
+        WHERE p.id IN (:ids)
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final String currency;
+
+    public ProductPricingJdbcRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+        @Value("${commerce.cart.currency:KRW}") String currency) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.currency = currency;
+    }
+
+    @Override
+    public Map<Long, ProductPricing> findAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Money> prices = new HashMap<>();
+        Map<Long, Boolean> available = new HashMap<>();
+        Map<Long, Map<Long, ProductPricing.Variant>> variants = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_PRICING_SQL, Map.of("ids", productIds), rs -> {
+            long productId = rs.getLong("id");
+            prices.putIfAbsent(productId, Money.of(rs.getBigDecimal("price"), currency));
+            available.putIfAbsent(productId, "ACTIVE".equals(rs.getString("status")));
+            Map<Long, ProductPricing.Variant> productVariants = variants.computeIfAbsent(productId,
+                id -> new HashMap<>());
+            long variantId = rs.getLong("variant_id");
+            if (!rs.wasNull()) {
+                BigDecimal variantPrice = rs.getBigDecimal("variant_price");
+                productVariants.put(variantId, new ProductPricing.Variant(
+                    variantPrice != null ? Money.of(variantPrice, currency) : null, rs.getBoolean("is_active")));
+            }
+        });
+
+        Map<Long, ProductPricing> pricing = new HashMap<>(prices.size());
+        prices.forEach((productId, price) -> pricing.put(productId,
+            new ProductPricing(productId, price, available.get(productId), variants.get(productId))));
+        return pricing;
+    }
+
+}
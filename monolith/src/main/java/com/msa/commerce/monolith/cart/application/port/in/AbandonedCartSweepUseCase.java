@@ -0,0 +1,10 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+public interface AbandonedCartSweepUseCase {
+
+    /**
+     * idle 시간이 지난 활성 장바구니를 ABANDONED 로 바꾸고 바꾼 장바구니 수를 반환한다.
+     */
+    int sweep();
+
+}
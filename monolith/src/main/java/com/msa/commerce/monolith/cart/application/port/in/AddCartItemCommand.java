@@ -0,0 +1,18 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AddCartItemCommand {
+
+    private final Long userId;
+
+    private final Long productId;
+
+    private final Long productVariantId;
+
+    private final Integer quantity;
+
+}
@@ -0,0 +1,7 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+public interface CartCheckoutUseCase {
+
+    CartResponse checkout(long userId);
+
+}
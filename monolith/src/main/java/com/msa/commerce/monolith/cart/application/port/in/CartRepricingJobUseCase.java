@@ -0,0 +1,25 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+
+public interface CartRepricingJobUseCase {
+
+    /**
+     * 가격이 바뀐 상품의 가격 캐시를 지우고 다음 재가격 작업 대상으로 모은다. 여러 번 바뀐 상품도 한 번만 처리된다.
+     */
+    void request(Collection<Long> productIds);
+
+    /**
+     * 모아 둔 상품을 담은 활성 장바구니를 재가격한다.
+     */
+    CartRepricingSummary runPending();
+
+    /**
+     * productIds 를 담은 활성 장바구니를 재가격한다. 비어 있으면 모든 항목을 재가격한다.
+     */
+    CartRepricingSummary repriceCarts(Set<Long> productIds);
+
+}
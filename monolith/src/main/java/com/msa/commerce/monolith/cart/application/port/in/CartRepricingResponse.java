@@ -0,0 +1,52 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.msa.commerce.monolith.cart.domain.CartItemPriceDiff;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CartRepricingResponse {
+
+    private final CartResponse cart;
+
+    private final List<Diff> diffs;
+
+    public static CartRepricingResponse of(CartResponse cart, List<CartItemPriceDiff> diffs) {
+        return CartRepricingResponse.builder()
+            .cart(cart)
+            .diffs(diffs.stream().map(Diff::from).toList())
+            .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Diff {
+
+        private final Long productId;
+
+        private final Long productVariantId;
+
+        private final BigDecimal previousPrice;
+
+        private final BigDecimal currentPrice;
+
+        private final Boolean available;
+
+        static Diff from(CartItemPriceDiff diff) {
+            return Diff.builder()
+                .productId(diff.productId())
+                .productVariantId(diff.productVariantId())
+                .previousPrice(diff.previousPrice().toBigDecimal())
+                .currentPrice(diff.currentPrice() != null ? diff.currentPrice().toBigDecimal() : null)
+                .available(diff.available())
+                .build();
+        }
+
+    }
+
+}
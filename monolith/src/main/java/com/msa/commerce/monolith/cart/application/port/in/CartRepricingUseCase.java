@@ -0,0 +1,10 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+public interface CartRepricingUseCase {
+
+    /**
+     * 장바구니 항목 단가를 현재 상품 가격으로 맞추고 바뀐 항목과 판매하지 않는 항목을 알려준다.
+     */
+    CartRepricingResponse reprice(long userId);
+
+}
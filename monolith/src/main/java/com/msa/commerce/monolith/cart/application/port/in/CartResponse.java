@@ -0,0 +1,65 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CartResponse {
+
+    private final Long userId;
+
+    private final Long cartId;
+
+    private final String currency;
+
+    private final Integer totalQuantity;
+
+    private final BigDecimal totalAmount;
+
+    private final List<Item> items;
+
+    public static CartResponse from(Cart cart) {
+        return CartResponse.builder()
+            .userId(cart.userId())
+            .cartId(cart.cartId())
+            .currency(cart.currency())
+            .totalQuantity(cart.totalQuantity())
+            .totalAmount(cart.totalAmount().toBigDecimal())
+            .items(cart.items().stream().map(Item::from).toList())
+            .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Item {
+
+        private final Long productId;
+
+        private final Long productVariantId;
+
+        private final Integer quantity;
+
+        private final BigDecimal unitPrice;
+
+        private final BigDecimal lineTotal;
+
+        static Item from(CartItem item) {
+            return Item.builder()
+                .productId(item.productId())
+                .productVariantId(item.productVariantId())
+                .quantity(item.quantity())
+                .unitPrice(item.unitPrice().toBigDecimal())
+                .lineTotal(item.lineTotal().toBigDecimal())
+                .build();
+        }
+
+    }
+
+}
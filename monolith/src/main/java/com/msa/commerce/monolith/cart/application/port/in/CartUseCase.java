@@ -0,0 +1,13 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+public interface CartUseCase {
+
+    CartResponse getCart(long userId);
+
+    CartResponse addItem(AddCartItemCommand command);
+
+    CartResponse changeQuantity(ChangeCartItemQuantityCommand command);
+
+    CartResponse removeItem(long userId, long productId, Long productVariantId);
+
+}
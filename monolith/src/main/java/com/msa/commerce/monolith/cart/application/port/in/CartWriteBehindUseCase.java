@@ -0,0 +1,12 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import java.time.Duration;
+
+public interface CartWriteBehindUseCase {
+
+    /**
+     * 마지막 변경 후 idle 이상 지난 장바구니를 MySQL 에 쓰고 쓴 장바구니 수를 반환한다.
+     */
+    int flushIdleCarts(Duration idle);
+
+}
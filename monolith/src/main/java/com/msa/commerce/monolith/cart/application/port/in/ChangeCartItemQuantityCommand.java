@@ -0,0 +1,21 @@
+package com.msa.commerce.monolith.cart.application.port.in;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * quantity 가 0 이면 항목을 뺀다.
+ */
+@Getter
+@Builder
+public class ChangeCartItemQuantityCommand {
+
+    private final Long userId;
+
+    private final Long productId;
+
+    private final Long productVariantId;
+
+    private final Integer quantity;
+
+}
@@ -0,0 +1,11 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.util.List;
+
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+
+public interface AbandonedCartNotifier {
+
+    void notifyAbandoned(List<AbandonedCart> carts);
+
+}
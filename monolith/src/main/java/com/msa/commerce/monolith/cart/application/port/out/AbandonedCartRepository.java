@@ -0,0 +1,23 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+import com.msa.commerce.monolith.cart.domain.CartSweepCursor;
+
+public interface AbandonedCartRepository {
+
+    /**
+     * after 다음부터 마지막 갱신 후 idle 이 지난 ACTIVE 장바구니의 위치를 (updated_at, id) 순으로 최대 limit 개 읽는다.
+     * (status, updated_at) 인덱스만 읽는다. after 가 null 이면 처음부터 읽는다.
+     */
+    List<CartSweepCursor> findIdle(CartSweepCursor after, Duration idle, int limit);
+
+    /**
+     * cartIds 중 아직 ACTIVE 이고 idle 이 지난 장바구니만 잠가서 ABANDONED 로 바꾸고 반환한다.
+     * 호출자의 트랜잭션 안에서 실행되어야 한다.
+     */
+    List<AbandonedCart> markAbandoned(List<Long> cartIds, Duration idle);
+
+}
@@ -0,0 +1,74 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+
+/**
+ * 활성 장바구니의 원본 저장소. 변경은 모두 한 번의 왕복으로 원자적으로 적용되고, 변경된 장바구니는 write-behind 대상으로
+ * 표시된다. 캐시에 없는 장바구니는 변경하지 않고 NOT_CACHED 를 돌려주므로 호출자가 MySQL 에서 먼저 올려야 한다.
+ */
+public interface CartCacheRepository {
+
+    Optional<Cart> find(long userId);
+
+    /**
+     * 캐시에 없을 때만 cart 를 올리고, 캐시에 있는 장바구니를 돌려준다. write-behind 대상으로 표시하지 않는다.
+     */
+    Cart load(Cart cart);
+
+    /**
+     * 같은 상품이 있으면 수량을 더한다.
+     */
+    CartMutationResult addItem(long userId, CartItem item, int maxQuantityPerItem, int maxItems);
+
+    CartMutationResult changeQuantity(long userId, long productId, Long productVariantId, int quantity,
+        int maxQuantityPerItem);
+
+    CartMutationResult removeItem(long userId, long productId, Long productVariantId);
+
+    /**
+     * 장바구니에 있는 항목만 새 단가로 바꾼다. 하나라도 바뀌었을 때만 version 을 올리고 write-behind 대상으로 표시한다.
+     */
+    CartMutationResult reprice(long userId, Map<CartItemKey, Money> unitPrices);
+
+    /**
+     * userIds 중 장바구니가 캐시에 있는 사용자를 한 번의 왕복으로 고른다.
+     */
+    Set<Long> findCached(Collection<Long> userIds);
+
+    /**
+     * idleBefore 이전에 마지막으로 바뀐 장바구니를 최대 limit 개 가져가고 leaseUntil 까지 다른 인스턴스가 가져가지 못하게 한다.
+     */
+    List<Long> claimIdle(Instant idleBefore, int limit, Instant leaseUntil);
+
+    /**
+     * MySQL 에 쓴 cartId 를 기록하고, 장바구니가 version 이후 바뀌지 않았을 때만 write-behind 표시를 지운다.
+     * 바뀌었으면 표시가 남아 다음 주기에 다시 쓴다.
+     */
+    boolean markFlushed(long userId, long version, long cartId);
+
+    /**
+     * 장바구니가 캐시에서 사라졌거나 MySQL 에 쓸 필요가 없어졌을 때 write-behind 표시만 지운다.
+     */
+    void discardDirty(long userId);
+
+    /**
+     * 장바구니가 캐시에 있고 version 이후 바뀌지 않았는지 확인한다.
+     */
+    boolean isUnchanged(long userId, long version);
+
+    /**
+     * 장바구니가 version 이후 바뀌지 않았을 때만 지운다.
+     */
+    boolean deleteIfUnchanged(long userId, long version);
+
+}
@@ -0,0 +1,22 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import com.msa.commerce.monolith.cart.domain.Cart;
+
+/**
+ * Redis 장바구니 변경 결과. APPLIED 일 때만 cart 가 있다.
+ */
+public record CartMutationResult(Outcome outcome, Cart cart) {
+
+    public enum Outcome {
+
+        APPLIED,
+        NOT_CACHED,
+        ITEM_NOT_FOUND,
+        LIMIT_EXCEEDED
+    }
+
+    public static CartMutationResult of(Outcome outcome) {
+        return new CartMutationResult(outcome, null);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+
+public interface CartRepository {
+
+    Optional<Cart> findActive(long userId, String currency);
+
+    /**
+     * 장바구니 행을 만들거나 상태를 바꾸고 항목을 스냅샷으로 교체한다. shopping_carts.id 를 반환하며,
+     * 이미 CONVERTED 된 장바구니여서 쓰지 않았으면 비어 있다.
+     */
+    OptionalLong save(Cart cart, CartStatus status);
+
+}
@@ -0,0 +1,22 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartIdRange;
+import com.msa.commerce.monolith.cart.domain.CartPriceUpdate;
+
+public interface CartRepricingRepository {
+
+    Optional<CartIdRange> findActiveIdRange();
+
+    /**
+     * id 구간 [fromId, toId] 의 활성 장바구니를 한 번의 쿼리로 읽는다. productIds 가 비어 있지 않으면 그 상품 항목만 담는다.
+     */
+    List<Cart> findActiveCarts(long fromId, long toId, Set<Long> productIds, String currency);
+
+    void updatePrices(List<CartPriceUpdate> updates);
+
+}
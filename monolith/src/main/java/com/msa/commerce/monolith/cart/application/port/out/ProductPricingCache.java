@@ -0,0 +1,19 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+public interface ProductPricingCache {
+
+    /**
+     * 캐시에 있는 상품만 한 번의 왕복으로 읽는다.
+     */
+    Map<Long, ProductPricing> findAll(Collection<Long> productIds);
+
+    void putAll(Collection<ProductPricing> pricing);
+
+    void evict(Collection<Long> productIds);
+
+}
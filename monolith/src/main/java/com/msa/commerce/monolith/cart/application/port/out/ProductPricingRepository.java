@@ -0,0 +1,15 @@
+package com.msa.commerce.monolith.cart.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+public interface ProductPricingRepository {
+
+    /**
+     * 상품과 그 variant 의 현재 가격을 한 번의 쿼리로 읽는다. 없는 상품은 결과에 없다.
+     */
+    Map<Long, ProductPricing> findAll(Collection<Long> productIds);
+
+}
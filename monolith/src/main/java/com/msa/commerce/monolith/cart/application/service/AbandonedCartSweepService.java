@@ -0,0 +1,124 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.monolith.cart.application.port.in.AbandonedCartSweepUseCase;
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartNotifier;
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartRepository;
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+import com.msa.commerce.monolith.cart.domain.CartSweepCursor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * idle 시간이 지난 활성 장바구니를 ABANDONED 로 바꾼다.
+ * <p>
+ * (status, updated_at) 인덱스의 ACTIVE 구간을 (updated_at, id) 커서로 batch-size 개씩 읽고, 묶음마다 짧은 트랜잭션
+ * 하나로 그 행들만 잠가 바꾼다. 테이블 전체를 잠그는 큰 UPDATE 가 없고 묶음 사이에 pause 를 두어 장바구니 쓰기와
+ * 경합하지 않는다. 바꾼 장바구니는 ACTIVE 구간에서 빠지므로 커서는 한 번의 실행 안에서만 쓰고 실행마다 처음부터 읽는다.
+ * 재시작하거나 인스턴스가 여럿이어도 이미 CONVERTED/ABANDONED 인 장바구니를 다시 훑지 않는다.
+ */
+@Slf4j
+@Service
+public class AbandonedCartSweepService implements AbandonedCartSweepUseCase {
+
+    private final AbandonedCartRepository abandonedCartRepository;
+
+    private final AbandonedCartNotifier notifier;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration idle;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    private final long pauseMs;
+
+    private final boolean notify;
+
+    @Autowired
+    public AbandonedCartSweepService(AbandonedCartRepository abandonedCartRepository, AbandonedCartNotifier notifier,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+        @Value("${commerce.cart.abandonment.idle-hours:24}") long idleHours,
+        @Value("${commerce.cart.abandonment.batch-size:500}") int batchSize,
+        @Value("${commerce.cart.abandonment.max-batches-per-run:200}") int maxBatchesPerRun,
+        @Value("${commerce.cart.abandonment.pause-ms:50}") long pauseMs,
+        @Value("${commerce.cart.abandonment.notify:true}") boolean notify) {
+        this(abandonedCartRepository, notifier, transactionTemplate, meterRegistry, Duration.ofHours(idleHours),
+            batchSize, maxBatchesPerRun, pauseMs, notify);
+    }
+
+    AbandonedCartSweepService(AbandonedCartRepository abandonedCartRepository, AbandonedCartNotifier notifier,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, Duration idle, int batchSize,
+        int maxBatchesPerRun, long pauseMs, boolean notify) {
+        this.abandonedCartRepository = abandonedCartRepository;
+        this.notifier = notifier;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.idle = idle;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseMs = pauseMs;
+        this.notify = notify;
+    }
+
+    @Override
+    public int sweep() {
+        int abandoned = 0;
+        CartSweepCursor cursor = null;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<CartSweepCursor> candidates = abandonedCartRepository.findIdle(cursor, idle, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<Long> cartIds = candidates.stream().map(CartSweepCursor::cartId).toList();
+            List<AbandonedCart> marked = transactionTemplate.execute(status -> markBatch(cartIds));
+            cursor = candidates.get(candidates.size() - 1);
+            abandoned += marked != null ? marked.size() : 0;
+
+            if (candidates.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (abandoned > 0) {
+            meterRegistry.counter("commerce.cart.abandoned").increment(abandoned);
+            log.info("Marked {} carts abandoned, cursor at {}", abandoned, cursor);
+        }
+        return abandoned;
+    }
+
+    private List<AbandonedCart> markBatch(List<Long> cartIds) {
+        List<AbandonedCart> marked = abandonedCartRepository.markAbandoned(cartIds, idle);
+        if (notify && !marked.isEmpty()) {
+            notifier.notifyAbandoned(marked);
+        }
+        return marked;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingCache;
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingRepository;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 가격을 캐시에서 한 번에 읽고, 없는 상품만 IN 쿼리 한 번으로 읽어 캐시에 채운다.
+ * 장바구니 항목 수와 상관없이 왕복은 캐시 한 번과 DB 최대 한 번이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CartPriceLookupService {
+
+    private final ProductPricingCache pricingCache;
+
+    private final ProductPricingRepository pricingRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    public Map<Long, ProductPricing> findPricing(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ProductPricing> pricing = new HashMap<>(pricingCache.findAll(productIds));
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            if (!pricing.containsKey(productId)) {
+                misses.add(productId);
+            }
+        }
+        meterRegistry.counter("commerce.cart.price-lookups", "result", "hit").increment(pricing.size());
+        if (misses.isEmpty()) {
+            return pricing;
+        }
+
+        meterRegistry.counter("commerce.cart.price-lookups", "result", "miss").increment(misses.size());
+        Map<Long, ProductPricing> loaded = pricingRepository.findAll(misses);
+        pricingCache.putAll(loaded.values());
+        pricing.putAll(loaded);
+        return pricing;
+    }
+
+    public void evict(Collection<Long> productIds) {
+        pricingCache.evict(productIds);
+    }
+
+}
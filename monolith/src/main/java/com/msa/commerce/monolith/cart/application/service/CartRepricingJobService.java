@@ -0,0 +1,178 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingJobUseCase;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepricingRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartIdRange;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+import com.msa.commerce.monolith.cart.domain.CartPriceUpdate;
+import com.msa.commerce.monolith.cart.domain.CartRepricing;
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격이 바뀐 상품을 담은 활성 장바구니의 단가를 백그라운드에서 맞춘다.
+ * <p>
+ * 가격 변경 이벤트나 수동 요청은 상품 id 만 모아 두고 주기마다 한 번에 처리하므로, 같은 상품이 여러 번 바뀌어도 장바구니는 한 번만 읽는다.
+ * 활성 장바구니 id 구간을 {@link CartRepricingTask} 로 나눠 전용 ForkJoinPool 에서 돌린다. 잎 작업은 구간의 장바구니를
+ * 한 번에 읽고, 그 구간 상품 가격을 {@link CartPriceLookupService} 로 한 번에 찾고, 바뀐 단가를 batch UPDATE 한 번으로 쓴다.
+ * Redis 에 올라와 있는 장바구니는 MySQL 을 쓴 뒤 Redis 에도 적용해 write-behind 가 예전 단가로 덮어쓰지 않게 한다.
+ * 잎 작업은 JDBC 로 블로킹하므로 parallelism 은 커넥션 풀 크기보다 작게 잡는다.
+ */
+@Slf4j
+@Service
+public class CartRepricingJobService implements CartRepricingJobUseCase {
+
+    private final CartRepricingRepository repricingRepository;
+
+    private final CartCacheRepository cacheRepository;
+
+    private final CartPriceLookupService priceLookupService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ForkJoinPool pool;
+
+    private final long chunkSize;
+
+    private final String currency;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public CartRepricingJobService(CartRepricingRepository repricingRepository, CartCacheRepository cacheRepository,
+        CartPriceLookupService priceLookupService, MeterRegistry meterRegistry,
+        @Value("${commerce.cart.pricing.parallelism:4}") int parallelism,
+        @Value("${commerce.cart.pricing.chunk-size:5000}") long chunkSize,
+        @Value("${commerce.cart.currency:KRW}") String currency) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.repricingRepository = repricingRepository;
+        this.cacheRepository = cacheRepository;
+        this.priceLookupService = priceLookupService;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+        this.currency = currency;
+    }
+
+    /**
+     * 가격 캐시를 먼저 지워 다음 조회부터 새 가격을 읽게 한다.
+     */
+    @Override
+    public void request(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        priceLookupService.evict(productIds);
+        pending.addAll(productIds);
+    }
+
+    /**
+     * 꺼낸 상품만 지우므로 처리 중 새로 들어온 상품은 다음 주기에 처리된다. 실패하면 꺼낸 상품을 되돌려 다시 시도한다.
+     */
+    @Override
+    public CartRepricingSummary runPending() {
+        if (pending.isEmpty()) {
+            return CartRepricingSummary.EMPTY;
+        }
+        Set<Long> productIds = new LinkedHashSet<>(pending);
+        pending.removeAll(productIds);
+        try {
+            return repriceCarts(productIds);
+        } catch (RuntimeException e) {
+            pending.addAll(productIds);
+            throw e;
+        }
+    }
+
+    @Override
+    public CartRepricingSummary repriceCarts(Set<Long> productIds) {
+        Optional<CartIdRange> range = repricingRepository.findActiveIdRange();
+        if (range.isEmpty()) {
+            return CartRepricingSummary.EMPTY;
+        }
+
+        Set<Long> filter = Set.copyOf(productIds);
+        CartRepricingSummary summary = pool.invoke(
+            new CartRepricingTask(this, filter, range.get().fromId(), range.get().toId(), chunkSize));
+        meterRegistry.counter("commerce.cart.repriced-carts").increment(summary.repricedCarts());
+        meterRegistry.counter("commerce.cart.repriced-items").increment(summary.repricedItems());
+        if (summary.repricedCarts() > 0) {
+            log.info("Repriced {} items in {} of {} carts for {} products, {} items unavailable",
+                summary.repricedItems(), summary.repricedCarts(), summary.scannedCarts(),
+                filter.isEmpty() ? "all" : filter.size(), summary.unavailableItems());
+        }
+        return summary;
+    }
+
+    /**
+     * 구간 [fromId, toId] 하나를 처리한다. 장바구니 조회, 가격 조회, 단가 UPDATE 가 각각 한 번이다.
+     */
+    CartRepricingSummary repriceChunk(long fromId, long toId, Set<Long> productIds) {
+        List<Cart> carts = repricingRepository.findActiveCarts(fromId, toId, productIds, currency);
+        if (carts.isEmpty()) {
+            return CartRepricingSummary.EMPTY;
+        }
+
+        Set<Long> chunkProductIds = new LinkedHashSet<>();
+        carts.forEach(cart -> chunkProductIds.addAll(cart.productIds()));
+        Map<Long, ProductPricing> pricing = priceLookupService.findPricing(chunkProductIds);
+
+        List<CartPriceUpdate> updates = new ArrayList<>();
+        List<CartRepricing> repriced = new ArrayList<>();
+        long unavailable = 0L;
+        for (Cart cart : carts) {
+            CartRepricing repricing = CartRepricing.compare(cart, pricing);
+            unavailable += repricing.unavailableCount();
+            Map<CartItemKey, Money> newPrices = repricing.newPrices();
+            if (!newPrices.isEmpty()) {
+                newPrices.forEach((key, price) -> updates.add(new CartPriceUpdate(cart.cartId(), key, price)));
+                repriced.add(repricing);
+            }
+        }
+        repricingRepository.updatePrices(updates);
+        repriceCached(repriced);
+        return new CartRepricingSummary(carts.size(), repriced.size(), updates.size(), unavailable);
+    }
+
+    /**
+     * 캐시에 없는 장바구니는 다음에 올릴 때 MySQL 의 새 단가를 읽으므로 건너뛴다.
+     */
+    private void repriceCached(List<CartRepricing> repriced) {
+        if (repriced.isEmpty()) {
+            return;
+        }
+        Set<Long> cached = cacheRepository.findCached(repriced.stream().map(r -> r.cart().userId()).toList());
+        for (CartRepricing repricing : repriced) {
+            if (cached.contains(repricing.cart().userId())) {
+                cacheRepository.reprice(repricing.cart().userId(), repricing.newPrices());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+}
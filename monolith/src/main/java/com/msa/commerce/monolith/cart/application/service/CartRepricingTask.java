@@ -0,0 +1,49 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+
+/**
+ * 장바구니 id 구간 [fromId, toId] 를 chunkSize 이하가 될 때까지 반으로 나눠 재가격한다.
+ * 잎 작업은 {@link CartRepricingJobService#repriceChunk} 하나이고 구간끼리 겹치지 않아 서로 잠금을 다투지 않는다.
+ */
+class CartRepricingTask extends RecursiveTask<CartRepricingSummary> {
+
+    private final CartRepricingJobService jobService;
+
+    private final Set<Long> productIds;
+
+    private final long fromId;
+
+    private final long toId;
+
+    private final long chunkSize;
+
+    CartRepricingTask(CartRepricingJobService jobService, Set<Long> productIds, long fromId, long toId,
+        long chunkSize) {
+        this.jobService = jobService;
+        this.productIds = productIds;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected CartRepricingSummary compute() {
+        if (toId - fromId < chunkSize) {
+            return jobService.repriceChunk(fromId, toId, productIds);
+        }
+        long middle = fromId + (toId - fromId) / 2;
+        CartRepricingTask left = subtask(fromId, middle);
+        left.fork();
+        CartRepricingSummary summary = subtask(middle + 1, toId).compute();
+        return summary.plus(left.join());
+    }
+
+    private CartRepricingTask subtask(long from, long to) {
+        return new CartRepricingTask(jobService, productIds, from, to, chunkSize);
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.in.AddCartItemCommand;
+import com.msa.commerce.monolith.cart.application.port.in.CartCheckoutUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingResponse;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.CartResponse;
+import com.msa.commerce.monolith.cart.application.port.in.CartUseCase;
+import com.msa.commerce.monolith.cart.application.port.in.ChangeCartItemQuantityCommand;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartMutationResult;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+import com.msa.commerce.monolith.cart.domain.CartRepricing;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 장바구니 변경은 Redis 에만 적용하고 MySQL 에는 {@link CartWriteBehindService} 가 장바구니 단위로 모아서 쓴다.
+ * 캐시에 없는 장바구니는 MySQL 의 활성 장바구니(없으면 빈 장바구니)로 먼저 올린다. 담는 단가는 서버가 상품 가격으로 정한다.
+ * 체크아웃은 Redis 의 최신 스냅샷을 CONVERTED 로 바로 쓰고, 그 사이 장바구니가 바뀌었으면 되돌린다.
+ * 재가격은 장바구니 상품 가격을 {@link CartPriceLookupService} 로 한 번에 읽어 바뀐 단가만 Redis 에 적용한다.
+ */
+@Service
+public class CartService implements CartUseCase, CartCheckoutUseCase, CartRepricingUseCase {
+
+    private final CartCacheRepository cacheRepository;
+
+    private final CartRepository cartRepository;
+
+    private final CartPriceLookupService priceLookupService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final String currency;
+
+    private final int maxQuantityPerItem;
+
+    private final int maxItems;
+
+    public CartService(CartCacheRepository cacheRepository, CartRepository cartRepository,
+        CartPriceLookupService priceLookupService, MeterRegistry meterRegistry,
+        @Value("${commerce.cart.currency:KRW}") String currency,
+        @Value("${commerce.cart.max-quantity-per-item:99}") int maxQuantityPerItem,
+        @Value("${commerce.cart.max-items:100}") int maxItems) {
+        this.cacheRepository = cacheRepository;
+        this.cartRepository = cartRepository;
+        this.priceLookupService = priceLookupService;
+        this.meterRegistry = meterRegistry;
+        this.currency = currency;
+        this.maxQuantityPerItem = maxQuantityPerItem;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public CartResponse getCart(long userId) {
+        return CartResponse.from(currentCart(userId));
+    }
+
+    @Override
+    public CartResponse addItem(AddCartItemCommand command) {
+        if (command.getQuantity() > maxQuantityPerItem) {
+            throw limitExceeded(command.getUserId());
+        }
+        CartItem item = new CartItem(command.getProductId(), command.getProductVariantId(), command.getQuantity(),
+            currentPrice(command.getProductId(), command.getProductVariantId()));
+        return applied(command.getUserId(), "add",
+            () -> cacheRepository.addItem(command.getUserId(), item, maxQuantityPerItem, maxItems));
+    }
+
+    @Override
+    public CartResponse changeQuantity(ChangeCartItemQuantityCommand command) {
+        if (command.getQuantity() < 0) {
+            throw new IllegalArgumentException("Cart item quantity must not be negative: " + command.getQuantity());
+        }
+        return applied(command.getUserId(), "change",
+            () -> cacheRepository.changeQuantity(command.getUserId(), command.getProductId(),
+                command.getProductVariantId(), command.getQuantity(), maxQuantityPerItem));
+    }
+
+    @Override
+    public CartResponse removeItem(long userId, long productId, Long productVariantId) {
+        return applied(userId, "remove", () -> cacheRepository.removeItem(userId, productId, productVariantId));
+    }
+
+    /**
+     * 판매하지 않게 된 항목은 빼지 않고 diffs 로만 알려 사용자가 정하게 한다.
+     */
+    @Override
+    public CartRepricingResponse reprice(long userId) {
+        Cart cart = currentCart(userId);
+        if (cart.isEmpty()) {
+            return CartRepricingResponse.of(CartResponse.from(cart), List.of());
+        }
+        CartRepricing repricing = CartRepricing.compare(cart, priceLookupService.findPricing(cart.productIds()));
+        Map<CartItemKey, Money> newPrices = repricing.newPrices();
+        CartResponse repriced = newPrices.isEmpty()
+            ? CartResponse.from(cart)
+            : applied(userId, "reprice", () -> cacheRepository.reprice(userId, newPrices));
+        return CartRepricingResponse.of(repriced, repricing.diffs());
+    }
+
+    /**
+     * Redis 스냅샷을 버전과 함께 읽어 CONVERTED 로 쓰고, 커밋 전에 버전이 그대로인지 확인한다.
+     * 그 사이 항목이 바뀌었으면 예외로 트랜잭션을 되돌려 사용자가 다시 확인하게 한다.
+     * 캐시는 커밋된 뒤에만 지우므로 롤백되어도 장바구니가 사라지지 않는다. 확인과 커밋 사이에 바뀌었으면 그 변경을
+     * 잃지 않도록 지우지 않고 남긴다.
+     */
+    @Override
+    @Transactional
+    public CartResponse checkout(long userId) {
+        Cart cart = currentCart(userId);
+        if (cart.isEmpty()) {
+            throw new BusinessException("Cart is empty for user: " + userId, ErrorCode.CART_EMPTY.getCode());
+        }
+
+        OptionalLong cartId = cartRepository.save(cart, CartStatus.CONVERTED);
+        if (cartId.isEmpty() || !cacheRepository.isUnchanged(userId, cart.version())) {
+            throw new BusinessException("Cart changed during checkout for user: " + userId,
+                ErrorCode.CART_CHANGED_DURING_CHECKOUT.getCode());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boolean deleted = cacheRepository.deleteIfUnchanged(userId, cart.version());
+                meterRegistry.counter("commerce.cart.checkouts", "cache", deleted ? "deleted" : "retained")
+                    .increment();
+            }
+        });
+        return CartResponse.from(new Cart(userId, cartId.getAsLong(), cart.version(), cart.currency(), cart.items()));
+    }
+
+    /**
+     * 담는 단가는 클라이언트가 아니라 현재 상품(variant) 가격으로 정한다. 판매하지 않는 상품이나 variant 는 담지 않는다.
+     */
+    private Money currentPrice(long productId, Long productVariantId) {
+        ProductPricing product = priceLookupService.findPricing(List.of(productId)).get(productId);
+        if (product == null
+            || (productVariantId != null && !product.variants().containsKey(productVariantId))) {
+            throw new BusinessException("Product not found: " + productId + ", variant: " + productVariantId,
+                ErrorCode.PRODUCT_NOT_FOUND.getCode());
+        }
+        ProductPricing.CurrentPrice current = product.priceOf(productVariantId);
+        if (!current.available()) {
+            throw new BusinessException("Product is not available: " + productId + ", variant: " + productVariantId,
+                ErrorCode.CART_ITEM_NOT_AVAILABLE.getCode());
+        }
+        return current.price();
+    }
+
+    private Cart currentCart(long userId) {
+        return cacheRepository.find(userId).orElseGet(() -> warm(userId));
+    }
+
+    private Cart warm(long userId) {
+        Cart stored = cartRepository.findActive(userId, currency).orElseGet(() -> Cart.empty(userId, currency));
+        return cacheRepository.load(stored);
+    }
+
+    /**
+     * 캐시에 없어 적용되지 않았으면 MySQL 에서 올린 뒤 한 번 더 시도한다.
+     */
+    private CartResponse applied(long userId, String operation, Supplier<CartMutationResult> mutation) {
+        CartMutationResult result = mutation.get();
+        if (result.outcome() == CartMutationResult.Outcome.NOT_CACHED) {
+            warm(userId);
+            result = mutation.get();
+        }
+        meterRegistry.counter("commerce.cart.mutations", "operation", operation,
+            "outcome", result.outcome().name().toLowerCase()).increment();
+
+        return switch (result.outcome()) {
+            case APPLIED -> CartResponse.from(result.cart());
+            case ITEM_NOT_FOUND -> throw new BusinessException("Cart item not found for user: " + userId,
+                ErrorCode.CART_ITEM_NOT_FOUND.getCode());
+            case LIMIT_EXCEEDED -> throw limitExceeded(userId);
+            case NOT_CACHED -> throw new IllegalStateException("Cart could not be cached for user: " + userId);
+        };
+    }
+
+    private BusinessException limitExceeded(long userId) {
+        return new BusinessException("Cart allows at most " + maxItems + " items and " + maxQuantityPerItem
+            + " of each item, user: " + userId, ErrorCode.CART_ITEM_LIMIT_EXCEEDED.getCode());
+    }
+
+}
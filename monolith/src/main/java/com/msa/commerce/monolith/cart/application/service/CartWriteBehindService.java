@@ -0,0 +1,104 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.monolith.cart.application.port.in.CartWriteBehindUseCase;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경이 멈춘 장바구니를 MySQL 에 쓴다. 쓰는 시점의 Redis 스냅샷 하나만 쓰므로 그 사이의 변경이 몇 번이었든
+ * 장바구니당 트랜잭션 한 번으로 합쳐진다. 쓰는 동안 장바구니가 다시 바뀌면 표시가 남아 다음 주기에 한 번 더 쓴다.
+ */
+@Slf4j
+@Service
+public class CartWriteBehindService implements CartWriteBehindUseCase {
+
+    private final CartCacheRepository cacheRepository;
+
+    private final CartRepository cartRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+
+    private final Duration lease;
+
+    private final Clock clock;
+
+    @Autowired
+    public CartWriteBehindService(CartCacheRepository cacheRepository, CartRepository cartRepository,
+        MeterRegistry meterRegistry,
+        @Value("${commerce.cart.write-behind.batch-size:500}") int batchSize,
+        @Value("${commerce.cart.write-behind.lease-seconds:60}") long leaseSeconds) {
+        this(cacheRepository, cartRepository, meterRegistry, batchSize, Duration.ofSeconds(leaseSeconds),
+            Clock.systemUTC());
+    }
+
+    CartWriteBehindService(CartCacheRepository cacheRepository, CartRepository cartRepository,
+        MeterRegistry meterRegistry, int batchSize, Duration lease, Clock clock) {
+        this.cacheRepository = cacheRepository;
+        this.cartRepository = cartRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.clock = clock;
+    }
+
+    @Override
+    public int flushIdleCarts(Duration idle) {
+        Instant now = clock.instant();
+        List<Long> userIds = cacheRepository.claimIdle(now.minus(idle), batchSize, now.plus(lease));
+
+        int flushed = 0;
+        for (Long userId : userIds) {
+            try {
+                if (flush(userId)) {
+                    flushed++;
+                }
+            } catch (RuntimeException e) {
+                // 표시는 임대가 끝나면 다시 가져갈 수 있으므로 다음 주기에 재시도된다
+                log.warn("Failed to write cart of user {} behind", userId, e);
+                meterRegistry.counter("commerce.cart.flushes", "outcome", "failed").increment();
+            }
+        }
+        return flushed;
+    }
+
+    private boolean flush(long userId) {
+        Optional<Cart> cached = cacheRepository.find(userId);
+        if (cached.isEmpty()) {
+            cacheRepository.discardDirty(userId);
+            meterRegistry.counter("commerce.cart.flushes", "outcome", "expired").increment();
+            return false;
+        }
+
+        Cart cart = cached.get();
+        OptionalLong cartId = cartRepository.save(cart, CartStatus.ACTIVE);
+        if (cartId.isEmpty()) {
+            // 체크아웃으로 이미 CONVERTED 된 장바구니의 늦은 스냅샷이다
+            cacheRepository.discardDirty(userId);
+            meterRegistry.counter("commerce.cart.flushes", "outcome", "converted").increment();
+            return false;
+        }
+
+        boolean settled = cacheRepository.markFlushed(userId, cart.version(), cartId.getAsLong());
+        meterRegistry.counter("commerce.cart.flushes", "outcome", settled ? "flushed" : "changed").increment();
+        return true;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * ABANDONED 로 바뀐 장바구니. lastActivityAt 은 마지막으로 MySQL 에 쓰인 시각이다.
+ */
+public record AbandonedCart(long cartId, long userId, LocalDateTime lastActivityAt) {
+}
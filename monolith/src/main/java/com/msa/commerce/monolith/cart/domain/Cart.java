@@ -0,0 +1,53 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * 사용자의 활성 장바구니 스냅샷.
+ * <p>
+ * cartId 는 shopping_carts.id 이며 아직 MySQL 에 한 번도 쓰지 않은 장바구니는 null 이다.
+ * version 은 Redis 에서 변경마다 1 씩 오르고, write-behind 가 읽은 스냅샷 이후 바뀌었는지 판단하는 데 쓴다.
+ */
+public record Cart(long userId, Long cartId, long version, String currency, List<CartItem> items) {
+
+    public Cart {
+        items = List.copyOf(items);
+    }
+
+    public static Cart empty(long userId, String currency) {
+        return new Cart(userId, null, 0L, currency, List.of());
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public Set<Long> productIds() {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (CartItem item : items) {
+            productIds.add(item.productId());
+        }
+        return productIds;
+    }
+
+    public int totalQuantity() {
+        int total = 0;
+        for (CartItem item : items) {
+            total += item.quantity();
+        }
+        return total;
+    }
+
+    public Money totalAmount() {
+        Money total = Money.zero(currency);
+        for (CartItem item : items) {
+            total = total.plus(item.lineTotal());
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.msa.commerce.monolith.cart.domain;
+
+/**
+ * shopping_carts.id 의 닫힌 구간 [fromId, toId].
+ */
+public record CartIdRange(long fromId, long toId) {
+}
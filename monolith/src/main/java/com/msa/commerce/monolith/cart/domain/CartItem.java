@@ -0,0 +1,25 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * 장바구니 한 줄. (productId, productVariantId) 가 키이며 variant 가 없는 상품은 productVariantId 가 null 이다.
+ * unitPrice 는 담을 때의 가격이다.
+ */
+public record CartItem(long productId, Long productVariantId, int quantity, Money unitPrice) {
+
+    public CartItem {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Cart item quantity must be positive: " + quantity);
+        }
+    }
+
+    public CartItemKey key() {
+        return new CartItemKey(productId, productVariantId);
+    }
+
+    public Money lineTotal() {
+        return unitPrice.times(quantity);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.msa.commerce.monolith.cart.domain;
+
+/**
+ * 장바구니 항목을 구분하는 키. variant 가 없는 상품은 productVariantId 가 null 이다.
+ */
+public record CartItemKey(long productId, Long productVariantId) {
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * 담을 때의 단가와 현재 단가가 다르거나 더 이상 판매하지 않는 항목. 상품이 사라졌으면 currentPrice 가 null 이다.
+ */
+public record CartItemPriceDiff(long productId, Long productVariantId, Money previousPrice, Money currentPrice,
+                                boolean available) {
+
+    public boolean priceChanged() {
+        return currentPrice != null && !currentPrice.equals(previousPrice);
+    }
+
+}
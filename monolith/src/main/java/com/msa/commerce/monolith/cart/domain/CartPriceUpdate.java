@@ -0,0 +1,6 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import com.msa.commerce.common.money.Money;
+
+public record CartPriceUpdate(long cartId, CartItemKey key, Money unitPrice) {
+}
@@ -0,0 +1,55 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * 장바구니 항목 단가를 현재 상품 가격과 비교한 결과.
+ * 판매 중인 항목만 새 단가로 바꾸고, 판매하지 않는 항목은 그대로 두고 diffs 로만 알린다.
+ */
+public record CartRepricing(Cart cart, List<CartItemPriceDiff> diffs) {
+
+    public CartRepricing {
+        diffs = List.copyOf(diffs);
+    }
+
+    public static CartRepricing compare(Cart cart, Map<Long, ProductPricing> pricing) {
+        List<CartItemPriceDiff> diffs = new ArrayList<>();
+        for (CartItem item : cart.items()) {
+            ProductPricing product = pricing.get(item.productId());
+            if (product == null) {
+                diffs.add(new CartItemPriceDiff(item.productId(), item.productVariantId(), item.unitPrice(), null,
+                    false));
+                continue;
+            }
+            ProductPricing.CurrentPrice current = product.priceOf(item.productVariantId());
+            if (!current.available() || !current.price().equals(item.unitPrice())) {
+                diffs.add(new CartItemPriceDiff(item.productId(), item.productVariantId(), item.unitPrice(),
+                    current.price(), current.available()));
+            }
+        }
+        return new CartRepricing(cart, diffs);
+    }
+
+    /**
+     * 판매 중이고 단가가 바뀐 항목의 새 단가.
+     */
+    public Map<CartItemKey, Money> newPrices() {
+        Map<CartItemKey, Money> prices = new LinkedHashMap<>();
+        for (CartItemPriceDiff diff : diffs) {
+            if (diff.available() && diff.priceChanged()) {
+                prices.put(new CartItemKey(diff.productId(), diff.productVariantId()), diff.currentPrice());
+            }
+        }
+        return prices;
+    }
+
+    public long unavailableCount() {
+        return diffs.stream().filter(diff -> !diff.available()).count();
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.msa.commerce.monolith.cart.domain;
+
+/**
+ * 재가격 작업 결과. 나눠 처리한 구간의 결과를 더해 합친다.
+ */
+public record CartRepricingSummary(long scannedCarts, long repricedCarts, long repricedItems,
+                                   long unavailableItems) {
+
+    public static final CartRepricingSummary EMPTY = new CartRepricingSummary(0L, 0L, 0L, 0L);
+
+    public CartRepricingSummary plus(CartRepricingSummary other) {
+        return new CartRepricingSummary(scannedCarts + other.scannedCarts, repricedCarts + other.repricedCarts,
+            repricedItems + other.repricedItems, unavailableItems + other.unavailableItems);
+    }
+
+}
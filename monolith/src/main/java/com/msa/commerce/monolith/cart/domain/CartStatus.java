@@ -0,0 +1,8 @@
+package com.msa.commerce.monolith.cart.domain;
+
+public enum CartStatus {
+
+    ACTIVE,
+    ABANDONED,
+    CONVERTED
+}
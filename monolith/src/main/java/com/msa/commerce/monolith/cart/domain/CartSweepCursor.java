@@ -0,0 +1,9 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * ACTIVE 장바구니의 (updated_at, id) 순서상 위치. 한 번의 정리 안에서 다음 묶음을 이 위치 다음부터 읽는다.
+ */
+public record CartSweepCursor(LocalDateTime updatedAt, long cartId) {
+}
@@ -0,0 +1,37 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.util.Map;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * 상품 하나의 현재 판매가와 판매 가능 여부, variant 별 가격과 활성 여부.
+ * variant 가격이 없으면 상품 가격을 쓴다.
+ */
+public record ProductPricing(long productId, Money price, boolean available, Map<Long, Variant> variants) {
+
+    public ProductPricing {
+        variants = Map.copyOf(variants);
+    }
+
+    /**
+     * 항목의 현재 단가. 모르는 variant 는 판매할 수 없는 것으로 본다.
+     */
+    public CurrentPrice priceOf(Long productVariantId) {
+        if (productVariantId == null) {
+            return new CurrentPrice(price, available);
+        }
+        Variant variant = variants.get(productVariantId);
+        if (variant == null) {
+            return new CurrentPrice(price, false);
+        }
+        return new CurrentPrice(variant.price() != null ? variant.price() : price, available && variant.active());
+    }
+
+    public record Variant(Money price, boolean active) {
+    }
+
+    public record CurrentPrice(Money price, boolean available) {
+    }
+
+}
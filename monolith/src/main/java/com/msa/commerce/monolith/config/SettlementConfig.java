@@ -0,0 +1,20 @@
+package com.msa.commerce.monolith.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.msa.commerce.monolith.settlement.domain.SettlementFeePolicy;
+
+@Configuration
+public class SettlementConfig {
+
+    @Bean
+    public SettlementFeePolicy settlementFeePolicy(
+        @Value("${commerce.settlement.fee.gateway-rate:0.0300}") String gatewayRate,
+        @Value("${commerce.settlement.fee.gateway-rates:}") String gatewayRates,
+        @Value("${commerce.settlement.fee.platform-rate:0.0100}") String platformRate) {
+        return SettlementFeePolicy.parse(gatewayRate, gatewayRates, platformRate);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.msa.commerce.monolith.notification.adapter.in.messaging;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.notification.application.port.in.DeadLetterCommand;
+import com.msa.commerce.monolith.notification.application.port.in.DeadLetterRecordUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 로 이동한 레코드를 배치 단위로 소비해 notifications 테이블(category=DLT)에 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.notification.dlt", name = "topics")
+public class DeadLetterKafkaListener {
+
+    private final DeadLetterRecordUseCase deadLetterRecordUseCase;
+
+    @KafkaListener(
+        id = "dead-letter-notification",
+        topics = "#{'${commerce.notification.dlt.topics}'.split(',')}",
+        containerFactory = "deadLetterKafkaListenerContainerFactory"
+    )
+    public void onDeadLetters(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        List<DeadLetterCommand> commands = records.stream()
+            .map(this::toCommand)
+            .toList();
+
+        deadLetterRecordUseCase.recordDeadLetters(commands);
+        acknowledgment.acknowledge();
+
+        log.info("Recorded {} dead-letter notifications", commands.size());
+    }
+
+    private DeadLetterCommand toCommand(ConsumerRecord<String, String> record) {
+        Headers headers = record.headers();
+        String originalTopic = stringHeader(headers, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+
+        return DeadLetterCommand.builder()
+            .dltTopic(record.topic())
+            .originalTopic(originalTopic != null ? originalTopic : record.topic())
+            .originalPartition(intHeader(headers, KafkaHeaders.DLT_ORIGINAL_PARTITION))
+            .originalOffset(longHeader(headers, KafkaHeaders.DLT_ORIGINAL_OFFSET))
+            .key(record.key())
+            .exceptionClass(stringHeader(headers, KafkaHeaders.DLT_EXCEPTION_FQCN))
+            .exceptionMessage(stringHeader(headers, KafkaHeaders.DLT_EXCEPTION_MESSAGE))
+            .payload(record.value())
+            .build();
+    }
+
+    private static String stringHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null
+            ? new String(header.value(), StandardCharsets.UTF_8)
+            : null;
+    }
+
+    private static Integer intHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null && header.value().length == Integer.BYTES
+            ? ByteBuffer.wrap(header.value()).getInt()
+            : null;
+    }
+
+    private static Long longHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null && header.value().length == Long.BYTES
+            ? ByteBuffer.wrap(header.value()).getLong()
+            : null;
+    }
+
+}
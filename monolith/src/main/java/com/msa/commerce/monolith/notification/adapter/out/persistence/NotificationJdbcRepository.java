@@ -0,0 +1,51 @@
+package com.msa.commerce.monolith.notification.adapter.out.persistence;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.monolith.notification.application.port.out.NotificationRepository;
+import com.msa.commerce.monolith.notification.domain.Notification;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository implements NotificationRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO notifications
+            (recipient_type, recipient_id, recipient_emails, type, category, priority,
+             title, content, reference_type, reference_id, metadata, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements=true 로 multi-row INSERT 한 번으로 전송된다
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            ps.setString(1, notification.getRecipientType().name());
+            ps.setObject(2, notification.getRecipientId(), Types.BIGINT);
+            ps.setString(3, notification.getRecipientEmails());
+            ps.setString(4, notification.getType().name());
+            ps.setString(5, notification.getCategory().name());
+            ps.setString(6, notification.getPriority().name());
+            ps.setString(7, notification.getTitle());
+            ps.setString(8, notification.getContent());
+            ps.setString(9, notification.getReferenceType());
+            ps.setObject(10, notification.getReferenceId(), Types.BIGINT);
+            ps.setString(11, notification.getMetadata());
+            ps.setTimestamp(12, Timestamp.valueOf(notification.getCreatedAt()));
+        });
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.msa.commerce.monolith.notification.application.port.in;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DeadLetterCommand {
+
+    private final String dltTopic;
+
+    private final String originalTopic;
+
+    private final Integer originalPartition;
+
+    private final Long originalOffset;
+
+    private final String key;
+
+    private final String exceptionClass;
+
+    private final String exceptionMessage;
+
+    private final String payload;
+
+}
@@ -0,0 +1,9 @@
+package com.msa.commerce.monolith.notification.application.port.in;
+
+import java.util.List;
+
+public interface DeadLetterRecordUseCase {
+
+    void recordDeadLetters(List<DeadLetterCommand> commands);
+
+}
@@ -0,0 +1,11 @@
+package com.msa.commerce.monolith.notification.application.port.out;
+
+import java.util.List;
+
+import com.msa.commerce.monolith.notification.domain.Notification;
+
+public interface NotificationRepository {
+
+    void saveAll(List<Notification> notifications);
+
+}
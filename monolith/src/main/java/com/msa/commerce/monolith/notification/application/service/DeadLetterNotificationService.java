@@ -0,0 +1,90 @@
+package com.msa.commerce.monolith.notification.application.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.notification.application.port.in.DeadLetterCommand;
+import com.msa.commerce.monolith.notification.application.port.in.DeadLetterRecordUseCase;
+import com.msa.commerce.monolith.notification.application.port.out.NotificationRepository;
+import com.msa.commerce.monolith.notification.domain.Notification;
+import com.msa.commerce.monolith.notification.domain.NotificationCategory;
+import com.msa.commerce.monolith.notification.domain.NotificationPriority;
+import com.msa.commerce.monolith.notification.domain.NotificationType;
+import com.msa.commerce.monolith.notification.domain.RecipientType;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DeadLetterNotificationService implements DeadLetterRecordUseCase {
+
+    static final int MAX_PAYLOAD_LENGTH = 4000;
+
+    private static final String REFERENCE_TYPE = "dlt_message";
+
+    private final NotificationRepository notificationRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void recordDeadLetters(List<DeadLetterCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<Notification> notifications = commands.stream()
+            .map(this::toNotification)
+            .toList();
+
+        // 한 배치를 한 번의 batch insert 로 저장
+        notificationRepository.saveAll(notifications);
+    }
+
+    private Notification toNotification(DeadLetterCommand command) {
+        String exceptionMessage = command.getExceptionMessage() != null
+            ? command.getExceptionMessage()
+            : "Unknown failure";
+
+        return Notification.builder()
+            .recipientType(RecipientType.DEVELOPER)
+            .type(NotificationType.SLACK)
+            .category(NotificationCategory.DLT)
+            .priority(NotificationPriority.HIGH)
+            .title(truncate("DLT: " + command.getOriginalTopic(), 255))
+            .content(exceptionMessage)
+            .referenceType(REFERENCE_TYPE)
+            .referenceId(command.getOriginalOffset())
+            .metadata(toMetadata(command))
+            .build();
+    }
+
+    private String toMetadata(DeadLetterCommand command) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("dltTopic", command.getDltTopic());
+        metadata.put("originalTopic", command.getOriginalTopic());
+        metadata.put("originalPartition", command.getOriginalPartition());
+        metadata.put("originalOffset", command.getOriginalOffset());
+        metadata.put("key", command.getKey());
+        metadata.put("exceptionClass", command.getExceptionClass());
+        metadata.put("payload", truncate(command.getPayload(), MAX_PAYLOAD_LENGTH));
+
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize DLT metadata", e);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.msa.commerce.monolith.notification.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class Notification {
+
+    private final Long id;
+
+    private final RecipientType recipientType;
+
+    private final Long recipientId;           // USER 인 경우 user_id
+
+    private final String recipientEmails;     // ADMIN/DEVELOPER 인 경우 이메일 목록 (JSON)
+
+    private final NotificationType type;
+
+    private final NotificationCategory category;
+
+    private final NotificationPriority priority;
+
+    private final String title;
+
+    private final String content;
+
+    private final String referenceType;       // 'order', 'payment', 'dlt_message' 등
+
+    private final Long referenceId;
+
+    private final String metadata;            // JSON
+
+    private final LocalDateTime createdAt;
+
+    @Builder
+    public Notification(Long id, RecipientType recipientType, Long recipientId, String recipientEmails,
+        NotificationType type, NotificationCategory category, NotificationPriority priority, String title,
+        String content, String referenceType, Long referenceId, String metadata, LocalDateTime createdAt) {
+        this.id = id;
+        this.recipientType = recipientType != null ? recipientType : RecipientType.USER;
+        this.recipientId = recipientId;
+        this.recipientEmails = recipientEmails;
+        this.type = type;
+        this.category = category;
+        this.priority = priority != null ? priority : NotificationPriority.MEDIUM;
+        this.title = title;
+        this.content = content;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.metadata = metadata;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.msa.commerce.monolith.notification.domain;
+
+public enum NotificationCategory {
+
+    ORDER,
+    PAYMENT,
+    SHIPPING,
+    PROMOTION,
+    SYSTEM,
+    DLT,
+    ERROR,
+    WARNING
+}
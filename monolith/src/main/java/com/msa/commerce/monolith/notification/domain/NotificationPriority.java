@@ -0,0 +1,10 @@
+package com.msa.commerce.monolith.notification.domain;
+
+public enum NotificationPriority {
+
+    LOW,
+    MEDIUM,
+    HIGH,
+    URGENT,
+    CRITICAL
+}
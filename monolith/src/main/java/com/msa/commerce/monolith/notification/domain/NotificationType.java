@@ -0,0 +1,11 @@
+package com.msa.commerce.monolith.notification.domain;
+
+public enum NotificationType {
+
+    EMAIL,
+    SMS,
+    PUSH,
+    IN_APP,
+    SLACK,
+    WEBHOOK
+}
@@ -0,0 +1,8 @@
+package com.msa.commerce.monolith.notification.domain;
+
+public enum RecipientType {
+
+    USER,
+    ADMIN,
+    DEVELOPER
+}
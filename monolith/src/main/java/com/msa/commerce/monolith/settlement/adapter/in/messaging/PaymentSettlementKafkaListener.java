@@ -0,0 +1,86 @@
+package com.msa.commerce.monolith.settlement.adapter.in.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.payment.PaymentCapturedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+import com.msa.commerce.common.events.payment.PaymentRefundedEvent;
+import com.msa.commerce.monolith.settlement.application.port.in.PaymentSettlementCommand;
+import com.msa.commerce.monolith.settlement.application.port.in.SettlementAggregateUseCase;
+import com.msa.commerce.monolith.settlement.domain.SettlementEventType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매입 완료와 환불 이벤트를 poll 배치 단위로 정산 집계에 넘긴다. 배치 전체가 한 트랜잭션으로 반영된 뒤에만 커밋한다.
+ * <p>
+ * 한 poll 배치가 정산 이벤트 multi-row INSERT 한 번이 되므로 처리량은 max-poll-records 로 조절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.settlement", name = "enabled", havingValue = "true")
+public class PaymentSettlementKafkaListener {
+
+    private final SettlementAggregateUseCase settlementAggregateUseCase;
+
+    @KafkaListener(
+        id = "settlement-aggregator",
+        topics = {PaymentEventTopics.PAYMENT_CAPTURED, PaymentEventTopics.PAYMENT_REFUNDED},
+        groupId = "${commerce.settlement.group-id:settlement-aggregator}",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        properties = "max.poll.records=${commerce.settlement.max-poll-records:1000}"
+    )
+    public void onPaymentEvents(List<Object> events, Acknowledgment acknowledgment) {
+        List<PaymentSettlementCommand> commands = new ArrayList<>(events.size());
+        for (Object event : events) {
+            if (event instanceof PaymentCapturedEvent captured) {
+                commands.add(toCompletedCommand(captured));
+            } else if (event instanceof PaymentRefundedEvent refunded) {
+                commands.add(toRefundCommand(refunded));
+            } else {
+                log.warn("Skipping unexpected settlement payload: {}", event);
+            }
+        }
+        settlementAggregateUseCase.aggregate(commands);
+        acknowledgment.acknowledge();
+    }
+
+    private static PaymentSettlementCommand toCompletedCommand(PaymentCapturedEvent event) {
+        return PaymentSettlementCommand.builder()
+            .eventId(event.getEventId())
+            .paymentId(event.getPaymentId())
+            .orderId(event.getOrderId())
+            .amount(event.getAmount())
+            .currency(event.getCurrency())
+            .gatewayProvider(event.getGatewayProvider())
+            .paymentMethodType(event.getPaymentMethodType())
+            .eventType(SettlementEventType.PAYMENT_COMPLETED)
+            .occurredAt(event.getOccurredAt())
+            .build();
+    }
+
+    private static PaymentSettlementCommand toRefundCommand(PaymentRefundedEvent event) {
+        return PaymentSettlementCommand.builder()
+            .eventId(event.getEventId())
+            .paymentId(event.getPaymentId())
+            .orderId(event.getOrderId())
+            .amount(event.getAmount())
+            .currency(event.getCurrency())
+            .gatewayProvider(event.getGatewayProvider())
+            .paymentMethodType(event.getPaymentMethodType())
+            .eventType(event.isPartial()
+                ? SettlementEventType.PAYMENT_PARTIALLY_REFUNDED
+                : SettlementEventType.PAYMENT_REFUNDED)
+            .occurredAt(event.getOccurredAt())
+            .build();
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.msa.commerce.monolith.settlement.adapter.in.scheduling;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.settlement.application.port.in.GatewaySettlementBatchUseCase;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매일 전날 정산분을 PG 사별 배치로 만든다. 일간 대사가 끝난 뒤에 돌도록 cron 을 그보다 늦게 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.settlement", name = "enabled", havingValue = "true")
+public class GatewaySettlementBatchScheduler {
+
+    private final GatewaySettlementBatchUseCase gatewaySettlementBatchUseCase;
+
+    @Value("${commerce.settlement.zone:Asia/Seoul}")
+    private String zone;
+
+    @Scheduled(cron = "${commerce.settlement.gateway-batch.cron:0 0 2 * * *}",
+        zone = "${commerce.settlement.zone:Asia/Seoul}")
+    public void buildBatches() {
+        LocalDate settlementDate = LocalDate.now(ZoneId.of(zone)).minusDays(1);
+        long start = System.nanoTime();
+        List<GatewaySettlementBatch> batches = gatewaySettlementBatchUseCase.buildBatches(settlementDate);
+        log.info("Built {} gateway settlement batches for {} in {} ms", batches.size(), settlementDate,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
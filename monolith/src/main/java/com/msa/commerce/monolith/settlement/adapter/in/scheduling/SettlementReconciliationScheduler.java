@@ -0,0 +1,49 @@
+package com.msa.commerce.monolith.settlement.adapter.in.scheduling;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.monolith.settlement.application.port.in.SettlementReconcileUseCase;
+import com.msa.commerce.monolith.settlement.domain.SettlementReconciliation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매일 지난 lookback-days 일치 정산을 대사한다. 늦게 도착한 이벤트까지 반영되도록 전날부터 거슬러 올라간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "commerce.settlement", name = "enabled", havingValue = "true")
+public class SettlementReconciliationScheduler {
+
+    private final SettlementReconcileUseCase settlementReconcileUseCase;
+
+    @Value("${commerce.settlement.zone:Asia/Seoul}")
+    private String zone;
+
+    @Value("${commerce.settlement.reconciliation.lookback-days:1}")
+    private int lookbackDays;
+
+    @Scheduled(cron = "${commerce.settlement.reconciliation.cron:0 30 0 * * *}",
+        zone = "${commerce.settlement.zone:Asia/Seoul}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now(ZoneId.of(zone));
+        for (int daysAgo = lookbackDays; daysAgo >= 1; daysAgo--) {
+            SettlementReconciliation result = settlementReconcileUseCase.reconcile(today.minusDays(daysAgo));
+            if (result.matched()) {
+                log.info("Settlement for {} reconciled", result.settlementDate());
+            } else {
+                log.warn("Settlement for {} repaired, {} breakdowns differed from recompute",
+                    result.settlementDate(), result.mismatchedKeys().size());
+            }
+        }
+    }
+
+}
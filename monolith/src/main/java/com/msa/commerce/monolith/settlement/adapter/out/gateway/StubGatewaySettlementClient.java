@@ -0,0 +1,48 @@
+package com.msa.commerce.monolith.settlement.adapter.out.gateway;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.settlement.application.port.out.GatewaySettlementClient;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PG 사 정산 API 연동 전까지 쓰는 스텁. 요청한 배치 합계를 PG 사가 집계한 값처럼 돌려준다.
+ * 응답 원문은 PG 사 정산 응답과 같은 형태의 JSON 으로 만들어 gateway_response 에 그대로 저장된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StubGatewaySettlementClient implements GatewaySettlementClient {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public GatewaySettlementReport requestSettlement(GatewaySettlementBatch batch) {
+        String settlementId = batch.gatewayProvider().name().toLowerCase() + "_stl_" + UUID.randomUUID();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("settlementId", settlementId);
+        response.put("provider", batch.gatewayProvider().name());
+        response.put("settlementDate", batch.settlementDate().toString());
+        response.put("paymentCount", batch.totals().getPaymentCount());
+        response.put("totalAmount", BigDecimal.valueOf(batch.totalMinor(), 2));
+        response.put("feeAmount", BigDecimal.valueOf(batch.feeMinor(), 2));
+        response.put("netAmount", BigDecimal.valueOf(batch.netSettlementMinor(), 2));
+        try {
+            return new GatewaySettlementReport(settlementId, batch.totals().getPaymentCount(), batch.totalMinor(),
+                batch.feeMinor(), batch.netSettlementMinor(), objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stub settlement response", e);
+        }
+    }
+
+}
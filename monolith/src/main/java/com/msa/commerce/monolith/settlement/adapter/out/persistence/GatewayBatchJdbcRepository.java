@@ -0,0 +1,108 @@
+package com.msa.commerce.monolith.settlement.adapter.out.persistence;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.monolith.settlement.application.port.out.GatewayBatchRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayBatchStatus;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class GatewayBatchJdbcRepository implements GatewayBatchRepository {
+
+    private static final String SELECT_STATUS_SQL =
+        "SELECT status FROM settlement_gateway_batches WHERE batch_id = ?";
+
+    /**
+     * 같은 날 다시 만들면 합계를 덮어쓰고 PG 응답은 지운다. 다시 요청해서 새 응답으로 대사해야 한다.
+     */
+    private static final String UPSERT_PENDING_SQL = """
+        INSERT INTO settlement_gateway_batches
+            (batch_id, gateway_provider, settlement_date, total_payment_count, total_amount, total_fee,
+             net_settlement_amount, status)
+        VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING')
+        ON DUPLICATE KEY UPDATE
+            total_payment_count = VALUES(total_payment_count),
+            total_amount = VALUES(total_amount),
+            total_fee = VALUES(total_fee),
+            net_settlement_amount = VALUES(net_settlement_amount),
+            gateway_settlement_id = NULL,
+            gateway_response = NULL,
+            status = 'PENDING',
+            processed_at = NULL,
+            reconciled_at = NULL
+        """;
+
+    private static final String UPDATE_STATUS_SQL =
+        "UPDATE settlement_gateway_batches SET status = ? WHERE batch_id = ?";
+
+    private static final String UPDATE_RESPONSE_SQL = """
+        UPDATE settlement_gateway_batches
+        SET gateway_settlement_id = ?, gateway_response = ?, status = 'COMPLETED', processed_at = ?
+        WHERE batch_id = ?
+        """;
+
+    private static final String UPDATE_RECONCILED_SQL = """
+        UPDATE settlement_gateway_batches
+        SET status = 'RECONCILED', reconciled_at = ?
+        WHERE batch_id = ? AND status = 'COMPLETED'
+        """;
+
+    private static final String UPDATE_FAILED_SQL = """
+        UPDATE settlement_gateway_batches
+        SET gateway_response = COALESCE(?, gateway_response), status = 'FAILED', processed_at = ?
+        WHERE batch_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<GatewayBatchStatus> findStatus(String batchId) {
+        return jdbcTemplate.queryForList(SELECT_STATUS_SQL, String.class, batchId).stream()
+            .findFirst()
+            .map(GatewayBatchStatus::valueOf);
+    }
+
+    @Override
+    public void savePending(GatewaySettlementBatch batch) {
+        jdbcTemplate.update(UPSERT_PENDING_SQL,
+            batch.batchId(),
+            batch.gatewayProvider().name(),
+            Date.valueOf(batch.settlementDate()),
+            batch.totals().getPaymentCount(),
+            SettlementAmounts.toDecimal(batch.totalMinor()),
+            SettlementAmounts.toDecimal(batch.feeMinor()),
+            SettlementAmounts.toDecimal(batch.netSettlementMinor()));
+    }
+
+    @Override
+    public void updateStatus(String batchId, GatewayBatchStatus status) {
+        jdbcTemplate.update(UPDATE_STATUS_SQL, status.name(), batchId);
+    }
+
+    @Override
+    public void saveResponse(String batchId, GatewaySettlementReport report, Instant processedAt) {
+        jdbcTemplate.update(UPDATE_RESPONSE_SQL, report.gatewaySettlementId(), report.rawResponse(),
+            Timestamp.from(processedAt), batchId);
+    }
+
+    @Override
+    public void markReconciled(String batchId, Instant reconciledAt) {
+        jdbcTemplate.update(UPDATE_RECONCILED_SQL, Timestamp.from(reconciledAt), batchId);
+    }
+
+    @Override
+    public void markFailed(String batchId, String gatewayResponse, Instant processedAt) {
+        jdbcTemplate.update(UPDATE_FAILED_SQL, gatewayResponse, Timestamp.from(processedAt), batchId);
+    }
+
+}
@@ -0,0 +1,354 @@
+package com.msa.commerce.monolith.settlement.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementKey;
+import com.msa.commerce.monolith.settlement.domain.SettlementPeriod;
+import com.msa.commerce.monolith.settlement.domain.SettlementRollup;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementAggregateJdbcRepository implements SettlementAggregateRepository {
+
+    private static final String ADD_BREAKDOWN_SQL = """
+        INSERT INTO daily_settlement_breakdowns
+            (settlement_date, gateway_provider, payment_method_type, payment_count, refund_count, gross_amount,
+             gateway_fee_amount, platform_fee_amount, tax_amount, net_amount)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            payment_count = payment_count + VALUES(payment_count),
+            refund_count = refund_count + VALUES(refund_count),
+            gross_amount = gross_amount + VALUES(gross_amount),
+            gateway_fee_amount = gateway_fee_amount + VALUES(gateway_fee_amount),
+            platform_fee_amount = platform_fee_amount + VALUES(platform_fee_amount),
+            tax_amount = tax_amount + VALUES(tax_amount),
+            net_amount = net_amount + VALUES(net_amount)
+        """;
+
+    private static final String DELETE_BREAKDOWNS_SQL =
+        "DELETE FROM daily_settlement_breakdowns WHERE settlement_date = ?";
+
+    private static final String SELECT_BREAKDOWNS_SQL = """
+        SELECT settlement_date, gateway_provider, payment_method_type, payment_count, refund_count, gross_amount,
+               gateway_fee_amount, platform_fee_amount, tax_amount, net_amount
+        FROM daily_settlement_breakdowns
+        WHERE settlement_date BETWEEN ? AND ?
+        """;
+
+    private static final String LOCK_BREAKDOWNS_SQL = SELECT_BREAKDOWNS_SQL + "FOR UPDATE";
+
+    private static final String SHARE_BREAKDOWNS_SQL = SELECT_BREAKDOWNS_SQL + "FOR SHARE";
+
+    /**
+     * 행이 있으면 아무것도 바꾸지 않고 배타 잠금만 잡는다. 빈 행은 같은 트랜잭션의 롤업이 채운다.
+     */
+    private static final String LOCK_MONTHLY_SQL = """
+        INSERT INTO monthly_settlements (settlement_year_month, month_start_date, month_end_date)
+        VALUES (?, ?, ?)
+        ON DUPLICATE KEY UPDATE settlement_year_month = settlement_year_month
+        """;
+
+    private static final String LOCK_WEEKLY_SQL = """
+        INSERT INTO weekly_settlements (year_week, week_start_date, week_end_date)
+        VALUES (?, ?, ?)
+        ON DUPLICATE KEY UPDATE year_week = year_week
+        """;
+
+    private static final String LOCK_DAILY_SQL = """
+        INSERT INTO daily_settlements (settlement_date)
+        VALUES (?)
+        ON DUPLICATE KEY UPDATE settlement_date = settlement_date
+        """;
+
+    private static final String UPSERT_DAILY_SQL = """
+        INSERT INTO daily_settlements
+            (settlement_date, total_payment_count, total_refund_count,
+             credit_card_amount, credit_card_count, debit_card_amount, debit_card_count,
+             bank_transfer_amount, bank_transfer_count, digital_wallet_amount, digital_wallet_count,
+             toss_amount, toss_count, nice_amount, nice_count, kcp_amount, kcp_count,
+             total_gross_amount, total_gateway_fee, total_platform_fee, total_tax_amount, total_net_amount,
+             status, calculated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'CALCULATING', ?)
+        ON DUPLICATE KEY UPDATE
+            total_payment_count = VALUES(total_payment_count),
+            total_refund_count = VALUES(total_refund_count),
+            credit_card_amount = VALUES(credit_card_amount),
+            credit_card_count = VALUES(credit_card_count),
+            debit_card_amount = VALUES(debit_card_amount),
+            debit_card_count = VALUES(debit_card_count),
+            bank_transfer_amount = VALUES(bank_transfer_amount),
+            bank_transfer_count = VALUES(bank_transfer_count),
+            digital_wallet_amount = VALUES(digital_wallet_amount),
+            digital_wallet_count = VALUES(digital_wallet_count),
+            toss_amount = VALUES(toss_amount),
+            toss_count = VALUES(toss_count),
+            nice_amount = VALUES(nice_amount),
+            nice_count = VALUES(nice_count),
+            kcp_amount = VALUES(kcp_amount),
+            kcp_count = VALUES(kcp_count),
+            total_gross_amount = VALUES(total_gross_amount),
+            total_gateway_fee = VALUES(total_gateway_fee),
+            total_platform_fee = VALUES(total_platform_fee),
+            total_tax_amount = VALUES(total_tax_amount),
+            total_net_amount = VALUES(total_net_amount),
+            status = VALUES(status),
+            calculated_at = VALUES(calculated_at)
+        """;
+
+    private static final String UPSERT_WEEKLY_SQL = """
+        INSERT INTO weekly_settlements
+            (year_week, week_start_date, week_end_date, total_gross_amount, total_gateway_fee, total_platform_fee,
+             total_tax_amount, total_net_amount, total_payment_count, total_refund_count,
+             payment_method_breakdown, gateway_breakdown, status, calculated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'CALCULATING', ?)
+        ON DUPLICATE KEY UPDATE
+            total_gross_amount = VALUES(total_gross_amount),
+            total_gateway_fee = VALUES(total_gateway_fee),
+            total_platform_fee = VALUES(total_platform_fee),
+            total_tax_amount = VALUES(total_tax_amount),
+            total_net_amount = VALUES(total_net_amount),
+            total_payment_count = VALUES(total_payment_count),
+            total_refund_count = VALUES(total_refund_count),
+            payment_method_breakdown = VALUES(payment_method_breakdown),
+            gateway_breakdown = VALUES(gateway_breakdown),
+            status = VALUES(status),
+            calculated_at = VALUES(calculated_at)
+        """;
+
+    /**
+     * FINALIZED 된 달은 다시 계산하지 않는다.
+     */
+    private static final String UPSERT_MONTHLY_SQL = """
+        INSERT INTO monthly_settlements
+            (settlement_year_month, month_start_date, month_end_date, total_gross_amount, total_gateway_fee,
+             total_platform_fee, total_tax_amount, total_net_amount, total_payment_count, total_refund_count,
+             payment_method_breakdown, gateway_breakdown, daily_trend, avg_transaction_amount, peak_day,
+             peak_day_amount, status, calculated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'CALCULATING', ?)
+        ON DUPLICATE KEY UPDATE
+            total_gross_amount = IF(status = 'FINALIZED', total_gross_amount, VALUES(total_gross_amount)),
+            total_gateway_fee = IF(status = 'FINALIZED', total_gateway_fee, VALUES(total_gateway_fee)),
+            total_platform_fee = IF(status = 'FINALIZED', total_platform_fee, VALUES(total_platform_fee)),
+            total_tax_amount = IF(status = 'FINALIZED', total_tax_amount, VALUES(total_tax_amount)),
+            total_net_amount = IF(status = 'FINALIZED', total_net_amount, VALUES(total_net_amount)),
+            total_payment_count = IF(status = 'FINALIZED', total_payment_count, VALUES(total_payment_count)),
+            total_refund_count = IF(status = 'FINALIZED', total_refund_count, VALUES(total_refund_count)),
+            payment_method_breakdown = IF(status = 'FINALIZED', payment_method_breakdown,
+                VALUES(payment_method_breakdown)),
+            gateway_breakdown = IF(status = 'FINALIZED', gateway_breakdown, VALUES(gateway_breakdown)),
+            daily_trend = IF(status = 'FINALIZED', daily_trend, VALUES(daily_trend)),
+            avg_transaction_amount = IF(status = 'FINALIZED', avg_transaction_amount, VALUES(avg_transaction_amount)),
+            peak_day = IF(status = 'FINALIZED', peak_day, VALUES(peak_day)),
+            peak_day_amount = IF(status = 'FINALIZED', peak_day_amount, VALUES(peak_day_amount)),
+            calculated_at = IF(status = 'FINALIZED', calculated_at, VALUES(calculated_at)),
+            status = IF(status = 'FINALIZED', status, VALUES(status))
+        """;
+
+    private static final String MARK_RECONCILED_SQL = """
+        UPDATE daily_settlements
+        SET status = 'RECONCILED', reconciled_at = ?
+        WHERE settlement_date = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addBreakdowns(List<SettlementBreakdown> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_BREAKDOWN_SQL, increments, increments.size(), (ps, breakdown) -> {
+            SettlementKey key = breakdown.key();
+            SettlementTotals totals = breakdown.totals();
+            ps.setDate(1, Date.valueOf(key.settlementDate()));
+            ps.setString(2, key.gatewayProvider().name());
+            ps.setString(3, key.paymentMethodType().name());
+            ps.setLong(4, totals.getPaymentCount());
+            ps.setLong(5, totals.getRefundCount());
+            ps.setBigDecimal(6, SettlementAmounts.toDecimal(totals.getGrossMinor()));
+            ps.setBigDecimal(7, SettlementAmounts.toDecimal(totals.getGatewayFeeMinor()));
+            ps.setBigDecimal(8, SettlementAmounts.toDecimal(totals.getPlatformFeeMinor()));
+            ps.setBigDecimal(9, SettlementAmounts.toDecimal(totals.getTaxMinor()));
+            ps.setBigDecimal(10, SettlementAmounts.toDecimal(totals.getNetMinor()));
+        });
+    }
+
+    @Override
+    public void replaceBreakdowns(LocalDate settlementDate, List<SettlementBreakdown> breakdowns) {
+        jdbcTemplate.update(DELETE_BREAKDOWNS_SQL, Date.valueOf(settlementDate));
+        addBreakdowns(breakdowns);
+    }
+
+    @Override
+    public List<SettlementBreakdown> findBreakdowns(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SHARE_BREAKDOWNS_SQL, this::mapBreakdown, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public List<SettlementBreakdown> lockBreakdowns(LocalDate settlementDate) {
+        Date date = Date.valueOf(settlementDate);
+        return jdbcTemplate.query(LOCK_BREAKDOWNS_SQL, this::mapBreakdown, date, date);
+    }
+
+    @Override
+    public void lockRollups(Collection<SettlementPeriod> months, Collection<SettlementPeriod> weeks,
+        Collection<LocalDate> settlementDates) {
+        lockPeriods(LOCK_MONTHLY_SQL, months);
+        lockPeriods(LOCK_WEEKLY_SQL, weeks);
+        if (!settlementDates.isEmpty()) {
+            jdbcTemplate.batchUpdate(LOCK_DAILY_SQL, settlementDates, settlementDates.size(),
+                (ps, date) -> ps.setDate(1, Date.valueOf(date)));
+        }
+    }
+
+    @Override
+    public void saveDaily(LocalDate settlementDate, SettlementRollup rollup, Instant calculatedAt) {
+        SettlementTotals totals = rollup.getTotals();
+        SettlementTotals creditCard = rollup.paymentMethod(PaymentMethodType.CREDIT_CARD);
+        SettlementTotals debitCard = rollup.paymentMethod(PaymentMethodType.DEBIT_CARD);
+        SettlementTotals bankTransfer = rollup.paymentMethod(PaymentMethodType.BANK_TRANSFER);
+        SettlementTotals digitalWallet = rollup.paymentMethod(PaymentMethodType.DIGITAL_WALLET);
+        SettlementTotals toss = rollup.gateway(GatewayProvider.TOSS);
+        SettlementTotals nice = rollup.gateway(GatewayProvider.NICE);
+        SettlementTotals kcp = rollup.gateway(GatewayProvider.KCP);
+        jdbcTemplate.update(UPSERT_DAILY_SQL,
+            Date.valueOf(settlementDate), totals.getPaymentCount(), totals.getRefundCount(),
+            gross(creditCard), creditCard.getPaymentCount(), gross(debitCard), debitCard.getPaymentCount(),
+            gross(bankTransfer), bankTransfer.getPaymentCount(), gross(digitalWallet), digitalWallet.getPaymentCount(),
+            gross(toss), toss.getPaymentCount(), gross(nice), nice.getPaymentCount(), gross(kcp), kcp.getPaymentCount(),
+            gross(totals), SettlementAmounts.toDecimal(totals.getGatewayFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getPlatformFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getTaxMinor()),
+            SettlementAmounts.toDecimal(totals.getNetMinor()), Timestamp.from(calculatedAt));
+    }
+
+    @Override
+    public void saveWeekly(SettlementPeriod week, SettlementRollup rollup, Instant calculatedAt) {
+        SettlementTotals totals = rollup.getTotals();
+        jdbcTemplate.update(UPSERT_WEEKLY_SQL,
+            week.label(), Date.valueOf(week.startDate()), Date.valueOf(week.endDate()),
+            gross(totals), SettlementAmounts.toDecimal(totals.getGatewayFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getPlatformFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getTaxMinor()),
+            SettlementAmounts.toDecimal(totals.getNetMinor()), totals.getPaymentCount(), totals.getRefundCount(),
+            toJson(breakdown(rollup.getByPaymentMethod())), toJson(breakdown(rollup.getByGateway())),
+            Timestamp.from(calculatedAt));
+    }
+
+    @Override
+    public void saveMonthly(SettlementPeriod month, SettlementRollup rollup, Instant calculatedAt) {
+        SettlementTotals totals = rollup.getTotals();
+        Map.Entry<LocalDate, SettlementTotals> peakDay = rollup.peakDay();
+        BigDecimal average = totals.getPaymentCount() > 0
+            ? gross(totals).divide(BigDecimal.valueOf(totals.getPaymentCount()), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+        jdbcTemplate.update(UPSERT_MONTHLY_SQL,
+            month.label(), Date.valueOf(month.startDate()), Date.valueOf(month.endDate()),
+            gross(totals), SettlementAmounts.toDecimal(totals.getGatewayFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getPlatformFeeMinor()),
+            SettlementAmounts.toDecimal(totals.getTaxMinor()),
+            SettlementAmounts.toDecimal(totals.getNetMinor()), totals.getPaymentCount(), totals.getRefundCount(),
+            toJson(breakdown(rollup.getByPaymentMethod())), toJson(breakdown(rollup.getByGateway())),
+            toJson(dailyTrend(rollup.getByDate())), average,
+            peakDay != null ? Date.valueOf(peakDay.getKey()) : null,
+            peakDay != null ? gross(peakDay.getValue()) : BigDecimal.ZERO,
+            Timestamp.from(calculatedAt));
+    }
+
+    @Override
+    public void markDailyReconciled(LocalDate settlementDate, Instant reconciledAt) {
+        jdbcTemplate.update(MARK_RECONCILED_SQL, Timestamp.from(reconciledAt), Date.valueOf(settlementDate));
+    }
+
+    private void lockPeriods(String sql, Collection<SettlementPeriod> periods) {
+        if (periods.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, periods, periods.size(), (ps, period) -> {
+            ps.setString(1, period.label());
+            ps.setDate(2, Date.valueOf(period.startDate()));
+            ps.setDate(3, Date.valueOf(period.endDate()));
+        });
+    }
+
+    private SettlementBreakdown mapBreakdown(ResultSet rs, int rowNum) throws SQLException {
+        SettlementKey key = new SettlementKey(
+            rs.getDate("settlement_date").toLocalDate(),
+            GatewayProvider.valueOf(rs.getString("gateway_provider")),
+            PaymentMethodType.valueOf(rs.getString("payment_method_type")));
+        SettlementTotals totals = new SettlementTotals(
+            rs.getLong("payment_count"),
+            rs.getLong("refund_count"),
+            SettlementAmounts.toMinor(rs.getBigDecimal("gross_amount")),
+            SettlementAmounts.toMinor(rs.getBigDecimal("gateway_fee_amount")),
+            SettlementAmounts.toMinor(rs.getBigDecimal("platform_fee_amount")),
+            SettlementAmounts.toMinor(rs.getBigDecimal("tax_amount")),
+            SettlementAmounts.toMinor(rs.getBigDecimal("net_amount")));
+        return new SettlementBreakdown(key, totals);
+    }
+
+    private static BigDecimal gross(SettlementTotals totals) {
+        return SettlementAmounts.toDecimal(totals.getGrossMinor());
+    }
+
+    private static Map<String, Object> breakdown(Map<? extends Enum<?>, SettlementTotals> totalsByKey) {
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        totalsByKey.forEach((key, totals) -> breakdown.put(key.name(), summary(totals)));
+        return breakdown;
+    }
+
+    private static List<Object> dailyTrend(Map<LocalDate, SettlementTotals> totalsByDate) {
+        List<Object> trend = new ArrayList<>(totalsByDate.size());
+        totalsByDate.forEach((date, totals) -> {
+            Map<String, Object> day = new LinkedHashMap<>();
+            day.put("date", date.toString());
+            day.putAll(summary(totals));
+            trend.add(day);
+        });
+        return trend;
+    }
+
+    private static Map<String, Object> summary(SettlementTotals totals) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("paymentCount", totals.getPaymentCount());
+        summary.put("refundCount", totals.getRefundCount());
+        summary.put("grossAmount", gross(totals));
+        summary.put("netAmount", SettlementAmounts.toDecimal(totals.getNetMinor()));
+        return summary;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize settlement breakdown", e);
+        }
+    }
+
+}
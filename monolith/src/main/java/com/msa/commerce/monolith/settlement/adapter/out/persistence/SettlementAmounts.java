@@ -0,0 +1,23 @@
+package com.msa.commerce.monolith.settlement.adapter.out.persistence;
+
+import java.math.BigDecimal;
+
+/**
+ * 최소 단위(1/100) long 금액과 DECIMAL(_,2) 컬럼 값 사이의 변환.
+ */
+final class SettlementAmounts {
+
+    private static final int SCALE = 2;
+
+    private SettlementAmounts() {
+    }
+
+    static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    static long toMinor(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(SCALE).longValueExact();
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.msa.commerce.monolith.settlement.adapter.out.persistence;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementAccumulator;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementEvent;
+import com.msa.commerce.monolith.settlement.domain.SettlementEventType;
+import com.msa.commerce.monolith.settlement.domain.SettlementIdRange;
+import com.msa.commerce.monolith.settlement.domain.SettlementKey;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementEventJdbcRepository implements SettlementEventRepository {
+
+    /**
+     * event_id UNIQUE 에 걸리면 delivery_count 만 올린다. 드라이버 기본값(CLIENT_FOUND_ROWS)에서는 값이 바뀌지 않는
+     * 갱신도 1 로 세므로, 중복 행이 항상 2 로 세어지도록 실제로 바뀌는 컬럼을 갱신한다. 신규 행은 1 이다.
+     * INSERT IGNORE 와 달리 잘림·형 변환 같은 데이터 오류는 경고로 바뀌지 않고 배치를 실패시킨다.
+     */
+    private static final String UPSERT_SQL = """
+        INSERT INTO payment_settlement_events
+            (event_id, payment_id, order_id, user_id, payment_amount, payment_currency, payment_method_type,
+             gateway_provider, gross_amount, gateway_fee_rate, gateway_fee_amount, platform_fee_rate,
+             platform_fee_amount, tax_amount, net_amount, event_type, settlement_target_date, processed_at)
+        VALUES\s""";
+
+    private static final String ON_DUPLICATE_SQL = " ON DUPLICATE KEY UPDATE delivery_count = delivery_count + 1";
+
+    private static final int INSERT_COLUMNS = 18;
+
+    private static final String INSERT_ROW = "(" + String.join(", ", Collections.nCopies(INSERT_COLUMNS, "?")) + ")";
+
+    /**
+     * 한 문장의 자리표시자가 MySQL 한도(65,535)를 넘지 않도록 multi-row INSERT 를 나눈다.
+     */
+    private static final int MAX_ROWS_PER_INSERT = 1_000;
+
+    /**
+     * 금액은 환불 부호를 반영하지 않은 값으로 저장되어 있으므로 event_type 별로 나눠 합산하고
+     * {@link SettlementTotals} 에서 부호를 정한다.
+     */
+    private static final String AGGREGATE_SQL = """
+        SELECT gateway_provider, payment_method_type, event_type, COUNT(*) AS event_count,
+               SUM(gross_amount) AS gross_amount, SUM(gateway_fee_amount) AS gateway_fee_amount,
+               SUM(platform_fee_amount) AS platform_fee_amount, SUM(tax_amount) AS tax_amount,
+               SUM(net_amount) AS net_amount
+        FROM payment_settlement_events
+        WHERE settlement_target_date = ?
+        GROUP BY gateway_provider, payment_method_type, event_type
+        """;
+
+    private static final String SELECT_ID_RANGE_SQL =
+        "SELECT MIN(id), MAX(id) FROM payment_settlement_events WHERE settlement_target_date = ?";
+
+    /**
+     * idx_settlement_events_date_provider 의 (날짜, PG 사) 안에서 id 구간만 읽는다.
+     */
+    private static final String SUM_RANGE_SQL = """
+        SELECT event_type, COUNT(*) AS event_count,
+               SUM(gross_amount) AS gross_amount, SUM(gateway_fee_amount) AS gateway_fee_amount,
+               SUM(platform_fee_amount) AS platform_fee_amount, SUM(tax_amount) AS tax_amount,
+               SUM(net_amount) AS net_amount
+        FROM payment_settlement_events
+        WHERE settlement_target_date = ? AND gateway_provider = ? AND id BETWEEN ? AND ?
+        GROUP BY event_type
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<SettlementEvent> insertNew(List<SettlementEvent> events) {
+        List<SettlementEvent> inserted = new ArrayList<>(events.size());
+        for (int from = 0; from < events.size(); from += MAX_ROWS_PER_INSERT) {
+            List<SettlementEvent> chunk = events.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, events.size()));
+            inserted.addAll(jdbcTemplate.execute((ConnectionCallback<List<SettlementEvent>>)con ->
+                insertChunk(con, chunk)));
+        }
+        return inserted;
+    }
+
+    /**
+     * 청크 전체를 multi-row upsert 한 문장으로 넣는다. 신규 행은 1, 중복 행은 2 로 세어지므로 영향받은 행 수가 청크 크기면
+     * 모두, 그 두 배면 하나도 들어가지 않은 것이다. 일부만 들어갔으면 어느 행인지 알 수 없으므로 세이브포인트로 되돌리고
+     * 건별 upsert 로 다시 넣는다. 재전달이 일부만 섞인 배치에서만 건별로 보낸다.
+     */
+    private List<SettlementEvent> insertChunk(Connection con, List<SettlementEvent> chunk) throws SQLException {
+        Savepoint savepoint = con.setSavepoint();
+        int affected;
+        try (PreparedStatement ps = con.prepareStatement(insertSql(chunk.size()))) {
+            for (int i = 0; i < chunk.size(); i++) {
+                bind(ps, i * INSERT_COLUMNS, chunk.get(i));
+            }
+            affected = ps.executeUpdate();
+        }
+        if (affected == chunk.size() || affected == 2 * chunk.size()) {
+            con.releaseSavepoint(savepoint);
+            return affected == chunk.size() ? chunk : List.of();
+        }
+
+        con.rollback(savepoint);
+        List<SettlementEvent> inserted = new ArrayList<>(2 * chunk.size() - affected);
+        try (PreparedStatement ps = con.prepareStatement(insertSql(1))) {
+            for (SettlementEvent event : chunk) {
+                bind(ps, 0, event);
+                if (ps.executeUpdate() == 1) {
+                    inserted.add(event);
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private static String insertSql(int rows) {
+        return UPSERT_SQL + String.join(", ", Collections.nCopies(rows, INSERT_ROW)) + ON_DUPLICATE_SQL;
+    }
+
+    private static void bind(PreparedStatement ps, int offset, SettlementEvent event) throws SQLException {
+        ps.setString(offset + 1, event.getEventId());
+        ps.setLong(offset + 2, event.getPaymentId());
+        ps.setLong(offset + 3, event.getOrderId());
+        ps.setObject(offset + 4, event.getUserId(), Types.BIGINT);
+        ps.setBigDecimal(offset + 5, SettlementAmounts.toDecimal(event.getGrossMinor()));
+        ps.setString(offset + 6, event.getCurrency());
+        ps.setString(offset + 7, event.getPaymentMethodType().name());
+        ps.setString(offset + 8, event.getGatewayProvider().name());
+        ps.setBigDecimal(offset + 9, SettlementAmounts.toDecimal(event.getGrossMinor()));
+        ps.setBigDecimal(offset + 10, event.getGatewayFeeRate().toBigDecimal());
+        ps.setBigDecimal(offset + 11, SettlementAmounts.toDecimal(event.getGatewayFeeMinor()));
+        ps.setBigDecimal(offset + 12, event.getPlatformFeeRate().toBigDecimal());
+        ps.setBigDecimal(offset + 13, SettlementAmounts.toDecimal(event.getPlatformFeeMinor()));
+        ps.setBigDecimal(offset + 14, SettlementAmounts.toDecimal(event.getTaxMinor()));
+        ps.setBigDecimal(offset + 15, SettlementAmounts.toDecimal(event.getNetMinor()));
+        ps.setString(offset + 16, event.getEventType().name());
+        ps.setDate(offset + 17, Date.valueOf(event.getSettlementTargetDate()));
+        ps.setTimestamp(offset + 18, Timestamp.from(event.getProcessedAt()));
+    }
+
+    @Override
+    public List<SettlementBreakdown> aggregate(LocalDate settlementDate) {
+        SettlementAccumulator accumulator = new SettlementAccumulator();
+        jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+            SettlementKey key = new SettlementKey(settlementDate,
+                GatewayProvider.valueOf(rs.getString("gateway_provider")),
+                PaymentMethodType.valueOf(rs.getString("payment_method_type")));
+            accumulator.add(key, totalsOf(rs));
+        }, Date.valueOf(settlementDate));
+        return accumulator.breakdowns();
+    }
+
+    @Override
+    public Optional<SettlementIdRange> findIdRange(LocalDate settlementDate) {
+        return jdbcTemplate.query(SELECT_ID_RANGE_SQL, rs -> {
+            rs.next();
+            long fromId = rs.getLong(1);
+            if (rs.wasNull()) {
+                return Optional.<SettlementIdRange>empty();
+            }
+            return Optional.of(new SettlementIdRange(fromId, rs.getLong(2)));
+        }, Date.valueOf(settlementDate));
+    }
+
+    @Override
+    public SettlementTotals sumRange(LocalDate settlementDate, GatewayProvider gatewayProvider, long fromId,
+        long toId) {
+        SettlementTotals totals = new SettlementTotals();
+        jdbcTemplate.query(SUM_RANGE_SQL, rs -> {
+            totals.add(totalsOf(rs));
+        }, Date.valueOf(settlementDate), gatewayProvider.name(), fromId, toId);
+        return totals;
+    }
+
+    private static SettlementTotals totalsOf(ResultSet rs) throws SQLException {
+        boolean refund = SettlementEventType.valueOf(rs.getString("event_type")).isRefund();
+        long count = rs.getLong("event_count");
+        long sign = refund ? -1L : 1L;
+        return new SettlementTotals(
+            refund ? 0L : count,
+            refund ? count : 0L,
+            sign * SettlementAmounts.toMinor(rs.getBigDecimal("gross_amount")),
+            sign * SettlementAmounts.toMinor(rs.getBigDecimal("gateway_fee_amount")),
+            sign * SettlementAmounts.toMinor(rs.getBigDecimal("platform_fee_amount")),
+            sign * SettlementAmounts.toMinor(rs.getBigDecimal("tax_amount")),
+            sign * SettlementAmounts.toMinor(rs.getBigDecimal("net_amount")));
+    }
+
+}
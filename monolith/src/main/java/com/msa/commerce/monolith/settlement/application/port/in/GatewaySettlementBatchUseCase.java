@@ -0,0 +1,12 @@
+package com.msa.commerce.monolith.settlement.application.port.in;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+
+public interface GatewaySettlementBatchUseCase {
+
+    List<GatewaySettlementBatch> buildBatches(LocalDate settlementDate);
+
+}
@@ -0,0 +1,35 @@
+package com.msa.commerce.monolith.settlement.application.port.in;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.msa.commerce.monolith.settlement.domain.SettlementEventType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PaymentSettlementCommand {
+
+    private final String eventId;
+
+    private final Long paymentId;
+
+    private final Long orderId;
+
+    private final Long userId;
+
+    private final BigDecimal amount;
+
+    private final String currency;
+
+    private final String gatewayProvider;
+
+    private final String paymentMethodType;
+
+    private final SettlementEventType eventType;
+
+    private final Instant occurredAt;
+
+}
@@ -0,0 +1,9 @@
+package com.msa.commerce.monolith.settlement.application.port.in;
+
+import java.util.List;
+
+public interface SettlementAggregateUseCase {
+
+    void aggregate(List<PaymentSettlementCommand> commands);
+
+}
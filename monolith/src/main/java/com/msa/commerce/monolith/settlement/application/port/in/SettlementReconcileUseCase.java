@@ -0,0 +1,11 @@
+package com.msa.commerce.monolith.settlement.application.port.in;
+
+import java.time.LocalDate;
+
+import com.msa.commerce.monolith.settlement.domain.SettlementReconciliation;
+
+public interface SettlementReconcileUseCase {
+
+    SettlementReconciliation reconcile(LocalDate settlementDate);
+
+}
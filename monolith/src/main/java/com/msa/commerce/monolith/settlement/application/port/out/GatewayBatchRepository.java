@@ -0,0 +1,27 @@
+package com.msa.commerce.monolith.settlement.application.port.out;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.msa.commerce.monolith.settlement.domain.GatewayBatchStatus;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+
+public interface GatewayBatchRepository {
+
+    Optional<GatewayBatchStatus> findStatus(String batchId);
+
+    /**
+     * 합계를 쓰고 PENDING 으로 되돌린다. 이전 응답과 처리 시각은 지운다.
+     */
+    void savePending(GatewaySettlementBatch batch);
+
+    void updateStatus(String batchId, GatewayBatchStatus status);
+
+    void saveResponse(String batchId, GatewaySettlementReport report, Instant processedAt);
+
+    void markReconciled(String batchId, Instant reconciledAt);
+
+    void markFailed(String batchId, String gatewayResponse, Instant processedAt);
+
+}
@@ -0,0 +1,10 @@
+package com.msa.commerce.monolith.settlement.application.port.out;
+
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+
+public interface GatewaySettlementClient {
+
+    GatewaySettlementReport requestSettlement(GatewaySettlementBatch batch);
+
+}
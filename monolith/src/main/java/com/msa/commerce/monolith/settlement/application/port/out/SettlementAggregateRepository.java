@@ -0,0 +1,46 @@
+package com.msa.commerce.monolith.settlement.application.port.out;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementPeriod;
+import com.msa.commerce.monolith.settlement.domain.SettlementRollup;
+
+public interface SettlementAggregateRepository {
+
+    /**
+     * 증분을 기존 합계에 더한다.
+     */
+    void addBreakdowns(List<SettlementBreakdown> increments);
+
+    void replaceBreakdowns(LocalDate settlementDate, List<SettlementBreakdown> breakdowns);
+
+    /**
+     * 롤업용. 공유 잠금 읽기라 트랜잭션 스냅샷 이후에 다른 트랜잭션이 커밋한 증분까지 읽는다.
+     */
+    List<SettlementBreakdown> findBreakdowns(LocalDate from, LocalDate to);
+
+    /**
+     * 하루치 breakdown 행(과 그 범위)을 잠근다. 잠그는 동안 그날의 증분 반영은 대기한다.
+     */
+    List<SettlementBreakdown> lockBreakdowns(LocalDate settlementDate);
+
+    /**
+     * 월간 → 주간 → 일간 순으로, 각각 키 순서대로 행을 잠근다. 아직 없는 행은 빈 행으로 만들어 잠근다.
+     * breakdown 을 바꾸는 트랜잭션은 모두 먼저 이 잠금을 잡으므로 같은 구간의 롤업은 한 번에 하나씩 다시 만들어진다.
+     */
+    void lockRollups(Collection<SettlementPeriod> months, Collection<SettlementPeriod> weeks,
+        Collection<LocalDate> settlementDates);
+
+    void saveDaily(LocalDate settlementDate, SettlementRollup rollup, Instant calculatedAt);
+
+    void saveWeekly(SettlementPeriod week, SettlementRollup rollup, Instant calculatedAt);
+
+    void saveMonthly(SettlementPeriod month, SettlementRollup rollup, Instant calculatedAt);
+
+    void markDailyReconciled(LocalDate settlementDate, Instant reconciledAt);
+
+}
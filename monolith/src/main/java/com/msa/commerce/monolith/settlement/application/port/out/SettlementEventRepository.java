@@ -0,0 +1,34 @@
+package com.msa.commerce.monolith.settlement.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementEvent;
+import com.msa.commerce.monolith.settlement.domain.SettlementIdRange;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+public interface SettlementEventRepository {
+
+    /**
+     * event_id 가 처음인 이벤트만 넣고, 이 트랜잭션에서 실제로 넣은 이벤트를 반환한다.
+     * 재전달된 이벤트가 섞여도 실패하지 않으며, 다른 트랜잭션이 같은 이벤트를 먼저 넣었으면 그 이벤트는 반환되지 않는다.
+     * 트랜잭션 안에서 호출해야 한다.
+     */
+    List<SettlementEvent> insertNew(List<SettlementEvent> events);
+
+    /**
+     * 하루치 정산 이벤트 전체를 다시 집계한다. 대사에서만 사용한다.
+     */
+    List<SettlementBreakdown> aggregate(LocalDate settlementDate);
+
+    Optional<SettlementIdRange> findIdRange(LocalDate settlementDate);
+
+    /**
+     * 한 PG 사의 하루치 이벤트 중 id 가 [fromId, toId] 인 것만 합산한다.
+     */
+    SettlementTotals sumRange(LocalDate settlementDate, GatewayProvider gatewayProvider, long fromId, long toId);
+
+}
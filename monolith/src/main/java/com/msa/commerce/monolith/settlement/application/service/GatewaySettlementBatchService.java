@@ -0,0 +1,159 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.monolith.settlement.application.port.in.GatewaySettlementBatchUseCase;
+import com.msa.commerce.monolith.settlement.application.port.out.GatewayBatchRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.GatewaySettlementClient;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayBatchStatus;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+import com.msa.commerce.monolith.settlement.domain.SettlementIdRange;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하루치 정산 이벤트를 PG 사별 배치로 묶어 settlement_gateway_batches 에 쓰고 PG 사 정산 결과와 대사한다.
+ * <p>
+ * 합계는 PG 사 x id 구간으로 나눈 {@link SettlementTotalsTask} 를 전용 ForkJoinPool 에서 돌려 구한다.
+ * 잎 작업은 JDBC 로 블로킹하므로 공용 풀을 쓰지 않고, parallelism 은 커넥션 풀 크기보다 작게 잡는다.
+ * 배치는 PENDING -> PROCESSING -> COMPLETED -> RECONCILED 로 진행하고, PG 호출 실패나 금액 불일치는 FAILED 로 남긴다.
+ * 이미 RECONCILED 인 배치는 다시 만들지 않는다.
+ */
+@Slf4j
+@Service
+public class GatewaySettlementBatchService implements GatewaySettlementBatchUseCase {
+
+    private final SettlementEventRepository eventRepository;
+
+    private final GatewayBatchRepository batchRepository;
+
+    private final GatewaySettlementClient gatewayClient;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ForkJoinPool pool;
+
+    private final long chunkSize;
+
+    private final Clock clock;
+
+    @Autowired
+    public GatewaySettlementBatchService(SettlementEventRepository eventRepository,
+        GatewayBatchRepository batchRepository, GatewaySettlementClient gatewayClient, MeterRegistry meterRegistry,
+        @Value("${commerce.settlement.gateway-batch.parallelism:4}") int parallelism,
+        @Value("${commerce.settlement.gateway-batch.chunk-size:250000}") long chunkSize) {
+        this(eventRepository, batchRepository, gatewayClient, meterRegistry, parallelism, chunkSize,
+            Clock.systemUTC());
+    }
+
+    GatewaySettlementBatchService(SettlementEventRepository eventRepository, GatewayBatchRepository batchRepository,
+        GatewaySettlementClient gatewayClient, MeterRegistry meterRegistry, int parallelism, long chunkSize,
+        Clock clock) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.eventRepository = eventRepository;
+        this.batchRepository = batchRepository;
+        this.gatewayClient = gatewayClient;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<GatewaySettlementBatch> buildBatches(LocalDate settlementDate) {
+        Optional<SettlementIdRange> range = eventRepository.findIdRange(settlementDate);
+        if (range.isEmpty()) {
+            return List.of();
+        }
+
+        List<GatewaySettlementBatch> batches = new ArrayList<>();
+        computeTotals(settlementDate, range.get()).forEach((provider, totals) -> {
+            if (totals.transactionCount() == 0) {
+                return;
+            }
+            GatewaySettlementBatch batch = GatewaySettlementBatch.of(provider, settlementDate, totals);
+            if (batchRepository.findStatus(batch.batchId()).orElse(null) == GatewayBatchStatus.RECONCILED) {
+                log.info("Gateway settlement batch {} already reconciled, skipping", batch.batchId());
+                return;
+            }
+            batchRepository.savePending(batch);
+            settle(batch);
+            batches.add(batch);
+        });
+        return batches;
+    }
+
+    /**
+     * PG 사마다 루트 작업을 풀에 넣고 모두 기다린다. 한 PG 사의 이벤트가 몰려도 그 PG 사 작업만 더 잘게 나뉜다.
+     */
+    Map<GatewayProvider, SettlementTotals> computeTotals(LocalDate settlementDate, SettlementIdRange range) {
+        Map<GatewayProvider, SettlementTotalsTask> tasks = new EnumMap<>(GatewayProvider.class);
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            SettlementTotalsTask task = new SettlementTotalsTask(eventRepository, settlementDate, provider,
+                range.fromId(), range.toId(), chunkSize);
+            pool.execute(task);
+            tasks.put(provider, task);
+        }
+
+        Map<GatewayProvider, SettlementTotals> totals = new EnumMap<>(GatewayProvider.class);
+        tasks.forEach((provider, task) -> totals.put(provider, task.join()));
+        return totals;
+    }
+
+    private void settle(GatewaySettlementBatch batch) {
+        batchRepository.updateStatus(batch.batchId(), GatewayBatchStatus.PROCESSING);
+
+        GatewaySettlementReport report;
+        try {
+            report = gatewayClient.requestSettlement(batch);
+        } catch (RuntimeException e) {
+            log.warn("Gateway settlement request failed for batch {}", batch.batchId(), e);
+            batchRepository.markFailed(batch.batchId(), null, clock.instant());
+            count("failed");
+            return;
+        }
+
+        Instant now = clock.instant();
+        batchRepository.saveResponse(batch.batchId(), report, now);
+        if (batch.matches(report)) {
+            batchRepository.markReconciled(batch.batchId(), now);
+            count("reconciled");
+        } else {
+            log.warn("Gateway settlement mismatch for batch {}: expected count={}, total={}, fee={}, net={}, "
+                    + "gateway reported {}", batch.batchId(), batch.totals().getPaymentCount(), batch.totalMinor(),
+                batch.feeMinor(), batch.netSettlementMinor(), report);
+            batchRepository.markFailed(batch.batchId(), null, now);
+            count("mismatched");
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("commerce.settlement.gateway-batches", "outcome", outcome).increment();
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+}
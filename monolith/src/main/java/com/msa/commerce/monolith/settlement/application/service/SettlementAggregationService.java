@@ -0,0 +1,133 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.settlement.application.port.in.PaymentSettlementCommand;
+import com.msa.commerce.monolith.settlement.application.port.in.SettlementAggregateUseCase;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementAccumulator;
+import com.msa.commerce.monolith.settlement.domain.SettlementEvent;
+import com.msa.commerce.monolith.settlement.domain.SettlementFeePolicy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 이벤트 배치를 정산 이벤트로 기록하고, 같은 트랜잭션에서 일별 x PG 사 x 결제 수단 증분을
+ * breakdown 합계에 더한 뒤 바뀐 날의 일간/주간/월간 행을 롤업한다.
+ * 롤업할 행을 먼저 잠그므로 같은 구간을 건드리는 배치는 인스턴스가 달라도 차례로 반영된다.
+ * 증분은 이 트랜잭션의 upsert 가 실제로 넣은 이벤트로만 만든다. 재전달된 이벤트나 다른 컨슈머가 먼저 넣은
+ * 이벤트는 들어가지 않으므로 합계를 두 번 올리지 않는다.
+ */
+@Slf4j
+@Service
+public class SettlementAggregationService implements SettlementAggregateUseCase {
+
+    private final SettlementEventRepository eventRepository;
+
+    private final SettlementAggregateRepository aggregateRepository;
+
+    private final SettlementRollupService rollupService;
+
+    private final SettlementFeePolicy feePolicy;
+
+    private final ZoneId zone;
+
+    private final String currency;
+
+    private final Clock clock;
+
+    @Autowired
+    public SettlementAggregationService(SettlementEventRepository eventRepository,
+        SettlementAggregateRepository aggregateRepository, SettlementRollupService rollupService,
+        SettlementFeePolicy feePolicy,
+        @Value("${commerce.settlement.zone:Asia/Seoul}") String zone,
+        @Value("${commerce.settlement.currency:KRW}") String currency) {
+        this(eventRepository, aggregateRepository, rollupService, feePolicy, ZoneId.of(zone), currency,
+            Clock.systemUTC());
+    }
+
+    SettlementAggregationService(SettlementEventRepository eventRepository,
+        SettlementAggregateRepository aggregateRepository, SettlementRollupService rollupService,
+        SettlementFeePolicy feePolicy, ZoneId zone, String currency, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.aggregateRepository = aggregateRepository;
+        this.rollupService = rollupService;
+        this.feePolicy = feePolicy;
+        this.zone = zone;
+        this.currency = currency;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    public void aggregate(List<PaymentSettlementCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        Map<String, PaymentSettlementCommand> unique = new LinkedHashMap<>();
+        commands.forEach(command -> unique.putIfAbsent(command.getEventId(), command));
+        List<SettlementEvent> events = new ArrayList<>(unique.size());
+        for (PaymentSettlementCommand command : unique.values()) {
+            // 정산 테이블에는 통화 컬럼이 없어 정산 통화가 아닌 결제는 합산하지 않는다
+            if (!currency.equals(command.getCurrency())) {
+                log.warn("Skipping settlement of event {} in {}, settlement currency is {}",
+                    command.getEventId(), command.getCurrency(), currency);
+                continue;
+            }
+            events.add(toEvent(command));
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        TreeSet<LocalDate> settlementDates = new TreeSet<>();
+        events.forEach(event -> settlementDates.add(event.getSettlementTargetDate()));
+        rollupService.lock(settlementDates);
+
+        List<SettlementEvent> inserted = eventRepository.insertNew(events);
+        if (inserted.isEmpty()) {
+            log.debug("Skipped {} redelivered settlement events", events.size());
+            return;
+        }
+        SettlementAccumulator accumulator = new SettlementAccumulator();
+        inserted.forEach(accumulator::fold);
+        aggregateRepository.addBreakdowns(accumulator.breakdowns());
+        rollupService.rollUp(accumulator.settlementDates(), clock.instant());
+
+        log.debug("Aggregated {} of {} settlement events into {} breakdowns", inserted.size(), events.size(),
+            accumulator.breakdowns().size());
+    }
+
+    private SettlementEvent toEvent(PaymentSettlementCommand command) {
+        return SettlementEvent.settle(
+            command.getEventId(),
+            command.getPaymentId(),
+            command.getOrderId(),
+            command.getUserId(),
+            PaymentMethodType.valueOf(command.getPaymentMethodType()),
+            GatewayProvider.valueOf(command.getGatewayProvider()),
+            Money.of(command.getAmount(), command.getCurrency()),
+            command.getEventType(),
+            LocalDate.ofInstant(command.getOccurredAt(), zone),
+            command.getOccurredAt(),
+            feePolicy);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.msa.commerce.monolith.settlement.application.port.in.SettlementReconcileUseCase;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementKey;
+import com.msa.commerce.monolith.settlement.domain.SettlementReconciliation;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하루치 증분 합계를 정산 이벤트 전체 재계산과 비교한다. 어긋나면 재계산 값으로 breakdown 을 바꾸고
+ * 일간/주간/월간 행을 다시 롤업한 뒤 일간 행을 RECONCILED 로 표시한다.
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationService implements SettlementReconcileUseCase {
+
+    private final SettlementEventRepository eventRepository;
+
+    private final SettlementAggregateRepository aggregateRepository;
+
+    private final SettlementRollupService rollupService;
+
+    private final Counter matched;
+
+    private final Counter repaired;
+
+    private final Clock clock;
+
+    @Autowired
+    public SettlementReconciliationService(SettlementEventRepository eventRepository,
+        SettlementAggregateRepository aggregateRepository, SettlementRollupService rollupService,
+        MeterRegistry meterRegistry) {
+        this(eventRepository, aggregateRepository, rollupService, meterRegistry, Clock.systemUTC());
+    }
+
+    SettlementReconciliationService(SettlementEventRepository eventRepository,
+        SettlementAggregateRepository aggregateRepository, SettlementRollupService rollupService,
+        MeterRegistry meterRegistry, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.aggregateRepository = aggregateRepository;
+        this.rollupService = rollupService;
+        this.matched = Counter.builder("commerce.settlement.reconciliations")
+            .tag("outcome", "matched")
+            .register(meterRegistry);
+        this.repaired = Counter.builder("commerce.settlement.reconciliations")
+            .tag("outcome", "repaired")
+            .register(meterRegistry);
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    public SettlementReconciliation reconcile(LocalDate settlementDate) {
+        // 롤업 행과 breakdown 을 먼저 잠가 그날의 증분 반영을 멈춘 뒤 이벤트를 읽어야 재계산 사이에 끼어든 증분을 덮어쓰지 않는다.
+        // 롤업 행은 증분 반영과 같은 순서로 breakdown 보다 먼저 잠근다
+        rollupService.lock(List.of(settlementDate));
+        Map<SettlementKey, SettlementTotals> incremental = toMap(aggregateRepository.lockBreakdowns(settlementDate));
+        Map<SettlementKey, SettlementTotals> recomputed = toMap(eventRepository.aggregate(settlementDate));
+
+        TreeSet<SettlementKey> keys = new TreeSet<>(incremental.keySet());
+        keys.addAll(recomputed.keySet());
+        List<SettlementKey> mismatched = new ArrayList<>();
+        for (SettlementKey key : keys) {
+            if (!Objects.equals(incremental.get(key), recomputed.get(key))) {
+                mismatched.add(key);
+                log.warn("Settlement mismatch for {}: incremental={}, recomputed={}", key, incremental.get(key),
+                    recomputed.get(key));
+            }
+        }
+
+        Instant now = clock.instant();
+        if (mismatched.isEmpty()) {
+            matched.increment();
+        } else {
+            repaired.increment();
+            List<SettlementBreakdown> breakdowns = new ArrayList<>(recomputed.size());
+            recomputed.forEach((key, totals) -> breakdowns.add(new SettlementBreakdown(key, totals)));
+            aggregateRepository.replaceBreakdowns(settlementDate, breakdowns);
+            rollupService.rollUp(List.of(settlementDate), now);
+        }
+        aggregateRepository.markDailyReconciled(settlementDate, now);
+        return new SettlementReconciliation(settlementDate, mismatched);
+    }
+
+    private static Map<SettlementKey, SettlementTotals> toMap(List<SettlementBreakdown> breakdowns) {
+        Map<SettlementKey, SettlementTotals> map = new TreeMap<>();
+        breakdowns.forEach(breakdown -> map.put(breakdown.key(), breakdown.totals()));
+        return map;
+    }
+
+}
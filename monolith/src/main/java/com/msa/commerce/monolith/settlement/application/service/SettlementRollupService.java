@@ -0,0 +1,68 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.domain.SettlementPeriod;
+import com.msa.commerce.monolith.settlement.domain.SettlementRollup;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 바뀐 정산일의 일간 행과 그 날이 속한 주간/월간 행을 breakdown 합계로 다시 만든다.
+ * 이벤트는 읽지 않으므로 비용은 구간의 일수 x 키 수에 비례한다.
+ * <p>
+ * 주간/월간 행에는 다른 인스턴스가 동시에 바꾼 다른 날의 breakdown 도 합쳐진다. 그래서 breakdown 을 바꾸는 쪽은 먼저
+ * {@link #lock} 으로 영향받는 일간/주간/월간 행을 잠그고, 롤업은 잠금 읽기로 커밋된 최신 breakdown 을 읽는다.
+ * 같은 구간을 건드리는 배치와 대사는 차례로 반영되므로 나중에 커밋한 쪽이 오래된 합계로 덮어쓰지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SettlementRollupService {
+
+    private final SettlementAggregateRepository aggregateRepository;
+
+    /**
+     * settlementDates 가 속한 월간, 주간, 일간 행을 이 순서로 각각 키 순서대로 잠가 트랜잭션끼리 교착되지 않게 한다.
+     */
+    public void lock(Collection<LocalDate> settlementDates) {
+        Comparator<SettlementPeriod> byLabel = Comparator.comparing(SettlementPeriod::label);
+        Set<SettlementPeriod> weeks = new TreeSet<>(byLabel);
+        Set<SettlementPeriod> months = new TreeSet<>(byLabel);
+        Set<LocalDate> dates = new TreeSet<>(settlementDates);
+        for (LocalDate date : dates) {
+            weeks.add(SettlementPeriod.weekOf(date));
+            months.add(SettlementPeriod.monthOf(date));
+        }
+        aggregateRepository.lockRollups(months, weeks, dates);
+    }
+
+    public void rollUp(Collection<LocalDate> settlementDates, Instant calculatedAt) {
+        Set<SettlementPeriod> weeks = new LinkedHashSet<>();
+        Set<SettlementPeriod> months = new LinkedHashSet<>();
+        for (LocalDate date : settlementDates) {
+            aggregateRepository.saveDaily(date, rollup(date, date), calculatedAt);
+            weeks.add(SettlementPeriod.weekOf(date));
+            months.add(SettlementPeriod.monthOf(date));
+        }
+        for (SettlementPeriod week : weeks) {
+            aggregateRepository.saveWeekly(week, rollup(week.startDate(), week.endDate()), calculatedAt);
+        }
+        for (SettlementPeriod month : months) {
+            aggregateRepository.saveMonthly(month, rollup(month.startDate(), month.endDate()), calculatedAt);
+        }
+    }
+
+    private SettlementRollup rollup(LocalDate from, LocalDate to) {
+        return SettlementRollup.of(aggregateRepository.findBreakdowns(from, to));
+    }
+
+}
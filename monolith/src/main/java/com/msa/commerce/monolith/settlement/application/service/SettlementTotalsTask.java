@@ -0,0 +1,54 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.RecursiveTask;
+
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+/**
+ * 한 PG 사의 id 구간 [fromId, toId] 를 chunkSize 이하가 될 때까지 반으로 나눠 합산한다.
+ * 잎 작업은 구간 합계 쿼리 하나이고, 나뉜 합계는 long 최소 단위로 더하므로 순서와 무관하게 같은 값이 된다.
+ */
+class SettlementTotalsTask extends RecursiveTask<SettlementTotals> {
+
+    private final SettlementEventRepository eventRepository;
+
+    private final LocalDate settlementDate;
+
+    private final GatewayProvider gatewayProvider;
+
+    private final long fromId;
+
+    private final long toId;
+
+    private final long chunkSize;
+
+    SettlementTotalsTask(SettlementEventRepository eventRepository, LocalDate settlementDate,
+        GatewayProvider gatewayProvider, long fromId, long toId, long chunkSize) {
+        this.eventRepository = eventRepository;
+        this.settlementDate = settlementDate;
+        this.gatewayProvider = gatewayProvider;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected SettlementTotals compute() {
+        if (toId - fromId < chunkSize) {
+            return eventRepository.sumRange(settlementDate, gatewayProvider, fromId, toId);
+        }
+        long middle = fromId + (toId - fromId) / 2;
+        SettlementTotalsTask left = subtask(fromId, middle);
+        left.fork();
+        SettlementTotals totals = subtask(middle + 1, toId).compute();
+        return totals.add(left.join());
+    }
+
+    private SettlementTotalsTask subtask(long from, long to) {
+        return new SettlementTotalsTask(eventRepository, settlementDate, gatewayProvider, from, to, chunkSize);
+    }
+
+}
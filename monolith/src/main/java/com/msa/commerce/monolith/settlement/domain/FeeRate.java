@@ -0,0 +1,46 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.math.BigDecimal;
+
+import com.msa.commerce.common.money.Money;
+
+/**
+ * DECIMAL(5,4) 수수료율을 만분율 정수로 들고 있다. 금액은 {@link Money} 의 최소 단위 long 으로 계산해
+ * 이벤트마다 BigDecimal 을 만들지 않는다.
+ */
+public record FeeRate(int tenThousandths) {
+
+    private static final int SCALE = 4;
+
+    private static final long DENOMINATOR = 10_000L;
+
+    public FeeRate {
+        if (tenThousandths < 0 || tenThousandths > DENOMINATOR) {
+            throw new IllegalArgumentException("Fee rate must be between 0 and 1: " + tenThousandths);
+        }
+    }
+
+    /**
+     * 소수점 넷째 자리를 넘는 수수료율은 DECIMAL(5,4) 에 저장할 수 없으므로 거절한다.
+     */
+    public static FeeRate of(BigDecimal rate) {
+        return new FeeRate(rate.movePointRight(SCALE).intValueExact());
+    }
+
+    public static FeeRate parse(String rate) {
+        return of(new BigDecimal(rate.trim()));
+    }
+
+    /**
+     * 금액에 수수료율을 곱하고 DECIMAL(10,2) 저장과 같은 HALF_UP 으로 반올림한다.
+     * 음수(환불) 금액은 절대값 기준으로 반올림해 부호만 되돌린다.
+     */
+    public Money applyTo(Money amount) {
+        return amount.multiplyByRate(tenThousandths, SCALE);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(tenThousandths, SCALE);
+    }
+
+}
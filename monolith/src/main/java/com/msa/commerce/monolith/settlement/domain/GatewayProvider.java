@@ -0,0 +1,10 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+public enum GatewayProvider {
+
+    TOSS,
+    NICE,
+    KCP,
+    PAYPAL,
+    STRIPE
+}
@@ -0,0 +1,44 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * PG 사 하나의 하루치 정산 배치. 금액은 환불을 뺀 순액이고 수수료는 PG 수수료만 포함한다.
+ */
+public record GatewaySettlementBatch(
+    String batchId,
+    GatewayProvider gatewayProvider,
+    LocalDate settlementDate,
+    SettlementTotals totals
+) {
+
+    public static GatewaySettlementBatch of(GatewayProvider gatewayProvider, LocalDate settlementDate,
+        SettlementTotals totals) {
+        String batchId = gatewayProvider.name() + "-" + settlementDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+        return new GatewaySettlementBatch(batchId, gatewayProvider, settlementDate, totals);
+    }
+
+    public long totalMinor() {
+        return totals.getGrossMinor();
+    }
+
+    public long feeMinor() {
+        return totals.getGatewayFeeMinor();
+    }
+
+    /**
+     * PG 사가 지급할 금액: 순 결제액 - PG 수수료.
+     */
+    public long netSettlementMinor() {
+        return totals.getGrossMinor() - totals.getGatewayFeeMinor();
+    }
+
+    public boolean matches(GatewaySettlementReport report) {
+        return report.paymentCount() == totals.getPaymentCount()
+            && report.totalMinor() == totalMinor()
+            && report.feeMinor() == feeMinor()
+            && report.netMinor() == netSettlementMinor();
+    }
+
+}
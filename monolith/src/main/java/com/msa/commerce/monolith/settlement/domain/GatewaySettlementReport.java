@@ -0,0 +1,14 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+/**
+ * PG 사가 돌려준 정산 결과. 원문(rawResponse)은 settlement_gateway_batches.gateway_response 에 저장한다.
+ */
+public record GatewaySettlementReport(
+    String gatewaySettlementId,
+    long paymentCount,
+    long totalMinor,
+    long feeMinor,
+    long netMinor,
+    String rawResponse
+) {
+}
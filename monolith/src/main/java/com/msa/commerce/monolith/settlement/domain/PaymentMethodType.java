@@ -0,0 +1,11 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+public enum PaymentMethodType {
+
+    CREDIT_CARD,
+    DEBIT_CARD,
+    BANK_TRANSFER,
+    DIGITAL_WALLET,
+    CRYPTOCURRENCY,
+    VIRTUAL_ACCOUNT
+}
@@ -0,0 +1,45 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 한 배치의 정산 이벤트를 키별 증분으로 접는다. 이벤트 수와 상관없이 저장할 행 수는 키 수로 줄어든다.
+ */
+public class SettlementAccumulator {
+
+    private final Map<SettlementKey, SettlementTotals> totals = new TreeMap<>();
+
+    public void fold(SettlementEvent event) {
+        totals.computeIfAbsent(event.key(), key -> new SettlementTotals()).add(event);
+    }
+
+    public void add(SettlementKey key, SettlementTotals increment) {
+        totals.computeIfAbsent(key, k -> new SettlementTotals()).add(increment);
+    }
+
+    public boolean isEmpty() {
+        return totals.isEmpty();
+    }
+
+    /**
+     * 키 순서로 정렬된 증분. 같은 순서로 행을 잠가 동시 배치끼리 교착되지 않게 한다.
+     */
+    public List<SettlementBreakdown> breakdowns() {
+        List<SettlementBreakdown> breakdowns = new ArrayList<>(totals.size());
+        totals.forEach((key, value) -> breakdowns.add(new SettlementBreakdown(key, value)));
+        return breakdowns;
+    }
+
+    public SortedSet<LocalDate> settlementDates() {
+        SortedSet<LocalDate> dates = new TreeSet<>();
+        totals.keySet().forEach(key -> dates.add(key.settlementDate()));
+        return dates;
+    }
+
+}
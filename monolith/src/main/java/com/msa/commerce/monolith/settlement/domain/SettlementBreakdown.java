@@ -0,0 +1,7 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+/**
+ * daily_settlement_breakdowns 한 행: 정산일 x PG 사 x 결제 수단별 합계.
+ */
+public record SettlementBreakdown(SettlementKey key, SettlementTotals totals) {
+}
@@ -0,0 +1,98 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.msa.commerce.common.money.Money;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * payment_settlement_events 한 행. 금액은 모두 최소 단위(1/100) long 이며 환불도 양수로 들고,
+ * 집계할 때 {@link SettlementEventType#isRefund()} 로 부호를 정한다.
+ */
+@Getter
+public class SettlementEvent {
+
+    private final String eventId;
+
+    private final Long paymentId;
+
+    private final Long orderId;
+
+    private final Long userId;              // 결제 이벤트에 사용자가 없으면 null
+
+    private final String currency;
+
+    private final PaymentMethodType paymentMethodType;
+
+    private final GatewayProvider gatewayProvider;
+
+    private final long grossMinor;
+
+    private final FeeRate gatewayFeeRate;
+
+    private final long gatewayFeeMinor;
+
+    private final FeeRate platformFeeRate;
+
+    private final long platformFeeMinor;
+
+    private final long taxMinor;
+
+    private final long netMinor;
+
+    private final SettlementEventType eventType;
+
+    private final LocalDate settlementTargetDate;
+
+    private final Instant processedAt;
+
+    @Builder
+    public SettlementEvent(String eventId, Long paymentId, Long orderId, Long userId, String currency,
+        PaymentMethodType paymentMethodType, GatewayProvider gatewayProvider, long grossMinor, FeeRate gatewayFeeRate,
+        long gatewayFeeMinor, FeeRate platformFeeRate, long platformFeeMinor, long taxMinor, long netMinor,
+        SettlementEventType eventType, LocalDate settlementTargetDate, Instant processedAt) {
+        this.eventId = eventId;
+        this.paymentId = paymentId;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.currency = currency;
+        this.paymentMethodType = paymentMethodType;
+        this.gatewayProvider = gatewayProvider;
+        this.grossMinor = grossMinor;
+        this.gatewayFeeRate = gatewayFeeRate;
+        this.gatewayFeeMinor = gatewayFeeMinor;
+        this.platformFeeRate = platformFeeRate;
+        this.platformFeeMinor = platformFeeMinor;
+        this.taxMinor = taxMinor;
+        this.netMinor = netMinor;
+        this.eventType = eventType;
+        this.settlementTargetDate = settlementTargetDate;
+        this.processedAt = processedAt;
+    }
+
+    /**
+     * 수수료 정책으로 PG/플랫폼 수수료와 정산 금액을 계산해 이벤트를 만든다. 세금 규칙은 아직 없어 0 이다.
+     */
+    public static SettlementEvent settle(String eventId, Long paymentId, Long orderId, Long userId,
+        PaymentMethodType paymentMethodType, GatewayProvider gatewayProvider, Money gross,
+        SettlementEventType eventType, LocalDate settlementTargetDate, Instant processedAt,
+        SettlementFeePolicy feePolicy) {
+        FeeRate gatewayFeeRate = feePolicy.gatewayRate(gatewayProvider);
+        FeeRate platformFeeRate = feePolicy.platformRate();
+        Money gatewayFee = gatewayFeeRate.applyTo(gross);
+        Money platformFee = platformFeeRate.applyTo(gross);
+        Money tax = Money.zero(gross.currency());
+        Money net = gross.minus(gatewayFee).minus(platformFee).minus(tax);
+        return new SettlementEvent(eventId, paymentId, orderId, userId, gross.currency(), paymentMethodType,
+            gatewayProvider, gross.minor(), gatewayFeeRate, gatewayFee.minor(), platformFeeRate, platformFee.minor(),
+            tax.minor(), net.minor(), eventType, settlementTargetDate, processedAt);
+    }
+
+    public SettlementKey key() {
+        return new SettlementKey(settlementTargetDate, gatewayProvider, paymentMethodType);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+public enum SettlementEventType {
+
+    PAYMENT_COMPLETED,
+    PAYMENT_REFUNDED,
+    PAYMENT_PARTIALLY_REFUNDED;
+
+    public boolean isRefund() {
+        return this != PAYMENT_COMPLETED;
+    }
+}
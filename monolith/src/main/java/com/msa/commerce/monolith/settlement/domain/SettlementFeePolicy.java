@@ -0,0 +1,49 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PG 사별 PG 수수료율과 플랫폼 수수료율. 지정하지 않은 PG 사는 기본 PG 수수료율을 사용한다.
+ */
+public class SettlementFeePolicy {
+
+    private final Map<GatewayProvider, FeeRate> gatewayRates = new EnumMap<>(GatewayProvider.class);
+
+    private final FeeRate platformRate;
+
+    public SettlementFeePolicy(FeeRate defaultGatewayRate, Map<GatewayProvider, FeeRate> gatewayOverrides,
+        FeeRate platformRate) {
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            gatewayRates.put(provider, gatewayOverrides.getOrDefault(provider, defaultGatewayRate));
+        }
+        this.platformRate = platformRate;
+    }
+
+    /**
+     * "TOSS=0.0280,NICE=0.0290" 형식의 PG 사별 수수료율을 기본값에 덮어쓴다.
+     */
+    public static SettlementFeePolicy parse(String defaultGatewayRate, String gatewayRates, String platformRate) {
+        Map<GatewayProvider, FeeRate> overrides = new EnumMap<>(GatewayProvider.class);
+        if (gatewayRates != null && !gatewayRates.isBlank()) {
+            for (String entry : gatewayRates.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid gateway fee rate entry: " + entry);
+                }
+                overrides.put(GatewayProvider.valueOf(entry.substring(0, separator).trim()),
+                    FeeRate.parse(entry.substring(separator + 1)));
+            }
+        }
+        return new SettlementFeePolicy(FeeRate.parse(defaultGatewayRate), overrides, FeeRate.parse(platformRate));
+    }
+
+    public FeeRate gatewayRate(GatewayProvider provider) {
+        return gatewayRates.get(provider);
+    }
+
+    public FeeRate platformRate() {
+        return platformRate;
+    }
+
+}
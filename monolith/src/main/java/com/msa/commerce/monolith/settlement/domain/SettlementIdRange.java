@@ -0,0 +1,7 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+/**
+ * 한 정산일의 payment_settlement_events id 범위(양 끝 포함). 병렬 집계를 id 구간으로 나누는 데 쓴다.
+ */
+public record SettlementIdRange(long fromId, long toId) {
+}
@@ -0,0 +1,24 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 증분 집계의 단위: 정산일 x PG 사 x 결제 수단. 정렬 순서는 행 잠금 순서로도 쓰인다.
+ */
+public record SettlementKey(
+    LocalDate settlementDate,
+    GatewayProvider gatewayProvider,
+    PaymentMethodType paymentMethodType
+) implements Comparable<SettlementKey> {
+
+    private static final Comparator<SettlementKey> ORDER = Comparator.comparing(SettlementKey::settlementDate)
+        .thenComparing(SettlementKey::gatewayProvider)
+        .thenComparing(SettlementKey::paymentMethodType);
+
+    @Override
+    public int compareTo(SettlementKey other) {
+        return ORDER.compare(this, other);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 주간/월간 정산 구간. 주는 ISO 주(월요일 시작)이며 라벨은 weekly_settlements.year_week('YYYY-WW'),
+ * 월은 monthly_settlements.settlement_year_month('YYYY-MM') 형식이다.
+ */
+public record SettlementPeriod(String label, LocalDate startDate, LocalDate endDate) {
+
+    public static SettlementPeriod weekOf(LocalDate date) {
+        LocalDate start = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        String label = String.format("%04d-%02d", date.get(IsoFields.WEEK_BASED_YEAR),
+            date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        return new SettlementPeriod(label, start, start.plusDays(6));
+    }
+
+    public static SettlementPeriod monthOf(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return new SettlementPeriod(month.toString(), month.atDay(1), month.atEndOfMonth());
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루치 증분 집계와 이벤트 전체 재계산의 비교 결과. 어긋난 키는 재계산 값으로 바로잡는다.
+ */
+public record SettlementReconciliation(LocalDate settlementDate, List<SettlementKey> mismatchedKeys) {
+
+    public boolean matched() {
+        return mismatchedKeys.isEmpty();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import lombok.Getter;
+
+/**
+ * 일별 breakdown 행을 합쳐 만든 구간 합계. 일간/주간/월간 정산 행은 모두 이벤트를 다시 읽지 않고
+ * 이 롤업으로 만든다.
+ */
+@Getter
+public class SettlementRollup {
+
+    private final SettlementTotals totals = new SettlementTotals();
+
+    private final Map<PaymentMethodType, SettlementTotals> byPaymentMethod = new EnumMap<>(PaymentMethodType.class);
+
+    private final Map<GatewayProvider, SettlementTotals> byGateway = new EnumMap<>(GatewayProvider.class);
+
+    private final SortedMap<LocalDate, SettlementTotals> byDate = new TreeMap<>();
+
+    public static SettlementRollup of(Collection<SettlementBreakdown> breakdowns) {
+        SettlementRollup rollup = new SettlementRollup();
+        for (SettlementBreakdown breakdown : breakdowns) {
+            SettlementKey key = breakdown.key();
+            rollup.totals.add(breakdown.totals());
+            rollup.byPaymentMethod.computeIfAbsent(key.paymentMethodType(), type -> new SettlementTotals())
+                .add(breakdown.totals());
+            rollup.byGateway.computeIfAbsent(key.gatewayProvider(), provider -> new SettlementTotals())
+                .add(breakdown.totals());
+            rollup.byDate.computeIfAbsent(key.settlementDate(), date -> new SettlementTotals())
+                .add(breakdown.totals());
+        }
+        return rollup;
+    }
+
+    public SettlementTotals paymentMethod(PaymentMethodType type) {
+        return byPaymentMethod.getOrDefault(type, new SettlementTotals());
+    }
+
+    public SettlementTotals gateway(GatewayProvider provider) {
+        return byGateway.getOrDefault(provider, new SettlementTotals());
+    }
+
+    /**
+     * 총 결제액이 가장 큰 날. 같으면 이른 날을 고른다.
+     */
+    public Map.Entry<LocalDate, SettlementTotals> peakDay() {
+        Map.Entry<LocalDate, SettlementTotals> peak = null;
+        for (Map.Entry<LocalDate, SettlementTotals> day : byDate.entrySet()) {
+            if (peak == null || day.getValue().getGrossMinor() > peak.getValue().getGrossMinor()) {
+                peak = day;
+            }
+        }
+        return peak;
+    }
+
+    public Map<LocalDate, SettlementTotals> getByDate() {
+        return Collections.unmodifiableSortedMap(byDate);
+    }
+
+}
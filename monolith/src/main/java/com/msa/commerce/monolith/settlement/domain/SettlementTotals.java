@@ -0,0 +1,65 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 건수와 금액 합계 누산기. 금액은 최소 단위(1/100) long 으로 더하고, 환불은 빼서 순액으로 유지한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementTotals {
+
+    private long paymentCount;
+
+    private long refundCount;
+
+    private long grossMinor;
+
+    private long gatewayFeeMinor;
+
+    private long platformFeeMinor;
+
+    private long taxMinor;
+
+    private long netMinor;
+
+    public SettlementTotals add(SettlementEvent event) {
+        long sign;
+        if (event.getEventType().isRefund()) {
+            refundCount++;
+            sign = -1L;
+        } else {
+            paymentCount++;
+            sign = 1L;
+        }
+        grossMinor = Math.addExact(grossMinor, sign * event.getGrossMinor());
+        gatewayFeeMinor = Math.addExact(gatewayFeeMinor, sign * event.getGatewayFeeMinor());
+        platformFeeMinor = Math.addExact(platformFeeMinor, sign * event.getPlatformFeeMinor());
+        taxMinor = Math.addExact(taxMinor, sign * event.getTaxMinor());
+        netMinor = Math.addExact(netMinor, sign * event.getNetMinor());
+        return this;
+    }
+
+    public SettlementTotals add(SettlementTotals other) {
+        paymentCount += other.paymentCount;
+        refundCount += other.refundCount;
+        grossMinor = Math.addExact(grossMinor, other.grossMinor);
+        gatewayFeeMinor = Math.addExact(gatewayFeeMinor, other.gatewayFeeMinor);
+        platformFeeMinor = Math.addExact(platformFeeMinor, other.platformFeeMinor);
+        taxMinor = Math.addExact(taxMinor, other.taxMinor);
+        netMinor = Math.addExact(netMinor, other.netMinor);
+        return this;
+    }
+
+    public long transactionCount() {
+        return paymentCount + refundCount;
+    }
+
+}
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- Consumer-side idempotency store (db_platform)
+-- commerce.kafka.idempotency.store=jdbc 일 때 처리 완료된 event_id 를 기록한다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS processed_events
+(
+    event_id     VARCHAR(36) NOT NULL PRIMARY KEY,
+    processed_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_processed_events_processed_at (processed_at)
+);
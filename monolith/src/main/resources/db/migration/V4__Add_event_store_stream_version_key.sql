@@ -0,0 +1,8 @@
+-- ============================================================================
+-- Event store stream versioning (db_platform)
+-- 같은 스트림에 같은 버전이 두 번 기록되지 않도록 유니크 키로 낙관적 동시성 제어를 보장한다
+-- ============================================================================
+
+ALTER TABLE event_store
+    ADD UNIQUE KEY uk_event_store_stream (aggregate_type, aggregate_id, event_version),
+    DROP INDEX idx_event_store_aggregate;
@@ -0,0 +1,32 @@
+-- ============================================================================
+-- Daily settlement breakdowns (db_platform)
+-- 정산일 x PG 사 x 결제 수단별 증분 합계. 일간/주간/월간 정산 행은 이 테이블을 롤업해 만들고,
+-- 대사는 payment_settlement_events 재계산 결과와 이 테이블을 비교한다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS daily_settlement_breakdowns
+(
+    settlement_date     DATE                                                                                         NOT NULL,
+    gateway_provider    ENUM ('TOSS', 'NICE', 'KCP', 'PAYPAL', 'STRIPE')                                             NOT NULL,
+    payment_method_type ENUM ('CREDIT_CARD', 'DEBIT_CARD', 'BANK_TRANSFER', 'DIGITAL_WALLET', 'CRYPTOCURRENCY', 'VIRTUAL_ACCOUNT') NOT NULL,
+
+    payment_count       INT            NOT NULL DEFAULT 0,
+    refund_count        INT            NOT NULL DEFAULT 0,
+
+    -- 환불을 뺀 순액
+    gross_amount        DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+    gateway_fee_amount  DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+    platform_fee_amount DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+    tax_amount          DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+    net_amount          DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+
+    updated_at          DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (settlement_date, gateway_provider, payment_method_type)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 결제 이벤트에는 사용자 정보가 없으므로 정산 이벤트의 user_id 를 선택 값으로 바꾼다
+ALTER TABLE payment_settlement_events
+    MODIFY user_id BIGINT NULL;
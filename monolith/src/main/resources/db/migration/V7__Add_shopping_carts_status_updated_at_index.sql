@@ -0,0 +1,11 @@
+-- ============================================================================
+-- Shopping cart abandonment scan index (db_platform)
+-- 방치 장바구니 스캔이 ACTIVE 장바구니만 (updated_at, id) 순으로 읽도록 (status, updated_at) 인덱스를 둔다.
+-- InnoDB 보조 인덱스 끝에는 PK 가 붙으므로 (status, updated_at, id) 순서가 된다.
+-- updated_at 단독 인덱스는 스캔 외에 쓰는 곳이 없어 함께 지운다. 장바구니 쓰기마다 갱신할 인덱스 수는 그대로다.
+-- idx_shopping_carts_status 는 재가격 작업의 ACTIVE id 구간 조회(MIN/MAX)가 쓰므로 남긴다
+-- ============================================================================
+
+ALTER TABLE shopping_carts
+    ADD INDEX idx_shopping_carts_status_updated_at (status, updated_at),
+    DROP INDEX idx_shopping_carts_updated_at;
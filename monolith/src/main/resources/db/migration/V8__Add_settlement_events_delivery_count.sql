@@ -0,0 +1,9 @@
+-- ============================================================================
+-- Settlement event delivery count (db_platform)
+-- 정산 이벤트 적재는 INSERT ... ON DUPLICATE KEY UPDATE 로 중복을 건너뛴다. 중복일 때 이 컬럼을 올려 실제로 바뀌는
+-- 갱신을 만들어야 드라이버 기본값(CLIENT_FOUND_ROWS)에서도 신규 행(1)과 중복 행(2)의 영향 행 수가 갈린다.
+-- 값 자체는 같은 이벤트가 몇 번 전달되었는지를 나타낸다
+-- ============================================================================
+
+ALTER TABLE payment_settlement_events
+    ADD COLUMN delivery_count INT NOT NULL DEFAULT 1 AFTER processed_at;
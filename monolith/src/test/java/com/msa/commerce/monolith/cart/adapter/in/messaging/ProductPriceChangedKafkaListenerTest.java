@@ -0,0 +1,119 @@
+package com.msa.commerce.monolith.cart.adapter.in.messaging;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.msa.commerce.common.events.product.ProductPriceChangedEvent;
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepricingRepository;
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingCache;
+import com.msa.commerce.monolith.cart.application.port.out.ProductPricingRepository;
+import com.msa.commerce.monolith.cart.application.service.CartPriceLookupService;
+import com.msa.commerce.monolith.cart.application.service.CartRepricingJobService;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartIdRange;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+import com.msa.commerce.monolith.cart.domain.CartPriceUpdate;
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 가격 변경 이벤트 수신부터 재가격 작업이 MySQL 과 Redis 장바구니 단가를 바꾸기까지를 저장소만 mock 으로 두고 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductPriceChangedKafkaListener 테스트")
+class ProductPriceChangedKafkaListenerTest {
+
+    @Mock
+    private ProductPricingCache pricingCache;
+
+    @Mock
+    private ProductPricingRepository pricingRepository;
+
+    @Mock
+    private CartRepricingRepository repricingRepository;
+
+    @Mock
+    private CartCacheRepository cacheRepository;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private CartRepricingJobService jobService;
+
+    private ProductPriceChangedKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CartPriceLookupService priceLookupService = new CartPriceLookupService(pricingCache, pricingRepository,
+            meterRegistry);
+        jobService = new CartRepricingJobService(repricingRepository, cacheRepository, priceLookupService,
+            meterRegistry, 2, 5_000L, "KRW");
+        listener = new ProductPriceChangedKafkaListener(jobService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.close();
+    }
+
+    @Test
+    @DisplayName("가격 변경 이벤트는 가격 캐시를 지우고, 다음 재가격 주기에 그 상품을 담은 장바구니 단가를 바꾼다")
+    void repricesCartsAfterPriceChangedEvent() {
+        // given
+        Cart cart = new Cart(1001L, 1L, 0L, "KRW", List.of(new CartItem(10L, null, 2, krw(1_000_00L))));
+        given(repricingRepository.findActiveIdRange()).willReturn(Optional.of(new CartIdRange(1L, 1L)));
+        given(repricingRepository.findActiveCarts(1L, 1L, Set.of(10L), "KRW")).willReturn(List.of(cart));
+        given(pricingCache.findAll(Set.of(10L))).willReturn(Map.of());
+        given(pricingRepository.findAll(List.of(10L)))
+            .willReturn(Map.of(10L, new ProductPricing(10L, krw(1_200_00L), true, Map.of())));
+        given(cacheRepository.findCached(List.of(1001L))).willReturn(Set.of(1001L));
+
+        // when
+        listener.onPriceChanged(List.of(priceChanged(10L), priceChanged(10L)), acknowledgment);
+        CartRepricingSummary summary = jobService.runPending();
+
+        // then
+        then(pricingCache).should().evict(Set.of(10L));
+        then(acknowledgment).should().acknowledge();
+        CartItemKey key = new CartItemKey(10L, null);
+        then(repricingRepository).should().updatePrices(List.of(new CartPriceUpdate(1L, key, krw(1_200_00L))));
+        then(cacheRepository).should().reprice(1001L, Map.of(key, krw(1_200_00L)));
+        assertThat(summary).isEqualTo(new CartRepricingSummary(1L, 1L, 1L, 0L));
+        assertThat(jobService.runPending()).isEqualTo(CartRepricingSummary.EMPTY);
+    }
+
+    private static ProductPriceChangedEvent priceChanged(long productId) {
+        return ProductPriceChangedEvent.builder()
+            .eventId("evt-" + productId)
+            .productId(productId)
+            .price(new BigDecimal("1200.00"))
+            .currency("KRW")
+            .build();
+    }
+
+    private static Money krw(long minor) {
+        return Money.ofMinor(minor, "KRW");
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.adapter.out.notification.AbandonedCartPromotionNotifier;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.AbandonedCartJdbcRepository;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.CartJdbcRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+import com.msa.commerce.monolith.notification.adapter.out.persistence.NotificationJdbcRepository;
+import com.msa.commerce.monolith.notification.domain.NotificationType;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 장바구니 100만 건 중 idle 이 지난 장바구니를 정리하는 처리량과, 정리가 도는 동안 write-behind 장바구니 쓰기
+ * 지연 시간이 달라지는지 측정한다. 장바구니의 마지막 갱신은 0~71시간 전에 고르게 퍼져 있어 약 2/3 가 24시간 기준을 넘는다.
+ * 네 개 중 하나는 이미 주문으로 바뀐(CONVERTED) 장바구니라 스캔 대상이 아니고, 정리가 끝난 뒤 새 인스턴스가 처음부터 다시
+ * 훑는 시간도 잰다.
+ * 외래 키 검사는 끈다. {@code ./gradlew :monolith:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("방치 장바구니 정리 벤치마크")
+class AbandonedCartSweepBenchmarkTest {
+
+    private static final int CARTS = 1_000_000;
+
+    private static final int WRITES = 5_000;
+
+    private static final Duration IDLE = Duration.ofHours(24);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("db_platform")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static TransactionTemplate transactionTemplate;
+
+    private static CartJdbcRepository cartRepository;
+
+    private static AbandonedCartJdbcRepository abandonedCartRepository;
+
+    private static AbandonedCartPromotionNotifier notifier;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(8);
+        config.setConnectionInitSql("SET FOREIGN_KEY_CHECKS = 0");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__Create_initial_schema.sql"),
+            new ClassPathResource("db/migration/V7__Add_shopping_carts_status_updated_at_index.sql"))
+            .execute(dataSource);
+
+        cartRepository = new CartJdbcRepository(jdbcTemplate);
+        abandonedCartRepository = new AbandonedCartJdbcRepository(jdbcTemplate,
+            new NamedParameterJdbcTemplate(dataSource));
+        notifier = new AbandonedCartPromotionNotifier(new NotificationJdbcRepository(jdbcTemplate),
+            NotificationType.PUSH);
+        fillCarts();
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void resetCarts() {
+        jdbcTemplate.update("""
+            UPDATE shopping_carts SET status = IF(id % 4 = 0, 'CONVERTED', 'ACTIVE'), updated_at = updated_at
+            """);
+        jdbcTemplate.update("DELETE FROM notifications");
+    }
+
+    @Test
+    @DisplayName("묶음 정리 처리량")
+    void sweepThroughput() {
+        AbandonedCartSweepService service = service(0L, Integer.MAX_VALUE);
+        long expected = countIdleActive();
+
+        long start = System.nanoTime();
+        int abandoned = service.sweep();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[cart-sweep] %,d of %,d carts abandoned in %.2fs -> %,.0f carts/sec%n",
+            abandoned, CARTS, seconds, abandoned / seconds);
+        assertThat((long)abandoned).isEqualTo(expected);
+        assertThat(countIdleActive()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class))
+            .isEqualTo(expected);
+
+        // 재시작한 인스턴스는 커서 없이 처음부터 읽지만 ACTIVE 구간만 훑는다
+        start = System.nanoTime();
+        int rescanned = service(0L, Integer.MAX_VALUE).sweep();
+        System.out.printf("[cart-sweep] rescan after restart in %.3f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+        assertThat(rescanned).isZero();
+    }
+
+    @Test
+    @DisplayName("정리가 도는 동안의 장바구니 쓰기 지연 시간")
+    void writeLatencyDuringSweep() throws Exception {
+        long[] idle = writeLatencies();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // 운영 설정과 같은 묶음 크기와 pause 로, 쓰기를 재는 동안 계속 돈다
+        AbandonedCartSweepService service = service(50L, 20);
+        Future<?> sweeper = executor.submit(() -> {
+            while (running.get()) {
+                if (service.sweep() == 0) {
+                    break;
+                }
+            }
+        });
+        long[] sweeping = writeLatencies();
+        running.set(false);
+        sweeper.get();
+        executor.shutdown();
+
+        report("idle", idle);
+        report("sweeping", sweeping);
+    }
+
+    private static AbandonedCartSweepService service(long pauseMs, int maxBatchesPerRun) {
+        return new AbandonedCartSweepService(abandonedCartRepository, notifier, transactionTemplate,
+            new SimpleMeterRegistry(), IDLE, 500, maxBatchesPerRun, pauseMs, true);
+    }
+
+    /**
+     * 최근 12시간 안에 쓰인 장바구니에 항목 세 개짜리 스냅샷을 write-behind 와 같은 방식으로 쓴다.
+     */
+    private static long[] writeLatencies() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[WRITES];
+        for (int i = 0; i < WRITES; i++) {
+            long n = random.nextLong(CARTS / 72) * 72 + random.nextInt(12);
+            Cart cart = new Cart(n + 1, n + 1, 1L, "KRW", List.of(
+                new CartItem(1L, null, 1, Money.ofMinor(1_000_00L, "KRW")),
+                new CartItem(2L, null, 2, Money.ofMinor(2_500_00L, "KRW")),
+                new CartItem(3L, null, 1, Money.ofMinor(9_900_00L, "KRW"))));
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> cartRepository.save(cart, CartStatus.ACTIVE));
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long countIdleActive() {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM shopping_carts
+            WHERE status = 'ACTIVE' AND updated_at < NOW() - INTERVAL 24 HOUR
+            """, Long.class);
+    }
+
+    /**
+     * 100만 행 숫자 테이블을 서버에서 만들어 INSERT ... SELECT 로 채운다. n 번째 장바구니는 n % 72 시간 전에 쓰였고,
+     * n % 4 가 3 이면 이미 주문으로 바뀐 장바구니다.
+     */
+    private static void fillCarts() {
+        jdbcTemplate.execute("CREATE TABLE digits (d INT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+        jdbcTemplate.execute("""
+            CREATE TABLE seq AS
+            SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 AS n
+            FROM digits a, digits b, digits c, digits d, digits e, digits f
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO shopping_carts (id, user_id, status, created_at, updated_at)
+            SELECT n + 1, n + 1, IF(n % 4 = 3, 'CONVERTED', 'ACTIVE'), NOW() - INTERVAL 30 DAY,
+                   NOW() - INTERVAL (n % 72) HOUR - INTERVAL (n % 3600) SECOND
+            FROM seq
+            ORDER BY n
+            """);
+    }
+
+    private static void report(String name, long[] latencies) {
+        System.out.printf("[cart-sweep] write %-8s p50 %.3f ms, p99 %.3f ms, max %.3f ms%n", name,
+            latencies[latencies.length / 2] / 1_000_000.0, latencies[(int)(latencies.length * 0.99)] / 1_000_000.0,
+            latencies[latencies.length - 1] / 1_000_000.0);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartNotifier;
+import com.msa.commerce.monolith.cart.application.port.out.AbandonedCartRepository;
+import com.msa.commerce.monolith.cart.domain.AbandonedCart;
+import com.msa.commerce.monolith.cart.domain.CartSweepCursor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AbandonedCartSweepService 테스트")
+class AbandonedCartSweepServiceTest {
+
+    private static final Duration IDLE = Duration.ofHours(24);
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Mock
+    private AbandonedCartRepository abandonedCartRepository;
+
+    @Mock
+    private AbandonedCartNotifier notifier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("커서를 이어 가며 묶음 단위로 바꾸고, 바뀐 장바구니에만 알림을 보낸다")
+    void sweepsInKeysetBatches() {
+        // given
+        AbandonedCartSweepService service = service(2, 10, true);
+        List<CartSweepCursor> first = List.of(new CartSweepCursor(T, 1L), new CartSweepCursor(T, 2L));
+        List<CartSweepCursor> second = List.of(new CartSweepCursor(T.plusMinutes(1), 3L));
+        given(abandonedCartRepository.findIdle(null, IDLE, 2)).willReturn(first);
+        given(abandonedCartRepository.findIdle(first.get(1), IDLE, 2)).willReturn(second);
+        // 2번은 이미 CONVERTED 라 바뀌지 않는다
+        List<AbandonedCart> firstMarked = List.of(new AbandonedCart(1L, 100L, T));
+        given(abandonedCartRepository.markAbandoned(List.of(1L, 2L), IDLE)).willReturn(firstMarked);
+        given(abandonedCartRepository.markAbandoned(List.of(3L), IDLE)).willReturn(List.of());
+
+        // when
+        int abandoned = service.sweep();
+
+        // then
+        assertThat(abandoned).isEqualTo(1);
+        then(notifier).should().notifyAbandoned(firstMarked);
+        then(notifier).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("한 번에 max-batches-per-run 묶음까지만 처리하고 다음 실행은 남은 ACTIVE 장바구니를 처음부터 읽는다")
+    void stopsAtBatchLimit() {
+        // given
+        AbandonedCartSweepService service = service(1, 1, false);
+        CartSweepCursor first = new CartSweepCursor(T, 1L);
+        CartSweepCursor second = new CartSweepCursor(T, 2L);
+        // 첫 실행에서 바꾼 1번은 ACTIVE 가 아니라 다음 실행의 스캔에 나오지 않는다
+        given(abandonedCartRepository.findIdle(null, IDLE, 1)).willReturn(List.of(first), List.of(second));
+        given(abandonedCartRepository.markAbandoned(anyList(), eq(IDLE)))
+            .willAnswer(invocation -> List.of(new AbandonedCart(invocation.<List<Long>>getArgument(0).get(0), 1L, T)));
+
+        // when
+        int firstRun = service.sweep();
+        int secondRun = service.sweep();
+
+        // then
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(secondRun).isEqualTo(1);
+        then(abandonedCartRepository).should().markAbandoned(List.of(2L), IDLE);
+        then(abandonedCartRepository).should(never()).findIdle(eq(first), any(), anyInt());
+        then(notifier).shouldHaveNoInteractions();
+    }
+
+    private AbandonedCartSweepService service(int batchSize, int maxBatchesPerRun, boolean notify) {
+        return new AbandonedCartSweepService(abandonedCartRepository, notifier,
+            new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), IDLE, batchSize,
+            maxBatchesPerRun, 0L, notify);
+    }
+
+}
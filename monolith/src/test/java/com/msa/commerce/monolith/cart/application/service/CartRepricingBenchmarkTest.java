@@ -0,0 +1,231 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.msa.commerce.monolith.cart.adapter.out.cache.CartRedisRepository;
+import com.msa.commerce.monolith.cart.adapter.out.cache.ProductPricingRedisCache;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.CartJdbcRepository;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.CartRepricingJdbcRepository;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.ProductPricingJdbcRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 장바구니 20만 개(항목 5개씩)와 상품 2,000개에서 상품 10% 의 가격이 바뀌었을 때 재가격 작업 처리량을 parallelism 별로 재고,
+ * 장바구니 하나의 재가격 지연 시간을 상품마다 조회할 때와 한 번에 조회할 때(캐시 비움/채움)로 나눠 잰다.
+ * 외래 키 검사는 끈다. {@code ./gradlew :monolith:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("장바구니 재가격 벤치마크")
+class CartRepricingBenchmarkTest {
+
+    private static final int CARTS = 200_000;
+
+    private static final int PRODUCTS = 2_000;
+
+    private static final int ITEMS_PER_CART = 5;
+
+    private static final int LOOKUPS = 2_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("db_platform")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    private CartRedisRepository cacheRepository;
+
+    private ProductPricingRedisCache pricingCache;
+
+    private ProductPricingJdbcRepository pricingRepository;
+
+    private CartPriceLookupService priceLookupService;
+
+    @BeforeAll
+    static void setUpStores() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(16);
+        config.setConnectionInitSql("SET FOREIGN_KEY_CHECKS = 0");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__Create_initial_schema.sql"))
+            .execute(dataSource);
+
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        fillCarts();
+    }
+
+    @AfterAll
+    static void tearDownStores() {
+        connectionFactory.destroy();
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>)connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        // 장바구니 단가를 바뀌기 전 가격으로 되돌린다
+        jdbcTemplate.update("UPDATE shopping_cart_items SET unit_price = 1000 + product_id");
+
+        cacheRepository = new CartRedisRepository(redisTemplate);
+        ReflectionTestUtils.setField(cacheRepository, "ttlSeconds", 3_600L);
+        pricingCache = new ProductPricingRedisCache(redisTemplate, 300L, "KRW");
+        pricingRepository = new ProductPricingJdbcRepository(new NamedParameterJdbcTemplate(dataSource), "KRW");
+        priceLookupService = new CartPriceLookupService(pricingCache, pricingRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("가격이 바뀐 상품을 담은 장바구니 재가격 처리량")
+    void jobThroughput() {
+        Set<Long> changed = changedProducts();
+        long expectedItems = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM shopping_cart_items WHERE product_id % 10 = 0", Long.class);
+
+        for (int parallelism : new int[] {1, 2, 4, 8}) {
+            setUp();
+            CartRepricingJobService job = new CartRepricingJobService(
+                new CartRepricingJdbcRepository(jdbcTemplate, new NamedParameterJdbcTemplate(dataSource)),
+                cacheRepository, priceLookupService, new SimpleMeterRegistry(), parallelism, 5_000L, "KRW");
+            try {
+                long start = System.nanoTime();
+                CartRepricingSummary summary = job.repriceCarts(changed);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                System.out.printf("[cart-reprice] parallelism %d: %,d items in %,d of %,d carts in %.2fs "
+                        + "-> %,.0f carts/sec%n", parallelism, summary.repricedItems(), summary.repricedCarts(),
+                    summary.scannedCarts(), seconds, summary.scannedCarts() / seconds);
+                assertThat(summary.repricedItems()).isEqualTo(expectedItems);
+            } finally {
+                job.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("장바구니 하나의 가격 조회 지연 시간")
+    void lookupLatency() {
+        CartJdbcRepository cartRepository = new CartJdbcRepository(jdbcTemplate);
+        long[] perItem = new long[LOOKUPS];
+        long[] cold = new long[LOOKUPS];
+        long[] warm = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            Cart cart = cartRepository.findActive(i + 1L, "KRW").orElseThrow();
+            Set<Long> productIds = cart.productIds();
+
+            long start = System.nanoTime();
+            for (CartItem item : cart.items()) {
+                pricingRepository.findAll(List.of(item.productId()));
+            }
+            perItem[i] = System.nanoTime() - start;
+
+            pricingCache.evict(productIds);
+            start = System.nanoTime();
+            priceLookupService.findPricing(productIds);
+            cold[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            priceLookupService.findPricing(productIds);
+            warm[i] = System.nanoTime() - start;
+        }
+
+        report("per-item", perItem);
+        report("cold", cold);
+        report("warm", warm);
+    }
+
+    /**
+     * 가격이 바뀐 상품. 실제 가격도 올려 두어 재가격이 항목을 바꾸게 한다.
+     */
+    private static Set<Long> changedProducts() {
+        jdbcTemplate.update("UPDATE products SET price = 1000 + id + (CASE WHEN id % 10 = 0 THEN 100 ELSE 0 END)");
+        return Set.copyOf(jdbcTemplate.queryForList("SELECT id FROM products WHERE id % 10 = 0", Long.class));
+    }
+
+    /**
+     * 숫자 테이블을 서버에서 만들어 INSERT ... SELECT 로 채운다. 장바구니마다 서로 다른 상품 다섯 개를 담고,
+     * 담을 때의 단가는 1000 + 상품 id 다.
+     */
+    private static void fillCarts() {
+        jdbcTemplate.execute("CREATE TABLE digits (d INT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+        jdbcTemplate.execute("""
+            CREATE TABLE seq AS
+            SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 AS n
+            FROM digits a, digits b, digits c, digits d, digits e, digits f
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO products (id, category_id, sku, name, price, status)
+            SELECT n + 1, 1, CONCAT('SKU-', n + 1), CONCAT('product ', n + 1), 1000 + n + 1, 'ACTIVE'
+            FROM seq WHERE n < ?
+            """, PRODUCTS);
+        jdbcTemplate.update("""
+            INSERT INTO shopping_carts (id, user_id, status)
+            SELECT n + 1, n + 1, 'ACTIVE' FROM seq WHERE n < ? ORDER BY n
+            """, CARTS);
+        jdbcTemplate.update("""
+            INSERT INTO shopping_cart_items (cart_id, product_id, quantity, unit_price)
+            SELECT s.n + 1, (s.n * 7 + k.d * 13) % ? + 1, 1, 1000 + (s.n * 7 + k.d * 13) % ? + 1
+            FROM seq s, digits k
+            WHERE s.n < ? AND k.d < ?
+            ORDER BY s.n, k.d
+            """, PRODUCTS, PRODUCTS, CARTS, ITEMS_PER_CART);
+    }
+
+    private static void report(String name, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf("[cart-price-lookup] %-8s p50 %.3f ms, p99 %.3f ms%n", name,
+            latencies[latencies.length / 2] / 1_000_000.0, latencies[(int)(latencies.length * 0.99)] / 1_000_000.0);
+    }
+
+}
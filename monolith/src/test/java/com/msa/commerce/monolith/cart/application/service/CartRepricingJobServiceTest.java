@@ -0,0 +1,130 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepricingRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartIdRange;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+import com.msa.commerce.monolith.cart.domain.CartPriceUpdate;
+import com.msa.commerce.monolith.cart.domain.CartRepricingSummary;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartRepricingJobService 테스트")
+class CartRepricingJobServiceTest {
+
+    @Mock
+    private CartRepricingRepository repricingRepository;
+
+    @Mock
+    private CartCacheRepository cacheRepository;
+
+    @Mock
+    private CartPriceLookupService priceLookupService;
+
+    private CartRepricingJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CartRepricingJobService(repricingRepository, cacheRepository, priceLookupService,
+            new SimpleMeterRegistry(), 2, 100L, "KRW");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("id 구간을 chunk-size 단위로 나눠 처리하고 결과를 합친다")
+    void splitsIdRangeIntoChunks() {
+        // given
+        given(repricingRepository.findActiveIdRange()).willReturn(Optional.of(new CartIdRange(1L, 400L)));
+        given(repricingRepository.findActiveCarts(anyLong(), anyLong(), eq(Set.of(10L)), eq("KRW")))
+            .willAnswer(invocation -> List.of(cart(invocation.getArgument(0), 1_000_00L)));
+        given(priceLookupService.findPricing(Set.of(10L))).willReturn(Map.of(10L, pricing(1_200_00L)));
+
+        // when
+        CartRepricingSummary summary = service.repriceCarts(Set.of(10L));
+
+        // then
+        then(repricingRepository).should(times(4)).findActiveCarts(anyLong(), anyLong(), eq(Set.of(10L)), eq("KRW"));
+        assertThat(summary).isEqualTo(new CartRepricingSummary(4L, 4L, 4L, 0L));
+    }
+
+    @Test
+    @DisplayName("바뀐 단가는 MySQL 에 한 번에 쓰고 Redis 에 올라온 장바구니에도 적용한다")
+    void updatesDatabaseAndCachedCarts() {
+        // given
+        Cart cached = cart(1L, 1_000_00L);
+        Cart stored = cart(2L, 1_000_00L);
+        Cart unchanged = cart(3L, 1_200_00L);
+        given(repricingRepository.findActiveCarts(1L, 50L, Set.of(), "KRW"))
+            .willReturn(List.of(cached, stored, unchanged));
+        given(priceLookupService.findPricing(Set.of(10L))).willReturn(Map.of(10L, pricing(1_200_00L)));
+        given(cacheRepository.findCached(List.of(1001L, 1002L))).willReturn(Set.of(1001L));
+
+        // when
+        CartRepricingSummary summary = service.repriceChunk(1L, 50L, Set.of());
+
+        // then
+        CartItemKey key = new CartItemKey(10L, null);
+        then(repricingRepository).should().updatePrices(List.of(
+            new CartPriceUpdate(1L, key, krw(1_200_00L)), new CartPriceUpdate(2L, key, krw(1_200_00L))));
+        then(cacheRepository).should().reprice(1001L, Map.of(key, krw(1_200_00L)));
+        then(cacheRepository).should(never()).reprice(eq(1002L), any());
+        assertThat(summary).isEqualTo(new CartRepricingSummary(3L, 2L, 2L, 0L));
+    }
+
+    @Test
+    @DisplayName("모아 둔 상품은 한 번만 처리하고, 실패하면 다음 주기에 다시 처리한다")
+    void coalescesPendingProducts() {
+        // given
+        service.request(List.of(10L, 20L));
+        service.request(List.of(10L));
+        given(repricingRepository.findActiveIdRange())
+            .willThrow(new IllegalStateException("db down"))
+            .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> service.runPending()).isInstanceOf(IllegalStateException.class);
+        assertThat(service.runPending()).isEqualTo(CartRepricingSummary.EMPTY);
+        assertThat(service.runPending()).isEqualTo(CartRepricingSummary.EMPTY);
+        then(repricingRepository).should(times(2)).findActiveIdRange();
+    }
+
+    private static Cart cart(long cartId, long unitPriceMinor) {
+        return new Cart(1000L + cartId, cartId, 0L, "KRW",
+            List.of(new CartItem(10L, null, 1, krw(unitPriceMinor))));
+    }
+
+    private static ProductPricing pricing(long priceMinor) {
+        return new ProductPricing(10L, krw(priceMinor), true, Map.of());
+    }
+
+    private static Money krw(long minor) {
+        return Money.ofMinor(minor, "KRW");
+    }
+
+}
@@ -0,0 +1,308 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.in.AddCartItemCommand;
+import com.msa.commerce.monolith.cart.application.port.in.CartRepricingResponse;
+import com.msa.commerce.monolith.cart.application.port.in.CartResponse;
+import com.msa.commerce.monolith.cart.application.port.in.ChangeCartItemQuantityCommand;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartMutationResult;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartItemKey;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+import com.msa.commerce.monolith.cart.domain.ProductPricing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartService 테스트")
+class CartServiceTest {
+
+    private static final long USER_ID = 7L;
+
+    @Mock
+    private CartCacheRepository cacheRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartPriceLookupService priceLookupService;
+
+    private CartService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CartService(cacheRepository, cartRepository, priceLookupService, new SimpleMeterRegistry(),
+            "KRW", 99, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("장바구니 변경은 Redis 에만 적용하고 MySQL 에는 쓰지 않는다")
+    void appliesMutationInCacheOnly() {
+        // given
+        Cart updated = cart(3L, item(10L, 2, 1_500_00L));
+        given(priceLookupService.findPricing(List.of(10L))).willReturn(Map.of(10L, pricing(10L, 1_500_00L, true)));
+        given(cacheRepository.addItem(USER_ID, item(10L, 2, 1_500_00L), 99, 100))
+            .willReturn(new CartMutationResult(CartMutationResult.Outcome.APPLIED, updated));
+
+        // when
+        CartResponse response = service.addItem(addCommand(10L, 2));
+
+        // then
+        assertThat(response.getTotalQuantity()).isEqualTo(2);
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("3000.00");
+        then(cartRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 장바구니는 MySQL 의 활성 장바구니를 올린 뒤 다시 적용한다")
+    void warmsCartFromDatabase() {
+        // given
+        Cart stored = new Cart(USER_ID, 55L, 0L, "KRW", List.of(item(20L, 1, 9_900_00L)));
+        given(priceLookupService.findPricing(List.of(10L))).willReturn(Map.of(10L, pricing(10L, 1_000_00L, true)));
+        given(cacheRepository.addItem(eq(USER_ID), any(CartItem.class), eq(99), eq(100)))
+            .willReturn(CartMutationResult.of(CartMutationResult.Outcome.NOT_CACHED))
+            .willReturn(new CartMutationResult(CartMutationResult.Outcome.APPLIED,
+                new Cart(USER_ID, 55L, 1L, "KRW", List.of(item(10L, 1, 1_000_00L), item(20L, 1, 9_900_00L)))));
+        given(cartRepository.findActive(USER_ID, "KRW")).willReturn(Optional.of(stored));
+        given(cacheRepository.load(stored)).willReturn(stored);
+
+        // when
+        CartResponse response = service.addItem(addCommand(10L, 1));
+
+        // then
+        assertThat(response.getCartId()).isEqualTo(55L);
+        assertThat(response.getItems()).hasSize(2);
+        then(cacheRepository).should(times(2)).addItem(eq(USER_ID), any(CartItem.class), eq(99), eq(100));
+    }
+
+    @Test
+    @DisplayName("요청에 단가가 없어도 없는 상품이나 variant 는 PRODUCT_NOT_FOUND 로 거절한다")
+    void rejectsUnknownProduct() {
+        // given
+        given(priceLookupService.findPricing(List.of(10L))).willReturn(Map.of(10L, pricing(10L, 1_000_00L, true)));
+        given(priceLookupService.findPricing(List.of(20L))).willReturn(Map.of());
+        AddCartItemCommand unknownVariant = AddCartItemCommand.builder()
+            .userId(USER_ID)
+            .productId(10L)
+            .productVariantId(99L)
+            .quantity(1)
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> service.addItem(unknownVariant))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.PRODUCT_NOT_FOUND.getCode());
+        assertThatThrownBy(() -> service.addItem(addCommand(20L, 1)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.PRODUCT_NOT_FOUND.getCode());
+        then(cacheRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("판매하지 않는 상품이나 비활성 variant 는 CART_ITEM_NOT_AVAILABLE 로 거절한다")
+    void rejectsUnavailableProduct() {
+        // given
+        given(priceLookupService.findPricing(List.of(10L))).willReturn(Map.of(10L, pricing(10L, 1_000_00L, false)));
+        given(priceLookupService.findPricing(List.of(20L))).willReturn(Map.of(20L, new ProductPricing(20L,
+            Money.ofMinor(2_000_00L, "KRW"), true, Map.of(21L, new ProductPricing.Variant(null, false)))));
+        AddCartItemCommand inactiveVariant = AddCartItemCommand.builder()
+            .userId(USER_ID)
+            .productId(20L)
+            .productVariantId(21L)
+            .quantity(1)
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> service.addItem(addCommand(10L, 1)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CART_ITEM_NOT_AVAILABLE.getCode());
+        assertThatThrownBy(() -> service.addItem(inactiveVariant))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CART_ITEM_NOT_AVAILABLE.getCode());
+        then(cacheRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("없는 항목의 수량을 바꾸면 CART_ITEM_NOT_FOUND 로 거절한다")
+    void rejectsMissingItem() {
+        // given
+        given(cacheRepository.changeQuantity(USER_ID, 10L, null, 3, 99))
+            .willReturn(CartMutationResult.of(CartMutationResult.Outcome.ITEM_NOT_FOUND));
+        ChangeCartItemQuantityCommand command = ChangeCartItemQuantityCommand.builder()
+            .userId(USER_ID)
+            .productId(10L)
+            .quantity(3)
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> service.changeQuantity(command))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CART_ITEM_NOT_FOUND.getCode());
+    }
+
+    @Test
+    @DisplayName("체크아웃은 Redis 스냅샷을 CONVERTED 로 바로 쓰고 커밋된 뒤에만 캐시에서 지운다")
+    void checksOutLatestSnapshot() {
+        // given
+        Cart cart = cart(4L, item(10L, 2, 1_500_00L));
+        given(cacheRepository.find(USER_ID)).willReturn(Optional.of(cart));
+        given(cartRepository.save(cart, CartStatus.CONVERTED)).willReturn(OptionalLong.of(55L));
+        given(cacheRepository.isUnchanged(USER_ID, 4L)).willReturn(true);
+
+        // when
+        CartResponse response = inTransaction(() -> service.checkout(USER_ID));
+
+        // then
+        assertThat(response.getCartId()).isEqualTo(55L);
+        then(cacheRepository).should(never()).deleteIfUnchanged(anyLong(), anyLong());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        InOrder inOrder = inOrder(cartRepository, cacheRepository);
+        inOrder.verify(cartRepository).save(cart, CartStatus.CONVERTED);
+        inOrder.verify(cacheRepository).isUnchanged(USER_ID, 4L);
+        inOrder.verify(cacheRepository).deleteIfUnchanged(USER_ID, 4L);
+    }
+
+    @Test
+    @DisplayName("체크아웃 중 장바구니가 바뀌면 CART_CHANGED_DURING_CHECKOUT 으로 되돌리고 캐시는 지우지 않는다")
+    void rejectsCheckoutOfChangedCart() {
+        // given
+        Cart cart = cart(4L, item(10L, 2, 1_500_00L));
+        given(cacheRepository.find(USER_ID)).willReturn(Optional.of(cart));
+        given(cartRepository.save(cart, CartStatus.CONVERTED)).willReturn(OptionalLong.of(55L));
+        given(cacheRepository.isUnchanged(USER_ID, 4L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> inTransaction(() -> service.checkout(USER_ID)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CART_CHANGED_DURING_CHECKOUT.getCode());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        then(cacheRepository).should(never()).deleteIfUnchanged(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("빈 장바구니는 체크아웃할 수 없다")
+    void rejectsEmptyCheckout() {
+        // given
+        given(cacheRepository.find(USER_ID)).willReturn(Optional.of(Cart.empty(USER_ID, "KRW")));
+
+        // when & then
+        assertThatThrownBy(() -> service.checkout(USER_ID))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CART_EMPTY.getCode());
+        then(cartRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재가격은 바뀐 단가만 Redis 에 적용하고 판매하지 않는 항목은 diffs 로만 알린다")
+    void repricesChangedItems() {
+        // given
+        Cart cart = cart(3L, item(10L, 1, 1_000_00L), item(20L, 1, 2_000_00L), item(30L, 1, 3_000_00L));
+        given(cacheRepository.find(USER_ID)).willReturn(Optional.of(cart));
+        given(priceLookupService.findPricing(cart.productIds())).willReturn(Map.of(
+            10L, pricing(10L, 1_000_00L, true),
+            20L, pricing(20L, 1_800_00L, true),
+            30L, pricing(30L, 3_000_00L, false)));
+        Map<CartItemKey, Money> newPrices = Map.of(new CartItemKey(20L, null), Money.ofMinor(1_800_00L, "KRW"));
+        given(cacheRepository.reprice(USER_ID, newPrices)).willReturn(new CartMutationResult(
+            CartMutationResult.Outcome.APPLIED,
+            cart(4L, item(10L, 1, 1_000_00L), item(20L, 1, 1_800_00L), item(30L, 1, 3_000_00L))));
+
+        // when
+        CartRepricingResponse response = service.reprice(USER_ID);
+
+        // then
+        assertThat(response.getCart().getTotalAmount()).isEqualByComparingTo("5800.00");
+        assertThat(response.getDiffs())
+            .extracting(CartRepricingResponse.Diff::getProductId, CartRepricingResponse.Diff::getAvailable)
+            .containsExactly(tuple(20L, true), tuple(30L, false));
+        then(cartRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("바뀐 단가가 없으면 Redis 장바구니를 건드리지 않는다")
+    void skipsUnchangedCart() {
+        // given
+        Cart cart = cart(3L, item(10L, 1, 1_000_00L));
+        given(cacheRepository.find(USER_ID)).willReturn(Optional.of(cart));
+        given(priceLookupService.findPricing(cart.productIds()))
+            .willReturn(Map.of(10L, pricing(10L, 1_000_00L, true)));
+
+        // when
+        CartRepricingResponse response = service.reprice(USER_ID);
+
+        // then
+        assertThat(response.getDiffs()).isEmpty();
+        then(cacheRepository).should(never()).reprice(anyLong(), any());
+    }
+
+    private static AddCartItemCommand addCommand(long productId, int quantity) {
+        return AddCartItemCommand.builder()
+            .userId(USER_ID)
+            .productId(productId)
+            .quantity(quantity)
+            .build();
+    }
+
+    private static Cart cart(long version, CartItem... items) {
+        return new Cart(USER_ID, null, version, "KRW", List.of(items));
+    }
+
+    private static CartItem item(long productId, int quantity, long unitPriceMinor) {
+        return new CartItem(productId, null, quantity, Money.ofMinor(unitPriceMinor, "KRW"));
+    }
+
+    private static ProductPricing pricing(long productId, long priceMinor, boolean available) {
+        return new ProductPricing(productId, Money.ofMinor(priceMinor, "KRW"), available, Map.of());
+    }
+
+    /**
+     * 트랜잭션 동기화를 켠 채로 실행한다. 커밋 콜백은 호출자가 {@link TransactionSynchronizationUtils} 로 부른다.
+     */
+    private static <T> T inTransaction(Supplier<T> action) {
+        TransactionSynchronizationManager.initSynchronization();
+        return action.get();
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.monolith.cart.adapter.out.cache.CartRedisRepository;
+import com.msa.commerce.monolith.cart.adapter.out.cache.ProductPricingRedisCache;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.CartJdbcRepository;
+import com.msa.commerce.monolith.cart.adapter.out.persistence.ProductPricingJdbcRepository;
+import com.msa.commerce.monolith.cart.application.port.in.AddCartItemCommand;
+import com.msa.commerce.monolith.cart.application.port.in.ChangeCartItemQuantityCommand;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 장바구니 변경 지연 시간과 write-behind 로 줄어든 MySQL 쓰기 횟수를 측정한다.
+ * 사용자 WAVE 명이 동시에 SESSION_OPS 번씩 장바구니를 바꾸고 떠나면 flush 하는 흐름을 ROUNDS 번 반복한다.
+ * 같은 변경을 매번 MySQL 에 쓰는 write-through 와 비교한다. 스키마는 V1 마이그레이션을 그대로 적용하며,
+ * 담기 단가를 읽을 상품 20개만 만들고 users/카테고리 행은 만들지 않도록 외래 키 검사는 끈다.
+ * {@code ./gradlew :monolith:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("장바구니 write-behind 벤치마크")
+class CartWriteBehindBenchmarkTest {
+
+    private static final int USERS = 2_000;
+
+    private static final int WAVE = 200;
+
+    private static final int SESSION_OPS = 20;
+
+    private static final int ROUNDS = 5;
+
+    private static final int WRITE_THROUGH_OPS = 20_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("db_platform")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    private CartRedisRepository cacheRepository;
+
+    private CartJdbcRepository cartRepository;
+
+    private CartService cartService;
+
+    private CartWriteBehindService writeBehindService;
+
+    @BeforeAll
+    static void setUpStores() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(4);
+        config.setConnectionInitSql("SET FOREIGN_KEY_CHECKS = 0");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__Create_initial_schema.sql"))
+            .execute(dataSource);
+
+        // 담을 때 단가를 읽는 상품 20개
+        jdbcTemplate.update("""
+            INSERT INTO products (id, category_id, sku, name, price, status)
+            WITH RECURSIVE ids (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM ids WHERE n < 20)
+            SELECT n, 1, CONCAT('SKU-', n), CONCAT('product ', n), 1000 + n * 100, 'ACTIVE' FROM ids
+            """);
+
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownStores() {
+        connectionFactory.destroy();
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>)connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        jdbcTemplate.update("DELETE FROM shopping_cart_items");
+        jdbcTemplate.update("DELETE FROM shopping_carts");
+
+        cacheRepository = new CartRedisRepository(redisTemplate);
+        ReflectionTestUtils.setField(cacheRepository, "ttlSeconds", 3_600L);
+        cartRepository = new CartJdbcRepository(jdbcTemplate);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CartPriceLookupService priceLookupService = new CartPriceLookupService(
+            new ProductPricingRedisCache(redisTemplate, 300L, "KRW"),
+            new ProductPricingJdbcRepository(new NamedParameterJdbcTemplate(dataSource), "KRW"), meterRegistry);
+        cartService = new CartService(cacheRepository, cartRepository, priceLookupService, meterRegistry,
+            "KRW", 99, 100);
+        writeBehindService = new CartWriteBehindService(cacheRepository, cartRepository, meterRegistry, 500,
+            Duration.ofSeconds(60), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("Redis 변경 + 떠난 장바구니 write-behind")
+    void writeBehind() {
+        Random random = new Random(42);
+        long[] latencies = new long[USERS * SESSION_OPS * ROUNDS];
+        int ops = 0;
+        int flushes = 0;
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int firstUser = 1; firstUser <= USERS; firstUser += WAVE) {
+                for (int step = 0; step < SESSION_OPS; step++) {
+                    for (long userId = firstUser; userId < firstUser + WAVE; userId++) {
+                        long opStart = System.nanoTime();
+                        mutate(userId, random);
+                        latencies[ops++] = System.nanoTime() - opStart;
+                    }
+                }
+                // 세션이 끝난 장바구니만 남아 있으므로 idle 없이 바로 쓴다
+                flushes += flushAll();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        System.out.printf("[cart-write-behind] %,d ops in %.2fs, p50 %.3f ms, p99 %.3f ms%n", ops, seconds,
+            latencies[ops / 2] / 1_000_000.0, latencies[(int)(ops * 0.99)] / 1_000_000.0);
+        System.out.printf("[cart-write-behind] %,d mutations -> %,d MySQL transactions (%.1fx fewer)%n",
+            ops, flushes, (double)ops / flushes);
+
+        assertThat(flushes).isLessThanOrEqualTo(ops / 10);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM shopping_carts", Long.class))
+            .isEqualTo((long)USERS);
+    }
+
+    @Test
+    @DisplayName("변경마다 MySQL 에 쓰는 write-through")
+    void writeThrough() {
+        Random random = new Random(42);
+        long[] latencies = new long[WRITE_THROUGH_OPS];
+
+        long start = System.nanoTime();
+        for (int ops = 0; ops < WRITE_THROUGH_OPS; ops++) {
+            long userId = ops % WAVE + 1;
+            long opStart = System.nanoTime();
+            mutate(userId, random);
+            cartRepository.save(cacheRepository.find(userId).orElseThrow(), CartStatus.ACTIVE);
+            latencies[ops] = System.nanoTime() - opStart;
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        System.out.printf("[cart-write-through] %,d ops in %.2fs, p50 %.3f ms, p99 %.3f ms%n",
+            WRITE_THROUGH_OPS, seconds, latencies[WRITE_THROUGH_OPS / 2] / 1_000_000.0,
+            latencies[(int)(WRITE_THROUGH_OPS * 0.99)] / 1_000_000.0);
+    }
+
+    private int flushAll() {
+        int total = 0;
+        int flushed;
+        do {
+            flushed = writeBehindService.flushIdleCarts(Duration.ZERO);
+            total += flushed;
+        } while (flushed > 0);
+        return total;
+    }
+
+    /**
+     * 담기 60%, 수량 변경 25%, 빼기 15%. 수량 변경과 빼기는 담지 않은 상품에 걸리면 거절된다.
+     */
+    private void mutate(long userId, Random random) {
+        long productId = random.nextInt(20) + 1;
+        int dice = random.nextInt(100);
+        try {
+            if (dice < 60) {
+                cartService.addItem(AddCartItemCommand.builder()
+                    .userId(userId)
+                    .productId(productId)
+                    .quantity(1)
+                    .build());
+            } else if (dice < 85) {
+                cartService.changeQuantity(ChangeCartItemQuantityCommand.builder()
+                    .userId(userId)
+                    .productId(productId)
+                    .quantity(random.nextInt(5) + 1)
+                    .build());
+            } else {
+                cartService.removeItem(userId, productId, null);
+            }
+        } catch (BusinessException ignored) {
+            // 수량 상한이나 없는 항목은 벤치마크 흐름상 자연스럽다
+        }
+    }
+
+}
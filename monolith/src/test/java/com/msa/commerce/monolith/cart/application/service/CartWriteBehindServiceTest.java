@@ -0,0 +1,98 @@
+package com.msa.commerce.monolith.cart.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.common.money.Money;
+import com.msa.commerce.monolith.cart.application.port.out.CartCacheRepository;
+import com.msa.commerce.monolith.cart.application.port.out.CartRepository;
+import com.msa.commerce.monolith.cart.domain.Cart;
+import com.msa.commerce.monolith.cart.domain.CartItem;
+import com.msa.commerce.monolith.cart.domain.CartStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartWriteBehindService 테스트")
+class CartWriteBehindServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-05T03:00:00Z");
+
+    @Mock
+    private CartCacheRepository cacheRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CartWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CartWriteBehindService(cacheRepository, cartRepository, meterRegistry, 500,
+            Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("idle 장바구니를 임대해 가져가고 스냅샷 하나를 쓴 뒤 그 버전으로 표시를 지운다")
+    void flushesIdleCarts() {
+        // given
+        Cart cart = new Cart(1L, null, 12L, "KRW",
+            List.of(new CartItem(10L, null, 3, Money.ofMinor(1_000_00L, "KRW"))));
+        given(cacheRepository.claimIdle(NOW.minusSeconds(30), 500, NOW.plusSeconds(60))).willReturn(List.of(1L));
+        given(cacheRepository.find(1L)).willReturn(Optional.of(cart));
+        given(cartRepository.save(cart, CartStatus.ACTIVE)).willReturn(OptionalLong.of(55L));
+        given(cacheRepository.markFlushed(1L, 12L, 55L)).willReturn(true);
+
+        // when
+        int flushed = service.flushIdleCarts(Duration.ofSeconds(30));
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(meterRegistry.counter("commerce.cart.flushes", "outcome", "flushed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료됐거나 이미 체크아웃된 장바구니는 쓰지 않고 표시만 지우며, 한 장바구니 실패가 나머지를 막지 않는다")
+    void skipsExpiredConvertedAndFailedCarts() {
+        // given
+        Cart converted = new Cart(2L, 77L, 5L, "KRW", List.of());
+        Cart failing = new Cart(3L, null, 1L, "KRW", List.of());
+        given(cacheRepository.claimIdle(any(), anyInt(), any())).willReturn(List.of(1L, 2L, 3L));
+        given(cacheRepository.find(1L)).willReturn(Optional.empty());
+        given(cacheRepository.find(2L)).willReturn(Optional.of(converted));
+        given(cacheRepository.find(3L)).willReturn(Optional.of(failing));
+        given(cartRepository.save(converted, CartStatus.ACTIVE)).willReturn(OptionalLong.empty());
+        given(cartRepository.save(failing, CartStatus.ACTIVE)).willThrow(new IllegalStateException("deadlock"));
+
+        // when
+        int flushed = service.flushIdleCarts(Duration.ofSeconds(30));
+
+        // then
+        assertThat(flushed).isZero();
+        then(cacheRepository).should().discardDirty(1L);
+        then(cacheRepository).should().discardDirty(2L);
+        then(cacheRepository).should(never()).discardDirty(3L);
+        then(cacheRepository).should(never()).markFlushed(anyLong(), anyLong(), anyLong());
+        assertThat(meterRegistry.counter("commerce.cart.flushes", "outcome", "failed").count()).isEqualTo(1.0);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.msa.commerce.monolith.cart.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.msa.commerce.common.money.Money;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CartRepricing 테스트")
+class CartRepricingTest {
+
+    @Test
+    @DisplayName("판매 중이고 단가가 바뀐 항목만 새 단가로 바꾼다")
+    void repricesChangedItemsOnly() {
+        // given
+        Cart cart = cart(item(1L, null, 1_000_00L), item(2L, null, 2_000_00L));
+        Map<Long, ProductPricing> pricing = Map.of(
+            1L, product(1L, 1_000_00L, true, Map.of()),
+            2L, product(2L, 1_800_00L, true, Map.of()));
+
+        // when
+        CartRepricing repricing = CartRepricing.compare(cart, pricing);
+
+        // then
+        assertThat(repricing.diffs()).hasSize(1);
+        assertThat(repricing.newPrices()).containsExactly(Map.entry(new CartItemKey(2L, null), krw(1_800_00L)));
+        assertThat(repricing.unavailableCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("variant 가격이 없으면 상품 가격을 쓰고, 비활성이거나 모르는 variant 는 판매하지 않는 항목이다")
+    void resolvesVariantPrice() {
+        // given
+        Cart cart = cart(item(1L, 11L, 1_000_00L), item(1L, 12L, 1_500_00L), item(1L, 13L, 1_000_00L),
+            item(1L, 99L, 1_000_00L));
+        Map<Long, ProductPricing> pricing = Map.of(1L, product(1L, 1_200_00L, true, Map.of(
+            11L, new ProductPricing.Variant(null, true),
+            12L, new ProductPricing.Variant(krw(1_500_00L), true),
+            13L, new ProductPricing.Variant(krw(1_000_00L), false))));
+
+        // when
+        CartRepricing repricing = CartRepricing.compare(cart, pricing);
+
+        // then
+        assertThat(repricing.newPrices()).containsExactly(Map.entry(new CartItemKey(1L, 11L), krw(1_200_00L)));
+        assertThat(repricing.unavailableCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("사라졌거나 판매하지 않는 상품은 단가를 바꾸지 않고 diffs 로만 알린다")
+    void reportsUnavailableProducts() {
+        // given
+        Cart cart = cart(item(1L, null, 1_000_00L), item(2L, null, 2_000_00L));
+        Map<Long, ProductPricing> pricing = Map.of(2L, product(2L, 2_500_00L, false, Map.of()));
+
+        // when
+        CartRepricing repricing = CartRepricing.compare(cart, pricing);
+
+        // then
+        assertThat(repricing.newPrices()).isEmpty();
+        assertThat(repricing.diffs())
+            .extracting(CartItemPriceDiff::productId, CartItemPriceDiff::currentPrice, CartItemPriceDiff::available)
+            .containsExactly(tuple(1L, null, false), tuple(2L, krw(2_500_00L), false));
+    }
+
+    private static Cart cart(CartItem... items) {
+        return new Cart(7L, 55L, 1L, "KRW", List.of(items));
+    }
+
+    private static CartItem item(long productId, Long variantId, long unitPriceMinor) {
+        return new CartItem(productId, variantId, 1, krw(unitPriceMinor));
+    }
+
+    private static ProductPricing product(long productId, long priceMinor, boolean available,
+        Map<Long, ProductPricing.Variant> variants) {
+        return new ProductPricing(productId, krw(priceMinor), available, variants);
+    }
+
+    private static Money krw(long minor) {
+        return Money.ofMinor(minor, "KRW");
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.msa.commerce.monolith.notification.application.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.notification.application.port.in.DeadLetterCommand;
+import com.msa.commerce.monolith.notification.application.port.out.NotificationRepository;
+import com.msa.commerce.monolith.notification.domain.Notification;
+import com.msa.commerce.monolith.notification.domain.NotificationCategory;
+import com.msa.commerce.monolith.notification.domain.RecipientType;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterNotificationService 테스트")
+class DeadLetterNotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DeadLetterNotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeadLetterNotificationService(notificationRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("DLT 레코드 배치는 category=DLT 알림으로 한 번에 저장된다")
+    @SuppressWarnings("unchecked")
+    void recordDeadLetters() throws Exception {
+        // given
+        DeadLetterCommand first = command("product-events", 10L, "boom");
+        DeadLetterCommand second = command("order-events", 11L, null);
+
+        // when
+        service.recordDeadLetters(List.of(first, second));
+
+        // then
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(1)).saveAll(captor.capture());
+
+        List<Notification> saved = captor.getValue();
+        assertThat(saved).hasSize(2);
+        assertThat(saved).allSatisfy(notification -> {
+            assertThat(notification.getCategory()).isEqualTo(NotificationCategory.DLT);
+            assertThat(notification.getRecipientType()).isEqualTo(RecipientType.DEVELOPER);
+            assertThat(notification.getReferenceType()).isEqualTo("dlt_message");
+        });
+        assertThat(saved.get(0).getTitle()).isEqualTo("DLT: product-events");
+        assertThat(saved.get(0).getReferenceId()).isEqualTo(10L);
+        assertThat(saved.get(1).getContent()).isEqualTo("Unknown failure");
+
+        JsonNode metadata = objectMapper.readTree(saved.get(0).getMetadata());
+        assertThat(metadata.get("originalTopic").asText()).isEqualTo("product-events");
+        assertThat(metadata.get("dltTopic").asText()).isEqualTo("product-events-dlt");
+        assertThat(metadata.get("exceptionClass").asText()).isEqualTo("java.lang.IllegalStateException");
+    }
+
+    @Test
+    @DisplayName("긴 payload 는 메타데이터에 잘라서 저장된다")
+    @SuppressWarnings("unchecked")
+    void truncatePayload() throws Exception {
+        // given
+        DeadLetterCommand command = DeadLetterCommand.builder()
+            .dltTopic("product-events-dlt")
+            .originalTopic("product-events")
+            .payload("x".repeat(DeadLetterNotificationService.MAX_PAYLOAD_LENGTH + 100))
+            .build();
+
+        // when
+        service.recordDeadLetters(List.of(command));
+
+        // then
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(captor.capture());
+        JsonNode metadata = objectMapper.readTree(captor.getValue().get(0).getMetadata());
+        assertThat(metadata.get("payload").asText()).hasSize(DeadLetterNotificationService.MAX_PAYLOAD_LENGTH);
+    }
+
+    @Test
+    @DisplayName("빈 배치는 저장소를 호출하지 않는다")
+    void emptyBatch() {
+        // when
+        service.recordDeadLetters(List.of());
+
+        // then
+        verify(notificationRepository, never()).saveAll(anyList());
+    }
+
+    private DeadLetterCommand command(String topic, Long offset, String message) {
+        return DeadLetterCommand.builder()
+            .dltTopic(topic + "-dlt")
+            .originalTopic(topic)
+            .originalPartition(0)
+            .originalOffset(offset)
+            .key("key-" + offset)
+            .exceptionClass("java.lang.IllegalStateException")
+            .exceptionMessage(message)
+            .payload("{\"id\":" + offset + "}")
+            .build();
+    }
+
+}
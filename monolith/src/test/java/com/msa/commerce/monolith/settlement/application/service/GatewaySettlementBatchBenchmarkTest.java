@@ -0,0 +1,234 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.settlement.adapter.out.gateway.StubGatewaySettlementClient;
+import com.msa.commerce.monolith.settlement.adapter.out.persistence.GatewayBatchJdbcRepository;
+import com.msa.commerce.monolith.settlement.adapter.out.persistence.SettlementEventJdbcRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.SettlementIdRange;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 하루 500만 건 정산 이벤트의 PG 사별 배치 생성 시간을 GROUP BY 한 번과 ForkJoin 병렬 구간 합계(1, 4, 8)로 비교한다.
+ * {@code ./gradlew :monolith:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("PG 사 정산 배치 생성 벤치마크")
+class GatewaySettlementBatchBenchmarkTest {
+
+    private static final int EVENTS = 5_000_000;
+
+    private static final int SEQUENCE = 1_000_000;
+
+    private static final long CHUNK_SIZE = 250_000L;
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 5);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--innodb-buffer-pool-size=2G", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static SettlementEventJdbcRepository eventRepository;
+
+    private static GatewayBatchJdbcRepository batchRepository;
+
+    private static Map<GatewayProvider, SettlementTotals> expected;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE payment_settlement_events
+            (
+                id                     BIGINT PRIMARY KEY AUTO_INCREMENT,
+                event_id               VARCHAR(36)    NOT NULL UNIQUE,
+                payment_id             BIGINT         NOT NULL,
+                order_id               BIGINT         NOT NULL,
+                user_id                BIGINT         NULL,
+                payment_amount         DECIMAL(10, 2) NOT NULL,
+                payment_currency       VARCHAR(3)     NOT NULL DEFAULT 'KRW',
+                payment_method_type    ENUM ('CREDIT_CARD', 'DEBIT_CARD', 'BANK_TRANSFER', 'DIGITAL_WALLET',
+                                             'CRYPTOCURRENCY', 'VIRTUAL_ACCOUNT') NOT NULL,
+                gateway_provider       ENUM ('TOSS', 'NICE', 'KCP', 'PAYPAL', 'STRIPE') NOT NULL,
+                gross_amount           DECIMAL(10, 2) NOT NULL,
+                gateway_fee_rate       DECIMAL(5, 4)  NOT NULL DEFAULT 0.0300,
+                gateway_fee_amount     DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                platform_fee_rate      DECIMAL(5, 4)  NOT NULL DEFAULT 0.0100,
+                platform_fee_amount    DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                tax_amount             DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                net_amount             DECIMAL(10, 2) NOT NULL,
+                event_type             ENUM ('PAYMENT_COMPLETED', 'PAYMENT_REFUNDED', 'PAYMENT_PARTIALLY_REFUNDED')
+                                                      NOT NULL,
+                settlement_target_date DATE           NOT NULL,
+                processed_at           DATETIME       NOT NULL,
+                INDEX idx_settlement_events_target_date (settlement_target_date),
+                INDEX idx_settlement_events_date_provider (settlement_target_date, gateway_provider)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE settlement_gateway_batches
+            (
+                id                    BIGINT PRIMARY KEY AUTO_INCREMENT,
+                batch_id              VARCHAR(100)   NOT NULL UNIQUE,
+                gateway_provider      ENUM ('TOSS', 'NICE', 'KCP', 'PAYPAL', 'STRIPE') NOT NULL,
+                settlement_date       DATE           NOT NULL,
+                total_payment_count   INT            NOT NULL DEFAULT 0,
+                total_amount          DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+                total_fee             DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+                net_settlement_amount DECIMAL(15, 2) NOT NULL DEFAULT 0.00,
+                gateway_settlement_id VARCHAR(255),
+                gateway_response      JSON,
+                settlement_account    VARCHAR(100),
+                status                ENUM ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'RECONCILED')
+                                                     NOT NULL DEFAULT 'PENDING',
+                processed_at          DATETIME       NULL,
+                reconciled_at         DATETIME       NULL,
+                created_at            DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                updated_at            DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+            )
+            """);
+        fillEvents();
+
+        eventRepository = new SettlementEventJdbcRepository(jdbcTemplate);
+        batchRepository = new GatewayBatchJdbcRepository(jdbcTemplate);
+        expected = groupByOnce();
+    }
+
+    /**
+     * 100만 행 숫자 테이블을 서버에서 만들어 INSERT ... SELECT 로 채운다. 스무 건 중 한 건은 환불이다.
+     */
+    private static void fillEvents() {
+        jdbcTemplate.execute("CREATE TABLE digits (d INT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+        jdbcTemplate.execute("""
+            CREATE TABLE seq AS
+            SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 AS n
+            FROM digits a, digits b, digits c, digits d, digits e, digits f
+            """);
+
+        long start = System.nanoTime();
+        for (int offset = 0; offset < EVENTS; offset += SEQUENCE) {
+            jdbcTemplate.update("""
+                INSERT INTO payment_settlement_events
+                    (event_id, payment_id, order_id, payment_amount, payment_method_type, gateway_provider,
+                     gross_amount, gateway_fee_amount, platform_fee_amount, net_amount, event_type,
+                     settlement_target_date, processed_at)
+                SELECT CONCAT('e-', v.n), v.n, v.n, v.gross, 'CREDIT_CARD',
+                       ELT(v.n % 5 + 1, 'TOSS', 'NICE', 'KCP', 'PAYPAL', 'STRIPE'),
+                       v.gross, ROUND(v.gross * 0.03, 2), ROUND(v.gross * 0.01, 2),
+                       v.gross - ROUND(v.gross * 0.03, 2) - ROUND(v.gross * 0.01, 2),
+                       IF(v.n % 20 = 0, 'PAYMENT_REFUNDED', 'PAYMENT_COMPLETED'), ?, NOW()
+                FROM (SELECT n + ? AS n, ((n * 7919) % 1000000 + 100) / 100 AS gross FROM seq) v
+                ORDER BY v.n
+                """, Date.valueOf(DATE), offset);
+        }
+        System.out.printf("filled %,d settlement events in %,d ms%n", EVENTS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("기준: 하루치를 GROUP BY 쿼리 한 번으로 합산")
+    void singleGroupBy() {
+        long start = System.nanoTime();
+        Map<GatewayProvider, SettlementTotals> totals = groupByOnce();
+        report("group-by", start);
+        assertThat(totals).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "parallelism={0}")
+    @ValueSource(ints = {1, 4, 8})
+    @DisplayName("PG 사 x id 구간 ForkJoin 합산")
+    void forkJoinTotals(int parallelism) {
+        GatewaySettlementBatchService service = service(parallelism);
+        try {
+            SettlementIdRange range = eventRepository.findIdRange(DATE).orElseThrow();
+            long start = System.nanoTime();
+            Map<GatewayProvider, SettlementTotals> totals = service.computeTotals(DATE, range);
+            report("fork-join x" + parallelism, start);
+            assertThat(totals).isEqualTo(expected);
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 행 쓰기와 스텁 PG 대사까지 포함한 전체 실행")
+    void buildBatches() {
+        GatewaySettlementBatchService service = service(8);
+        try {
+            jdbcTemplate.update("DELETE FROM settlement_gateway_batches");
+            long start = System.nanoTime();
+            List<GatewaySettlementBatch> batches = service.buildBatches(DATE);
+            report("build+reconcile x8", start);
+            assertThat(batches).hasSize(GatewayProvider.values().length);
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM settlement_gateway_batches WHERE status = 'RECONCILED'", Integer.class))
+                .isEqualTo(GatewayProvider.values().length);
+        } finally {
+            service.close();
+        }
+    }
+
+    private static GatewaySettlementBatchService service(int parallelism) {
+        return new GatewaySettlementBatchService(eventRepository, batchRepository,
+            new StubGatewaySettlementClient(new ObjectMapper()), new SimpleMeterRegistry(), parallelism, CHUNK_SIZE);
+    }
+
+    private static Map<GatewayProvider, SettlementTotals> groupByOnce() {
+        Map<GatewayProvider, SettlementTotals> totals = new EnumMap<>(GatewayProvider.class);
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            totals.put(provider, new SettlementTotals());
+        }
+        eventRepository.aggregate(DATE).forEach(breakdown ->
+            totals.get(breakdown.key().gatewayProvider()).add(breakdown.totals()));
+        return totals;
+    }
+
+    private static void report(String name, long start) {
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%-20s %,d events in %,d ms (%,.0f events/s)%n", name, EVENTS, elapsedMs,
+            EVENTS * 1000.0 / Math.max(elapsedMs, 1));
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.monolith.settlement.application.port.out.GatewayBatchRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.GatewaySettlementClient;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayBatchStatus;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementBatch;
+import com.msa.commerce.monolith.settlement.domain.GatewaySettlementReport;
+import com.msa.commerce.monolith.settlement.domain.SettlementIdRange;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GatewaySettlementBatchService 테스트")
+class GatewaySettlementBatchServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-05T17:00:00Z");
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 5);
+
+    @Mock
+    private SettlementEventRepository eventRepository;
+
+    @Mock
+    private GatewayBatchRepository batchRepository;
+
+    @Mock
+    private GatewaySettlementClient gatewayClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GatewaySettlementBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new GatewaySettlementBatchService(eventRepository, batchRepository, gatewayClient, meterRegistry,
+            4, 3L, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("id 범위를 chunk 크기로 나눠 병렬로 합산하고 구간이 겹치거나 빠지지 않는다")
+    void splitsRangeIntoChunks() {
+        // given
+        givenTossPaymentPerId();
+
+        // when
+        SettlementTotals toss = service.computeTotals(DATE, new SettlementIdRange(1L, 10L))
+            .get(GatewayProvider.TOSS);
+
+        // then
+        assertThat(toss.getPaymentCount()).isEqualTo(10L);
+        assertThat(toss.getGrossMinor()).isEqualTo(1_000_00L);
+        then(eventRepository).should(atLeast(4)).sumRange(eq(DATE), eq(GatewayProvider.TOSS), anyLong(), anyLong());
+        then(eventRepository).should(never()).sumRange(eq(DATE), eq(GatewayProvider.TOSS), anyLong(),
+            longThat(to -> to > 10L));
+    }
+
+    @Test
+    @DisplayName("PG 사 응답이 합계와 같으면 PENDING, PROCESSING, COMPLETED 를 거쳐 RECONCILED 로 표시한다")
+    void reconcilesMatchingReport() {
+        // given
+        givenTossPaymentPerId();
+        given(eventRepository.findIdRange(DATE)).willReturn(Optional.of(new SettlementIdRange(1L, 10L)));
+        given(batchRepository.findStatus("TOSS-20250305")).willReturn(Optional.empty());
+        GatewaySettlementReport report = new GatewaySettlementReport("toss_stl_1", 10L, 1_000_00L, 30_00L,
+            970_00L, "{}");
+        given(gatewayClient.requestSettlement(any())).willReturn(report);
+
+        // when
+        List<GatewaySettlementBatch> batches = service.buildBatches(DATE);
+
+        // then
+        assertThat(batches).extracting(GatewaySettlementBatch::batchId).containsExactly("TOSS-20250305");
+        InOrder inOrder = inOrder(batchRepository);
+        inOrder.verify(batchRepository).savePending(batches.get(0));
+        inOrder.verify(batchRepository).updateStatus("TOSS-20250305", GatewayBatchStatus.PROCESSING);
+        inOrder.verify(batchRepository).saveResponse("TOSS-20250305", report, NOW);
+        inOrder.verify(batchRepository).markReconciled("TOSS-20250305", NOW);
+        assertThat(meterRegistry.counter("commerce.settlement.gateway-batches", "outcome", "reconciled").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PG 사 응답이 합계와 다르면 응답을 남기고 FAILED 로 표시한다")
+    void failsMismatchedReport() {
+        // given: PG 사는 한 건을 덜 집계했다
+        givenTossPaymentPerId();
+        given(eventRepository.findIdRange(DATE)).willReturn(Optional.of(new SettlementIdRange(1L, 10L)));
+        given(batchRepository.findStatus("TOSS-20250305")).willReturn(Optional.empty());
+        GatewaySettlementReport report = new GatewaySettlementReport("toss_stl_1", 9L, 900_00L, 27_00L, 873_00L,
+            "{}");
+        given(gatewayClient.requestSettlement(any())).willReturn(report);
+
+        // when
+        service.buildBatches(DATE);
+
+        // then
+        then(batchRepository).should().saveResponse("TOSS-20250305", report, NOW);
+        then(batchRepository).should().markFailed("TOSS-20250305", null, NOW);
+        then(batchRepository).should(never()).markReconciled(any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 사 호출이 실패하면 FAILED 로 표시한다")
+    void failsWhenGatewayUnavailable() {
+        // given
+        givenTossPaymentPerId();
+        given(eventRepository.findIdRange(DATE)).willReturn(Optional.of(new SettlementIdRange(1L, 10L)));
+        given(batchRepository.findStatus("TOSS-20250305")).willReturn(Optional.empty());
+        given(gatewayClient.requestSettlement(any())).willThrow(new IllegalStateException("timeout"));
+
+        // when
+        service.buildBatches(DATE);
+
+        // then
+        then(batchRepository).should().markFailed("TOSS-20250305", null, NOW);
+        then(batchRepository).should(never()).saveResponse(any(), any(), any());
+        assertThat(meterRegistry.counter("commerce.settlement.gateway-batches", "outcome", "failed").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 RECONCILED 인 배치는 다시 만들지 않는다")
+    void skipsReconciledBatch() {
+        // given
+        givenTossPaymentPerId();
+        given(eventRepository.findIdRange(DATE)).willReturn(Optional.of(new SettlementIdRange(1L, 10L)));
+        given(batchRepository.findStatus("TOSS-20250305")).willReturn(Optional.of(GatewayBatchStatus.RECONCILED));
+
+        // when
+        List<GatewaySettlementBatch> batches = service.buildBatches(DATE);
+
+        // then
+        assertThat(batches).isEmpty();
+        then(batchRepository).should(never()).savePending(any());
+        then(gatewayClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("그날 정산 이벤트가 없으면 배치를 만들지 않는다")
+    void ignoresEmptyDay() {
+        // given
+        given(eventRepository.findIdRange(DATE)).willReturn(Optional.empty());
+
+        // when
+        List<GatewaySettlementBatch> batches = service.buildBatches(DATE);
+
+        // then
+        assertThat(batches).isEmpty();
+        then(batchRepository).shouldHaveNoInteractions();
+    }
+
+    /**
+     * id 하나가 TOSS 결제 한 건(100.00)이라고 보고 구간 길이만큼 합계를 돌려준다.
+     */
+    private void givenTossPaymentPerId() {
+        given(eventRepository.sumRange(eq(DATE), any(GatewayProvider.class), anyLong(), anyLong()))
+            .willAnswer(invocation -> {
+                if (invocation.getArgument(1) != GatewayProvider.TOSS) {
+                    return new SettlementTotals();
+                }
+                long count = (long)invocation.getArgument(3) - (long)invocation.getArgument(2) + 1;
+                return new SettlementTotals(count, 0L, count * 100_00L, count * 3_00L, count * 1_00L, 0L,
+                    count * 96_00L);
+            });
+    }
+
+}
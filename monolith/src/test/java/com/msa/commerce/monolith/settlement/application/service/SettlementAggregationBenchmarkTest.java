@@ -0,0 +1,229 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.monolith.settlement.adapter.out.persistence.SettlementAggregateJdbcRepository;
+import com.msa.commerce.monolith.settlement.adapter.out.persistence.SettlementEventJdbcRepository;
+import com.msa.commerce.monolith.settlement.application.port.in.PaymentSettlementCommand;
+import com.msa.commerce.monolith.settlement.domain.FeeRate;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementEventType;
+import com.msa.commerce.monolith.settlement.domain.SettlementFeePolicy;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결제 이벤트 -> 정산 이벤트 기록 + 증분 집계 처리량을 poll 배치 크기(250, 1000, 2000)별로 측정한다.
+ * 목표는 로컬 MySQL 에서 초당 5만 건이다. 스키마는 V1, V6, V8 마이그레이션을 그대로 적용한다.
+ * {@code ./gradlew :monolith:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("정산 이벤트 기록 처리량 벤치마크")
+class SettlementAggregationBenchmarkTest {
+
+    private static final int EVENTS = 200_000;
+
+    private static final Instant OCCURRED_AT = Instant.parse("2025-03-05T03:00:00Z");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("db_platform")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static TransactionTemplate transactionTemplate;
+
+    private static SettlementAggregationService service;
+
+    private static long nextEventId;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V1__Create_initial_schema.sql"),
+            new ClassPathResource("db/migration/V6__Create_daily_settlement_breakdowns_table.sql"),
+            new ClassPathResource("db/migration/V8__Add_settlement_events_delivery_count.sql"))
+            .execute(dataSource);
+
+        SettlementAggregateJdbcRepository aggregateRepository =
+            new SettlementAggregateJdbcRepository(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+        SettlementFeePolicy feePolicy = new SettlementFeePolicy(FeeRate.parse("0.0300"),
+            Map.of(GatewayProvider.TOSS, FeeRate.parse("0.0250")), FeeRate.parse("0.0100"));
+        service = new SettlementAggregationService(
+            new SettlementEventJdbcRepository(jdbcTemplate),
+            aggregateRepository, new SettlementRollupService(aggregateRepository), feePolicy,
+            ZoneId.of("Asia/Seoul"), "KRW", Clock.systemUTC());
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @ParameterizedTest(name = "batch={0}")
+    @ValueSource(ints = {250, 1_000, 2_000})
+    @DisplayName("poll 배치 하나 = 1,000행 단위 multi-row upsert")
+    void aggregateBatches(int batchSize) {
+        List<List<PaymentSettlementCommand>> batches = batches(EVENTS, batchSize);
+        long before = countEvents();
+
+        long start = System.nanoTime();
+        batches.forEach(SettlementAggregationBenchmarkTest::aggregate);
+        report("batch=" + batchSize, EVENTS, start);
+
+        assertThat(countEvents() - before).isEqualTo(EVENTS);
+    }
+
+    @Test
+    @DisplayName("재전달된 배치는 행과 합계를 바꾸지 않는다")
+    void redeliveryIsIdempotent() {
+        List<List<PaymentSettlementCommand>> batches = batches(20_000, 1_000);
+        batches.forEach(SettlementAggregationBenchmarkTest::aggregate);
+        long events = countEvents();
+        BigDecimal gross = jdbcTemplate.queryForObject(
+            "SELECT SUM(gross_amount) FROM daily_settlement_breakdowns", BigDecimal.class);
+
+        long start = System.nanoTime();
+        batches.forEach(SettlementAggregationBenchmarkTest::aggregate);
+        report("redelivery", 20_000, start);
+
+        assertThat(countEvents()).isEqualTo(events);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(gross_amount) FROM daily_settlement_breakdowns",
+            BigDecimal.class)).isEqualByComparingTo(gross);
+    }
+
+    @Test
+    @DisplayName("재전달이 일부 섞인 배치는 새 이벤트만 합계에 더한다")
+    void partialRedeliveryAddsOnlyNewEvents() {
+        List<PaymentSettlementCommand> delivered = batches(500, 500).get(0);
+        aggregate(delivered);
+        long events = countEvents();
+        BigDecimal gross = jdbcTemplate.queryForObject(
+            "SELECT SUM(gross_amount) FROM daily_settlement_breakdowns", BigDecimal.class);
+
+        List<PaymentSettlementCommand> fresh = batches(500, 500).get(0);
+        List<PaymentSettlementCommand> mixed = new ArrayList<>(delivered.subList(0, 250));
+        mixed.addAll(fresh);
+        aggregate(mixed);
+
+        BigDecimal freshGross = BigDecimal.ZERO;
+        for (PaymentSettlementCommand command : fresh) {
+            freshGross = command.getEventType().isRefund()
+                ? freshGross.subtract(command.getAmount()) : freshGross.add(command.getAmount());
+        }
+        assertThat(countEvents()).isEqualTo(events + fresh.size());
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(gross_amount) FROM daily_settlement_breakdowns",
+            BigDecimal.class)).isEqualByComparingTo(gross.add(freshGross));
+    }
+
+    @Test
+    @DisplayName("컬럼 범위를 넘는 금액은 경고로 잘리지 않고 배치 전체를 실패시킨다")
+    void dataErrorFailsBatch() {
+        List<PaymentSettlementCommand> batch = new ArrayList<>(batches(100, 100).get(0));
+        PaymentSettlementCommand valid = batch.get(50);
+        batch.set(50, PaymentSettlementCommand.builder()
+            .eventId(valid.getEventId())
+            .paymentId(valid.getPaymentId())
+            .orderId(valid.getOrderId())
+            .amount(new BigDecimal("100000000.00"))    // DECIMAL(10, 2) 범위 밖
+            .currency(valid.getCurrency())
+            .gatewayProvider(valid.getGatewayProvider())
+            .paymentMethodType(valid.getPaymentMethodType())
+            .eventType(valid.getEventType())
+            .occurredAt(valid.getOccurredAt())
+            .build());
+        long events = countEvents();
+
+        assertThatThrownBy(() -> aggregate(batch)).isInstanceOf(DataAccessException.class);
+        assertThat(countEvents()).isEqualTo(events);
+    }
+
+    private static void aggregate(List<PaymentSettlementCommand> batch) {
+        transactionTemplate.executeWithoutResult(status -> service.aggregate(batch));
+    }
+
+    /**
+     * PG 사 5 x 결제 수단 3 조합에 고르게 나누고, 스무 건 중 한 건은 환불이다.
+     */
+    private static List<List<PaymentSettlementCommand>> batches(int events, int batchSize) {
+        GatewayProvider[] gateways = GatewayProvider.values();
+        PaymentMethodType[] methods = {PaymentMethodType.CREDIT_CARD, PaymentMethodType.DEBIT_CARD,
+            PaymentMethodType.BANK_TRANSFER};
+
+        List<List<PaymentSettlementCommand>> batches = new ArrayList<>();
+        List<PaymentSettlementCommand> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < events; i++) {
+            long id = nextEventId++;
+            batch.add(PaymentSettlementCommand.builder()
+                .eventId("e-" + id)
+                .paymentId(id)
+                .orderId(id)
+                .amount(BigDecimal.valueOf(id % 1_000_000 + 100, 2))
+                .currency("KRW")
+                .gatewayProvider(gateways[(int)(id % gateways.length)].name())
+                .paymentMethodType(methods[(int)(id / gateways.length % methods.length)].name())
+                .eventType(id % 20 == 0 ? SettlementEventType.PAYMENT_REFUNDED : SettlementEventType.PAYMENT_COMPLETED)
+                .occurredAt(OCCURRED_AT.plusSeconds(id % 86_400))
+                .build());
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static long countEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_settlement_events", Long.class);
+    }
+
+    private static void report(String name, int events, long start) {
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%-14s %,d events in %,d ms (%,.0f events/s)%n", name, events, elapsedMs,
+            events * 1000.0 / Math.max(elapsedMs, 1));
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.monolith.settlement.application.port.in.PaymentSettlementCommand;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.FeeRate;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementEvent;
+import com.msa.commerce.monolith.settlement.domain.SettlementEventType;
+import com.msa.commerce.monolith.settlement.domain.SettlementFeePolicy;
+import com.msa.commerce.monolith.settlement.domain.SettlementKey;
+import com.msa.commerce.monolith.settlement.domain.SettlementPeriod;
+import com.msa.commerce.monolith.settlement.domain.SettlementRollup;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementAggregationService 테스트")
+class SettlementAggregationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-05T03:00:00Z");
+
+    private static final LocalDate MARCH_5 = LocalDate.of(2025, 3, 5);
+
+    @Mock
+    private SettlementEventRepository eventRepository;
+
+    @Mock
+    private SettlementAggregateRepository aggregateRepository;
+
+    private SettlementAggregationService service;
+
+    @BeforeEach
+    void setUp() {
+        SettlementFeePolicy feePolicy = new SettlementFeePolicy(FeeRate.parse("0.0300"),
+            Map.of(GatewayProvider.TOSS, FeeRate.parse("0.0250")), FeeRate.parse("0.0100"));
+        service = new SettlementAggregationService(eventRepository, aggregateRepository,
+            new SettlementRollupService(aggregateRepository), feePolicy, ZoneId.of("Asia/Seoul"), "KRW",
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("이벤트마다 수수료를 계산해 기록하고 날짜 x PG 사 x 결제 수단별 증분으로 접어 더한다")
+    @SuppressWarnings("unchecked")
+    void aggregatesIncrementally() {
+        // given
+        givenAllInserted();
+        PaymentSettlementCommand first = command("e-1", "10000.00", "TOSS", "CREDIT_CARD");
+        PaymentSettlementCommand second = command("e-2", "5000.50", "TOSS", "CREDIT_CARD");
+        PaymentSettlementCommand third = command("e-3", "2000.00", "NICE", "BANK_TRANSFER");
+
+        // when
+        service.aggregate(List.of(first, second, third));
+
+        // then
+        ArgumentCaptor<List<SettlementEvent>> events = ArgumentCaptor.forClass(List.class);
+        then(eventRepository).should().insertNew(events.capture());
+        SettlementEvent saved = events.getValue().get(1);
+        assertThat(saved.getGrossMinor()).isEqualTo(500_050L);
+        assertThat(saved.getGatewayFeeMinor()).isEqualTo(12_501L);    // 5000.50 * 0.025 = 125.0125
+        assertThat(saved.getPlatformFeeMinor()).isEqualTo(5_001L);    // 5000.50 * 0.01 = 50.005
+        assertThat(saved.getNetMinor()).isEqualTo(500_050L - 12_501L - 5_001L);
+        assertThat(saved.getSettlementTargetDate()).isEqualTo(MARCH_5);
+
+        ArgumentCaptor<List<SettlementBreakdown>> increments = ArgumentCaptor.forClass(List.class);
+        then(aggregateRepository).should().addBreakdowns(increments.capture());
+        assertThat(increments.getValue()).extracting(SettlementBreakdown::key).containsExactly(
+            new SettlementKey(MARCH_5, GatewayProvider.TOSS, PaymentMethodType.CREDIT_CARD),
+            new SettlementKey(MARCH_5, GatewayProvider.NICE, PaymentMethodType.BANK_TRANSFER));
+        SettlementTotals toss = increments.getValue().get(0).totals();
+        assertThat(toss.getPaymentCount()).isEqualTo(2L);
+        assertThat(toss.getGrossMinor()).isEqualTo(1_500_050L);
+    }
+
+    @Test
+    @DisplayName("정산일은 설정된 시간대 기준이며 바뀐 날의 일간/주간/월간 행을 먼저 잠그고 breakdown 으로 롤업한다")
+    void rollsUpTouchedPeriods() {
+        // given: UTC 3월 4일 16시 = 서울 3월 5일 01시
+        givenAllInserted();
+        PaymentSettlementCommand command = PaymentSettlementCommand.builder()
+            .eventId("e-1")
+            .paymentId(1L)
+            .orderId(10L)
+            .amount(new BigDecimal("1000.00"))
+            .currency("KRW")
+            .gatewayProvider("KCP")
+            .paymentMethodType("DEBIT_CARD")
+            .eventType(SettlementEventType.PAYMENT_COMPLETED)
+            .occurredAt(Instant.parse("2025-03-04T16:00:00Z"))
+            .build();
+
+        // when
+        service.aggregate(List.of(command));
+
+        // then
+        SettlementPeriod week = SettlementPeriod.weekOf(MARCH_5);
+        SettlementPeriod month = SettlementPeriod.monthOf(MARCH_5);
+        assertThat(week.label()).isEqualTo("2025-10");
+        assertThat(week.startDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(month.label()).isEqualTo("2025-03");
+        InOrder inOrder = inOrder(aggregateRepository, eventRepository);
+        inOrder.verify(aggregateRepository).lockRollups(Set.of(month), Set.of(week), Set.of(MARCH_5));
+        inOrder.verify(eventRepository).insertNew(anyList());
+        inOrder.verify(aggregateRepository).addBreakdowns(anyList());
+        then(aggregateRepository).should().findBreakdowns(MARCH_5, MARCH_5);
+        then(aggregateRepository).should().findBreakdowns(week.startDate(), week.endDate());
+        then(aggregateRepository).should().findBreakdowns(month.startDate(), month.endDate());
+        then(aggregateRepository).should().saveDaily(eq(MARCH_5), any(SettlementRollup.class), eq(NOW));
+        then(aggregateRepository).should().saveWeekly(eq(week), any(SettlementRollup.class), eq(NOW));
+        then(aggregateRepository).should().saveMonthly(eq(month), any(SettlementRollup.class), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("배치 안의 중복과 정산 통화가 아닌 결제는 넣지 않고, 실제로 들어간 이벤트만 합산한다")
+    @SuppressWarnings("unchecked")
+    void aggregatesOnlyInsertedEvents() {
+        // given: e-1 은 이미 기록되어 upsert 에서 중복으로 세어진다
+        given(eventRepository.insertNew(anyList())).willAnswer(invocation -> {
+            List<SettlementEvent> events = invocation.getArgument(0);
+            return events.stream().filter(event -> !event.getEventId().equals("e-1")).toList();
+        });
+        PaymentSettlementCommand usd = PaymentSettlementCommand.builder()
+            .eventId("e-3")
+            .paymentId(3L)
+            .orderId(30L)
+            .amount(new BigDecimal("10.00"))
+            .currency("USD")
+            .gatewayProvider("STRIPE")
+            .paymentMethodType("CREDIT_CARD")
+            .eventType(SettlementEventType.PAYMENT_COMPLETED)
+            .occurredAt(NOW)
+            .build();
+
+        // when
+        service.aggregate(List.of(command("e-1", "100.00", "TOSS", "CREDIT_CARD"),
+            command("e-2", "200.00", "TOSS", "CREDIT_CARD"), command("e-2", "200.00", "TOSS", "CREDIT_CARD"), usd));
+
+        // then
+        ArgumentCaptor<List<SettlementEvent>> events = ArgumentCaptor.forClass(List.class);
+        then(eventRepository).should().insertNew(events.capture());
+        assertThat(events.getValue()).extracting(SettlementEvent::getEventId).containsExactly("e-1", "e-2");
+        ArgumentCaptor<List<SettlementBreakdown>> increments = ArgumentCaptor.forClass(List.class);
+        then(aggregateRepository).should().addBreakdowns(increments.capture());
+        assertThat(increments.getValue()).singleElement()
+            .satisfies(increment -> assertThat(increment.totals().getGrossMinor()).isEqualTo(20_000L));
+    }
+
+    @Test
+    @DisplayName("새로 들어간 이벤트가 없으면 합계를 건드리지 않는다")
+    void ignoresRedeliveredBatch() {
+        // given
+        given(eventRepository.insertNew(anyList())).willReturn(List.of());
+
+        // when
+        service.aggregate(List.of(command("e-1", "100.00", "TOSS", "CREDIT_CARD")));
+
+        // then
+        then(aggregateRepository).should(never()).addBreakdowns(anyList());
+        then(aggregateRepository).should(never()).saveDaily(any(), any(), any());
+    }
+
+    private void givenAllInserted() {
+        given(eventRepository.insertNew(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static PaymentSettlementCommand command(String eventId, String amount, String gateway, String method) {
+        return PaymentSettlementCommand.builder()
+            .eventId(eventId)
+            .paymentId(1L)
+            .orderId(10L)
+            .amount(new BigDecimal(amount))
+            .currency("KRW")
+            .gatewayProvider(gateway)
+            .paymentMethodType(method)
+            .eventType(SettlementEventType.PAYMENT_COMPLETED)
+            .occurredAt(NOW)
+            .build();
+    }
+
+}
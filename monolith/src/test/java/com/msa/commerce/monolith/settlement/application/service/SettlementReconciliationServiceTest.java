@@ -0,0 +1,116 @@
+package com.msa.commerce.monolith.settlement.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementAggregateRepository;
+import com.msa.commerce.monolith.settlement.application.port.out.SettlementEventRepository;
+import com.msa.commerce.monolith.settlement.domain.GatewayProvider;
+import com.msa.commerce.monolith.settlement.domain.PaymentMethodType;
+import com.msa.commerce.monolith.settlement.domain.SettlementBreakdown;
+import com.msa.commerce.monolith.settlement.domain.SettlementKey;
+import com.msa.commerce.monolith.settlement.domain.SettlementPeriod;
+import com.msa.commerce.monolith.settlement.domain.SettlementReconciliation;
+import com.msa.commerce.monolith.settlement.domain.SettlementRollup;
+import com.msa.commerce.monolith.settlement.domain.SettlementTotals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementReconciliationService 테스트")
+class SettlementReconciliationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-06T15:30:00Z");
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 5);
+
+    private static final SettlementKey TOSS_CARD =
+        new SettlementKey(DATE, GatewayProvider.TOSS, PaymentMethodType.CREDIT_CARD);
+
+    private static final SettlementKey NICE_TRANSFER =
+        new SettlementKey(DATE, GatewayProvider.NICE, PaymentMethodType.BANK_TRANSFER);
+
+    @Mock
+    private SettlementEventRepository eventRepository;
+
+    @Mock
+    private SettlementAggregateRepository aggregateRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SettlementReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new SettlementReconciliationService(eventRepository, aggregateRepository,
+            new SettlementRollupService(aggregateRepository), meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("증분 합계가 재계산과 같으면 그대로 두고 RECONCILED 로 표시한다")
+    void marksMatchedDayReconciled() {
+        // given
+        given(aggregateRepository.lockBreakdowns(DATE)).willReturn(List.of(breakdown(TOSS_CARD, 3, 30_000_00L)));
+        given(eventRepository.aggregate(DATE)).willReturn(List.of(breakdown(TOSS_CARD, 3, 30_000_00L)));
+
+        // when
+        SettlementReconciliation result = service.reconcile(DATE);
+
+        // then
+        assertThat(result.matched()).isTrue();
+        then(aggregateRepository).should(never()).replaceBreakdowns(any(), anyList());
+        then(aggregateRepository).should().markDailyReconciled(DATE, NOW);
+        assertThat(meterRegistry.counter("commerce.settlement.reconciliations", "outcome", "matched").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("롤업 행과 breakdown 을 잠근 뒤, 어긋난 키가 있으면 재계산 값으로 바꾸고 롤업을 다시 만들어 RECONCILED 로 표시한다")
+    void repairsMismatchedDay() {
+        // given: TOSS 는 한 건이 두 번 더해졌고 NICE 는 증분이 빠졌다
+        List<SettlementBreakdown> recomputed = List.of(breakdown(TOSS_CARD, 2, 20_000_00L),
+            breakdown(NICE_TRANSFER, 1, 5_000_00L));
+        given(aggregateRepository.lockBreakdowns(DATE)).willReturn(List.of(breakdown(TOSS_CARD, 3, 30_000_00L)));
+        given(eventRepository.aggregate(DATE)).willReturn(recomputed);
+
+        // when
+        SettlementReconciliation result = service.reconcile(DATE);
+
+        // then
+        assertThat(result.mismatchedKeys()).containsExactly(TOSS_CARD, NICE_TRANSFER);
+        InOrder inOrder = inOrder(aggregateRepository);
+        inOrder.verify(aggregateRepository).lockRollups(Set.of(SettlementPeriod.monthOf(DATE)),
+            Set.of(SettlementPeriod.weekOf(DATE)), Set.of(DATE));
+        inOrder.verify(aggregateRepository).lockBreakdowns(DATE);
+        inOrder.verify(aggregateRepository).replaceBreakdowns(eq(DATE), argThat(breakdowns ->
+            breakdowns.size() == 2 && breakdowns.containsAll(recomputed)));
+        inOrder.verify(aggregateRepository).saveDaily(eq(DATE), any(SettlementRollup.class), eq(NOW));
+        inOrder.verify(aggregateRepository).markDailyReconciled(DATE, NOW);
+        assertThat(meterRegistry.counter("commerce.settlement.reconciliations", "outcome", "repaired").count())
+            .isEqualTo(1.0);
+    }
+
+    private static SettlementBreakdown breakdown(SettlementKey key, long count, long grossMinor) {
+        return new SettlementBreakdown(key,
+            new SettlementTotals(count, 0L, grossMinor, grossMinor * 3 / 100, grossMinor / 100, 0L,
+                grossMinor - grossMinor * 3 / 100 - grossMinor / 100));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.msa.commerce.monolith.settlement.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.msa.commerce.common.money.Money;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FeeRate 테스트")
+class FeeRateTest {
+
+    @Test
+    @DisplayName("수수료는 DECIMAL(10,2) 저장과 같은 HALF_UP 으로 반올림된다")
+    void roundsHalfUp() {
+        // given
+        FeeRate rate = FeeRate.parse("0.0300");
+
+        // when & then
+        assertThat(rate.applyTo(krw(1_050L))).isEqualTo(krw(32L));     // 10.50 * 0.03 = 0.315 -> 0.32
+        assertThat(rate.applyTo(krw(1_016L))).isEqualTo(krw(30L));     // 10.16 * 0.03 = 0.3048 -> 0.30
+        assertThat(rate.applyTo(krw(-1_050L))).isEqualTo(krw(-32L));
+    }
+
+    @Test
+    @DisplayName("long 최소 단위 계산은 BigDecimal 계산과 같은 결과를 낸다")
+    void matchesBigDecimal() {
+        // given
+        FeeRate rate = FeeRate.parse("0.0275");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 10_000; i++) {
+            long amountMinor = random.nextLong(1L, 99_999_999_99L);
+
+            // when
+            long fee = rate.applyTo(krw(amountMinor)).minor();
+
+            // then
+            BigDecimal expected = BigDecimal.valueOf(amountMinor, 2)
+                .multiply(rate.toBigDecimal())
+                .setScale(2, RoundingMode.HALF_UP);
+            assertThat(BigDecimal.valueOf(fee, 2)).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 넷째 자리를 넘거나 범위를 벗어난 수수료율은 거절한다")
+    void rejectsInvalidRate() {
+        // when & then
+        assertThatThrownBy(() -> FeeRate.parse("0.03001")).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FeeRate.parse("1.5")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Money krw(long minor) {
+        return Money.ofMinor(minor, "KRW");
+    }
+
+}
@@ -3,6 +3,7 @@ dependencies {
 
     // Service-specific dependencies
     implementation(BuildDependencies.getSpringKafka())
+    implementation(BuildDependencies.getSpringBootStarterActuator())
 
     // Database connector
     runtimeOnly(BuildDependencies.getMysqlConnectorRuntime())
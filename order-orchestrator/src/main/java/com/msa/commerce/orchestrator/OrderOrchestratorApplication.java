@@ -3,7 +3,10 @@ package com.msa.commerce.orchestrator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+    "com.msa.commerce.orchestrator",
+    "com.msa.commerce.common"
+})
 public class OrderOrchestratorApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,15 @@
+package com.msa.commerce.orchestrator.order;
+
+/**
+ * orders.fulfillment_status 값.
+ */
+public enum FulfillmentStatus {
+
+    PENDING,
+    PROCESSING,
+    SHIPPED,
+    DELIVERED,
+    CANCELLED,
+    RETURNED
+
+}
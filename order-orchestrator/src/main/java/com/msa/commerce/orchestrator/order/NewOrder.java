@@ -0,0 +1,45 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 저장할 새 주문. 소계와 합계는 항목에서 계산한다. 주소는 JSON 문자열이다.
+ */
+public record NewOrder(
+    long userId,
+    String currency,
+    BigDecimal discountAmount,
+    BigDecimal taxAmount,
+    BigDecimal shippingAmount,
+    ShippingMethod shippingMethod,
+    String billingAddress,
+    String shippingAddress,
+    String customerNotes,
+    List<NewOrderItem> items
+) {
+
+    public NewOrder {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Order must have at least one item");
+        }
+        items = List.copyOf(items);
+        discountAmount = discountAmount != null ? discountAmount : BigDecimal.ZERO;
+        taxAmount = taxAmount != null ? taxAmount : BigDecimal.ZERO;
+        shippingAmount = shippingAmount != null ? shippingAmount : BigDecimal.ZERO;
+        shippingMethod = shippingMethod != null ? shippingMethod : ShippingMethod.STANDARD;
+    }
+
+    public BigDecimal subtotalAmount() {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (NewOrderItem item : items) {
+            subtotal = subtotal.add(item.totalPrice());
+        }
+        return subtotal;
+    }
+
+    public BigDecimal totalAmount() {
+        return subtotalAmount().subtract(discountAmount).add(taxAmount).add(shippingAmount);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.math.BigDecimal;
+
+/**
+ * 새 주문의 한 줄. 주문 시점 상품 정보(sku, 이름, 가격)를 그대로 order_items 에 남긴다.
+ */
+public record NewOrderItem(
+    long productId,
+    Long productVariantId,
+    String productSku,
+    String productName,
+    String productVariantName,
+    String productImageUrl,
+    BigDecimal unitPrice,
+    int quantity
+) {
+
+    public NewOrderItem {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Order item quantity must be positive");
+        }
+        if (unitPrice == null || unitPrice.signum() < 0) {
+            throw new IllegalArgumentException("Order item unit price must not be negative");
+        }
+    }
+
+    public BigDecimal totalPrice() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+}
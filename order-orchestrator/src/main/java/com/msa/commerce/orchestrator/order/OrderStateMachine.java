@@ -0,0 +1,103 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문의 세 상태 컬럼(status, payment_status, fulfillment_status) 전이를 검사하고 반영한다.
+ * <p>
+ * 허용 전이는 상태 구분별 {@link TransitionTable} 로 미리 계산되어 있다. 현재 상태를 읽고 표로 검사한 뒤
+ * "현재 상태가 읽은 값일 때만" UPDATE 하고, 경합으로 실패하면 다시 읽어 몇 번 재시도한다.
+ * 반영된 전이의 이력은 {@link OrderStatusHistoryWriter} 가 요청 스레드 밖에서 배치로 기록한다.
+ */
+@Slf4j
+@Component
+public class OrderStateMachine {
+
+    static final TransitionTable<OrderStatus> ORDER_TRANSITIONS = TransitionTable.builder(OrderStatus.class)
+        .allow(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.CANCELLED)
+        .allow(OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.CANCELLED)
+        .allow(OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.CANCELLED)
+        .allow(OrderStatus.SHIPPED, OrderStatus.DELIVERED)
+        .build();
+
+    static final TransitionTable<PaymentStatus> PAYMENT_TRANSITIONS = TransitionTable.builder(PaymentStatus.class)
+        .allow(PaymentStatus.PENDING, PaymentStatus.PROCESSING, PaymentStatus.COMPLETED, PaymentStatus.FAILED,
+            PaymentStatus.CANCELLED)
+        .allow(PaymentStatus.PROCESSING, PaymentStatus.COMPLETED, PaymentStatus.FAILED, PaymentStatus.CANCELLED)
+        .allow(PaymentStatus.FAILED, PaymentStatus.PROCESSING, PaymentStatus.CANCELLED)
+        .allow(PaymentStatus.COMPLETED, PaymentStatus.REFUNDED)
+        .build();
+
+    static final TransitionTable<FulfillmentStatus> FULFILLMENT_TRANSITIONS =
+        TransitionTable.builder(FulfillmentStatus.class)
+            .allow(FulfillmentStatus.PENDING, FulfillmentStatus.PROCESSING, FulfillmentStatus.CANCELLED)
+            .allow(FulfillmentStatus.PROCESSING, FulfillmentStatus.SHIPPED, FulfillmentStatus.CANCELLED)
+            .allow(FulfillmentStatus.SHIPPED, FulfillmentStatus.DELIVERED, FulfillmentStatus.RETURNED)
+            .allow(FulfillmentStatus.DELIVERED, FulfillmentStatus.RETURNED)
+            .build();
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OrderStatusRepository statusRepository;
+
+    private final OrderStatusHistoryWriter historyWriter;
+
+    private final Clock clock;
+
+    @Autowired
+    public OrderStateMachine(OrderStatusRepository statusRepository, OrderStatusHistoryWriter historyWriter) {
+        this(statusRepository, historyWriter, Clock.systemUTC());
+    }
+
+    OrderStateMachine(OrderStatusRepository statusRepository, OrderStatusHistoryWriter historyWriter, Clock clock) {
+        this.statusRepository = statusRepository;
+        this.historyWriter = historyWriter;
+        this.clock = clock;
+    }
+
+    public TransitionResult changeOrderStatus(long orderId, OrderStatus target, String reason, Long changedByUserId) {
+        return change(StatusType.ORDER, ORDER_TRANSITIONS, orderId, target, reason, changedByUserId);
+    }
+
+    public TransitionResult changePaymentStatus(long orderId, PaymentStatus target, String reason,
+        Long changedByUserId) {
+        return change(StatusType.PAYMENT, PAYMENT_TRANSITIONS, orderId, target, reason, changedByUserId);
+    }
+
+    public TransitionResult changeFulfillmentStatus(long orderId, FulfillmentStatus target, String reason,
+        Long changedByUserId) {
+        return change(StatusType.FULFILLMENT, FULFILLMENT_TRANSITIONS, orderId, target, reason, changedByUserId);
+    }
+
+    private <S extends Enum<S>> TransitionResult change(StatusType type, TransitionTable<S> transitions, long orderId,
+        S target, String reason, Long changedByUserId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<String> current = statusRepository.findStatus(type, orderId);
+            if (current.isEmpty()) {
+                return TransitionResult.NOT_FOUND;
+            }
+
+            S from = transitions.state(current.get());
+            if (from == target) {
+                return TransitionResult.UNCHANGED;
+            }
+            if (!transitions.allows(from, target)) {
+                return TransitionResult.REJECTED;
+            }
+            if (statusRepository.compareAndSet(type, orderId, from, target)) {
+                historyWriter.append(new StatusHistoryEntry(orderId, type, from.name(), target.name(), reason,
+                    changedByUserId, clock.instant()));
+                return TransitionResult.APPLIED;
+            }
+        }
+        log.warn("Gave up changing {} status of order {} to {} after {} conflicts", type, orderId, target, MAX_ATTEMPTS);
+        return TransitionResult.CONFLICT;
+    }
+
+}
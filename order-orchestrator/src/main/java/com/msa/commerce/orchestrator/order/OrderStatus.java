@@ -0,0 +1,24 @@
+package com.msa.commerce.orchestrator.order;
+
+import lombok.Getter;
+
+/**
+ * orders.status 값. 전이 시 함께 기록할 시각 컬럼이 있는 상태는 컬럼명을 갖는다.
+ */
+@Getter
+public enum OrderStatus {
+
+    PENDING(null),
+    CONFIRMED("confirmed_at"),
+    PROCESSING(null),
+    SHIPPED("shipped_at"),
+    DELIVERED("delivered_at"),
+    CANCELLED("cancelled_at");
+
+    private final String timestampColumn;
+
+    OrderStatus(String timestampColumn) {
+        this.timestampColumn = timestampColumn;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.msa.commerce.orchestrator.order;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OrderStatusChangeRequest {
+
+    @NotNull(message = "Status type is required.")
+    private StatusType type;
+
+    @NotBlank(message = "Status is required.")
+    private String status;
+
+    @Size(max = 255, message = "Reason cannot exceed 255 characters.")
+    private String reason;
+
+    private Long changedByUserId;
+
+}
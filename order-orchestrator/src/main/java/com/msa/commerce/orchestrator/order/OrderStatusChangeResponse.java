@@ -0,0 +1,9 @@
+package com.msa.commerce.orchestrator.order;
+
+public record OrderStatusChangeResponse(
+    long orderId,
+    StatusType type,
+    String status,
+    TransitionResult result
+) {
+}
@@ -0,0 +1,60 @@
+package com.msa.commerce.orchestrator.order;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.exception.ResourceNotFoundException;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/orders")
+@RequiredArgsConstructor
+public class OrderStatusController {
+
+    private final OrderStateMachine stateMachine;
+
+    /**
+     * 결제·배송 웹훅 등에서 상태 변경을 반영한다. 이미 목표 상태이면 UNCHANGED 로 성공 응답한다.
+     */
+    @PutMapping("/{orderId}/status")
+    public ResponseEntity<OrderStatusChangeResponse> changeStatus(@PathVariable Long orderId,
+        @Valid @RequestBody OrderStatusChangeRequest request) {
+        TransitionResult result;
+        try {
+            result = switch (request.getType()) {
+                case ORDER -> stateMachine.changeOrderStatus(orderId,
+                    OrderStateMachine.ORDER_TRANSITIONS.state(request.getStatus()),
+                    request.getReason(), request.getChangedByUserId());
+                case PAYMENT -> stateMachine.changePaymentStatus(orderId,
+                    OrderStateMachine.PAYMENT_TRANSITIONS.state(request.getStatus()),
+                    request.getReason(), request.getChangedByUserId());
+                case FULFILLMENT -> stateMachine.changeFulfillmentStatus(orderId,
+                    OrderStateMachine.FULFILLMENT_TRANSITIONS.state(request.getStatus()),
+                    request.getReason(), request.getChangedByUserId());
+            };
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage(), ErrorCode.INVALID_INPUT.getCode());
+        }
+
+        return switch (result) {
+            case APPLIED, UNCHANGED -> ResponseEntity.ok(
+                new OrderStatusChangeResponse(orderId, request.getType(), request.getStatus(), result));
+            case NOT_FOUND -> throw new ResourceNotFoundException("Order not found: " + orderId,
+                ErrorCode.ORDER_NOT_FOUND.getCode());
+            case REJECTED -> throw new BusinessException(
+                "Cannot change " + request.getType() + " status of order " + orderId + " to " + request.getStatus(),
+                ErrorCode.ORDER_INVALID_STATUS_TRANSITION.getCode());
+            case CONFLICT -> throw new BusinessException("Order " + orderId + " status is changing concurrently",
+                ErrorCode.ORDER_STATUS_CONFLICT.getCode());
+        };
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * order_status_history 행을 요청 스레드 밖에서 모아 배치 INSERT 한다.
+ * <p>
+ * 상태 변경 요청은 bounded queue 에 넣고 바로 반환한다. 전용 writer 스레드가 batch-size 만큼 모이거나
+ * flush-interval 이 지나면 한 번의 batchUpdate 로 기록한다 (rewriteBatchedStatements 로 multi-row INSERT).
+ * 큐가 가득 차면 이력을 버리지 않고 호출 스레드에서 바로 기록해 자연스럽게 속도를 늦춘다.
+ */
+@Slf4j
+@Component
+public class OrderStatusHistoryWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO order_status_history (order_id, status_type, from_status, to_status, reason, changed_by_user_id, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BlockingQueue<StatusHistoryEntry> queue;
+
+    @Value("${commerce.order-status.history.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${commerce.order-status.history.flush-interval-ms:100}")
+    private long flushIntervalMs = 100;
+
+    private volatile boolean running;
+
+    private Thread writerThread;
+
+    public OrderStatusHistoryWriter(JdbcTemplate jdbcTemplate,
+        @Value("${commerce.order-status.history.queue-capacity:50000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void append(StatusHistoryEntry entry) {
+        if (!running || !queue.offer(entry)) {
+            insert(List.of(entry));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("order-status-history-writer").start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전에 들어온 항목까지 기록한다
+        List<StatusHistoryEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flush(remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 다른 빈보다 늦게 멈추도록 높은 phase 를 사용한다.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<StatusHistoryEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                StatusHistoryEntry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) == 0) {
+                        long remaining = deadline - System.nanoTime();
+                        StatusHistoryEntry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<StatusHistoryEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_FLUSH_ATTEMPTS) {
+                    log.error("Dropped {} order status history rows after {} attempts", batch.size(), attempt, e);
+                } else {
+                    log.warn("Failed to write {} order status history rows, retrying", batch.size(), e);
+                }
+            }
+        }
+    }
+
+    private void insert(List<StatusHistoryEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.orderId());
+            ps.setString(2, entry.statusType().name());
+            ps.setString(3, entry.fromStatus());
+            ps.setString(4, entry.toStatus());
+            ps.setString(5, entry.reason());
+            ps.setObject(6, entry.changedByUserId());
+            ps.setTimestamp(7, Timestamp.from(entry.createdAt()));
+        });
+    }
+
+}
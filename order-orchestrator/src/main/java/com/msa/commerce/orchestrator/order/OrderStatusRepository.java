@@ -0,0 +1,55 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * orders 의 상태 컬럼을 읽고 compare-and-set 으로 바꾼다.
+ * 상태 구분·목표 상태별 UPDATE 문은 생성 시 한 번만 만든다.
+ */
+@Repository
+public class OrderStatusRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String[] selectSql;
+
+    private final String[][] updateSql;
+
+    public OrderStatusRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        StatusType[] types = StatusType.values();
+        this.selectSql = new String[types.length];
+        this.updateSql = new String[types.length][];
+        for (StatusType type : types) {
+            String column = type.getColumn();
+            selectSql[type.ordinal()] = "SELECT " + column + " FROM orders WHERE id = ?";
+
+            Enum<?>[] states = type.getStateType().getEnumConstants();
+            updateSql[type.ordinal()] = new String[states.length];
+            for (Enum<?> state : states) {
+                String timestampColumn = state instanceof OrderStatus orderStatus ? orderStatus.getTimestampColumn() : null;
+                updateSql[type.ordinal()][state.ordinal()] = "UPDATE orders SET " + column + " = ?"
+                    + (timestampColumn != null ? ", " + timestampColumn + " = NOW()" : "")
+                    + " WHERE id = ? AND " + column + " = ?";
+            }
+        }
+    }
+
+    public Optional<String> findStatus(StatusType type, long orderId) {
+        List<String> statuses = jdbcTemplate.queryForList(selectSql[type.ordinal()], String.class, orderId);
+        return statuses.stream().findFirst();
+    }
+
+    /**
+     * 현재 상태가 from 일 때만 to 로 바꾼다. 그 사이 다른 요청이 상태를 바꿨으면 false 를 반환한다.
+     */
+    public boolean compareAndSet(StatusType type, long orderId, Enum<?> from, Enum<?> to) {
+        return jdbcTemplate.update(updateSql[type.ordinal()][to.ordinal()], to.name(), orderId, from.name()) == 1;
+    }
+
+}
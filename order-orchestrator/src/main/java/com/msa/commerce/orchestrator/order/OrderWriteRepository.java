@@ -0,0 +1,134 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.orchestrator.ordernumber.OrderNumberGenerator;
+
+/**
+ * 새 주문을 한 트랜잭션 안에서 세 문장으로 저장한다.
+ * <p>
+ * 헤더 INSERT 로 주문 ID 를 받은 뒤, 항목 전체를 한 번의 batchUpdate 로 보내고(rewriteBatchedStatements 로
+ * multi-row INSERT 한 문장이 된다) 최초 상태 이력 한 행을 쓴다. 항목 수와 관계없이 왕복 횟수가 일정하다.
+ * 주문 번호는 {@link OrderNumberGenerator} 가 메모리에서 발급하므로 추가 조회가 없다.
+ */
+@Repository
+public class OrderWriteRepository {
+
+    private static final String INSERT_ORDER_SQL = """
+        INSERT INTO orders (order_number, user_id, total_amount, subtotal_amount, discount_amount, tax_amount,
+                            shipping_amount, currency, shipping_method, billing_address, shipping_address,
+                            customer_notes, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_ITEM_SQL = """
+        INSERT INTO order_items (order_id, product_id, product_variant_id, product_sku, product_name,
+                                 product_variant_name, product_image_url, unit_price, quantity, total_price,
+                                 created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_HISTORY_SQL = """
+        INSERT INTO order_status_history (order_id, status_type, from_status, to_status, reason, changed_by_user_id, created_at)
+        VALUES (?, ?, NULL, ?, ?, ?, ?)
+        """;
+
+    private static final String CREATED_REASON = "Order created";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OrderNumberGenerator orderNumberGenerator;
+
+    private final Clock clock;
+
+    @Autowired
+    public OrderWriteRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+        OrderNumberGenerator orderNumberGenerator) {
+        this(jdbcTemplate, transactionTemplate, orderNumberGenerator, Clock.systemUTC());
+    }
+
+    OrderWriteRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+        OrderNumberGenerator orderNumberGenerator, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.clock = clock;
+    }
+
+    public PlacedOrder create(NewOrder order) {
+        String orderNumber = orderNumberGenerator.next();
+        // created_at 은 초 단위 DATETIME 이고 MySQL 은 소수 초를 반올림하므로, 이벤트에 실리는 시각과 같도록 미리 자른다
+        Timestamp now = Timestamp.from(Instant.now(clock).truncatedTo(ChronoUnit.SECONDS));
+        return transactionTemplate.execute(status -> {
+            long orderId = insertOrder(order, orderNumber, now);
+            insertItems(orderId, order.items(), now);
+            jdbcTemplate.update(INSERT_HISTORY_SQL, orderId, StatusType.ORDER.name(), OrderStatus.PENDING.name(),
+                CREATED_REASON, order.userId(), now);
+            return new PlacedOrder(orderId, orderNumber, order.totalAmount(), now.toInstant());
+        });
+    }
+
+    private long insertOrder(NewOrder order, String orderNumber, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL, new String[] {"id"});
+            ps.setString(1, orderNumber);
+            ps.setLong(2, order.userId());
+            ps.setBigDecimal(3, order.totalAmount());
+            ps.setBigDecimal(4, order.subtotalAmount());
+            ps.setBigDecimal(5, order.discountAmount());
+            ps.setBigDecimal(6, order.taxAmount());
+            ps.setBigDecimal(7, order.shippingAmount());
+            ps.setString(8, order.currency());
+            ps.setString(9, order.shippingMethod().name());
+            ps.setString(10, order.billingAddress());
+            ps.setString(11, order.shippingAddress());
+            ps.setString(12, order.customerNotes());
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("No generated id for order " + orderNumber);
+        }
+        return key.longValue();
+    }
+
+    private void insertItems(long orderId, List<NewOrderItem> items, Timestamp now) {
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, items.size(), (ps, item) -> {
+            ps.setLong(1, orderId);
+            ps.setLong(2, item.productId());
+            if (item.productVariantId() != null) {
+                ps.setLong(3, item.productVariantId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, item.productSku());
+            ps.setString(5, item.productName());
+            ps.setString(6, item.productVariantName());
+            ps.setString(7, item.productImageUrl());
+            ps.setBigDecimal(8, item.unitPrice());
+            ps.setInt(9, item.quantity());
+            ps.setBigDecimal(10, item.totalPrice());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.orchestrator.order;
+
+/**
+ * orders.payment_status 값.
+ */
+public enum PaymentStatus {
+
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED,
+    REFUNDED,
+    CANCELLED
+
+}
@@ -0,0 +1,10 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 저장된 주문의 식별자와 합계.
+ */
+public record PlacedOrder(long orderId, String orderNumber, BigDecimal totalAmount, Instant createdAt) {
+}
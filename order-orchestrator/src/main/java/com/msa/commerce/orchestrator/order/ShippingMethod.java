@@ -0,0 +1,11 @@
+package com.msa.commerce.orchestrator.order;
+
+/**
+ * orders.shipping_method ENUM 값.
+ */
+public enum ShippingMethod {
+    STANDARD,
+    EXPRESS,
+    OVERNIGHT,
+    PICKUP
+}
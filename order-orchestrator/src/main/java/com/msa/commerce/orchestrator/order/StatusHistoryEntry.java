@@ -0,0 +1,17 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.time.Instant;
+
+/**
+ * order_status_history 한 행.
+ */
+public record StatusHistoryEntry(
+    long orderId,
+    StatusType statusType,
+    String fromStatus,
+    String toStatus,
+    String reason,
+    Long changedByUserId,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.msa.commerce.orchestrator.order;
+
+import lombok.Getter;
+
+/**
+ * orders 의 상태 컬럼 구분. 이름은 order_status_history.status_type 값과 같다.
+ */
+@Getter
+public enum StatusType {
+
+    ORDER("status", OrderStatus.class),
+    PAYMENT("payment_status", PaymentStatus.class),
+    FULFILLMENT("fulfillment_status", FulfillmentStatus.class);
+
+    private final String column;
+
+    private final Class<? extends Enum<?>> stateType;
+
+    StatusType(String column, Class<? extends Enum<?>> stateType) {
+        this.column = column;
+        this.stateType = stateType;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.msa.commerce.orchestrator.order;
+
+public enum TransitionResult {
+
+    APPLIED,
+    // 이미 목표 상태여서 아무것도 바꾸지 않음 (중복 웹훅 등)
+    UNCHANGED,
+    REJECTED,
+    NOT_FOUND,
+    // 재시도 후에도 다른 요청과 계속 경합함
+    CONFLICT;
+
+    public boolean isSuccessful() {
+        return this == APPLIED || this == UNCHANGED;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상태 전이 허용 여부를 ordinal 로 인덱싱한 2차원 배열로 미리 계산해 둔다.
+ * 전이 검사는 배열 조회 한 번이고, DB 문자열은 미리 만든 이름 맵으로 상태로 바꾼다.
+ */
+public final class TransitionTable<S extends Enum<S>> {
+
+    private final Map<String, S> statesByName;
+
+    private final boolean[][] allowed;
+
+    private TransitionTable(Map<String, S> statesByName, boolean[][] allowed) {
+        this.statesByName = statesByName;
+        this.allowed = allowed;
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> stateType) {
+        return new Builder<>(stateType);
+    }
+
+    public boolean allows(S from, S to) {
+        return allowed[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * 이름에 해당하는 상태를 반환한다. 없으면 IllegalArgumentException 을 던진다.
+     */
+    public S state(String name) {
+        S state = statesByName.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown status: " + name);
+        }
+        return state;
+    }
+
+    public static final class Builder<S extends Enum<S>> {
+
+        private final S[] states;
+
+        private final boolean[][] allowed;
+
+        private Builder(Class<S> stateType) {
+            this.states = stateType.getEnumConstants();
+            this.allowed = new boolean[states.length][states.length];
+        }
+
+        @SafeVarargs
+        public final Builder<S> allow(S from, S... targets) {
+            for (S target : targets) {
+                allowed[from.ordinal()][target.ordinal()] = true;
+            }
+            return this;
+        }
+
+        public TransitionTable<S> build() {
+            Map<String, S> statesByName = new HashMap<>();
+            for (S state : states) {
+                statesByName.put(state.name(), state);
+            }
+            return new TransitionTable<>(Map.copyOf(statesByName), allowed);
+        }
+
+    }
+
+}
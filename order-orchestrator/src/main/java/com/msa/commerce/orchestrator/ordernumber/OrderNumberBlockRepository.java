@@ -0,0 +1,58 @@
+package com.msa.commerce.orchestrator.ordernumber;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * order_number_blocks 저장소. (일자, 노드) 시퀀스를 블록 크기만큼 한 번에 올린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderNumberBlockRepository {
+
+    /**
+     * 행이 없으면 1 부터 시작하는 블록을 만들고, 있으면 next_value 를 블록 크기만큼 올린다.
+     * 올린 값은 LAST_INSERT_ID(expr) 로 같은 커넥션에 남으므로 다시 읽기 위한 잠금 조회가 필요 없다.
+     */
+    private static final String LEASE_SQL = """
+        INSERT INTO order_number_blocks (seq_date, node_id, next_value)
+        VALUES (?, ?, LAST_INSERT_ID(1 + ?))
+        ON DUPLICATE KEY UPDATE next_value = LAST_INSERT_ID(next_value + ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * size 개의 시퀀스 블록을 받아 블록의 끝(미포함)을 반환한다. 블록은 [end - size, end) 이다.
+     */
+    public long lease(LocalDate date, int nodeId, int size) {
+        Long end = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(LEASE_SQL)) {
+                ps.setDate(1, Date.valueOf(date));
+                ps.setInt(2, nodeId);
+                ps.setInt(3, size);
+                ps.setInt(4, size);
+                ps.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+        if (end == null || end <= 0) {
+            throw new IllegalStateException("Failed to lease order number block for " + date + " node " + nodeId);
+        }
+        return end;
+    }
+
+}
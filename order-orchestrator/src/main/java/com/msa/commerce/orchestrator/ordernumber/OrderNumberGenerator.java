@@ -0,0 +1,172 @@
+package com.msa.commerce.orchestrator.ordernumber;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사람이 읽을 수 있는 주문 번호(ORD-yyyyMMdd-노드-시퀀스)를 발급한다. 예: ORD-20250301-007-00012345
+ * <p>
+ * 시퀀스는 (일자, 노드) 단위로 DB 에서 block-size 개씩 받아 두고 메모리의 카운터로 발급하므로 주문마다 DB 를
+ * 조회하지 않는다. 블록을 80% 쓰면 다음 블록을 미리 받아 두어 블록이 바뀔 때도 요청 스레드가 DB 를 기다리지
+ * 않는다. 블록은 DB 에서 원자적으로 올려 받으므로 노드 ID 가 겹치게 설정되어도 번호는 중복되지 않으며,
+ * 재시작이나 날짜 변경으로 버려진 블록 때문에 번호 사이가 빌 수 있다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    private static final String PREFIX = "ORD-";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final int SEQUENCE_DIGITS = 8;
+
+    private static final int MAX_NODE_ID = 999;
+
+    private final OrderNumberBlockRepository blockRepository;
+
+    private final int nodeId;
+
+    private final int blockSize;
+
+    private final ZoneId zone;
+
+    private final Clock clock;
+
+    private volatile Block current = Block.EXHAUSTED;
+
+    private CompletableFuture<Block> prefetched;
+
+    @Autowired
+    public OrderNumberGenerator(OrderNumberBlockRepository blockRepository,
+        @Value("${commerce.order-number.node-id:0}") int nodeId,
+        @Value("${commerce.order-number.block-size:1000}") int blockSize,
+        @Value("${commerce.order-number.zone:Asia/Seoul}") String zone) {
+        this(blockRepository, nodeId, blockSize, ZoneId.of(zone), Clock.systemUTC());
+    }
+
+    OrderNumberGenerator(OrderNumberBlockRepository blockRepository, int nodeId, int blockSize, ZoneId zone,
+        Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Order number node id must be between 0 and " + MAX_NODE_ID);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Order number block size must be positive");
+        }
+        this.blockRepository = blockRepository;
+        this.nodeId = nodeId;
+        this.blockSize = blockSize;
+        this.zone = zone;
+        this.clock = clock;
+    }
+
+    public String next() {
+        long now = clock.millis();
+        while (true) {
+            Block block = current;
+            if (now < block.expiresAtMillis) {
+                long sequence = block.next.getAndIncrement();
+                if (sequence < block.end) {
+                    if (sequence == block.prefetchAt) {
+                        prefetch(block.date);
+                    }
+                    return block.format(sequence);
+                }
+            }
+            refill(block, now);
+        }
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    private synchronized void refill(Block exhausted, long now) {
+        if (current != exhausted) {
+            // 다른 스레드가 이미 새 블록으로 바꿨다
+            return;
+        }
+        LocalDate date = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+        Block next = takePrefetched(date);
+        current = next != null ? next : lease(date);
+    }
+
+    private synchronized void prefetch(LocalDate date) {
+        if (prefetched == null) {
+            prefetched = CompletableFuture.supplyAsync(() -> lease(date), task -> Thread.ofVirtual().start(task));
+        }
+    }
+
+    private Block takePrefetched(LocalDate date) {
+        if (prefetched == null) {
+            return null;
+        }
+        CompletableFuture<Block> future = prefetched;
+        prefetched = null;
+        try {
+            Block block = future.join();
+            // 날짜가 바뀌었으면 미리 받은 블록은 버린다
+            return block.date.equals(date) ? block : null;
+        } catch (CompletionException e) {
+            log.warn("Failed to prefetch order number block for node {}", nodeId, e.getCause());
+            return null;
+        }
+    }
+
+    private Block lease(LocalDate date) {
+        long end = blockRepository.lease(date, nodeId, blockSize);
+        long expiresAtMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        String prefix = PREFIX + DATE_FORMAT.format(date) + "-" + String.format("%03d", nodeId) + "-";
+        return new Block(date, prefix, end - blockSize, end, expiresAtMillis);
+    }
+
+    private static final class Block {
+
+        private static final Block EXHAUSTED = new Block(LocalDate.MIN, "", 0, 0, Long.MIN_VALUE);
+
+        private final LocalDate date;
+
+        private final String prefix;
+
+        private final AtomicLong next;
+
+        private final long end;
+
+        private final long prefetchAt;
+
+        private final long expiresAtMillis;
+
+        private Block(LocalDate date, String prefix, long start, long end, long expiresAtMillis) {
+            this.date = date;
+            this.prefix = prefix;
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.prefetchAt = start + (end - start) * 4 / 5;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private String format(long sequence) {
+            String digits = Long.toString(sequence);
+            StringBuilder number = new StringBuilder(prefix.length() + Math.max(SEQUENCE_DIGITS, digits.length()))
+                .append(prefix);
+            for (int i = digits.length(); i < SEQUENCE_DIGITS; i++) {
+                number.append('0');
+            }
+            return number.append(digits).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.time.Instant;
+
+import lombok.Getter;
+
+/**
+ * 주문 사가 한 건의 상태. 실행 중에는 해당 사가를 맡은 가상 스레드 하나만 변경한다.
+ */
+@Getter
+public class OrderSaga {
+
+    private final long orderId;
+
+    private final OrderSagaPayload payload;
+
+    private final Instant startedAt;
+
+    private OrderSagaStatus status;
+
+    private int step;
+
+    /**
+     * 저장된 상태에서 이어서 실행한 횟수. 처음 시작한 실행은 0 이다.
+     */
+    private int run;
+
+    private Instant updatedAt;
+
+    public OrderSaga(long orderId, OrderSagaPayload payload, OrderSagaStatus status, int step, int run,
+        Instant startedAt, Instant updatedAt) {
+        this.orderId = orderId;
+        this.payload = payload;
+        this.status = status;
+        this.step = step;
+        this.run = run;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static OrderSaga start(long orderId, OrderSagaPayload payload, Instant now) {
+        return new OrderSaga(orderId, payload, OrderSagaStatus.RUNNING, 0, 0, now, now);
+    }
+
+    void nextRun() {
+        this.run++;
+    }
+
+    void moveTo(OrderSagaStatus status, int step, Instant now) {
+        this.status = status;
+        this.step = step;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 현재 실행 또는 보상 중인 단계. 모든 단계가 끝났거나 모두 보상되었으면 null 이다.
+     */
+    public OrderSagaStep currentStep() {
+        return step >= 0 && step < OrderSagaStep.count() ? OrderSagaStep.ofOrdinal(step) : null;
+    }
+
+}
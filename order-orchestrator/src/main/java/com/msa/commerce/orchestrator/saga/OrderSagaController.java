@@ -0,0 +1,41 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.exception.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1/order-sagas")
+@RequiredArgsConstructor
+public class OrderSagaController {
+
+    private final OrderSagaRepository sagaRepository;
+
+    private final OrderSagaMetrics metrics;
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderSagaResponse> getSaga(@PathVariable Long orderId) {
+        return sagaRepository.find(orderId)
+            .map(OrderSagaResponse::from)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new ResourceNotFoundException("Order saga not found: " + orderId,
+                ErrorCode.ORDER_SAGA_NOT_FOUND.getCode()));
+    }
+
+    @GetMapping("/latency")
+    public ResponseEntity<List<StepLatency>> getStepLatencies() {
+        return ResponseEntity.ok(metrics.stepLatencies());
+    }
+
+}
@@ -0,0 +1,428 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.saga.SagaCommand;
+import com.msa.commerce.common.events.saga.SagaReply;
+import com.msa.commerce.orchestrator.order.OrderStateMachine;
+import com.msa.commerce.orchestrator.order.OrderStatus;
+import com.msa.commerce.orchestrator.order.TransitionResult;
+import com.msa.commerce.orchestrator.timeout.SagaTimeoutRepository;
+import com.msa.commerce.orchestrator.timeout.TimeoutType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 예약 → 결제 승인 → 주문 확정 순서의 주문 사가를 실행한다.
+ * <p>
+ * 사가 한 건은 가상 스레드 하나에서 순차 코드로 실행된다. 원격 단계는 커맨드를 보낸 뒤 응답 future 를 기다리는데,
+ * 가상 스레드는 대기 중 캐리어 스레드를 반납하므로 응답을 기다리는 사가가 수천 건이어도 플랫폼 스레드를 점유하지 않는다.
+ * <p>
+ * 단계가 바뀔 때마다 order_sagas 행을 갱신하고, 재시작 시 진행 중인 사가를 다시 읽어 현재 단계부터 이어서 실행한다.
+ * 커맨드 eventId 는 (주문, 실행 번호, 단계, 보상 여부, 시도)로 결정된다. 이어서 실행할 때마다 실행 번호를 올리므로
+ * 재시작 후 다시 보낸 커맨드가 참여 서비스의 중복 제거에 걸려 응답 없이 시간 초과되지 않는다.
+ * <p>
+ * 단계가 실패하면 완료된 단계를 역순으로 보상한다. 응답 시간 초과는 참여 서비스에서 실행되었을 수도 있으므로
+ * 시간 초과된 단계까지 보상한다.
+ * <p>
+ * 시작 시 사가 행과 같은 트랜잭션에서 결제 승인 기한을 saga_timeouts 에 등록하고, 기한이 지나도 결제 단계를 넘지 못한 사가는
+ * {@link #expire} 로 보상 상태로 넘겨받는다. 상태 저장은 이전 상태를 조건으로 하므로, 넘겨받힌 사가를 실행하던
+ * 스레드(다른 인스턴스 포함)는 다음 저장에서 이를 알아채고 멈춘다.
+ * <p>
+ * 재고·결제 커맨드를 처리하는 참여 서비스가 배포되기 전까지는 사가가 모두 시간 초과로 보상되므로
+ * commerce.order-saga.enabled=true 일 때만 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+public class OrderSagaEngine implements SmartLifecycle {
+
+    private final OrderSagaRepository sagaRepository;
+
+    private final OrderStateMachine orderStateMachine;
+
+    private final SagaReplyRegistry replyRegistry;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final OrderSagaMetrics metrics;
+
+    private final SagaTimeoutRepository timeoutRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Clock clock;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Set<Long> takenOver = ConcurrentHashMap.newKeySet();
+
+    @Value("${commerce.order-saga.step-timeout-ms:30000}")
+    private long stepTimeoutMs = 30_000;
+
+    @Value("${commerce.order-saga.step-timeouts:}")
+    private String stepTimeoutOverrides = "";
+
+    @Value("${commerce.order-saga.compensation-max-attempts:5}")
+    private int compensationMaxAttempts = 5;
+
+    @Value("${commerce.order-saga.compensation-retry-delay-ms:1000}")
+    private long compensationRetryDelayMs = 1_000;
+
+    @Value("${commerce.order-saga.recovery-batch-size:500}")
+    private int recoveryBatchSize = 500;
+
+    @Value("${commerce.order-saga.payment-authorization-timeout-ms:900000}")
+    private long paymentAuthorizationTimeoutMs = 900_000;
+
+    private SagaStepTimeouts stepTimeouts;
+
+    private ExecutorService executor;
+
+    private volatile boolean running;
+
+    @Autowired
+    public OrderSagaEngine(OrderSagaRepository sagaRepository, OrderStateMachine orderStateMachine,
+        SagaReplyRegistry replyRegistry, KafkaTemplate<String, Object> kafkaTemplate, OrderSagaMetrics metrics,
+        SagaTimeoutRepository timeoutRepository, TransactionTemplate transactionTemplate) {
+        this(sagaRepository, orderStateMachine, replyRegistry, kafkaTemplate, metrics, timeoutRepository,
+            transactionTemplate, Clock.systemUTC());
+    }
+
+    OrderSagaEngine(OrderSagaRepository sagaRepository, OrderStateMachine orderStateMachine,
+        SagaReplyRegistry replyRegistry, KafkaTemplate<String, Object> kafkaTemplate, OrderSagaMetrics metrics,
+        SagaTimeoutRepository timeoutRepository, TransactionTemplate transactionTemplate, Clock clock) {
+        this.sagaRepository = sagaRepository;
+        this.orderStateMachine = orderStateMachine;
+        this.replyRegistry = replyRegistry;
+        this.kafkaTemplate = kafkaTemplate;
+        this.metrics = metrics;
+        this.timeoutRepository = timeoutRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        stepTimeouts = SagaStepTimeouts.parse(stepTimeoutMs, stepTimeoutOverrides);
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-saga-", 0).factory());
+        running = true;
+        resumeActiveSagas();
+    }
+
+    @Override
+    public void stop() {
+        // 대기 중인 사가는 인터럽트되어 상태 변경 없이 종료되고, 다음 기동 시 현재 단계부터 다시 실행된다
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 주문 생성 이벤트로 사가를 시작한다. 같은 주문의 사가가 이미 있으면 무시한다.
+     * 결제 승인 기한은 사가 행과 함께 커밋되므로, 기한 없이 남는 사가가 생기지 않는다.
+     */
+    public void begin(OrderCreatedEvent event) {
+        OrderSaga saga = OrderSaga.start(event.getOrderId(), OrderSagaPayload.from(event), clock.instant());
+        Boolean created = transactionTemplate.execute(status -> {
+            if (!sagaRepository.create(saga)) {
+                return false;
+            }
+            timeoutRepository.schedule(saga.getOrderId(), TimeoutType.PAYMENT_AUTHORIZATION,
+                saga.getStartedAt().plusMillis(paymentAuthorizationTimeoutMs));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(created)) {
+            log.debug("Order saga {} already exists", event.getOrderId());
+            return;
+        }
+        submit(saga, false);
+    }
+
+    /**
+     * 기한이 지난 사가를 보상 상태로 넘겨받는다. 사가가 이미 deadlineStep 을 지났거나 끝났으면 false 를 반환한다.
+     * 진행 중이던 단계는 결과를 알 수 없으므로 원격 단계라면 그 단계부터 보상한다.
+     */
+    public boolean expire(long orderId, OrderSagaStep deadlineStep) {
+        Optional<OrderSaga> found = sagaRepository.find(orderId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        OrderSaga saga = found.get();
+        if (saga.getStatus() != OrderSagaStatus.RUNNING || saga.getStep() > deadlineStep.ordinal()) {
+            return false;
+        }
+
+        OrderSagaStep current = OrderSagaStep.ofOrdinal(saga.getStep());
+        int compensateFrom = current.isRemote() ? current.ordinal() : current.ordinal() - 1;
+        int expectedStep = saga.getStep();
+        saga.moveTo(OrderSagaStatus.COMPENSATING, compensateFrom, clock.instant());
+        if (!sagaRepository.compareAndUpdate(saga, OrderSagaStatus.RUNNING, expectedStep)) {
+            return false;
+        }
+        log.warn("Order saga {} passed its {} deadline at {}, compensating", orderId, deadlineStep, current);
+
+        // 이 인스턴스에서 아직 실행 중이면 그 스레드가 멈춘 뒤 다시 제출된다
+        takenOver.add(orderId);
+        if (submit(saga, true)) {
+            takenOver.remove(orderId);
+        }
+        return true;
+    }
+
+    public int activeCount() {
+        return inFlight.size();
+    }
+
+    private void resumeActiveSagas() {
+        long lastOrderId = 0;
+        int resumed = 0;
+        List<OrderSaga> page;
+        do {
+            page = sagaRepository.findActiveAfter(lastOrderId, recoveryBatchSize);
+            for (OrderSaga saga : page) {
+                submit(saga, true);
+                lastOrderId = saga.getOrderId();
+            }
+            resumed += page.size();
+        } while (page.size() == recoveryBatchSize);
+
+        if (resumed > 0) {
+            log.info("Resumed {} order sagas", resumed);
+        }
+    }
+
+    /**
+     * @param resumed 저장된 상태에서 이어서 실행하면 true. 실행 번호를 올린 뒤 실행한다
+     */
+    private boolean submit(OrderSaga saga, boolean resumed) {
+        if (!running || !inFlight.add(saga.getOrderId())) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                if (resumed) {
+                    resume(saga);
+                } else {
+                    run(saga);
+                }
+            } finally {
+                inFlight.remove(saga.getOrderId());
+                if (takenOver.remove(saga.getOrderId())) {
+                    sagaRepository.find(saga.getOrderId())
+                        .filter(latest -> !latest.getStatus().isTerminal())
+                        .ifPresent(latest -> submit(latest, true));
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 저장된 사가를 이어서 실행한다. 실행 번호를 올리지 못하면 다른 실행 주체가 먼저 이어받은 것이므로 멈춘다.
+     */
+    void resume(OrderSaga saga) {
+        try {
+            if (!sagaRepository.claimRun(saga)) {
+                log.info("Order saga {} was taken over before resuming at {} {}", saga.getOrderId(),
+                    saga.getStatus(), saga.currentStep());
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to resume order saga {} at {} {}", saga.getOrderId(), saga.getStatus(),
+                saga.currentStep(), e);
+            return;
+        }
+        run(saga);
+    }
+
+    void run(OrderSaga saga) {
+        try {
+            if (saga.getStatus() == OrderSagaStatus.RUNNING) {
+                runForward(saga);
+            }
+            if (saga.getStatus() == OrderSagaStatus.COMPENSATING) {
+                runCompensation(saga);
+            }
+            if (saga.getStatus().isTerminal()) {
+                metrics.recordSaga(saga.getStatus(), Duration.between(saga.getStartedAt(), saga.getUpdatedAt()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Order saga {} interrupted at {} {}", saga.getOrderId(), saga.getStatus(), saga.currentStep());
+        } catch (SagaTakenOverException e) {
+            log.info("Order saga {} was taken over before {} {}", saga.getOrderId(), saga.getStatus(),
+                saga.currentStep());
+        } catch (RuntimeException e) {
+            // 행은 마지막으로 저장된 단계에 남아 있으므로 재기동 시 그 단계부터 다시 실행된다
+            log.error("Order saga {} stopped at {} {}", saga.getOrderId(), saga.getStatus(), saga.currentStep(), e);
+        }
+    }
+
+    private void runForward(OrderSaga saga) throws InterruptedException {
+        while (saga.getStep() < OrderSagaStep.count()) {
+            OrderSagaStep step = OrderSagaStep.ofOrdinal(saga.getStep());
+            SagaStepOutcome outcome = execute(saga, step, false, 0);
+
+            if (outcome == SagaStepOutcome.SUCCEEDED) {
+                transition(saga, OrderSagaStatus.RUNNING, step.ordinal() + 1);
+                if (step == OrderSagaStep.AUTHORIZE_PAYMENT) {
+                    timeoutRepository.cancel(saga.getOrderId(), TimeoutType.PAYMENT_AUTHORIZATION);
+                }
+                continue;
+            }
+
+            log.warn("Order saga {} step {} {}, compensating", saga.getOrderId(), step, outcome);
+            int compensateFrom = outcome == SagaStepOutcome.TIMED_OUT ? step.ordinal() : step.ordinal() - 1;
+            transition(saga, OrderSagaStatus.COMPENSATING, compensateFrom);
+            return;
+        }
+        transition(saga, OrderSagaStatus.COMPLETED, OrderSagaStep.count());
+    }
+
+    private void runCompensation(OrderSaga saga) throws InterruptedException {
+        while (saga.getStep() >= 0) {
+            OrderSagaStep step = OrderSagaStep.ofOrdinal(saga.getStep());
+            if (step.isRemote() && !compensate(saga, step)) {
+                log.error("Order saga {} failed to compensate {} after {} attempts",
+                    saga.getOrderId(), step, compensationMaxAttempts);
+                transition(saga, OrderSagaStatus.FAILED, step.ordinal());
+                timeoutRepository.cancel(saga.getOrderId(), TimeoutType.PAYMENT_AUTHORIZATION);
+                return;
+            }
+            transition(saga, OrderSagaStatus.COMPENSATING, step.ordinal() - 1);
+        }
+        TransitionResult cancelled = orderStateMachine.changeOrderStatus(saga.getOrderId(), OrderStatus.CANCELLED,
+            "Order saga compensated", null);
+        if (!cancelled.isSuccessful()) {
+            log.warn("Order saga {} compensated but order was not cancelled: {}", saga.getOrderId(), cancelled);
+        }
+        transition(saga, OrderSagaStatus.COMPENSATED, -1);
+        timeoutRepository.cancel(saga.getOrderId(), TimeoutType.PAYMENT_AUTHORIZATION);
+    }
+
+    private boolean compensate(OrderSaga saga, OrderSagaStep step) throws InterruptedException {
+        for (int attempt = 1; attempt <= compensationMaxAttempts; attempt++) {
+            if (execute(saga, step, true, attempt) == SagaStepOutcome.SUCCEEDED) {
+                return true;
+            }
+            if (attempt < compensationMaxAttempts) {
+                Thread.sleep(compensationRetryDelayMs * attempt);
+            }
+        }
+        return false;
+    }
+
+    private SagaStepOutcome execute(OrderSaga saga, OrderSagaStep step, boolean compensation, int attempt)
+        throws InterruptedException {
+        long startedAt = System.nanoTime();
+        SagaStepOutcome outcome = step.isRemote()
+            ? sendAndAwait(saga, step, compensation, attempt)
+            : executeLocal(saga, step);
+        metrics.recordStep(step, compensation, outcome, System.nanoTime() - startedAt);
+        return outcome;
+    }
+
+    private SagaStepOutcome executeLocal(OrderSaga saga, OrderSagaStep step) {
+        if (step == OrderSagaStep.CONFIRM_ORDER) {
+            // 재시작으로 다시 실행되면 이미 CONFIRMED 이므로 UNCHANGED 도 성공으로 본다
+            TransitionResult result = orderStateMachine.changeOrderStatus(saga.getOrderId(), OrderStatus.CONFIRMED,
+                "Order saga completed", null);
+            return result.isSuccessful() ? SagaStepOutcome.SUCCEEDED : SagaStepOutcome.FAILED;
+        }
+        throw new IllegalStateException("No local handler for saga step " + step);
+    }
+
+    private SagaStepOutcome sendAndAwait(OrderSaga saga, OrderSagaStep step, boolean compensation, int attempt)
+        throws InterruptedException {
+        String commandId = commandId(saga.getOrderId(), saga.getRun(), step, compensation, attempt);
+        CompletableFuture<SagaReply> reply = replyRegistry.register(commandId);
+        try {
+            kafkaTemplate.send(step.getCommandTopic(), String.valueOf(saga.getOrderId()),
+                    command(commandId, saga, step, compensation))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        reply.completeExceptionally(e);
+                    }
+                });
+
+            SagaReply result = reply.get(stepTimeouts.timeoutFor(step).toMillis(), TimeUnit.MILLISECONDS);
+            if (!result.isSuccess()) {
+                log.info("Order saga {} step {} rejected: {}", saga.getOrderId(), step, result.getReason());
+            }
+            return result.isSuccess() ? SagaStepOutcome.SUCCEEDED : SagaStepOutcome.FAILED;
+        } catch (TimeoutException e) {
+            return SagaStepOutcome.TIMED_OUT;
+        } catch (ExecutionException e) {
+            // 전송 실패도 브로커에 기록되었는지 알 수 없으므로 시간 초과와 같게 취급한다
+            log.warn("Failed to send saga command {} for order {}", step, saga.getOrderId(), e.getCause());
+            return SagaStepOutcome.TIMED_OUT;
+        } finally {
+            replyRegistry.remove(commandId);
+        }
+    }
+
+    private SagaCommand command(String commandId, OrderSaga saga, OrderSagaStep step, boolean compensation) {
+        OrderSagaPayload payload = saga.getPayload();
+        return SagaCommand.builder()
+            .eventId(commandId)
+            .orderId(saga.getOrderId())
+            .step(step.name())
+            .compensation(compensation)
+            .userId(payload.userId())
+            .amount(payload.amount())
+            .currency(payload.currency())
+            .lines(payload.lines())
+            .occurredAt(clock.instant())
+            .build();
+    }
+
+    private void transition(OrderSaga saga, OrderSagaStatus status, int step) {
+        OrderSagaStatus expectedStatus = saga.getStatus();
+        int expectedStep = saga.getStep();
+        saga.moveTo(status, step, clock.instant());
+        if (!sagaRepository.compareAndUpdate(saga, expectedStatus, expectedStep)) {
+            throw new SagaTakenOverException();
+        }
+    }
+
+    static String commandId(long orderId, int run, OrderSagaStep step, boolean compensation, int attempt) {
+        String key = orderId + ":" + run + ":" + step.name() + ":" + (compensation ? "C" : "E") + ":" + attempt;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static final class SagaTakenOverException extends RuntimeException {
+
+        private SagaTakenOverException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.msa.commerce.orchestrator.saga;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.order.OrderEventTopics;
+import com.msa.commerce.common.events.saga.SagaReply;
+import com.msa.commerce.common.events.saga.SagaTopics;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderSagaListener {
+
+    private final OrderSagaEngine sagaEngine;
+
+    private final SagaReplyRegistry replyRegistry;
+
+    @KafkaListener(
+        id = "order-saga-starter",
+        groupId = "order-orchestrator-saga",
+        topics = OrderEventTopics.ORDER_CREATED
+    )
+    public void onOrderCreated(OrderCreatedEvent event, Acknowledgment acknowledgment) {
+        sagaEngine.begin(event);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * 응답을 기다리는 사가가 어느 인스턴스에 있는지 알 수 없으므로 인스턴스마다 다른 그룹으로 모든 응답을 받는다.
+     * 그룹 ID 는 재시작해도 바뀌지 않는 인스턴스 ID 로 정해, 기동할 때마다 브로커에 버려진 그룹이 쌓이지 않게 한다.
+     * 기동 전에 도착한 응답은 필요 없다. 재개된 사가가 커맨드를 다시 보내면 참여 서비스가 다시 응답한다.
+     */
+    @KafkaListener(
+        id = "order-saga-replies",
+        groupId = "order-orchestrator-saga-replies-${commerce.order-saga.instance-id:${HOSTNAME:local}}",
+        topics = SagaTopics.ORDER_SAGA_REPLIES,
+        properties = "auto.offset.reset=latest"
+    )
+    public void onReply(SagaReply reply, Acknowledgment acknowledgment) {
+        replyRegistry.complete(reply);
+        acknowledgment.acknowledge();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사가 단계별 소요 시간을 클라이언트 측 분위수(p50/p95/p99)와 함께 기록한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderSagaMetrics {
+
+    static final String STEP_TIMER = "commerce.order-saga.step";
+
+    static final String SAGA_TIMER = "commerce.order-saga.duration";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    void recordStep(OrderSagaStep step, boolean compensation, SagaStepOutcome outcome, long elapsedNanos) {
+        Timer.builder(STEP_TIMER)
+            .tag("step", step.name())
+            .tag("phase", phase(compensation))
+            .tag("outcome", outcome.name())
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordSaga(OrderSagaStatus status, Duration elapsed) {
+        Timer.builder(SAGA_TIMER)
+            .tag("status", status.name())
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry)
+            .record(elapsed);
+    }
+
+    public List<StepLatency> stepLatencies() {
+        return meterRegistry.find(STEP_TIMER).timers().stream()
+            .map(this::toLatency)
+            .sorted(Comparator.comparing((StepLatency latency) -> OrderSagaStep.valueOf(latency.step()))
+                .thenComparing(StepLatency::phase)
+                .thenComparing(StepLatency::outcome))
+            .toList();
+    }
+
+    private StepLatency toLatency(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double[] values = new double[PERCENTILES.length];
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                if (value.percentile() == PERCENTILES[i]) {
+                    values[i] = value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return new StepLatency(
+            timer.getId().getTag("step"),
+            timer.getId().getTag("phase"),
+            timer.getId().getTag("outcome"),
+            snapshot.count(),
+            values[0],
+            values[1],
+            values[2],
+            snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    private static String phase(boolean compensation) {
+        return compensation ? "compensate" : "execute";
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.saga.SagaCommand;
+
+/**
+ * 단계별 커맨드를 만드는 데 필요한 주문 정보. order_sagas.payload 에 JSON 으로 저장된다.
+ */
+public record OrderSagaPayload(Long userId, BigDecimal amount, String currency, List<SagaCommand.Line> lines) {
+
+    public static OrderSagaPayload from(OrderCreatedEvent event) {
+        List<SagaCommand.Line> lines = event.getItems() == null ? List.of() : event.getItems().stream()
+            .map(item -> new SagaCommand.Line(item.getProductId(), item.getQuantity()))
+            .toList();
+        return new OrderSagaPayload(event.getUserId(), event.getTotalAmount(), event.getCurrency(), lines);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * order_sagas 저장소. 단계가 바뀔 때마다 status/step/updated_at 세 컬럼만 이전 값을 조건으로 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSagaRepository {
+
+    private static final String SELECT_COLUMNS =
+        "SELECT order_id, status, step, run_no, payload, started_at, updated_at FROM order_sagas";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 새 사가를 저장한다. 같은 주문의 사가가 이미 있으면 false 를 반환한다.
+     */
+    public boolean create(OrderSaga saga) {
+        int inserted = jdbcTemplate.update("""
+                INSERT IGNORE INTO order_sagas (order_id, status, step, payload, started_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """,
+            saga.getOrderId(),
+            saga.getStatus().ordinal(),
+            saga.getStep(),
+            toJson(saga),
+            Timestamp.from(saga.getStartedAt()),
+            Timestamp.from(saga.getUpdatedAt()));
+        return inserted == 1;
+    }
+
+    /**
+     * 저장된 상태가 expectedStatus/expectedStep 일 때만 갱신한다.
+     * 타임아웃 등으로 다른 실행 주체가 사가를 넘겨받았으면 false 를 반환한다.
+     */
+    public boolean compareAndUpdate(OrderSaga saga, OrderSagaStatus expectedStatus, int expectedStep) {
+        return jdbcTemplate.update("""
+                UPDATE order_sagas SET status = ?, step = ?, updated_at = ?
+                WHERE order_id = ? AND status = ? AND step = ?
+                """,
+            saga.getStatus().ordinal(),
+            saga.getStep(),
+            Timestamp.from(saga.getUpdatedAt()),
+            saga.getOrderId(),
+            expectedStatus.ordinal(),
+            expectedStep) == 1;
+    }
+
+    /**
+     * 저장된 사가를 이어서 실행하기 전에 실행 번호를 올린다. 저장된 상태와 실행 번호가 saga 와 같을 때만 올리므로
+     * 두 실행 주체가 같은 사가를 동시에 이어받으면 한쪽만 true 를 받는다.
+     */
+    public boolean claimRun(OrderSaga saga) {
+        boolean claimed = jdbcTemplate.update("""
+                UPDATE order_sagas SET run_no = run_no + 1
+                WHERE order_id = ? AND status = ? AND step = ? AND run_no = ?
+                """,
+            saga.getOrderId(),
+            saga.getStatus().ordinal(),
+            saga.getStep(),
+            saga.getRun()) == 1;
+        if (claimed) {
+            saga.nextRun();
+        }
+        return claimed;
+    }
+
+    public Optional<OrderSaga> find(long orderId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE order_id = ?", this::mapRow, orderId).stream().findFirst();
+    }
+
+    /**
+     * 진행 중(RUNNING, COMPENSATING)인 사가를 order_id 키셋으로 읽는다.
+     */
+    public List<OrderSaga> findActiveAfter(long afterOrderId, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE status IN (?, ?) AND order_id > ? ORDER BY order_id LIMIT ?",
+            this::mapRow,
+            OrderSagaStatus.RUNNING.ordinal(),
+            OrderSagaStatus.COMPENSATING.ordinal(),
+            afterOrderId,
+            limit);
+    }
+
+    private OrderSaga mapRow(ResultSet rs, int rowNum) throws SQLException {
+        long orderId = rs.getLong("order_id");
+        return new OrderSaga(
+            orderId,
+            fromJson(orderId, rs.getString("payload")),
+            OrderSagaStatus.ofOrdinal(rs.getInt("status")),
+            rs.getInt("step"),
+            rs.getInt("run_no"),
+            rs.getTimestamp("started_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant());
+    }
+
+    private String toJson(OrderSaga saga) {
+        try {
+            return objectMapper.writeValueAsString(saga.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize saga payload for order " + saga.getOrderId(), e);
+        }
+    }
+
+    private OrderSagaPayload fromJson(long orderId, String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderSagaPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable saga payload for order " + orderId, e);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.time.Instant;
+
+public record OrderSagaResponse(
+    long orderId,
+    OrderSagaStatus status,
+    OrderSagaStep step,
+    Instant startedAt,
+    Instant updatedAt
+) {
+
+    public static OrderSagaResponse from(OrderSaga saga) {
+        return new OrderSagaResponse(saga.getOrderId(), saga.getStatus(), saga.currentStep(), saga.getStartedAt(),
+            saga.getUpdatedAt());
+    }
+
+}
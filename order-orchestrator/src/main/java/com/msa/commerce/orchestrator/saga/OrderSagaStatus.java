@@ -0,0 +1,25 @@
+package com.msa.commerce.orchestrator.saga;
+
+/**
+ * 주문 사가 상태. ordinal 이 order_sagas.status 에 저장되므로 끝에만 추가한다.
+ */
+public enum OrderSagaStatus {
+
+    RUNNING,
+    COMPENSATING,
+    COMPLETED,
+    COMPENSATED,
+    // 보상이 재시도 후에도 실패해 수동 처리가 필요한 상태
+    FAILED;
+
+    private static final OrderSagaStatus[] STATUSES = values();
+
+    public boolean isTerminal() {
+        return this != RUNNING && this != COMPENSATING;
+    }
+
+    public static OrderSagaStatus ofOrdinal(int ordinal) {
+        return STATUSES[ordinal];
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.msa.commerce.orchestrator.saga;
+
+import com.msa.commerce.common.events.saga.SagaTopics;
+
+import lombok.Getter;
+
+/**
+ * 주문 사가 단계. 선언 순서가 실행 순서이며 ordinal 이 order_sagas.step 에 저장되므로 끝에만 추가한다.
+ */
+@Getter
+public enum OrderSagaStep {
+
+    RESERVE_INVENTORY(SagaTopics.INVENTORY_COMMANDS),
+    AUTHORIZE_PAYMENT(SagaTopics.PAYMENT_COMMANDS),
+    CONFIRM_ORDER(null);
+
+    private static final OrderSagaStep[] STEPS = values();
+
+    private final String commandTopic;
+
+    OrderSagaStep(String commandTopic) {
+        this.commandTopic = commandTopic;
+    }
+
+    /**
+     * 커맨드를 보내고 응답을 기다리는 단계인지 여부. 로컬 단계는 실패 시 아무것도 반영되지 않아 보상이 필요 없다.
+     */
+    public boolean isRemote() {
+        return commandTopic != null;
+    }
+
+    public static int count() {
+        return STEPS.length;
+    }
+
+    public static OrderSagaStep ofOrdinal(int ordinal) {
+        return STEPS[ordinal];
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.orchestrator.timeout.SagaTimeout;
+import com.msa.commerce.orchestrator.timeout.SagaTimeoutHandler;
+import com.msa.commerce.orchestrator.timeout.TimeoutType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 승인 기한이 지난 사가를 보상으로 넘긴다. 이미 결제 단계를 지났거나 끝난 사가는 무시된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PaymentAuthorizationTimeoutHandler implements SagaTimeoutHandler {
+
+    private final OrderSagaEngine sagaEngine;
+
+    @Override
+    public TimeoutType type() {
+        return TimeoutType.PAYMENT_AUTHORIZATION;
+    }
+
+    @Override
+    public void onTimeouts(List<SagaTimeout> timeouts) {
+        for (SagaTimeout timeout : timeouts) {
+            sagaEngine.expire(timeout.orderId(), OrderSagaStep.AUTHORIZE_PAYMENT);
+        }
+    }
+
+}
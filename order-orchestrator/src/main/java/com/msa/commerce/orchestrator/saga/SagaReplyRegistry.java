@@ -0,0 +1,46 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.saga.SagaReply;
+
+/**
+ * 응답을 기다리는 커맨드의 future 를 commandId 로 보관한다.
+ * 사가 스레드는 커맨드를 보내기 전에 등록하고, 응답 리스너가 도착한 응답으로 future 를 완료한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "commerce.order-saga", name = "enabled", havingValue = "true")
+public class SagaReplyRegistry {
+
+    private final Map<String, CompletableFuture<SagaReply>> pending = new ConcurrentHashMap<>();
+
+    CompletableFuture<SagaReply> register(String commandId) {
+        return pending.computeIfAbsent(commandId, id -> new CompletableFuture<>());
+    }
+
+    void remove(String commandId) {
+        pending.remove(commandId);
+    }
+
+    /**
+     * 이 인스턴스에서 기다리는 커맨드의 응답이면 완료하고 true 를 반환한다.
+     */
+    public boolean complete(SagaReply reply) {
+        CompletableFuture<SagaReply> future = pending.remove(reply.getCommandId());
+        if (future == null) {
+            return false;
+        }
+        future.complete(reply);
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.msa.commerce.orchestrator.saga;
+
+public enum SagaStepOutcome {
+
+    SUCCEEDED,
+    FAILED,
+    // 응답이 오지 않아 참여 서비스에서 실행되었는지 알 수 없는 상태
+    TIMED_OUT
+
+}
@@ -0,0 +1,41 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 단계별 응답 대기 시간. 지정하지 않은 단계는 기본값을 사용한다.
+ */
+public class SagaStepTimeouts {
+
+    private final Map<OrderSagaStep, Duration> timeouts = new EnumMap<>(OrderSagaStep.class);
+
+    public SagaStepTimeouts(Duration defaultTimeout, Map<OrderSagaStep, Duration> overrides) {
+        for (OrderSagaStep step : OrderSagaStep.values()) {
+            timeouts.put(step, overrides.getOrDefault(step, defaultTimeout));
+        }
+    }
+
+    /**
+     * "AUTHORIZE_PAYMENT=60000,RESERVE_INVENTORY=10000" 형식(밀리초)의 설정값을 파싱한다.
+     */
+    public static SagaStepTimeouts parse(long defaultTimeoutMs, String overrides) {
+        Map<OrderSagaStep, Duration> parsed = new EnumMap<>(OrderSagaStep.class);
+        if (overrides != null && !overrides.isBlank()) {
+            for (String entry : overrides.split(",")) {
+                String[] pair = entry.split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid saga step timeout entry: " + entry);
+                }
+                parsed.put(OrderSagaStep.valueOf(pair[0].trim()), Duration.ofMillis(Long.parseLong(pair[1].trim())));
+            }
+        }
+        return new SagaStepTimeouts(Duration.ofMillis(defaultTimeoutMs), parsed);
+    }
+
+    public Duration timeoutFor(OrderSagaStep step) {
+        return timeouts.get(step);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.msa.commerce.orchestrator.saga;
+
+/**
+ * 단계·구분·결과별 소요 시간 분위수(ms). 분위수는 최근 구간(기본 2분)의 값으로 계산된다.
+ */
+public record StepLatency(
+    String step,
+    String phase,
+    String outcome,
+    long count,
+    double p50Ms,
+    double p95Ms,
+    double p99Ms,
+    double maxMs
+) {
+}
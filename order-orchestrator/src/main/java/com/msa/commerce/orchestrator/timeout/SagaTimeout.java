@@ -0,0 +1,6 @@
+package com.msa.commerce.orchestrator.timeout;
+
+import java.time.Instant;
+
+public record SagaTimeout(long orderId, TimeoutType type, Instant dueAt) {
+}
@@ -0,0 +1,14 @@
+package com.msa.commerce.orchestrator.timeout;
+
+import java.util.List;
+
+/**
+ * 만기된 타임아웃 처리기. 타임아웃은 최소 한 번 전달되므로 같은 타임아웃을 다시 받아도 안전해야 한다.
+ */
+public interface SagaTimeoutHandler {
+
+    TimeoutType type();
+
+    void onTimeouts(List<SagaTimeout> timeouts);
+
+}
@@ -0,0 +1,163 @@
+package com.msa.commerce.orchestrator.timeout;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * saga_timeouts 와 샤드 lease, 노드 heartbeat 저장소.
+ * <p>
+ * 만기 시각(due_at)은 애플리케이션 시각으로 기록하고 비교한다. lease 와 heartbeat 는 노드 간 시계 차이의 영향을
+ * 받지 않도록 DB 시각(NOW(3))으로만 기록하고 비교한다.
+ */
+@Repository
+public class SagaTimeoutRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO saga_timeouts (order_id, timeout_type, shard_no, due_at)
+        VALUES (?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE due_at = VALUES(due_at)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int shardCount;
+
+    public SagaTimeoutRepository(JdbcTemplate jdbcTemplate, @Value("${commerce.saga-timeout.shards:64}") int shardCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long orderId) {
+        return Math.floorMod(Long.hashCode(orderId), shardCount);
+    }
+
+    /**
+     * 타임아웃을 등록한다. 같은 주문·종류의 타임아웃이 있으면 만기 시각을 바꾼다.
+     */
+    public void schedule(long orderId, TimeoutType type, Instant dueAt) {
+        jdbcTemplate.update(UPSERT_SQL, orderId, type.ordinal(), shardOf(orderId), Timestamp.from(dueAt));
+    }
+
+    public void scheduleAll(List<SagaTimeout> timeouts) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, timeouts, timeouts.size(), (ps, timeout) -> {
+            ps.setLong(1, timeout.orderId());
+            ps.setInt(2, timeout.type().ordinal());
+            ps.setInt(3, shardOf(timeout.orderId()));
+            ps.setTimestamp(4, Timestamp.from(timeout.dueAt()));
+        });
+    }
+
+    public void cancel(long orderId, TimeoutType type) {
+        jdbcTemplate.update("DELETE FROM saga_timeouts WHERE order_id = ? AND timeout_type = ?", orderId, type.ordinal());
+    }
+
+    public List<SagaTimeout> findDue(int shard, Instant now, int limit) {
+        return jdbcTemplate.query("""
+                SELECT order_id, timeout_type, due_at
+                FROM saga_timeouts
+                WHERE shard_no = ? AND due_at <= ?
+                ORDER BY due_at
+                LIMIT ?
+                """,
+            (rs, rowNum) -> new SagaTimeout(
+                rs.getLong("order_id"),
+                TimeoutType.ofOrdinal(rs.getInt("timeout_type")),
+                rs.getTimestamp("due_at").toInstant()),
+            shard, Timestamp.from(now), limit);
+    }
+
+    /**
+     * 처리된 타임아웃을 지운다. 처리 중 다시 등록되어 만기 시각이 바뀐 타임아웃은 남긴다.
+     */
+    public void deleteFired(List<SagaTimeout> timeouts) {
+        jdbcTemplate.batchUpdate("DELETE FROM saga_timeouts WHERE order_id = ? AND timeout_type = ? AND due_at = ?",
+            timeouts, timeouts.size(), (ps, timeout) -> {
+                ps.setLong(1, timeout.orderId());
+                ps.setInt(2, timeout.type().ordinal());
+                ps.setTimestamp(3, Timestamp.from(timeout.dueAt()));
+            });
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM saga_timeouts", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 설정된 샤드 수만큼 lease 행을 만든다. 이미 있는 행은 그대로 둔다.
+     */
+    public void ensureShards() {
+        List<Object[]> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new Object[] {shard});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO saga_timeout_leases (shard_no, owner, lease_until) VALUES (?, NULL, NOW(3))", shards);
+    }
+
+    public void heartbeat(String nodeId, long leaseMs) {
+        jdbcTemplate.update("""
+            INSERT INTO saga_timeout_nodes (node_id, heartbeat_until)
+            VALUES (?, DATE_ADD(NOW(3), INTERVAL ? MICROSECOND))
+            ON DUPLICATE KEY UPDATE heartbeat_until = VALUES(heartbeat_until)
+            """, nodeId, leaseMs * 1000);
+    }
+
+    public int countLiveNodes() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM saga_timeout_nodes WHERE heartbeat_until > NOW(3)", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 아직 유효한 자신의 lease 를 모두 연장하고, 연장된 샤드 목록을 반환한다.
+     */
+    public List<Integer> renewLeases(String nodeId, long leaseMs) {
+        jdbcTemplate.update("""
+            UPDATE saga_timeout_leases
+            SET lease_until = DATE_ADD(NOW(3), INTERVAL ? MICROSECOND)
+            WHERE owner = ? AND lease_until > NOW(3)
+            """, leaseMs * 1000, nodeId);
+        return jdbcTemplate.queryForList(
+            "SELECT shard_no FROM saga_timeout_leases WHERE owner = ? AND lease_until > NOW(3) ORDER BY shard_no",
+            Integer.class, nodeId);
+    }
+
+    public List<Integer> findFreeShards() {
+        return jdbcTemplate.queryForList(
+            "SELECT shard_no FROM saga_timeout_leases WHERE owner IS NULL OR lease_until <= NOW(3)", Integer.class);
+    }
+
+    /**
+     * 소유자가 없거나 lease 가 만료된 샤드를 가져온다. 다른 노드가 먼저 가져갔으면 false 를 반환한다.
+     */
+    public boolean tryAcquire(int shard, String nodeId, long leaseMs) {
+        return jdbcTemplate.update("""
+            UPDATE saga_timeout_leases
+            SET owner = ?, lease_until = DATE_ADD(NOW(3), INTERVAL ? MICROSECOND)
+            WHERE shard_no = ? AND (owner IS NULL OR lease_until <= NOW(3))
+            """, nodeId, leaseMs * 1000, shard) == 1;
+    }
+
+    public void release(int shard, String nodeId) {
+        jdbcTemplate.update(
+            "UPDATE saga_timeout_leases SET owner = NULL, lease_until = NOW(3) WHERE shard_no = ? AND owner = ?",
+            shard, nodeId);
+    }
+
+    public void leave(String nodeId) {
+        jdbcTemplate.update("UPDATE saga_timeout_leases SET owner = NULL, lease_until = NOW(3) WHERE owner = ?", nodeId);
+        jdbcTemplate.update("DELETE FROM saga_timeout_nodes WHERE node_id = ?", nodeId);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.msa.commerce.orchestrator.timeout;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샤드 단위 lease 로 타임아웃을 나눠 맡아 만기된 것을 배치로 발화한다.
+ * <p>
+ * 노드는 주기적으로 heartbeat 를 남기고, 살아 있는 노드 수로 나눈 몫만큼 샤드를 소유한다.
+ * 몫보다 많으면 초과분을 내놓고, 적으면 소유자가 없거나 lease 가 만료된 샤드를 가져오므로 노드가 늘거나 줄면
+ * 몇 주기 안에 고르게 다시 나뉜다. lease 가 (로컬 기준으로) 유효한 동안에만 발화하며,
+ * 처리기를 호출한 뒤 행을 지우므로 노드 장애 시 같은 타임아웃이 다시 발화될 수 있다(at-least-once).
+ */
+@Slf4j
+@Component
+public class SagaTimeoutScheduler {
+
+    private final SagaTimeoutRepository repository;
+
+    private final Map<TimeoutType, SagaTimeoutHandler> handlers = new EnumMap<>(TimeoutType.class);
+
+    private final String nodeId;
+
+    private final Clock clock;
+
+    @Value("${commerce.saga-timeout.lease-ms:30000}")
+    private long leaseMs = 30_000;
+
+    @Value("${commerce.saga-timeout.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${commerce.saga-timeout.max-batches-per-shard:20}")
+    private int maxBatchesPerShard = 20;
+
+    @Value("${commerce.saga-timeout.retry-delay-ms:10000}")
+    private long retryDelayMs = 10_000;
+
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    private volatile long leaseValidUntilNanos;
+
+    private boolean shardsEnsured;
+
+    @Autowired
+    public SagaTimeoutScheduler(SagaTimeoutRepository repository, List<SagaTimeoutHandler> handlers,
+        @Value("${commerce.saga-timeout.node-id:}") String nodeId) {
+        this(repository, handlers, nodeId, Clock.systemUTC());
+    }
+
+    SagaTimeoutScheduler(SagaTimeoutRepository repository, List<SagaTimeoutHandler> handlers, String nodeId,
+        Clock clock) {
+        this.repository = repository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.clock = clock;
+        for (SagaTimeoutHandler handler : handlers) {
+            this.handlers.put(handler.type(), handler);
+        }
+    }
+
+    /**
+     * heartbeat 를 남기고 lease 를 연장한 뒤, 살아 있는 노드 수에 맞춰 샤드를 가져오거나 내놓는다.
+     * lease 기간보다 충분히 짧은 주기로 호출되어야 한다.
+     */
+    @Scheduled(fixedDelayString = "${commerce.saga-timeout.lease-renew-ms:10000}")
+    public synchronized void maintainLeases() {
+        if (!shardsEnsured) {
+            repository.ensureShards();
+            shardsEnsured = true;
+        }
+
+        long renewedAt = System.nanoTime();
+        repository.heartbeat(nodeId, leaseMs);
+        int liveNodes = Math.max(1, repository.countLiveNodes());
+        int fairShare = (repository.shardCount() + liveNodes - 1) / liveNodes;
+
+        List<Integer> owned = new ArrayList<>(repository.renewLeases(nodeId, leaseMs));
+        while (owned.size() > fairShare) {
+            repository.release(owned.remove(owned.size() - 1), nodeId);
+        }
+        if (owned.size() < fairShare) {
+            // 여러 노드가 같은 샤드부터 경합하지 않도록 순서를 섞는다
+            List<Integer> free = new ArrayList<>(repository.findFreeShards());
+            Collections.shuffle(free);
+            for (Integer shard : free) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                if (repository.tryAcquire(shard, nodeId, leaseMs)) {
+                    owned.add(shard);
+                }
+            }
+        }
+
+        Set<Integer> previous = ownedShards;
+        ownedShards = Set.copyOf(owned);
+        leaseValidUntilNanos = renewedAt + TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        if (!previous.equals(ownedShards)) {
+            log.info("Saga timeout node {} owns {} of {} shards ({} live nodes)",
+                nodeId, owned.size(), repository.shardCount(), liveNodes);
+        }
+    }
+
+    /**
+     * 소유한 샤드에서 만기된 타임아웃을 배치로 읽어 처리기에 넘기고 지운다. 발화한 건수를 반환한다.
+     */
+    @Scheduled(fixedDelayString = "${commerce.saga-timeout.poll-interval-ms:1000}")
+    public int fireDueTimeouts() {
+        int fired = 0;
+        for (Integer shard : ownedShards) {
+            for (int batch = 0; batch < maxBatchesPerShard; batch++) {
+                if (System.nanoTime() >= leaseValidUntilNanos) {
+                    return fired;
+                }
+                List<SagaTimeout> due = repository.findDue(shard, clock.instant(), batchSize);
+                if (due.isEmpty()) {
+                    break;
+                }
+                dispatch(due);
+                repository.deleteFired(due);
+                fired += due.size();
+                if (due.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+        return fired;
+    }
+
+    public Set<Integer> ownedShards() {
+        return ownedShards;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public synchronized void leave() {
+        ownedShards = Set.of();
+        try {
+            repository.leave(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release saga timeout shards of node {}", nodeId, e);
+        }
+    }
+
+    private void dispatch(List<SagaTimeout> due) {
+        Map<TimeoutType, List<SagaTimeout>> byType = due.stream()
+            .collect(Collectors.groupingBy(SagaTimeout::type, () -> new EnumMap<>(TimeoutType.class), Collectors.toList()));
+
+        for (Map.Entry<TimeoutType, List<SagaTimeout>> entry : byType.entrySet()) {
+            SagaTimeoutHandler handler = handlers.get(entry.getKey());
+            if (handler == null) {
+                log.warn("No handler for {} saga timeouts, dropping {}", entry.getKey(), entry.getValue().size());
+                continue;
+            }
+            try {
+                handler.onTimeouts(entry.getValue());
+            } catch (RuntimeException e) {
+                // 지우기 전에 만기 시각을 미뤄 다시 발화되도록 한다
+                log.warn("Failed to handle {} {} saga timeouts, retrying in {} ms",
+                    entry.getValue().size(), entry.getKey(), retryDelayMs, e);
+                Instant retryAt = clock.instant().plusMillis(retryDelayMs);
+                repository.scheduleAll(entry.getValue().stream()
+                    .map(timeout -> new SagaTimeout(timeout.orderId(), timeout.type(), retryAt))
+                    .toList());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.msa.commerce.orchestrator.timeout;
+
+/**
+ * 타임아웃 종류. ordinal 이 saga_timeouts.timeout_type 에 저장되므로 끝에만 추가한다.
+ */
+public enum TimeoutType {
+
+    // 주문 후 결제 승인까지의 기한. 지나면 사가를 보상(재고 해제, 주문 취소)으로 전환한다
+    PAYMENT_AUTHORIZATION;
+
+    private static final TimeoutType[] TYPES = values();
+
+    public static TimeoutType ofOrdinal(int ordinal) {
+        return TYPES[ordinal];
+    }
+
+}
@@ -0,0 +1,23 @@
+-- ============================================================================
+-- Order Service Event Store (db_order)
+-- (aggregate_type, aggregate_id, event_version) 유니크 키로 스트림 버전 충돌을 감지한다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS event_store
+(
+    id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_id       VARCHAR(36)  NOT NULL UNIQUE,
+    event_type     VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id   VARCHAR(100) NOT NULL,
+    event_version  INT          NOT NULL DEFAULT 1,
+    event_data     JSON         NOT NULL,
+    metadata       JSON,
+    occurred_at    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_event_store_stream (aggregate_type, aggregate_id, event_version),
+    INDEX idx_event_store_type (event_type),
+    INDEX idx_event_store_occurred_at (occurred_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
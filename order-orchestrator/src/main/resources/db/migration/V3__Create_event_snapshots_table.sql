@@ -0,0 +1,18 @@
+-- ============================================================================
+-- Aggregate snapshots (db_order)
+-- 스트림당 최신 스냅샷 한 건만 유지하며, 로드는 스냅샷 + 이후 이벤트로 수행한다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS event_snapshots
+(
+    aggregate_type   VARCHAR(100) NOT NULL,
+    aggregate_id     VARCHAR(100) NOT NULL,
+    snapshot_version INT          NOT NULL,
+    snapshot_data    JSON         NOT NULL,
+    created_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (aggregate_type, aggregate_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,8 @@
+-- ============================================================================
+-- 사용자별 주문 이력 키셋 조회 인덱스 (User order history keyset index)
+-- WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (user_id, created_at) 만으로 정렬까지 인덱스로 처리된다
+-- ============================================================================
+
+ALTER TABLE orders
+    ADD INDEX idx_orders_user_created (user_id, created_at);
@@ -0,0 +1,20 @@
+-- ============================================================================
+-- 주문 사가 상태 (Order saga state)
+-- 주문당 한 행만 두고 status/step 은 enum ordinal(TINYINT)로 저장한다. 단계별 이력은 남기지 않는다
+-- step: RUNNING 이면 실행할 단계, COMPENSATING 이면 보상할 단계, 모두 보상되면 -1
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS order_sagas
+(
+    order_id   BIGINT      NOT NULL PRIMARY KEY,
+    status     TINYINT     NOT NULL,
+    step       TINYINT     NOT NULL,
+    payload    JSON        NOT NULL,
+    started_at DATETIME(3) NOT NULL,
+    updated_at DATETIME(3) NOT NULL,
+
+    -- 재시작 시 진행 중인 사가를 order_id 키셋으로 다시 읽는다 (보조 인덱스에 PK 가 포함된다)
+    INDEX idx_order_sagas_status (status)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
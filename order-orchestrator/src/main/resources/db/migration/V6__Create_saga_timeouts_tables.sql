@@ -0,0 +1,37 @@
+-- ============================================================================
+-- 사가 타임아웃 스케줄러 (Sharded saga timeout scheduler)
+-- 타임아웃은 order_id 해시로 샤드에 배정되고, 샤드 안에서는 (shard_no, due_at) 인덱스로 만기 순서대로 읽는다
+-- 각 노드는 saga_timeout_leases 의 lease 로 샤드 일부를 소유하며, lease 시각은 모두 DB 시각(NOW(3)) 기준이다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS saga_timeouts
+(
+    order_id     BIGINT      NOT NULL,
+    timeout_type TINYINT     NOT NULL,
+    shard_no     SMALLINT    NOT NULL,
+    due_at       DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (order_id, timeout_type),
+    -- 보조 인덱스에 PK 가 포함되므로 만기 조회는 인덱스만으로 처리된다
+    INDEX idx_saga_timeouts_shard_due (shard_no, due_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS saga_timeout_leases
+(
+    shard_no    SMALLINT     NOT NULL PRIMARY KEY,
+    owner       VARCHAR(100) NULL,
+    lease_until DATETIME(3)  NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 살아 있는 노드 수로 노드당 샤드 몫을 정한다
+CREATE TABLE IF NOT EXISTS saga_timeout_nodes
+(
+    node_id         VARCHAR(100) NOT NULL PRIMARY KEY,
+    heartbeat_until DATETIME(3)  NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- 주문 번호 시퀀스 블록 (Order number sequence blocks)
+-- 노드는 (일자, 노드) 행의 next_value 를 블록 크기만큼 한 번에 올려 받아 메모리에서 번호를 발급한다
+-- 블록 단위로 받으므로 재시작하면 쓰지 않은 번호만큼 건너뛸 수 있지만 중복은 생기지 않는다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS order_number_blocks
+(
+    seq_date   DATE     NOT NULL,
+    node_id    SMALLINT NOT NULL,
+    -- 다음에 발급할 시퀀스 (1부터 시작)
+    next_value BIGINT   NOT NULL,
+
+    PRIMARY KEY (seq_date, node_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
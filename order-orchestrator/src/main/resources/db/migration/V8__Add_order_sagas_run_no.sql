@@ -0,0 +1,8 @@
+-- ============================================================================
+-- 주문 사가 실행 번호 (Order saga run number)
+-- 재시작이나 기한 초과로 저장된 사가를 이어서 실행할 때마다 1 씩 올린다
+-- 커맨드 eventId 에 포함되어, 이어서 보낸 커맨드가 이전 실행의 커맨드로 보고 중복 제거되지 않게 한다
+-- ============================================================================
+
+ALTER TABLE order_sagas
+    ADD COLUMN run_no INT NOT NULL DEFAULT 0 AFTER step;
@@ -0,0 +1,129 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStateMachine 테스트")
+class OrderStateMachineTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Mock
+    private OrderStatusRepository statusRepository;
+
+    @Mock
+    private OrderStatusHistoryWriter historyWriter;
+
+    private OrderStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        stateMachine = new OrderStateMachine(statusRepository, historyWriter, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("허용된 전이는 현재 상태를 조건으로 반영하고 이력을 남긴다")
+    void appliesAllowedTransition() {
+        // given
+        given(statusRepository.findStatus(StatusType.FULFILLMENT, 1L)).willReturn(Optional.of("PROCESSING"));
+        given(statusRepository.compareAndSet(StatusType.FULFILLMENT, 1L, FulfillmentStatus.PROCESSING,
+            FulfillmentStatus.SHIPPED)).willReturn(true);
+
+        // when
+        TransitionResult result = stateMachine.changeFulfillmentStatus(1L, FulfillmentStatus.SHIPPED, "carrier", null);
+
+        // then
+        assertThat(result).isEqualTo(TransitionResult.APPLIED);
+        ArgumentCaptor<StatusHistoryEntry> entry = ArgumentCaptor.forClass(StatusHistoryEntry.class);
+        then(historyWriter).should().append(entry.capture());
+        assertThat(entry.getValue()).isEqualTo(new StatusHistoryEntry(1L, StatusType.FULFILLMENT, "PROCESSING",
+            "SHIPPED", "carrier", null, NOW));
+    }
+
+    @Test
+    @DisplayName("표에 없는 전이는 거부하고 아무것도 쓰지 않는다")
+    void rejectsDisallowedTransition() {
+        // given
+        given(statusRepository.findStatus(StatusType.ORDER, 1L)).willReturn(Optional.of("DELIVERED"));
+
+        // when
+        TransitionResult result = stateMachine.changeOrderStatus(1L, OrderStatus.CANCELLED, null, null);
+
+        // then
+        assertThat(result).isEqualTo(TransitionResult.REJECTED);
+        then(statusRepository).should(never()).compareAndSet(any(), anyLong(), any(), any());
+        then(historyWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("이미 목표 상태이면 UNCHANGED 를 반환한다")
+    void unchangedWhenAlreadyInTarget() {
+        // given
+        given(statusRepository.findStatus(StatusType.PAYMENT, 1L)).willReturn(Optional.of("COMPLETED"));
+
+        // when
+        TransitionResult result = stateMachine.changePaymentStatus(1L, PaymentStatus.COMPLETED, null, null);
+
+        // then
+        assertThat(result).isEqualTo(TransitionResult.UNCHANGED);
+        assertThat(result.isSuccessful()).isTrue();
+        then(historyWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 상태를 바꾸면 다시 읽어 바뀐 상태 기준으로 검사한다")
+    void retriesAfterConflict() {
+        // given: 첫 CAS 사이에 CONFIRMED 에서 PROCESSING 으로 바뀌었다
+        given(statusRepository.findStatus(StatusType.ORDER, 1L))
+            .willReturn(Optional.of("CONFIRMED"), Optional.of("PROCESSING"));
+        given(statusRepository.compareAndSet(StatusType.ORDER, 1L, OrderStatus.CONFIRMED, OrderStatus.CANCELLED))
+            .willReturn(false);
+        given(statusRepository.compareAndSet(StatusType.ORDER, 1L, OrderStatus.PROCESSING, OrderStatus.CANCELLED))
+            .willReturn(true);
+
+        // when
+        TransitionResult result = stateMachine.changeOrderStatus(1L, OrderStatus.CANCELLED, "customer", 7L);
+
+        // then
+        assertThat(result).isEqualTo(TransitionResult.APPLIED);
+        then(historyWriter).should().append(argThat(entry -> entry.fromStatus().equals("PROCESSING")));
+    }
+
+    @Test
+    @DisplayName("주문이 없으면 NOT_FOUND 를 반환한다")
+    void notFound() {
+        // given
+        given(statusRepository.findStatus(StatusType.ORDER, 1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(stateMachine.changeOrderStatus(1L, OrderStatus.CONFIRMED, null, null))
+            .isEqualTo(TransitionResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("전이 표는 상태 이름을 미리 만든 맵으로 해석한다")
+    void transitionTableLookup() {
+        TransitionTable<OrderStatus> table = OrderStateMachine.ORDER_TRANSITIONS;
+
+        assertThat(table.state("SHIPPED")).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(table.allows(OrderStatus.SHIPPED, OrderStatus.DELIVERED)).isTrue();
+        assertThat(table.allows(OrderStatus.DELIVERED, OrderStatus.SHIPPED)).isFalse();
+        assertThatThrownBy(() -> table.state("UNKNOWN")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
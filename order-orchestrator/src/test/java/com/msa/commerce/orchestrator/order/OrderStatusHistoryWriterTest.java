@@ -0,0 +1,88 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderStatusHistoryWriter 테스트")
+class OrderStatusHistoryWriterTest {
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_status_history (
+                id                 BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id           BIGINT       NOT NULL,
+                status_type        VARCHAR(20)  NOT NULL,
+                from_status        VARCHAR(50),
+                to_status          VARCHAR(50)  NOT NULL,
+                reason             VARCHAR(255),
+                notes              CLOB,
+                changed_by_user_id BIGINT,
+                created_at         TIMESTAMP    NOT NULL
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 이력은 writer 스레드가 배치로 기록하고 종료 시 남은 항목도 기록한다")
+    void writesQueuedEntries() {
+        // given
+        OrderStatusHistoryWriter writer = new OrderStatusHistoryWriter(jdbcTemplate, 10_000);
+        writer.start();
+
+        // when
+        for (long orderId = 1; orderId <= 5_000; orderId++) {
+            writer.append(entry(orderId));
+        }
+        writer.stop();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_status_history", Long.class))
+            .isEqualTo(5_000L);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("writer 가 실행 중이 아니면 호출 스레드에서 바로 기록한다")
+    void writesInlineWhenNotRunning() {
+        // given: writer 스레드를 시작하지 않았다
+        OrderStatusHistoryWriter writer = new OrderStatusHistoryWriter(jdbcTemplate, 1);
+
+        // when
+        writer.append(entry(1L));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT to_status FROM order_status_history WHERE order_id = 1",
+            String.class)).isEqualTo("SHIPPED");
+    }
+
+    private static StatusHistoryEntry entry(long orderId) {
+        return new StatusHistoryEntry(orderId, StatusType.FULFILLMENT, "PROCESSING", "SHIPPED", "carrier webhook",
+            null, Instant.parse("2025-03-01T10:00:00Z"));
+    }
+
+}
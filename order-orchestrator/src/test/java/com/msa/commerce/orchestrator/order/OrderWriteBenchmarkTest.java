@@ -0,0 +1,240 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.msa.commerce.orchestrator.ordernumber.OrderNumberBlockRepository;
+import com.msa.commerce.orchestrator.ordernumber.OrderNumberGenerator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 저장 경로의 처리량을 항목 수(1, 10, 100)별로 측정하고, 항목마다 INSERT 하는 방식과 비교한다.
+ * {@code ./gradlew :order-orchestrator:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("주문 저장 처리량 벤치마크")
+class OrderWriteBenchmarkTest {
+
+    private static final int THREADS = 8;
+
+    private static final int TOTAL_LINES = 200_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static TransactionTemplate transactionTemplate;
+
+    private static OrderWriteRepository repository;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(THREADS * 2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE orders
+            (
+                id               BIGINT PRIMARY KEY AUTO_INCREMENT,
+                order_number     VARCHAR(50)    NOT NULL UNIQUE,
+                user_id          BIGINT         NOT NULL,
+                total_amount     DECIMAL(10, 2) NOT NULL,
+                subtotal_amount  DECIMAL(10, 2) NOT NULL,
+                discount_amount  DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                tax_amount       DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                shipping_amount  DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+                currency         VARCHAR(3)     NOT NULL DEFAULT 'KRW',
+                status           ENUM ('PENDING', 'CONFIRMED', 'PROCESSING', 'SHIPPED', 'DELIVERED', 'CANCELLED')
+                                                NOT NULL DEFAULT 'PENDING',
+                shipping_method  ENUM ('STANDARD', 'EXPRESS', 'OVERNIGHT', 'PICKUP') NOT NULL DEFAULT 'STANDARD',
+                billing_address  JSON           NOT NULL,
+                shipping_address JSON           NOT NULL,
+                customer_notes   TEXT,
+                created_at       DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                updated_at       DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                INDEX idx_orders_user_id (user_id),
+                INDEX idx_orders_created_at (created_at)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_items
+            (
+                id                   BIGINT PRIMARY KEY AUTO_INCREMENT,
+                order_id             BIGINT         NOT NULL,
+                product_id           BIGINT         NOT NULL,
+                product_variant_id   BIGINT         NULL,
+                product_sku          VARCHAR(100)   NOT NULL,
+                product_name         VARCHAR(255)   NOT NULL,
+                product_variant_name VARCHAR(255),
+                product_image_url    VARCHAR(500),
+                unit_price           DECIMAL(10, 2) NOT NULL,
+                quantity             INT            NOT NULL DEFAULT 1,
+                total_price          DECIMAL(10, 2) NOT NULL,
+                created_at           DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                updated_at           DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE,
+                INDEX idx_order_items_product_id (product_id)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_status_history
+            (
+                id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+                order_id           BIGINT                                NOT NULL,
+                status_type        ENUM ('ORDER', 'PAYMENT', 'FULFILLMENT') NOT NULL,
+                from_status        VARCHAR(50),
+                to_status          VARCHAR(50)                           NOT NULL,
+                reason             VARCHAR(255),
+                notes              TEXT,
+                changed_by_user_id BIGINT,
+                created_at         DATETIME                              NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_number_blocks
+            (
+                seq_date   DATE     NOT NULL,
+                node_id    SMALLINT NOT NULL,
+                next_value BIGINT   NOT NULL,
+                PRIMARY KEY (seq_date, node_id)
+            )
+            """);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        OrderNumberGenerator orderNumberGenerator = new OrderNumberGenerator(
+            new OrderNumberBlockRepository(jdbcTemplate), 1, 1000, "Asia/Seoul");
+        repository = new OrderWriteRepository(jdbcTemplate, transactionTemplate, orderNumberGenerator);
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @ParameterizedTest(name = "{0} lines")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("항목 수별 주문 저장 처리량")
+    void measuresOrderWrites(int lines) throws Exception {
+        // given
+        NewOrder order = order(lines);
+        int orders = TOTAL_LINES / lines;
+        measure("row-by-row", lines, orders, this::createRowByRow, order);
+
+        // when
+        double batchedPerSecond = measure("batched", lines, orders, repository::create, order);
+
+        // then
+        assertThat(batchedPerSecond).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items WHERE order_id = "
+            + "(SELECT MAX(id) FROM orders)", Integer.class)).isEqualTo(lines);
+    }
+
+    private double measure(String label, int lines, int orders, Consumer<NewOrder> writer, NewOrder order)
+        throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < orders / THREADS; i++) {
+                    writer.accept(order);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        int written = orders / THREADS * THREADS;
+        double ordersPerSecond = written / seconds;
+        System.out.printf("order writes [%s, %d lines]: %d orders in %.2fs (%.0f orders/s, %.0f lines/s)%n",
+            label, lines, written, seconds, ordersPerSecond, ordersPerSecond * lines);
+        return ordersPerSecond;
+    }
+
+    /**
+     * 비교 기준: 헤더, 항목 하나하나, 이력을 각각 INSERT 한다 (항목 수 + 2 문장).
+     */
+    private void createRowByRow(NewOrder order) {
+        String orderNumber = "ROW-" + System.nanoTime() + "-" + Thread.currentThread().threadId();
+        transactionTemplate.executeWithoutResult(status -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement("""
+                    INSERT INTO orders (order_number, user_id, total_amount, subtotal_amount, currency,
+                                        billing_address, shipping_address)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """, new String[] {"id"});
+                ps.setString(1, orderNumber);
+                ps.setLong(2, order.userId());
+                ps.setBigDecimal(3, order.totalAmount());
+                ps.setBigDecimal(4, order.subtotalAmount());
+                ps.setString(5, order.currency());
+                ps.setString(6, order.billingAddress());
+                ps.setString(7, order.shippingAddress());
+                return ps;
+            }, keyHolder);
+            long orderId = keyHolder.getKey().longValue();
+            for (NewOrderItem item : order.items()) {
+                jdbcTemplate.update("""
+                        INSERT INTO order_items (order_id, product_id, product_sku, product_name, unit_price, quantity,
+                                                 total_price)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """,
+                    orderId, item.productId(), item.productSku(), item.productName(), item.unitPrice(),
+                    item.quantity(), item.totalPrice());
+            }
+            jdbcTemplate.update(
+                "INSERT INTO order_status_history (order_id, status_type, to_status) VALUES (?, 'ORDER', 'PENDING')",
+                orderId);
+        });
+    }
+
+    private static NewOrder order(int lines) {
+        List<NewOrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(new NewOrderItem(1_000L + i, null, "SKU-" + i, "상품 " + i, null,
+                "https://cdn.example.com/products/" + i + ".jpg", new BigDecimal("1000.00"), 1));
+        }
+        return new NewOrder(10L, "KRW", null, null, null, null, "{\"city\":\"Seoul\"}", "{\"city\":\"Seoul\"}",
+            null, items);
+    }
+
+}
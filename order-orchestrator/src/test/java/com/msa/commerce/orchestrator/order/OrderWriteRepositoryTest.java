@@ -0,0 +1,156 @@
+package com.msa.commerce.orchestrator.order;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.orchestrator.ordernumber.OrderNumberGenerator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("OrderWriteRepository 테스트")
+class OrderWriteRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderWriteRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE orders (
+                id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_number     VARCHAR(50)    NOT NULL UNIQUE,
+                user_id          BIGINT         NOT NULL,
+                total_amount     DECIMAL(10, 2) NOT NULL,
+                subtotal_amount  DECIMAL(10, 2) NOT NULL,
+                discount_amount  DECIMAL(10, 2) NOT NULL,
+                tax_amount       DECIMAL(10, 2) NOT NULL,
+                shipping_amount  DECIMAL(10, 2) NOT NULL,
+                currency         VARCHAR(3)     NOT NULL,
+                status           VARCHAR(20)    NOT NULL DEFAULT 'PENDING',
+                shipping_method  VARCHAR(20)    NOT NULL,
+                billing_address  CLOB           NOT NULL,
+                shipping_address CLOB           NOT NULL,
+                customer_notes   CLOB,
+                created_at       TIMESTAMP      NOT NULL,
+                updated_at       TIMESTAMP      NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_items (
+                id                   BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id             BIGINT         NOT NULL REFERENCES orders (id),
+                product_id           BIGINT         NOT NULL,
+                product_variant_id   BIGINT,
+                product_sku          VARCHAR(100)   NOT NULL,
+                product_name         VARCHAR(255)   NOT NULL,
+                product_variant_name VARCHAR(255),
+                product_image_url    VARCHAR(500),
+                unit_price           DECIMAL(10, 2) NOT NULL,
+                quantity             INT            NOT NULL,
+                total_price          DECIMAL(10, 2) NOT NULL,
+                created_at           TIMESTAMP      NOT NULL,
+                updated_at           TIMESTAMP      NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_status_history (
+                id                 BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id           BIGINT       NOT NULL REFERENCES orders (id),
+                status_type        VARCHAR(20)  NOT NULL,
+                from_status        VARCHAR(50),
+                to_status          VARCHAR(50)  NOT NULL,
+                reason             VARCHAR(255),
+                changed_by_user_id BIGINT,
+                created_at         TIMESTAMP    NOT NULL
+            )
+            """);
+
+        OrderNumberGenerator orderNumberGenerator = mock(OrderNumberGenerator.class);
+        given(orderNumberGenerator.next()).willReturn("ORD-20250301-001-00000001");
+        repository = new OrderWriteRepository(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)), orderNumberGenerator,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("헤더, 상품 스냅샷이 담긴 항목, 최초 상태 이력을 함께 저장한다")
+    void writesHeaderItemsAndHistory() {
+        // given
+        NewOrder order = order(List.of(
+            item(100L, "SKU-100", "키보드", "45000.00", 2),
+            item(200L, "SKU-200", "마우스", "15000.00", 1)));
+
+        // when
+        PlacedOrder placed = repository.create(order);
+
+        // then
+        assertThat(placed.orderNumber()).isEqualTo("ORD-20250301-001-00000001");
+        assertThat(placed.totalAmount()).isEqualByComparingTo("108000.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT subtotal_amount FROM orders WHERE id = ?", BigDecimal.class,
+            placed.orderId())).isEqualByComparingTo("105000.00");
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT product_sku FROM order_items WHERE order_id = ? ORDER BY id", String.class, placed.orderId()))
+            .containsExactly("SKU-100", "SKU-200");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT total_price FROM order_items WHERE product_id = 100", BigDecimal.class))
+            .isEqualByComparingTo("90000.00");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT to_status FROM order_status_history WHERE order_id = ?", String.class, placed.orderId()))
+            .isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("항목 저장이 실패하면 헤더와 이력도 남기지 않는다")
+    void rollsBackWhenItemInsertFails() {
+        // given: sku 가 없는 항목은 NOT NULL 제약을 어긴다
+        NewOrder order = order(List.of(
+            item(100L, "SKU-100", "키보드", "45000.00", 1),
+            item(200L, null, "마우스", "15000.00", 1)));
+
+        // when & then
+        assertThatThrownBy(() -> repository.create(order)).isInstanceOf(RuntimeException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_status_history", Long.class)).isZero();
+    }
+
+    private static NewOrder order(List<NewOrderItem> items) {
+        return new NewOrder(10L, "KRW", null, null, new BigDecimal("3000.00"), null, "{\"city\":\"Seoul\"}",
+            "{\"city\":\"Seoul\"}", null, items);
+    }
+
+    private static NewOrderItem item(long productId, String sku, String name, String unitPrice, int quantity) {
+        return new NewOrderItem(productId, null, sku, name, null, null, new BigDecimal(unitPrice), quantity);
+    }
+
+}
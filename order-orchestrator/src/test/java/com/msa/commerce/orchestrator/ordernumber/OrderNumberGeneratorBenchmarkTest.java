@@ -0,0 +1,132 @@
+package com.msa.commerce.orchestrator.ordernumber;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 노드와 스레드에서 주문 번호를 발급하는 처리량과 중복 여부 측정.
+ * {@code ./gradlew :order-orchestrator:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("OrderNumberGenerator 처리량 벤치마크")
+class OrderNumberGeneratorBenchmarkTest {
+
+    private static final int NODES = 4;
+
+    private static final int THREADS_PER_NODE = 4;
+
+    private static final int TOTAL_NUMBERS = 10_000_000;
+
+    private static final int NUMBERS_PER_THREAD = TOTAL_NUMBERS / (NODES * THREADS_PER_NODE);
+
+    private static final int BLOCK_SIZE = Integer.getInteger("benchmark.order-number.block-size", 1000);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(NODES * 2);
+        dataSource = new HikariDataSource(config);
+        new JdbcTemplate(dataSource).execute("""
+            CREATE TABLE order_number_blocks
+            (
+                seq_date   DATE     NOT NULL,
+                node_id    SMALLINT NOT NULL,
+                next_value BIGINT   NOT NULL,
+                PRIMARY KEY (seq_date, node_id)
+            )
+            """);
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("노드와 스레드를 가리지 않고 1천만 개의 번호가 모두 다르다")
+    void generatesTenMillionUniqueNumbers() throws Exception {
+        // given: 노드마다 생성기를 두되 블록 저장소(DB)는 공유한다
+        OrderNumberBlockRepository blockRepository = new OrderNumberBlockRepository(new JdbcTemplate(dataSource));
+        List<OrderNumberGenerator> generators = new ArrayList<>();
+        for (int node = 1; node <= NODES; node++) {
+            generators.add(new OrderNumberGenerator(blockRepository, node, BLOCK_SIZE, ZoneId.of("Asia/Seoul"),
+                Clock.systemUTC()));
+        }
+        // (일, 노드, 시퀀스) 를 long 으로 바꿔 문자열을 모두 들고 있지 않고도 중복을 검사한다
+        long[][] issued = new long[NODES * THREADS_PER_NODE][];
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+
+        // when
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < NODES * THREADS_PER_NODE; t++) {
+            int slot = t;
+            OrderNumberGenerator generator = generators.get(t % NODES);
+            futures.add(executor.submit(() -> {
+                long[] keys = new long[NUMBERS_PER_THREAD];
+                for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                    keys[i] = key(generator.next());
+                }
+                issued[slot] = keys;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        // then
+        long[] all = Arrays.stream(issued).flatMapToLong(Arrays::stream).sorted().toArray();
+        long duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+        assertThat(all).hasSize(NUMBERS_PER_THREAD * NODES * THREADS_PER_NODE);
+        assertThat(duplicates).isZero();
+        System.out.printf("order numbers: %d from %d nodes x %d threads in %.2fs (%.0f/s), block size %d%n",
+            all.length, NODES, THREADS_PER_NODE, seconds, all.length / seconds, BLOCK_SIZE);
+    }
+
+    private static long key(String orderNumber) {
+        // ORD-yyyyMMdd-NNN-SSSSSSSS, 측정 중 자정이 지나도 구분되도록 일(dd)까지 포함한다
+        long day = Long.parseLong(orderNumber, 10, 12, 10);
+        long node = Long.parseLong(orderNumber, 13, 16, 10);
+        long sequence = Long.parseLong(orderNumber, 17, orderNumber.length(), 10);
+        return (day * 1000 + node) * 10_000_000_000L + sequence;
+    }
+
+}
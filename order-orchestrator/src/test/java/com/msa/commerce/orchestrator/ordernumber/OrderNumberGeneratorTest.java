@@ -0,0 +1,131 @@
+package com.msa.commerce.orchestrator.ordernumber;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderNumberGenerator 테스트")
+class OrderNumberGeneratorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private OrderNumberBlockRepository blockRepository;
+
+    @Mock
+    private Clock clock;
+
+    private final Map<LocalDate, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        // DB 와 같이 (일자) 별 next_value 를 블록 크기만큼 올리고 블록 끝을 반환한다
+        lenient().when(blockRepository.lease(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(0);
+            int size = invocation.getArgument(2);
+            return sequences.computeIfAbsent(date, d -> new AtomicLong(1)).addAndGet(size);
+        });
+        givenNow("2025-03-01T10:00:00+09:00");
+    }
+
+    @Test
+    @DisplayName("일자, 노드, 8자리 시퀀스로 번호를 만든다")
+    void formatsOrderNumber() {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 7, 100, SEOUL, clock);
+
+        // when
+        String first = generator.next();
+        String second = generator.next();
+
+        // then
+        assertThat(first).isEqualTo("ORD-20250301-007-00000001");
+        assertThat(second).isEqualTo("ORD-20250301-007-00000002");
+    }
+
+    @Test
+    @DisplayName("블록 안에서는 DB 를 다시 조회하지 않고, 다 쓰면 다음 블록을 받는다")
+    void leasesBlocksInChunks() {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 1, 10, SEOUL, clock);
+
+        // when
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            numbers.add(generator.next());
+        }
+
+        // then
+        assertThat(numbers).doesNotHaveDuplicates().last().isEqualTo("ORD-20250301-001-00000025");
+        then(blockRepository).should(atMost(3)).lease(eq(LocalDate.of(2025, 3, 1)), eq(1), eq(10));
+    }
+
+    @Test
+    @DisplayName("영업 시간대 자정이 지나면 새 일자의 1번부터 발급한다")
+    void rollsOverAtMidnight() {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 1, 100, SEOUL, clock);
+        givenNow("2025-03-01T23:59:59.999+09:00");
+        generator.next();
+
+        // when
+        givenNow("2025-03-02T00:00:00+09:00");
+        String number = generator.next();
+
+        // then
+        assertThat(number).isEqualTo("ORD-20250302-001-00000001");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 번호가 겹치지 않는다")
+    void generatesUniqueNumbersConcurrently() throws Exception {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 1, 50, SEOUL, clock);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    assertThat(numbers.add(generator.next())).isTrue();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(numbers).hasSize(80_000);
+    }
+
+    private void givenNow(String time) {
+        lenient().when(clock.millis()).thenReturn(OffsetDateTime.parse(time).toInstant().toEpochMilli());
+    }
+
+}
@@ -0,0 +1,327 @@
+package com.msa.commerce.orchestrator.saga;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.common.events.order.OrderCreatedEvent;
+import com.msa.commerce.common.events.saga.SagaCommand;
+import com.msa.commerce.common.events.saga.SagaReply;
+import com.msa.commerce.orchestrator.order.OrderStateMachine;
+import com.msa.commerce.orchestrator.order.OrderStatus;
+import com.msa.commerce.orchestrator.order.TransitionResult;
+import com.msa.commerce.orchestrator.timeout.SagaTimeoutRepository;
+import com.msa.commerce.orchestrator.timeout.TimeoutType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSagaEngine 테스트")
+class OrderSagaEngineTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Mock
+    private OrderSagaRepository sagaRepository;
+
+    @Mock
+    private OrderStateMachine orderStateMachine;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private SagaTimeoutRepository timeoutRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SagaReplyRegistry replyRegistry = new SagaReplyRegistry();
+
+    private final OrderSagaMetrics metrics = new OrderSagaMetrics(new SimpleMeterRegistry());
+
+    private final List<SagaCommand> sentCommands = new ArrayList<>();
+
+    private OrderSagaEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new OrderSagaEngine(sagaRepository, orderStateMachine, replyRegistry, kafkaTemplate, metrics,
+            timeoutRepository, transactionTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(engine, "stepTimeouts", SagaStepTimeouts.parse(200, ""));
+        ReflectionTestUtils.setField(engine, "compensationMaxAttempts", 2);
+        ReflectionTestUtils.setField(engine, "compensationRetryDelayMs", 0L);
+        lenient().when(sagaRepository.compareAndUpdate(any(), any(), anyInt())).thenReturn(true);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("사가를 만들 때 같은 트랜잭션에서 결제 승인 기한을 등록한다")
+    void schedulesDeadlineWithSaga() {
+        // given
+        given(sagaRepository.create(any())).willReturn(true);
+
+        // when
+        engine.begin(OrderCreatedEvent.builder().orderId(1L).build());
+
+        // then
+        InOrder inOrder = inOrder(transactionTemplate, sagaRepository, timeoutRepository);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(sagaRepository).create(any());
+        inOrder.verify(timeoutRepository).schedule(1L, TimeoutType.PAYMENT_AUTHORIZATION, NOW.plusMillis(900_000));
+    }
+
+    @Test
+    @DisplayName("이미 있는 사가면 기한을 다시 등록하지 않는다")
+    void skipsExistingSaga() {
+        // given
+        given(sagaRepository.create(any())).willReturn(false);
+
+        // when
+        engine.begin(OrderCreatedEvent.builder().orderId(1L).build());
+
+        // then
+        then(timeoutRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("모든 단계가 성공하면 주문을 확정하고 사가를 완료한다")
+    void completesAllSteps() {
+        // given
+        replyWith(Set.of());
+        given(orderStateMachine.changeOrderStatus(eq(1L), eq(OrderStatus.CONFIRMED), anyString(), isNull()))
+            .willReturn(TransitionResult.APPLIED);
+        OrderSaga saga = OrderSaga.start(1L, payload(), NOW);
+
+        // when
+        engine.run(saga);
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.COMPLETED);
+        assertThat(sentCommands).extracting(SagaCommand::getStep)
+            .containsExactly("RESERVE_INVENTORY", "AUTHORIZE_PAYMENT");
+        then(orderStateMachine).should(never()).changeOrderStatus(anyLong(), eq(OrderStatus.CANCELLED), anyString(), any());
+        then(sagaRepository).should(times(4)).compareAndUpdate(eq(saga), any(), anyInt());
+        then(timeoutRepository).should().cancel(1L, TimeoutType.PAYMENT_AUTHORIZATION);
+        assertThat(metrics.stepLatencies()).extracting(StepLatency::step)
+            .containsExactly("RESERVE_INVENTORY", "AUTHORIZE_PAYMENT", "CONFIRM_ORDER");
+    }
+
+    @Test
+    @DisplayName("결제가 거절되면 재고 예약만 보상하고 주문을 취소한다")
+    void compensatesCompletedStepsOnFailure() {
+        // given
+        replyWith(Set.of("AUTHORIZE_PAYMENT"));
+        OrderSaga saga = OrderSaga.start(2L, payload(), NOW);
+
+        // when
+        engine.run(saga);
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.COMPENSATED);
+        assertThat(sentCommands).extracting(command -> command.getStep() + (command.isCompensation() ? ":C" : ""))
+            .containsExactly("RESERVE_INVENTORY", "AUTHORIZE_PAYMENT", "RESERVE_INVENTORY:C");
+        then(orderStateMachine).should().changeOrderStatus(eq(2L), eq(OrderStatus.CANCELLED), anyString(), isNull());
+        then(orderStateMachine).should(never()).changeOrderStatus(anyLong(), eq(OrderStatus.CONFIRMED), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 초과된 단계는 실행되었을 수 있으므로 그 단계부터 보상한다")
+    void compensatesTimedOutStep() {
+        // given: 결제 커맨드에는 응답하지 않는다
+        given(kafkaTemplate.send(anyString(), anyString(), any())).willAnswer(invocation -> {
+            SagaCommand command = invocation.getArgument(2);
+            sentCommands.add(command);
+            if (command.isCompensation() || !command.getStep().equals("AUTHORIZE_PAYMENT")) {
+                replyRegistry.complete(reply(command, true));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        OrderSaga saga = OrderSaga.start(3L, payload(), NOW);
+
+        // when
+        engine.run(saga);
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.COMPENSATED);
+        assertThat(sentCommands).extracting(command -> command.getStep() + (command.isCompensation() ? ":C" : ""))
+            .containsExactly("RESERVE_INVENTORY", "AUTHORIZE_PAYMENT", "AUTHORIZE_PAYMENT:C", "RESERVE_INVENTORY:C");
+        assertThat(replyRegistry.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보상이 재시도 후에도 실패하면 FAILED 로 멈춘다")
+    void failsWhenCompensationFails() {
+        // given
+        given(kafkaTemplate.send(anyString(), anyString(), any())).willAnswer(invocation -> {
+            SagaCommand command = invocation.getArgument(2);
+            sentCommands.add(command);
+            boolean success = !command.isCompensation() && command.getStep().equals("RESERVE_INVENTORY");
+            replyRegistry.complete(reply(command, success));
+            return CompletableFuture.completedFuture(null);
+        });
+        OrderSaga saga = OrderSaga.start(4L, payload(), NOW);
+
+        // when
+        engine.run(saga);
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.FAILED);
+        assertThat(saga.currentStep()).isEqualTo(OrderSagaStep.RESERVE_INVENTORY);
+        assertThat(sentCommands).filteredOn(SagaCommand::isCompensation)
+            .extracting(SagaCommand::getEventId)
+            .doesNotHaveDuplicates()
+            .hasSize(2);
+        then(orderStateMachine).should(never()).changeOrderStatus(anyLong(), eq(OrderStatus.CANCELLED), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 실행자가 사가를 넘겨받으면 다음 상태 저장에서 멈춘다")
+    void stopsWhenTakenOver() {
+        // given: 재고 예약 응답을 기다리는 사이 결제 기한이 지나 보상 상태로 넘겨받혔다
+        replyWith(Set.of());
+        given(sagaRepository.compareAndUpdate(any(), eq(OrderSagaStatus.RUNNING), eq(0))).willReturn(false);
+        OrderSaga saga = OrderSaga.start(5L, payload(), NOW);
+
+        // when
+        engine.run(saga);
+
+        // then
+        assertThat(sentCommands).extracting(SagaCommand::getStep).containsExactly("RESERVE_INVENTORY");
+        then(orderStateMachine).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("결제 기한이 지난 사가는 진행 중인 원격 단계부터 보상 상태로 넘겨받는다")
+    void expiresRunningSaga() {
+        // given
+        OrderSaga saga = OrderSaga.start(6L, payload(), NOW);
+        saga.moveTo(OrderSagaStatus.RUNNING, OrderSagaStep.AUTHORIZE_PAYMENT.ordinal(), NOW);
+        given(sagaRepository.find(6L)).willReturn(Optional.of(saga));
+
+        // when
+        boolean expired = engine.expire(6L, OrderSagaStep.AUTHORIZE_PAYMENT);
+
+        // then
+        assertThat(expired).isTrue();
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.COMPENSATING);
+        assertThat(saga.currentStep()).isEqualTo(OrderSagaStep.AUTHORIZE_PAYMENT);
+        then(sagaRepository).should()
+            .compareAndUpdate(saga, OrderSagaStatus.RUNNING, OrderSagaStep.AUTHORIZE_PAYMENT.ordinal());
+    }
+
+    @Test
+    @DisplayName("기한 단계를 이미 지난 사가는 넘겨받지 않는다")
+    void ignoresSagaPastDeadlineStep() {
+        // given
+        OrderSaga saga = OrderSaga.start(7L, payload(), NOW);
+        saga.moveTo(OrderSagaStatus.RUNNING, OrderSagaStep.CONFIRM_ORDER.ordinal(), NOW);
+        given(sagaRepository.find(7L)).willReturn(Optional.of(saga));
+
+        // when
+        boolean expired = engine.expire(7L, OrderSagaStep.AUTHORIZE_PAYMENT);
+
+        // then
+        assertThat(expired).isFalse();
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.RUNNING);
+        then(sagaRepository).should(never()).compareAndUpdate(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커맨드 ID 는 주문, 실행 번호, 단계, 보상 여부, 시도로 결정된다")
+    void deterministicCommandId() {
+        assertThat(OrderSagaEngine.commandId(1L, 0, OrderSagaStep.RESERVE_INVENTORY, false, 0))
+            .isEqualTo(OrderSagaEngine.commandId(1L, 0, OrderSagaStep.RESERVE_INVENTORY, false, 0))
+            .isNotEqualTo(OrderSagaEngine.commandId(1L, 0, OrderSagaStep.RESERVE_INVENTORY, true, 0))
+            .isNotEqualTo(OrderSagaEngine.commandId(1L, 1, OrderSagaStep.RESERVE_INVENTORY, false, 0))
+            .hasSize(36);
+    }
+
+    @Test
+    @DisplayName("이어서 실행한 사가는 실행 번호를 올려 이전 실행과 다른 커맨드 ID 로 보낸다")
+    void resumedSagaSendsNewCommandId() {
+        // given
+        replyWith(Set.of());
+        given(orderStateMachine.changeOrderStatus(eq(8L), eq(OrderStatus.CONFIRMED), anyString(), isNull()))
+            .willReturn(TransitionResult.APPLIED);
+        given(sagaRepository.claimRun(any())).willAnswer(invocation -> {
+            invocation.<OrderSaga>getArgument(0).nextRun();
+            return true;
+        });
+        OrderSaga saga = OrderSaga.start(8L, payload(), NOW);
+
+        // when
+        engine.resume(saga);
+
+        // then
+        assertThat(saga.getStatus()).isEqualTo(OrderSagaStatus.COMPLETED);
+        assertThat(sentCommands).first()
+            .extracting(SagaCommand::getEventId)
+            .isEqualTo(OrderSagaEngine.commandId(8L, 1, OrderSagaStep.RESERVE_INVENTORY, false, 0))
+            .isNotEqualTo(OrderSagaEngine.commandId(8L, 0, OrderSagaStep.RESERVE_INVENTORY, false, 0));
+    }
+
+    @Test
+    @DisplayName("실행 번호를 올리지 못하면 다른 실행 주체가 이어받은 것이므로 실행하지 않는다")
+    void skipsResumeWhenClaimedElsewhere() {
+        // given
+        given(sagaRepository.claimRun(any())).willReturn(false);
+        OrderSaga saga = OrderSaga.start(9L, payload(), NOW);
+
+        // when
+        engine.resume(saga);
+
+        // then
+        assertThat(saga.getRun()).isZero();
+        then(kafkaTemplate).shouldHaveNoInteractions();
+    }
+
+    private void replyWith(Set<String> rejectedSteps) {
+        given(kafkaTemplate.send(anyString(), anyString(), any())).willAnswer(invocation -> {
+            SagaCommand command = invocation.getArgument(2);
+            sentCommands.add(command);
+            boolean rejected = !command.isCompensation() && rejectedSteps.contains(command.getStep());
+            replyRegistry.complete(reply(command, !rejected));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private static SagaReply reply(SagaCommand command, boolean success) {
+        return SagaReply.builder()
+            .commandId(command.getEventId())
+            .orderId(command.getOrderId())
+            .step(command.getStep())
+            .compensation(command.isCompensation())
+            .success(success)
+            .reason(success ? null : "rejected")
+            .build();
+    }
+
+    private static OrderSagaPayload payload() {
+        return new OrderSagaPayload(10L, new BigDecimal("30000.00"), "KRW", List.of(new SagaCommand.Line(100L, 2)));
+    }
+
+}
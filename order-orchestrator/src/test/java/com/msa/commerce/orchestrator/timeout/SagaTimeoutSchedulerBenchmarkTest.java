@@ -0,0 +1,172 @@
+package com.msa.commerce.orchestrator.timeout;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 노드가 샤드를 나눠 맡아 타임아웃을 발화하는 처리량 측정.
+ * {@code ./gradlew :order-orchestrator:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("SagaTimeoutScheduler 처리량 벤치마크")
+class SagaTimeoutSchedulerBenchmarkTest {
+
+    private static final int NODES = 3;
+
+    private static final int SHARDS = 64;
+
+    private static final int TIMEOUTS = Integer.getInteger("benchmark.saga-timeout.count", 1_000_000);
+
+    private static final int SCHEDULE_CHUNK = 10_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withUrlParam("rewriteBatchedStatements", "true")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void setUpDataSource() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(NODES * 4);
+        dataSource = new HikariDataSource(config);
+
+        String ddl = StreamUtils.copyToString(
+            new ClassPathResource("db/migration/V6__Create_saga_timeouts_tables.sql").getInputStream(),
+            StandardCharsets.UTF_8);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String statement : ddl.replaceAll("(?m)^\\s*--.*$", "").split(";")) {
+            if (!statement.isBlank()) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("모든 샤드가 한 노드에만 배정되고, 모든 타임아웃이 한 번씩 발화되며, 노드가 빠지면 다시 나뉜다")
+    void firesEveryTimeoutOnceAcrossNodes() throws Exception {
+        // given
+        SagaTimeoutRepository repository = new SagaTimeoutRepository(new JdbcTemplate(dataSource), SHARDS);
+        ConcurrentHashMap<Long, AtomicInteger> fired = new ConcurrentHashMap<>(TIMEOUTS * 2);
+        SagaTimeoutHandler handler = new SagaTimeoutHandler() {
+            @Override
+            public TimeoutType type() {
+                return TimeoutType.PAYMENT_AUTHORIZATION;
+            }
+
+            @Override
+            public void onTimeouts(List<SagaTimeout> timeouts) {
+                for (SagaTimeout timeout : timeouts) {
+                    fired.computeIfAbsent(timeout.orderId(), id -> new AtomicInteger()).incrementAndGet();
+                }
+            }
+        };
+        List<SagaTimeoutScheduler> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new SagaTimeoutScheduler(repository, List.of(handler), "node-" + i, Clock.systemUTC()));
+        }
+
+        Instant dueAt = Instant.now().minusSeconds(1);
+        long scheduleStarted = System.nanoTime();
+        for (int from = 0; from < TIMEOUTS; from += SCHEDULE_CHUNK) {
+            List<SagaTimeout> chunk = new ArrayList<>(SCHEDULE_CHUNK);
+            for (long orderId = from; orderId < Math.min(from + SCHEDULE_CHUNK, TIMEOUTS); orderId++) {
+                chunk.add(new SagaTimeout(orderId, TimeoutType.PAYMENT_AUTHORIZATION,
+                    dueAt.minusMillis(orderId % 1000)));
+            }
+            repository.scheduleAll(chunk);
+        }
+        double scheduleSeconds = (System.nanoTime() - scheduleStarted) / 1_000_000_000.0;
+
+        // when
+        rebalance(nodes);
+        assertDisjointCover(nodes);
+
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        long fireStarted = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (SagaTimeoutScheduler node : nodes) {
+            futures.add(executor.submit(() -> {
+                while (node.fireDueTimeouts() > 0) {
+                    // 만기된 타임아웃이 남지 않을 때까지 발화한다
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double fireSeconds = (System.nanoTime() - fireStarted) / 1_000_000_000.0;
+        executor.shutdown();
+
+        // then
+        assertThat(repository.countPending()).isZero();
+        assertThat(fired).hasSize(TIMEOUTS);
+        assertThat(fired.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        System.out.printf("saga timeouts: %d scheduled in %.2fs (%.0f/s), fired by %d nodes in %.2fs (%.0f/s)%n",
+            TIMEOUTS, scheduleSeconds, TIMEOUTS / scheduleSeconds, NODES, fireSeconds, TIMEOUTS / fireSeconds);
+
+        // when: 노드 하나가 빠진다
+        nodes.remove(NODES - 1).leave();
+        rebalance(nodes);
+
+        // then
+        assertDisjointCover(nodes);
+        assertThat(nodes).allSatisfy(node -> assertThat(node.ownedShards()).hasSize(SHARDS / (NODES - 1)));
+    }
+
+    private static void rebalance(List<SagaTimeoutScheduler> nodes) {
+        // 모든 노드가 서로의 heartbeat 를 본 뒤 초과분을 내놓고 빈 샤드를 가져가도록 몇 주기 돌린다
+        for (int round = 0; round < 3; round++) {
+            nodes.forEach(SagaTimeoutScheduler::maintainLeases);
+        }
+    }
+
+    private static void assertDisjointCover(List<SagaTimeoutScheduler> nodes) {
+        Set<Integer> all = new HashSet<>();
+        int total = 0;
+        for (SagaTimeoutScheduler node : nodes) {
+            all.addAll(node.ownedShards());
+            total += node.ownedShards().size();
+        }
+        assertThat(all).hasSize(SHARDS);
+        assertThat(total).isEqualTo(SHARDS);
+    }
+
+}
@@ -3,7 +3,10 @@ package com.msa.commerce.payment;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+    "com.msa.commerce.payment",
+    "com.msa.commerce.common"
+})
 public class PaymentServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,11 @@
+package com.msa.commerce.payment.capture;
+
+/**
+ * PG 사가 돌려준 매입 결과.
+ */
+public record CaptureOutcome(
+    PendingCapture capture,
+    boolean captured,
+    String failureReason
+) {
+}
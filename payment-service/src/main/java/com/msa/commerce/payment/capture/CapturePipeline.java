@@ -0,0 +1,323 @@
+package com.msa.commerce.payment.capture;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.msa.commerce.common.events.payment.PaymentCaptureFailedEvent;
+import com.msa.commerce.common.events.payment.PaymentCapturedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+import com.msa.commerce.payment.gateway.GatewayCapture;
+import com.msa.commerce.payment.gateway.GatewayCaptureResult;
+import com.msa.commerce.payment.gateway.GatewayClient;
+import com.msa.commerce.payment.gateway.GatewayUnavailableException;
+import com.msa.commerce.payment.outbox.OutboxMessage;
+import com.msa.commerce.payment.outbox.PaymentOutboxRelay;
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인된 결제의 매입을 PG 사별로 모아 비동기로 처리한다.
+ * <p>
+ * 결제 요청은 승인까지만 기다리고 매입 요청은 PG 사별 큐에 넣는다. PG 사마다 가상 스레드 하나가 큐를 비우며
+ * batchSize 건이 모이거나 첫 건이 들어온 뒤 flushIntervalMs 가 지나면 PG 배치 매입 한 번, DB 기록 한 트랜잭션,
+ * Kafka 이벤트 발행으로 처리한다. 이벤트는 결과와 같은 트랜잭션에서 payment_outbox 에 남긴 뒤 보내므로,
+ * 커밋 후 발행이 실패해도 {@link PaymentOutboxRelay} 가 다시 보낸다.
+ * <p>
+ * 큐는 메모리에만 있으므로 큐가 가득 찼거나, PG 를 쓸 수 없었거나, 인스턴스가 죽어 처리되지 못한 매입은
+ * PROCESSING 상태로 남는다. 복구 스캔이 승인 후 stalledAfterMs 가 지난 PROCESSING 결제를 다시 큐에 넣는다.
+ * 같은 결제가 두 번 매입 요청되어도 PG 는 거래 ID 로 중복을 거르고, DB 는 PROCESSING 인 결제만 바꾼다.
+ */
+@Slf4j
+@Component
+public class CapturePipeline implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final GatewayClient gatewayClient;
+
+    private final CaptureRepository captureRepository;
+
+    private final PaymentOutboxRelay outboxRelay;
+
+    private final Clock clock;
+
+    private final int batchSize;
+
+    private final long flushIntervalMs;
+
+    private final Map<GatewayProvider, BlockingQueue<PendingCapture>> queues = new EnumMap<>(GatewayProvider.class);
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter queued;
+
+    private final Counter rejected;
+
+    private final Counter captured;
+
+    private final Counter failed;
+
+    private final Counter deferred;
+
+    private final DistributionSummary batchSizes;
+
+    @Value("${commerce.payment.capture.stalled-after-ms:60000}")
+    private long stalledAfterMs = 60_000;
+
+    @Value("${commerce.payment.capture.recovery-batch-size:1000}")
+    private int recoveryBatchSize = 1_000;
+
+    @Value("${commerce.payment.capture.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs = 10_000;
+
+    private ExecutorService flushers;
+
+    private volatile boolean running;
+
+    @Autowired
+    public CapturePipeline(GatewayClient gatewayClient, CaptureRepository captureRepository,
+        PaymentOutboxRelay outboxRelay, MeterRegistry meterRegistry,
+        @Value("${commerce.payment.capture.batch-size:100}") int batchSize,
+        @Value("${commerce.payment.capture.flush-interval-ms:200}") long flushIntervalMs,
+        @Value("${commerce.payment.capture.queue-capacity:10000}") int queueCapacity) {
+        this(gatewayClient, captureRepository, outboxRelay, meterRegistry, batchSize, flushIntervalMs,
+            queueCapacity, Clock.systemUTC());
+    }
+
+    CapturePipeline(GatewayClient gatewayClient, CaptureRepository captureRepository,
+        PaymentOutboxRelay outboxRelay, MeterRegistry meterRegistry, int batchSize,
+        long flushIntervalMs, int queueCapacity, Clock clock) {
+        this.gatewayClient = gatewayClient;
+        this.captureRepository = captureRepository;
+        this.outboxRelay = outboxRelay;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            queues.put(provider, new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.queued = outcomeCounter(meterRegistry, "queued");
+        this.rejected = outcomeCounter(meterRegistry, "rejected");
+        this.captured = outcomeCounter(meterRegistry, "captured");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+        this.deferred = outcomeCounter(meterRegistry, "deferred");
+        this.batchSizes = DistributionSummary.builder("commerce.payment.capture.batch.size")
+            .description("Captures sent to a payment gateway in one batch")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        flushers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-capture-", 0).factory());
+        running = true;
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            flushers.submit(() -> flushLoop(provider));
+        }
+    }
+
+    @Override
+    public void stop() {
+        // 큐에 남은 매입은 비울 때까지 처리하고, 시간 안에 끝내지 못한 것은 다음 기동 후 복구 스캔이 다시 넣는다
+        running = false;
+        flushers.shutdown();
+        try {
+            if (!flushers.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                flushers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flushers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 매입 요청을 큐에 넣는다. 이미 큐에 있는 결제는 무시한다.
+     * 큐가 가득 차면 false 를 반환하며, 결제는 PROCESSING 으로 남아 복구 스캔이 나중에 다시 넣는다.
+     */
+    public boolean submit(PendingCapture capture) {
+        if (!pending.add(capture.paymentId())) {
+            return true;
+        }
+        if (!queues.get(capture.gatewayProvider()).offer(capture)) {
+            pending.remove(capture.paymentId());
+            rejected.increment();
+            log.warn("Capture queue for {} is full, payment {} left for recovery", capture.gatewayProvider(),
+                capture.paymentId());
+            return false;
+        }
+        queued.increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.payment.capture.recovery-interval-ms:30000}")
+    public void recoverStalled() {
+        if (!running) {
+            return;
+        }
+        Instant authorizedBefore = clock.instant().minusMillis(stalledAfterMs);
+        List<PendingCapture> stalled = captureRepository.findStalled(authorizedBefore, recoveryBatchSize);
+        int resubmitted = 0;
+        for (PendingCapture capture : stalled) {
+            if (submit(capture)) {
+                resubmitted++;
+            }
+        }
+        if (resubmitted > 0) {
+            log.info("Resubmitted {} stalled captures", resubmitted);
+        }
+    }
+
+    private void flushLoop(GatewayProvider provider) {
+        BlockingQueue<PendingCapture> queue = queues.get(provider);
+        List<PendingCapture> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (collect(queue, batch)) {
+                    flush(provider, batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} captures for {}", batch.size(), provider, e);
+            } finally {
+                batch.forEach(capture -> pending.remove(capture.paymentId()));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 건을 기다린 뒤 batchSize 건이 모이거나 flushIntervalMs 가 지날 때까지 모은다.
+     */
+    private boolean collect(BlockingQueue<PendingCapture> queue, List<PendingCapture> batch)
+        throws InterruptedException {
+        // 종료 요청을 늦지 않게 알아채도록 빈 큐는 짧게 기다린다
+        PendingCapture first = queue.poll(Math.min(flushIntervalMs, IDLE_POLL_MS), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            PendingCapture next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    private void flush(GatewayProvider provider, List<PendingCapture> batch) {
+        batchSizes.record(batch.size());
+        List<GatewayCapture> requests = batch.stream().map(PendingCapture::toGatewayCapture).toList();
+        Map<Long, GatewayCaptureResult> results;
+        try {
+            results = gatewayClient.capture(provider, requests).stream()
+                .collect(Collectors.toMap(GatewayCaptureResult::paymentId, Function.identity(), (a, b) -> a));
+        } catch (GatewayUnavailableException e) {
+            // TIMEOUT 이면 PG 쪽 매입 여부를 모르지만, 다시 요청해도 PG 가 거래 ID 로 중복을 거른다
+            deferred.increment(batch.size());
+            log.warn("Deferred {} captures: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        List<CaptureOutcome> outcomes = new ArrayList<>(batch.size());
+        for (PendingCapture capture : batch) {
+            GatewayCaptureResult result = results.get(capture.paymentId());
+            if (result == null) {
+                deferred.increment();
+                continue;
+            }
+            outcomes.add(new CaptureOutcome(capture, result.captured(), result.failureReason()));
+        }
+        Instant now = clock.instant();
+        Map<Long, OutboxMessage> messages = new HashMap<>();
+        for (CaptureOutcome outcome : outcomes) {
+            messages.put(outcome.capture().paymentId(), message(outcome, now));
+        }
+        List<OutboxMessage> applied = new ArrayList<>(outcomes.size());
+        for (CaptureOutcome outcome : captureRepository.record(outcomes, messages, now)) {
+            if (outcome.captured()) {
+                captured.increment();
+            } else {
+                failed.increment();
+            }
+            applied.add(messages.get(outcome.capture().paymentId()));
+        }
+        outboxRelay.send(applied);
+    }
+
+    private static OutboxMessage message(CaptureOutcome outcome, Instant occurredAt) {
+        PendingCapture capture = outcome.capture();
+        String key = String.valueOf(capture.orderId());
+        if (outcome.captured()) {
+            return new OutboxMessage(PaymentEventTopics.PAYMENT_CAPTURED, key, PaymentCapturedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .paymentId(capture.paymentId())
+                .orderId(capture.orderId())
+                .gatewayProvider(capture.gatewayProvider().name())
+                .paymentMethodType(capture.paymentMethodType().name())
+                .gatewayTransactionId(capture.gatewayTransactionId())
+                .amount(capture.amount())
+                .currency(capture.currency())
+                .occurredAt(occurredAt)
+                .build());
+        }
+        return new OutboxMessage(PaymentEventTopics.PAYMENT_CAPTURE_FAILED, key, PaymentCaptureFailedEvent.builder()
+            .eventId(UUID.randomUUID().toString())
+            .paymentId(capture.paymentId())
+            .orderId(capture.orderId())
+            .gatewayProvider(capture.gatewayProvider().name())
+            .paymentMethodType(capture.paymentMethodType().name())
+            .amount(capture.amount())
+            .currency(capture.currency())
+            .failureReason(outcome.failureReason())
+            .occurredAt(occurredAt)
+            .build());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("commerce.payment.capture.requests")
+            .description("Payment capture requests by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.msa.commerce.payment.capture;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.msa.commerce.payment.outbox.OutboxMessage;
+import com.msa.commerce.payment.outbox.PaymentOutboxRepository;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+import com.msa.commerce.payment.payment.PaymentStatus;
+import com.msa.commerce.payment.payment.PaymentTransactionStatus;
+import com.msa.commerce.payment.payment.PaymentTransactionType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매입 대기 결제 조회와 매입 결과 기록.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaptureRepository {
+
+    private static final String FIND_STALLED_SQL = """
+        SELECT id, order_id, gateway_provider, payment_method_type, gateway_transaction_id, amount, currency
+        FROM payments
+        WHERE status = ? AND processed_at < ?
+        ORDER BY processed_at
+        LIMIT ?
+        """;
+
+    private static final String UPDATE_PAYMENT_SQL = """
+        UPDATE payments
+        SET status = ?, completed_at = ?, failed_at = ?, failure_reason = ?, updated_at = ?
+        WHERE id = ? AND status = ?
+        """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+        INSERT INTO payment_transactions (payment_id, transaction_type, amount, currency, status, processed_at,
+                                          created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PaymentOutboxRepository outboxRepository;
+
+    /**
+     * authorizedBefore 이전에 승인되었는데 아직 매입되지 않은 결제를 오래된 순으로 찾는다.
+     */
+    public List<PendingCapture> findStalled(Instant authorizedBefore, int limit) {
+        return jdbcTemplate.query(FIND_STALLED_SQL, (rs, rowNum) -> new PendingCapture(
+                rs.getLong("id"),
+                rs.getLong("order_id"),
+                GatewayProvider.valueOf(rs.getString("gateway_provider")),
+                PaymentMethodType.valueOf(rs.getString("payment_method_type")),
+                rs.getString("gateway_transaction_id"),
+                rs.getBigDecimal("amount"),
+                rs.getString("currency")),
+            PaymentStatus.PROCESSING.name(), Timestamp.from(authorizedBefore), limit);
+    }
+
+    /**
+     * 매입 결과를 한 트랜잭션에서 문장 세 개(결제 상태 배치 UPDATE, 거래 배치 INSERT, outbox 배치 INSERT)로 기록한다.
+     * 아직 PROCESSING 인 결제만 바꾸고 그 결제에 대해서만 CAPTURE 거래와 발행할 이벤트(messages, 결제 ID 별)를 남기므로,
+     * 같은 결제의 결과가 두 번 와도 한 번만 반영된다. 실제로 반영된 결과를 반환한다.
+     */
+    public List<CaptureOutcome> record(List<CaptureOutcome> outcomes, Map<Long, OutboxMessage> messages,
+        Instant now) {
+        if (outcomes.isEmpty()) {
+            return List.of();
+        }
+        Timestamp processedAt = Timestamp.from(now);
+        return transactionTemplate.execute(status -> {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_PAYMENT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CaptureOutcome outcome = outcomes.get(i);
+                    ps.setString(1, (outcome.captured() ? PaymentStatus.COMPLETED : PaymentStatus.FAILED).name());
+                    ps.setTimestamp(2, outcome.captured() ? processedAt : null);
+                    ps.setTimestamp(3, outcome.captured() ? null : processedAt);
+                    ps.setString(4, outcome.failureReason());
+                    ps.setTimestamp(5, processedAt);
+                    ps.setLong(6, outcome.capture().paymentId());
+                    ps.setString(7, PaymentStatus.PROCESSING.name());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return outcomes.size();
+                }
+            });
+
+            List<CaptureOutcome> applied = new ArrayList<>(outcomes.size());
+            for (int i = 0; i < updated.length; i++) {
+                // 드라이버가 건별 결과를 주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 본다
+                if (updated[i] != 0) {
+                    applied.add(outcomes.get(i));
+                }
+            }
+            if (applied.isEmpty()) {
+                return applied;
+            }
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CaptureOutcome outcome = applied.get(i);
+                    ps.setLong(1, outcome.capture().paymentId());
+                    ps.setString(2, PaymentTransactionType.CAPTURE.name());
+                    ps.setBigDecimal(3, outcome.capture().amount());
+                    ps.setString(4, outcome.capture().currency());
+                    ps.setString(5, (outcome.captured()
+                        ? PaymentTransactionStatus.SUCCESS : PaymentTransactionStatus.FAILED).name());
+                    ps.setTimestamp(6, processedAt);
+                    ps.setTimestamp(7, processedAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return applied.size();
+                }
+            });
+            outboxRepository.append(applied.stream()
+                .map(outcome -> messages.get(outcome.capture().paymentId()))
+                .toList(), now);
+            return applied;
+        });
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.msa.commerce.payment.capture;
+
+import java.math.BigDecimal;
+
+import com.msa.commerce.payment.gateway.GatewayCapture;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+/**
+ * 승인은 끝났고 매입을 기다리는 결제.
+ */
+public record PendingCapture(
+    Long paymentId,
+    Long orderId,
+    GatewayProvider gatewayProvider,
+    PaymentMethodType paymentMethodType,
+    String gatewayTransactionId,
+    BigDecimal amount,
+    String currency
+) {
+
+    public GatewayCapture toGatewayCapture() {
+        return new GatewayCapture(paymentId, gatewayTransactionId, amount, currency);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.msa.commerce.payment.config;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.payment.gateway.GatewayClient;
+import com.msa.commerce.payment.gateway.GatewayPolicies;
+import com.msa.commerce.payment.gateway.GatewayPolicy;
+import com.msa.commerce.payment.gateway.HttpPaymentGateway;
+import com.msa.commerce.payment.gateway.PaymentGateway;
+import com.msa.commerce.payment.gateway.stub.StubGatewayServer;
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class GatewayConfig {
+
+    @Value("${commerce.payment.gateway.base-urls:}")
+    private String baseUrls;
+
+    @Value("${commerce.payment.gateway.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${commerce.payment.gateway.max-concurrent-calls:64}")
+    private int maxConcurrentCalls;
+
+    @Value("${commerce.payment.gateway.max-concurrent-calls-by-provider:}")
+    private String maxConcurrentCallsByProvider;
+
+    @Value("${commerce.payment.gateway.bulkhead-wait-ms:20}")
+    private long bulkheadWaitMs;
+
+    @Value("${commerce.payment.gateway.timeout-ms:3000}")
+    private long timeoutMs;
+
+    @Value("${commerce.payment.gateway.timeout-ms-by-provider:}")
+    private String timeoutMsByProvider;
+
+    @Value("${commerce.payment.gateway.circuit.window-size:50}")
+    private int circuitWindowSize;
+
+    @Value("${commerce.payment.gateway.circuit.minimum-calls:20}")
+    private int circuitMinimumCalls;
+
+    @Value("${commerce.payment.gateway.circuit.failure-rate-percent:50}")
+    private int circuitFailureRatePercent;
+
+    @Value("${commerce.payment.gateway.circuit.open-ms:10000}")
+    private long circuitOpenMs;
+
+    @Bean(destroyMethod = "close")
+    public GatewayClient gatewayClient(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        GatewayPolicies policies = GatewayPolicies.parse(
+            new GatewayPolicy(maxConcurrentCalls, bulkheadWaitMs, timeoutMs, circuitWindowSize, circuitMinimumCalls,
+                circuitFailureRatePercent, circuitOpenMs),
+            maxConcurrentCallsByProvider, timeoutMsByProvider);
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        Map<GatewayProvider, PaymentGateway> gateways = new EnumMap<>(GatewayProvider.class);
+        GatewayPolicies.parseEntries(baseUrls).forEach((provider, baseUrl) -> gateways.put(provider,
+            new HttpPaymentGateway(provider, baseUrl, httpClient, objectMapper,
+                Duration.ofMillis(policies.policyFor(provider).timeoutMs()))));
+        return new GatewayClient(gateways, policies, meterRegistry);
+    }
+
+    /**
+     * 스텁 PG 는 local/test 프로필에서만 뜬다. 다른 프로필에서 stub.enabled 를 켜도 실제 PG 대신 응답하지 않는다.
+     */
+    @Configuration
+    @Profile({"local", "test"})
+    @ConditionalOnProperty(prefix = "commerce.payment.gateway.stub", name = "enabled", havingValue = "true")
+    static class StubGatewayConfig {
+
+        @Bean(destroyMethod = "close")
+        public StubGatewayServer stubGatewayServer(ObjectMapper objectMapper,
+            @Value("${commerce.payment.gateway.stub.port:18090}") int port,
+            @Value("${commerce.payment.gateway.stub.latency-ms:50}") long latencyMs,
+            @Value("${commerce.payment.gateway.stub.latency-ms-by-provider:}") String latencyMsByProvider)
+            throws IOException {
+            StubGatewayServer stub = StubGatewayServer.start(port, objectMapper);
+            Map<GatewayProvider, String> overrides = GatewayPolicies.parseEntries(latencyMsByProvider);
+            for (GatewayProvider provider : GatewayProvider.values()) {
+                stub.setLatencyMs(provider, overrides.containsKey(provider)
+                    ? Long.parseLong(overrides.get(provider)) : latencyMs);
+            }
+            return stub;
+        }
+
+    }
+
+}
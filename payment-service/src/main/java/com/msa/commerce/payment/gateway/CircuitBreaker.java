@@ -0,0 +1,134 @@
+package com.msa.commerce.payment.gateway;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과를 링 버퍼에 담아 실패율로 여닫는 서킷 브레이커.
+ * <p>
+ * CLOSED 에서 최근 windowSize 호출 중 실패율이 기준을 넘으면 OPEN 으로 바뀌어 호출을 바로 거절한다. openMs 가 지나면
+ * HALF_OPEN 으로 바뀌어 시험 호출 하나만 허용하고, 성공하면 CLOSED, 실패하면 다시 OPEN 이 된다.
+ * PG 호출에 비해 비용이 무시할 만하므로 상태 전이는 모니터 하나로 보호한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean[] outcomes;
+
+    private final int minimumCalls;
+
+    private final int failureRatePercent;
+
+    private final long openNanos;
+
+    private final LongSupplier nanoTime;
+
+    private State state = State.CLOSED;
+
+    private int next;
+
+    private int recorded;
+
+    private int failures;
+
+    private long openedAt;
+
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRatePercent, long openMs) {
+        this(windowSize, minimumCalls, failureRatePercent, openMs, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRatePercent, long openMs, LongSupplier nanoTime) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 호출을 시작해도 되는지 묻는다. true 를 받았으면 결과를 반드시 {@link #onSuccess()} 나 {@link #onFailure()} 로
+     * 알려야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoTime.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls && failures * 100 >= failureRatePercent * recorded) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+}
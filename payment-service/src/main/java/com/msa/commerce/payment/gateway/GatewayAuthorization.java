@@ -0,0 +1,17 @@
+package com.msa.commerce.payment.gateway;
+
+import java.math.BigDecimal;
+
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+/**
+ * PG 사에 보내는 승인 요청.
+ */
+public record GatewayAuthorization(
+    Long paymentId,
+    Long orderId,
+    BigDecimal amount,
+    String currency,
+    PaymentMethodType paymentMethodType
+) {
+}
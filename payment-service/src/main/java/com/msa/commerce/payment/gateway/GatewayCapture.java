@@ -0,0 +1,14 @@
+package com.msa.commerce.payment.gateway;
+
+import java.math.BigDecimal;
+
+/**
+ * 승인된 거래의 매입 요청. PG 사는 승인 때 돌려준 transactionId 로 거래를 찾는다.
+ */
+public record GatewayCapture(
+    Long paymentId,
+    String transactionId,
+    BigDecimal amount,
+    String currency
+) {
+}
@@ -0,0 +1,11 @@
+package com.msa.commerce.payment.gateway;
+
+/**
+ * 배치 매입 요청 중 거래 하나의 결과.
+ */
+public record GatewayCaptureResult(
+    Long paymentId,
+    boolean captured,
+    String failureReason
+) {
+}
@@ -0,0 +1,189 @@
+package com.msa.commerce.payment.gateway;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.payment.gateway.GatewayUnavailableException.Reason;
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 사별로 격리된 통로(lane)를 두고 호출한다.
+ * <p>
+ * 통로마다 bulkhead(세마포어), 서킷 브레이커, 타임아웃을 따로 가진다. 호출은 통로 전용 가상 스레드에서 실행되고
+ * 요청 스레드는 타임아웃까지만 기다리므로, 한 PG 가 느려져도 그 PG 로 가는 요청만 bulkhead 크기만큼 묶이고
+ * 나머지는 바로 거절된다. 다른 PG 의 통로와 요청 스레드 풀은 영향을 받지 않는다.
+ * bulkhead 자리는 가상 스레드의 호출이 실제로 끝날 때 반납하므로 PG 로 나가는 동시 요청 수는 설정값을 넘지 않는다.
+ */
+@Slf4j
+public class GatewayClient implements AutoCloseable {
+
+    private final Map<GatewayProvider, Lane> lanes = new EnumMap<>(GatewayProvider.class);
+
+    public GatewayClient(Map<GatewayProvider, PaymentGateway> gateways, GatewayPolicies policies,
+        MeterRegistry meterRegistry) {
+        gateways.forEach((provider, gateway) -> lanes.put(provider,
+            new Lane(gateway, policies.policyFor(provider), meterRegistry)));
+    }
+
+    /**
+     * 결제를 승인한다. 통로에 자리가 없거나 서킷이 열려 있거나 제때 응답이 오지 않으면
+     * {@link GatewayUnavailableException} 을 던진다.
+     */
+    public GatewayResult authorize(GatewayProvider provider, GatewayAuthorization authorization) {
+        Lane lane = lane(provider);
+        return lane.call(() -> lane.gateway.authorize(authorization),
+            result -> result.approved() ? "approved" : "declined");
+    }
+
+    /**
+     * 승인된 거래들을 한 번에 매입한다. 배치 하나가 호출 하나로 bulkhead 자리 하나를 쓴다.
+     */
+    public List<GatewayCaptureResult> capture(GatewayProvider provider, List<GatewayCapture> captures) {
+        Lane lane = lane(provider);
+        return lane.call(() -> lane.gateway.capture(captures), results -> "captured");
+    }
+
+    public CircuitBreaker.State circuitState(GatewayProvider provider) {
+        Lane lane = lanes.get(provider);
+        return lane == null ? null : lane.circuitBreaker.state();
+    }
+
+    private Lane lane(GatewayProvider provider) {
+        Lane lane = lanes.get(provider);
+        if (lane == null) {
+            throw new BusinessException("No payment gateway configured for " + provider,
+                ErrorCode.PAYMENT_GATEWAY_NOT_SUPPORTED.getCode());
+        }
+        return lane;
+    }
+
+    @Override
+    public void close() {
+        lanes.values().forEach(lane -> lane.executor.shutdownNow());
+    }
+
+    private static final class Lane {
+
+        private final PaymentGateway gateway;
+
+        private final GatewayPolicy policy;
+
+        private final Semaphore bulkhead;
+
+        private final CircuitBreaker circuitBreaker;
+
+        private final ExecutorService executor;
+
+        private final Map<String, Timer> timers = new HashMap<>();
+
+        private Lane(PaymentGateway gateway, GatewayPolicy policy, MeterRegistry meterRegistry) {
+            this.gateway = gateway;
+            this.policy = policy;
+            this.bulkhead = new Semaphore(policy.maxConcurrentCalls());
+            this.circuitBreaker = new CircuitBreaker(policy.windowSize(), policy.minimumCalls(),
+                policy.failureRatePercent(), policy.openMs());
+            this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("pg-" + gateway.provider().name().toLowerCase() + "-", 0).factory());
+            for (String outcome : new String[] {"approved", "declined", "captured", "circuit_open", "bulkhead_full",
+                "timeout", "error"}) {
+                timers.put(outcome, Timer.builder("commerce.payment.gateway.calls")
+                    .description("Payment gateway calls by provider and outcome")
+                    .tag("provider", gateway.provider().name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            }
+            Gauge.builder("commerce.payment.gateway.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Free bulkhead permits per payment gateway")
+                .tag("provider", gateway.provider().name())
+                .register(meterRegistry);
+        }
+
+        private <T> T call(Callable<T> request, Function<T, String> outcome) {
+            long started = System.nanoTime();
+            if (!acquireBulkhead()) {
+                throw unavailable(Reason.BULKHEAD_FULL, null, started);
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                throw unavailable(Reason.CIRCUIT_OPEN, null, started);
+            }
+
+            Future<T> call;
+            try {
+                call = executor.submit(() -> {
+                    try {
+                        return request.call();
+                    } finally {
+                        bulkhead.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                bulkhead.release();
+                circuitBreaker.onFailure();
+                throw unavailable(Reason.ERROR, e, started);
+            }
+
+            try {
+                T result = call.get(policy.timeoutMs(), TimeUnit.MILLISECONDS);
+                circuitBreaker.onSuccess();
+                record(outcome.apply(result), started);
+                return result;
+            } catch (TimeoutException e) {
+                call.cancel(true);
+                circuitBreaker.onFailure();
+                throw unavailable(Reason.TIMEOUT, e, started);
+            } catch (ExecutionException e) {
+                circuitBreaker.onFailure();
+                log.warn("Payment gateway {} call failed: {}", gateway.provider(), e.getCause().toString());
+                throw unavailable(Reason.ERROR, e.getCause(), started);
+            } catch (InterruptedException e) {
+                call.cancel(true);
+                circuitBreaker.onFailure();
+                Thread.currentThread().interrupt();
+                throw unavailable(Reason.ERROR, e, started);
+            }
+        }
+
+        private boolean acquireBulkhead() {
+            if (policy.bulkheadWaitMs() <= 0) {
+                return bulkhead.tryAcquire();
+            }
+            try {
+                return bulkhead.tryAcquire(policy.bulkheadWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private GatewayUnavailableException unavailable(Reason reason, Throwable cause, long started) {
+            record(reason.name().toLowerCase(), started);
+            return new GatewayUnavailableException(gateway.provider(), reason, cause);
+        }
+
+        private void record(String outcome, long started) {
+            timers.get(outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.msa.commerce.payment.gateway;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+/**
+ * PG 사별 격리 설정. 지정하지 않은 PG 사는 기본값을 사용한다.
+ */
+public class GatewayPolicies {
+
+    private final Map<GatewayProvider, GatewayPolicy> policies = new EnumMap<>(GatewayProvider.class);
+
+    public GatewayPolicies(GatewayPolicy defaultPolicy, Map<GatewayProvider, GatewayPolicy> overrides) {
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            policies.put(provider, overrides.getOrDefault(provider, defaultPolicy));
+        }
+    }
+
+    /**
+     * "TOSS=128,NICE=32" 형식의 동시 호출 수와 "PAYPAL=8000" 형식(밀리초)의 타임아웃을 기본값에 덮어쓴다.
+     */
+    public static GatewayPolicies parse(GatewayPolicy defaultPolicy, String maxConcurrentCalls, String timeoutsMs) {
+        Map<GatewayProvider, GatewayPolicy> overrides = new EnumMap<>(GatewayProvider.class);
+        parseEntries(maxConcurrentCalls).forEach((provider, value) -> overrides.put(provider,
+            overrides.getOrDefault(provider, defaultPolicy).withMaxConcurrentCalls(Integer.parseInt(value))));
+        parseEntries(timeoutsMs).forEach((provider, value) -> overrides.put(provider,
+            overrides.getOrDefault(provider, defaultPolicy).withTimeoutMs(Long.parseLong(value))));
+        return new GatewayPolicies(defaultPolicy, overrides);
+    }
+
+    /**
+     * "TOSS=a,NICE=b" 형식의 PG 사별 설정값을 파싱한다.
+     */
+    public static Map<GatewayProvider, String> parseEntries(String entries) {
+        Map<GatewayProvider, String> parsed = new EnumMap<>(GatewayProvider.class);
+        if (entries != null && !entries.isBlank()) {
+            for (String entry : entries.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid payment gateway entry: " + entry);
+                }
+                parsed.put(GatewayProvider.valueOf(entry.substring(0, separator).trim()),
+                    entry.substring(separator + 1).trim());
+            }
+        }
+        return parsed;
+    }
+
+    public GatewayPolicy policyFor(GatewayProvider provider) {
+        return policies.get(provider);
+    }
+
+}
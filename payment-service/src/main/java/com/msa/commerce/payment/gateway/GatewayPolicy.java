@@ -0,0 +1,34 @@
+package com.msa.commerce.payment.gateway;
+
+/**
+ * PG 사 하나에 적용하는 격리 설정.
+ *
+ * @param maxConcurrentCalls   동시에 진행할 수 있는 호출 수 (bulkhead)
+ * @param bulkheadWaitMs       bulkhead 가 가득 찼을 때 자리를 기다리는 시간. 넘으면 바로 거절한다
+ * @param timeoutMs            호출 하나의 응답 대기 시간
+ * @param windowSize           서킷 브레이커가 실패율을 계산하는 최근 호출 수
+ * @param minimumCalls         실패율을 판단하기 시작하는 최소 호출 수
+ * @param failureRatePercent   이 비율 이상 실패하면 서킷을 연다
+ * @param openMs               서킷을 연 뒤 시험 호출을 허용하기까지의 시간
+ */
+public record GatewayPolicy(
+    int maxConcurrentCalls,
+    long bulkheadWaitMs,
+    long timeoutMs,
+    int windowSize,
+    int minimumCalls,
+    int failureRatePercent,
+    long openMs
+) {
+
+    public GatewayPolicy withMaxConcurrentCalls(int maxConcurrentCalls) {
+        return new GatewayPolicy(maxConcurrentCalls, bulkheadWaitMs, timeoutMs, windowSize, minimumCalls,
+            failureRatePercent, openMs);
+    }
+
+    public GatewayPolicy withTimeoutMs(long timeoutMs) {
+        return new GatewayPolicy(maxConcurrentCalls, bulkheadWaitMs, timeoutMs, windowSize, minimumCalls,
+            failureRatePercent, openMs);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.msa.commerce.payment.gateway;
+
+/**
+ * PG 사의 승인 결과. 거절은 예외가 아니라 approved=false 로 돌려받는다.
+ */
+public record GatewayResult(
+    boolean approved,
+    String transactionId,
+    String paymentKey,
+    String failureReason
+) {
+}
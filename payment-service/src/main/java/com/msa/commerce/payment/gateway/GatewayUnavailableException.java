@@ -0,0 +1,30 @@
+package com.msa.commerce.payment.gateway;
+
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+import lombok.Getter;
+
+/**
+ * PG 사를 호출하지 못했거나 제때 응답을 받지 못했다. 승인 여부를 알 수 없는 경우(TIMEOUT, ERROR)도 포함한다.
+ */
+@Getter
+public class GatewayUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL,
+        TIMEOUT,
+        ERROR
+    }
+
+    private final GatewayProvider provider;
+
+    private final Reason reason;
+
+    public GatewayUnavailableException(GatewayProvider provider, Reason reason, Throwable cause) {
+        super("Payment gateway " + provider + " unavailable: " + reason, cause);
+        this.provider = provider;
+        this.reason = reason;
+    }
+
+}
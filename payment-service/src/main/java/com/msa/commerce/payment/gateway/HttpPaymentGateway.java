@@ -0,0 +1,77 @@
+package com.msa.commerce.payment.gateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+/**
+ * JSON over HTTP 로 승인과 배치 매입을 요청하는 PG 연동. 본문은 {@link GatewayAuthorization}/{@link GatewayResult},
+ * {@link GatewayCapture}/{@link GatewayCaptureResult} 배열 형식이며 PG 사별 전문 변환은 앞단 어댑터(로컬에서는
+ * 스텁 서버)가 맡는다.
+ */
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private final GatewayProvider provider;
+
+    private final URI authorizeUri;
+
+    private final URI captureUri;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration requestTimeout;
+
+    private final JavaType captureResultsType;
+
+    public HttpPaymentGateway(GatewayProvider provider, String baseUrl, HttpClient httpClient,
+        ObjectMapper objectMapper, Duration requestTimeout) {
+        this.provider = provider;
+        String base = baseUrl.replaceAll("/+$", "");
+        this.authorizeUri = URI.create(base + "/v1/payments/authorize");
+        this.captureUri = URI.create(base + "/v1/payments/capture");
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+        this.captureResultsType = objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, GatewayCaptureResult.class);
+    }
+
+    @Override
+    public GatewayProvider provider() {
+        return provider;
+    }
+
+    @Override
+    public GatewayResult authorize(GatewayAuthorization authorization) throws IOException, InterruptedException {
+        return objectMapper.readValue(post(authorizeUri, authorization), GatewayResult.class);
+    }
+
+    @Override
+    public List<GatewayCaptureResult> capture(List<GatewayCapture> captures) throws IOException, InterruptedException {
+        return objectMapper.readValue(post(captureUri, captures), captureResultsType);
+    }
+
+    private byte[] post(URI uri, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Payment gateway " + provider + " responded with HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.msa.commerce.payment.gateway;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.msa.commerce.payment.payment.GatewayProvider;
+
+/**
+ * PG 사 하나와의 연동. 동시성 제한, 타임아웃, 서킷 브레이커는 {@link GatewayClient} 가 씌우므로 구현체는 호출만 담당한다.
+ */
+public interface PaymentGateway {
+
+    GatewayProvider provider();
+
+    /**
+     * 결제를 승인한다. 통신 실패나 PG 오류 응답은 예외로, 카드 거절 같은 업무상 거절은 결과로 돌려준다.
+     */
+    GatewayResult authorize(GatewayAuthorization authorization) throws IOException, InterruptedException;
+
+    /**
+     * 승인된 거래들을 한 번에 매입한다. 결과는 요청한 거래마다 하나씩 돌려준다.
+     */
+    List<GatewayCaptureResult> capture(List<GatewayCapture> captures) throws IOException, InterruptedException;
+
+}
@@ -0,0 +1,159 @@
+package com.msa.commerce.payment.gateway.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.payment.gateway.GatewayAuthorization;
+import com.msa.commerce.payment.gateway.GatewayCapture;
+import com.msa.commerce.payment.gateway.GatewayCaptureResult;
+import com.msa.commerce.payment.gateway.GatewayResult;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 실행과 테스트에서 PG 사를 대신하는 HTTP 서버. PG 사마다 "/{provider}/v1/payments/authorize" 와
+ * "/{provider}/v1/payments/capture" 로 받는다.
+ * <p>
+ * 응답 지연, 실패(HTTP 503), 거절 한도를 PG 사별로 실행 중에 바꿀 수 있어 느린 PG 나 장애 PG 를 흉내 낼 수 있다.
+ * 요청마다 가상 스레드에서 처리하므로 지연을 길게 잡아도 다른 PG 사의 응답은 밀리지 않는다.
+ */
+@Slf4j
+public class StubGatewayServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final ObjectMapper objectMapper;
+
+    private final JavaType capturesType;
+
+    private final Map<GatewayProvider, Long> latenciesMs = new ConcurrentHashMap<>();
+
+    private final Map<GatewayProvider, Boolean> failing = new ConcurrentHashMap<>();
+
+    private final Map<GatewayProvider, BigDecimal> declineAbove = new ConcurrentHashMap<>();
+
+    private StubGatewayServer(HttpServer server, ObjectMapper objectMapper) {
+        this.server = server;
+        this.objectMapper = objectMapper;
+        this.capturesType = objectMapper.getTypeFactory().constructCollectionType(List.class, GatewayCapture.class);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stub-pg-", 0).factory());
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            String prefix = "/" + provider.name().toLowerCase() + "/v1/payments";
+            server.createContext(prefix + "/authorize", exchange -> handle(provider, exchange, body ->
+                authorize(provider, objectMapper.readValue(body, GatewayAuthorization.class))));
+            server.createContext(prefix + "/capture", exchange -> handle(provider, exchange, body ->
+                capture(objectMapper.readValue(body, capturesType))));
+        }
+        server.setExecutor(executor);
+    }
+
+    /**
+     * 주어진 포트(0 이면 임의 포트)에서 서버를 띄운다.
+     */
+    public static StubGatewayServer start(int port, ObjectMapper objectMapper) throws IOException {
+        StubGatewayServer stub = new StubGatewayServer(
+            HttpServer.create(new InetSocketAddress("localhost", port), 1024), objectMapper);
+        stub.server.start();
+        log.info("Stub payment gateway listening on port {}", stub.port());
+        return stub;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String baseUrl(GatewayProvider provider) {
+        return "http://localhost:" + port() + "/" + provider.name().toLowerCase();
+    }
+
+    public void setLatencyMs(GatewayProvider provider, long latencyMs) {
+        latenciesMs.put(provider, latencyMs);
+    }
+
+    public void setFailing(GatewayProvider provider, boolean fail) {
+        failing.put(provider, fail);
+    }
+
+    /**
+     * 이 금액을 넘는 승인 요청은 한도 초과로 거절한다.
+     */
+    public void setDeclineAbove(GatewayProvider provider, BigDecimal limit) {
+        declineAbove.put(provider, limit);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(GatewayProvider provider, HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            Object result;
+            try (InputStream body = exchange.getRequestBody()) {
+                result = handler.handle(body);
+            }
+            long latencyMs = latenciesMs.getOrDefault(provider, 0L);
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            if (failing.getOrDefault(provider, false)) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            respond(exchange, result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private GatewayResult authorize(GatewayProvider provider, GatewayAuthorization authorization) {
+        BigDecimal limit = declineAbove.get(provider);
+        if (limit != null && authorization.amount().compareTo(limit) > 0) {
+            return new GatewayResult(false, null, null, "EXCEEDS_LIMIT");
+        }
+        String transactionId = provider.name() + "-" + UUID.randomUUID();
+        return new GatewayResult(true, transactionId, "pk_" + authorization.paymentId(), null);
+    }
+
+    private List<GatewayCaptureResult> capture(List<GatewayCapture> captures) {
+        return captures.stream()
+            .map(capture -> capture.transactionId() == null
+                ? new GatewayCaptureResult(capture.paymentId(), false, "UNKNOWN_TRANSACTION")
+                : new GatewayCaptureResult(capture.paymentId(), true, null))
+            .toList();
+    }
+
+    private void respond(HttpExchange exchange, Object result) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(result);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(InputStream body) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.msa.commerce.payment.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * payment_idempotency_keys 저장소. 키 선점은 INSERT IGNORE 한 문장으로, 완료는 자신이 선점한 행의 UPDATE 로 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키를 선점한다. 이미 다른 요청이 선점했거나 완료한 키면 false 를 반환한다.
+     */
+    public boolean tryClaim(String key, String requestHash, Instant now, Instant lockedUntil) {
+        return jdbcTemplate.update("""
+                INSERT IGNORE INTO payment_idempotency_keys (idempotency_key, request_hash, status, locked_until, created_at)
+                VALUES (?, ?, ?, ?, ?)
+                """,
+            key, requestHash, IdempotencyStatus.IN_PROGRESS.ordinal(), Timestamp.from(lockedUntil),
+            Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * 실행 중 죽은 요청의 선점을 넘겨받는다. locked_until 이 지난 IN_PROGRESS 행만 대상이다.
+     */
+    public boolean takeOver(String key, Instant now, Instant lockedUntil) {
+        return jdbcTemplate.update("""
+                UPDATE payment_idempotency_keys SET locked_until = ?
+                WHERE idempotency_key = ? AND status = ? AND locked_until < ?
+                """,
+            Timestamp.from(lockedUntil), key, IdempotencyStatus.IN_PROGRESS.ordinal(), Timestamp.from(now)) == 1;
+    }
+
+    public Optional<IdempotencyRecord> find(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query("""
+                SELECT idempotency_key, request_hash, status, response_body, locked_until
+                FROM payment_idempotency_keys
+                WHERE idempotency_key = ?
+                """,
+            (rs, rowNum) -> new IdempotencyRecord(
+                rs.getString("idempotency_key"),
+                rs.getString("request_hash"),
+                IdempotencyStatus.ofOrdinal(rs.getInt("status")),
+                rs.getString("response_body"),
+                rs.getTimestamp("locked_until").toInstant()),
+            key);
+        return records.stream().findFirst();
+    }
+
+    public void complete(String key, String responseBody) {
+        jdbcTemplate.update(
+            "UPDATE payment_idempotency_keys SET status = ?, response_body = ? WHERE idempotency_key = ? AND status = ?",
+            IdempotencyStatus.COMPLETED.ordinal(), responseBody, key, IdempotencyStatus.IN_PROGRESS.ordinal());
+    }
+
+    /**
+     * 실행이 실패한 키의 선점을 풀어 클라이언트가 같은 키로 다시 시도할 수 있게 한다.
+     */
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM payment_idempotency_keys WHERE idempotency_key = ? AND status = ?",
+            key, IdempotencyStatus.IN_PROGRESS.ordinal());
+    }
+
+    public int purgeCreatedBefore(Instant threshold, int limit) {
+        return jdbcTemplate.update("DELETE FROM payment_idempotency_keys WHERE created_at < ? LIMIT ?",
+            Timestamp.from(threshold), limit);
+    }
+
+}
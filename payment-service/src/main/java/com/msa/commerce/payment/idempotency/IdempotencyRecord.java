@@ -0,0 +1,20 @@
+package com.msa.commerce.payment.idempotency;
+
+import java.time.Instant;
+
+/**
+ * payment_idempotency_keys 한 행. 완료 전에는 responseBody 가 null 이다.
+ */
+public record IdempotencyRecord(
+    String key,
+    String requestHash,
+    IdempotencyStatus status,
+    String responseBody,
+    Instant lockedUntil
+) {
+
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.msa.commerce.payment.idempotency;
+
+/**
+ * payment_idempotency_keys.status. TINYINT ordinal 로 저장하므로 끝에만 추가한다.
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED;
+
+    private static final IdempotencyStatus[] VALUES = values();
+
+    public static IdempotencyStatus ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,314 @@
+package com.msa.commerce.payment.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.DuplicateResourceException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.common.util.StripedLruCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등성 키 단위로 작업을 한 번만 실행하고, 같은 키의 재요청에는 처음 결과를 돌려준다.
+ * <p>
+ * 완료된 결과는 로컬 LRU 에서 먼저 찾으므로 반복되는 재시도는 DB 를 거치지 않는다. 같은 인스턴스에 동시에 들어온
+ * 중복 요청은 실행 중인 요청의 future 를 기다린다. 인스턴스 간에는 payment_idempotency_keys 의 INSERT IGNORE 로
+ * 한 요청만 키를 선점하며, 나머지는 완료될 때까지 짧게 폴링한다. 첫 요청의 추가 비용은 선점 INSERT 와 완료
+ * UPDATE 두 문장이다. 실행이 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있게 한다.
+ * <p>
+ * lock 이 지난 키를 넘겨받으면 앞선 요청이 작업을 끝내고 완료를 기록하기 전에 멈췄을 수 있으므로, 다시 실행하기 전에
+ * 호출한 쪽이 넘긴 조회로 이미 남은 결과가 있는지 먼저 확인한다. 대기 시간(wait-timeout-ms)은 작업이 부르는 가장 긴
+ * 외부 호출 타임아웃보다 길어야 중복 요청이 실행 중인 요청을 기다리다 먼저 실패하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdempotentExecutor {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    private final IdempotencyKeyRepository repository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Clock clock;
+
+    private final StripedLruCache<String, IdempotencyRecord> completed;
+
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+
+    private final Counter cacheReplays;
+
+    private final Counter storeReplays;
+
+    private final Counter joined;
+
+    private final Counter recovered;
+
+    @Value("${commerce.payment.idempotency.lock-ms:30000}")
+    private long lockMs = 30_000;
+
+    @Value("${commerce.payment.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs = 10_000;
+
+    @Value("${commerce.payment.idempotency.poll-interval-ms:50}")
+    private long pollIntervalMs = 50;
+
+    @Value("${commerce.payment.idempotency.retention-hours:24}")
+    private long retentionHours = 24;
+
+    @Autowired
+    public IdempotentExecutor(IdempotencyKeyRepository repository, ObjectMapper objectMapper,
+        MeterRegistry meterRegistry, @Value("${commerce.payment.idempotency.cache-size:100000}") int cacheSize) {
+        this(repository, objectMapper, meterRegistry, cacheSize, Clock.systemUTC());
+    }
+
+    IdempotentExecutor(IdempotencyKeyRepository repository, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+        int cacheSize, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.completed = new StripedLruCache<>(cacheSize, Runtime.getRuntime().availableProcessors() * 4);
+        this.executed = outcomeCounter(meterRegistry, "executed");
+        this.cacheReplays = outcomeCounter(meterRegistry, "cache");
+        this.storeReplays = outcomeCounter(meterRegistry, "store");
+        this.joined = outcomeCounter(meterRegistry, "joined");
+        this.recovered = outcomeCounter(meterRegistry, "recovered");
+    }
+
+    /**
+     * 요청 본문의 SHA-256. 같은 키로 다른 요청을 보냈는지 판별하는 데 쓴다.
+     */
+    public String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint idempotent request", e);
+        }
+    }
+
+    public <T> IdempotentResult<T> execute(String key, String requestHash, Class<T> resultType, Supplier<T> action) {
+        return execute(key, requestHash, resultType, action, Optional::empty);
+    }
+
+    /**
+     * existing 은 lock 이 지난 키를 넘겨받았을 때 앞선 요청이 이미 남긴 결과를 찾는다. 있으면 action 을 다시 실행하지
+     * 않고 그 결과를 완료로 기록한다.
+     */
+    public <T> IdempotentResult<T> execute(String key, String requestHash, Class<T> resultType, Supplier<T> action,
+        Supplier<Optional<T>> existing) {
+        if (key == null || key.isBlank() || key.length() > 100) {
+            throw new BusinessException("Idempotency-Key header must be 1 to 100 characters",
+                ErrorCode.IDEMPOTENCY_KEY_REQUIRED.getCode());
+        }
+
+        IdempotencyRecord cached = completed.get(key);
+        if (cached != null) {
+            cacheReplays.increment();
+            return replay(cached, requestHash, resultType);
+        }
+
+        CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            joined.increment();
+            return replay(await(key, running), requestHash, resultType);
+        }
+
+        try {
+            ExecutionOutcome outcome = executeOwned(key, requestHash, action, existing);
+            mine.complete(outcome.record());
+            completed.put(key, outcome.record());
+            return outcome.executed()
+                ? new IdempotentResult<>(resultType.cast(outcome.value()), false)
+                : replay(outcome.record(), requestHash, resultType);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.payment.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Instant threshold = clock.instant().minus(Duration.ofHours(retentionHours));
+        int purged;
+        do {
+            purged = repository.purgeCreatedBefore(threshold, PURGE_BATCH_SIZE);
+        } while (purged == PURGE_BATCH_SIZE);
+    }
+
+    private ExecutionOutcome executeOwned(String key, String requestHash, Supplier<?> action,
+        Supplier<? extends Optional<?>> existing) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            Instant now = clock.instant();
+            if (repository.tryClaim(key, requestHash, now, now.plusMillis(lockMs))) {
+                return run(key, requestHash, action);
+            }
+
+            Optional<IdempotencyRecord> record = awaitStored(key);
+            if (record.isEmpty()) {
+                // 앞선 요청이 실패해 선점이 풀렸다
+                continue;
+            }
+            if (record.get().isCompleted()) {
+                storeReplays.increment();
+                return new ExecutionOutcome(record.get(), null, false);
+            }
+            if (!record.get().requestHash().equals(requestHash)) {
+                throw keyReused(key);
+            }
+            now = clock.instant();
+            if (repository.takeOver(key, now, now.plusMillis(lockMs))) {
+                log.warn("Took over stale idempotency key {}", key);
+                return recoverOrRun(key, requestHash, action, existing);
+            }
+            throw new DuplicateResourceException("Request with idempotency key " + key + " is still in progress",
+                ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode());
+        }
+        throw new DuplicateResourceException("Request with idempotency key " + key + " keeps failing concurrently",
+            ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode());
+    }
+
+    private ExecutionOutcome run(String key, String requestHash, Supplier<?> action) {
+        return store(key, requestHash, action, true);
+    }
+
+    private ExecutionOutcome recoverOrRun(String key, String requestHash, Supplier<?> action,
+        Supplier<? extends Optional<?>> existing) {
+        Optional<?> found;
+        try {
+            found = existing.get();
+        } catch (RuntimeException e) {
+            repository.release(key);
+            throw e;
+        }
+        if (found.isEmpty()) {
+            return run(key, requestHash, action);
+        }
+        log.warn("Recovered result left by stale idempotency key {}", key);
+        return store(key, requestHash, found::get, false);
+    }
+
+    /**
+     * 결과를 직렬화해 완료로 기록한다. executedHere 가 false 면 앞선 요청이 남긴 결과를 넘겨받은 것이다.
+     */
+    private ExecutionOutcome store(String key, String requestHash, Supplier<?> result, boolean executedHere) {
+        Object value;
+        String body;
+        try {
+            value = result.get();
+            body = objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            repository.release(key);
+            throw new IllegalStateException("Failed to serialize idempotent result for key " + key, e);
+        } catch (RuntimeException e) {
+            repository.release(key);
+            throw e;
+        }
+        repository.complete(key, body);
+        if (executedHere) {
+            executed.increment();
+        } else {
+            recovered.increment();
+        }
+        return new ExecutionOutcome(
+            new IdempotencyRecord(key, requestHash, IdempotencyStatus.COMPLETED, body, clock.instant()), value,
+            executedHere);
+    }
+
+    /**
+     * 다른 인스턴스가 선점한 키가 완료되거나 lock 이 만료될 때까지 기다린다. 선점이 풀렸으면 빈 값을 반환한다.
+     */
+    private Optional<IdempotencyRecord> awaitStored(String key) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        while (true) {
+            Optional<IdempotencyRecord> record = repository.find(key);
+            if (record.isEmpty() || record.get().isCompleted()
+                || record.get().lockedUntil().isBefore(clock.instant()) || System.nanoTime() >= deadline) {
+                return record;
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return record;
+            }
+        }
+    }
+
+    private IdempotencyRecord await(String key, CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateResourceException("Request with idempotency key " + key + " is still in progress",
+                ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotency key " + key, e);
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(IdempotencyRecord record, String requestHash, Class<T> resultType) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw keyReused(record.key());
+        }
+        return new IdempotentResult<>(read(record, resultType), true);
+    }
+
+    private <T> T read(IdempotencyRecord record, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(record.responseBody(), resultType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored result for idempotency key " + record.key(), e);
+        }
+    }
+
+    private static BusinessException keyReused(String key) {
+        return new BusinessException("Idempotency key " + key + " was already used with a different request",
+            ErrorCode.IDEMPOTENCY_KEY_REUSED.getCode());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("commerce.payment.idempotency.requests")
+            .description("Idempotent payment requests by how they were answered")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record ExecutionOutcome(IdempotencyRecord record, Object value, boolean executed) {
+    }
+
+}
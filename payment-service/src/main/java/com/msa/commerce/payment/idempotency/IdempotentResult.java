@@ -0,0 +1,7 @@
+package com.msa.commerce.payment.idempotency;
+
+/**
+ * 멱등 실행 결과. replayed 이면 이번 요청에서 실행하지 않고 먼저 저장된 결과를 돌려준 것이다.
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
@@ -0,0 +1,14 @@
+package com.msa.commerce.payment.outbox;
+
+import com.msa.commerce.common.events.DomainEvent;
+
+/**
+ * payment_outbox 에 남겨 Kafka 로 보낼 이벤트 한 건. eventId 는 재전송해도 바뀌지 않으므로 컨슈머가 중복을 거른다.
+ */
+public record OutboxMessage(String topic, String key, DomainEvent event) {
+
+    public String eventId() {
+        return event.getEventId();
+    }
+
+}
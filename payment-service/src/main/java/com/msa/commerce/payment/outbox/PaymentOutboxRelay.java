@@ -0,0 +1,104 @@
+package com.msa.commerce.payment.outbox;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * payment_outbox 에 남긴 이벤트를 Kafka 로 보내고, 브로커가 받았다고 확인한 행만 지운다.
+ * <p>
+ * 매입을 기록한 스레드가 커밋 직후 {@link #send} 로 바로 보낸다. 전송이 실패했거나 그 전에 인스턴스가 죽어 남은 행은
+ * 남긴 지 retryAfterMs 가 지나면 릴레이 스캔이 다시 보낸다. 릴레이는 행을 잠그지 않으므로 인스턴스 여럿이 같은 이벤트를
+ * 보낼 수 있지만, eventId 가 같아 컨슈머 쪽에서 한 번만 처리된다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxRelay {
+
+    private final PaymentOutboxRepository outboxRepository;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final Clock clock;
+
+    @Value("${commerce.payment.outbox.retry-after-ms:30000}")
+    private long retryAfterMs = 30_000;
+
+    @Value("${commerce.payment.outbox.relay-batch-size:500}")
+    private int relayBatchSize = 500;
+
+    @Value("${commerce.payment.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs = 10_000;
+
+    @Autowired
+    public PaymentOutboxRelay(PaymentOutboxRepository outboxRepository, KafkaTemplate<String, Object> kafkaTemplate) {
+        this(outboxRepository, kafkaTemplate, Clock.systemUTC());
+    }
+
+    PaymentOutboxRelay(PaymentOutboxRepository outboxRepository, KafkaTemplate<String, Object> kafkaTemplate,
+        Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 모두 보낸 뒤 sendTimeoutMs 안에 확인된 것만 한 번에 지우고, 지운 건수를 반환한다.
+     * 확인되지 않은 이벤트는 행이 남아 릴레이 스캔이 다시 보낸다.
+     */
+    public int send(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            futures.add(kafkaTemplate.send(message.topic(), message.key(), message.event()));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<String> acked = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            try {
+                futures.get(i).get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                acked.add(message.eventId());
+            } catch (ExecutionException e) {
+                log.warn("Failed to publish {} event {}, left for relay: {}", message.topic(), message.eventId(),
+                    e.getCause().toString());
+            } catch (TimeoutException e) {
+                log.warn("Publishing {} event {} timed out, left for relay", message.topic(), message.eventId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        outboxRepository.delete(acked);
+        return acked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.payment.outbox.relay-interval-ms:10000}")
+    public void relayPending() {
+        Instant createdBefore = clock.instant().minusMillis(retryAfterMs);
+        List<OutboxMessage> pending = outboxRepository.findCreatedBefore(createdBefore, relayBatchSize);
+        if (pending.isEmpty()) {
+            return;
+        }
+        int sent = send(pending);
+        log.info("Relayed {} of {} pending outbox events", sent, pending.size());
+    }
+
+}
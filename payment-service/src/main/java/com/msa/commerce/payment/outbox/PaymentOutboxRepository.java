@@ -0,0 +1,95 @@
+package com.msa.commerce.payment.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.events.DomainEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * payment_outbox 저장소. 이벤트는 클래스 이름과 JSON 으로 남겨 다시 보낼 때 같은 타입으로 되살린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentOutboxRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO payment_outbox (event_id, topic, message_key, event_type, payload, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String FIND_CREATED_BEFORE_SQL = """
+        SELECT topic, message_key, event_type, payload
+        FROM payment_outbox
+        WHERE created_at < ?
+        ORDER BY created_at
+        LIMIT ?
+        """;
+
+    private static final String DELETE_SQL = "DELETE FROM payment_outbox WHERE event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 호출한 쪽의 트랜잭션에서 배치 INSERT 한 문장으로 남긴다.
+     */
+    public void append(List<OutboxMessage> messages, Instant now) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.eventId());
+            ps.setString(2, message.topic());
+            ps.setString(3, message.key());
+            ps.setString(4, message.event().getClass().getName());
+            ps.setString(5, write(message));
+            ps.setTimestamp(6, createdAt);
+        });
+    }
+
+    /**
+     * createdBefore 이전에 남겨 아직 지워지지 않은(발행이 확인되지 않은) 이벤트를 오래된 순으로 찾는다.
+     */
+    public List<OutboxMessage> findCreatedBefore(Instant createdBefore, int limit) {
+        return jdbcTemplate.query(FIND_CREATED_BEFORE_SQL, (rs, rowNum) -> new OutboxMessage(
+                rs.getString("topic"),
+                rs.getString("message_key"),
+                read(rs.getString("event_type"), rs.getString("payload"))),
+            Timestamp.from(createdBefore), limit);
+    }
+
+    public void delete(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, eventIds, eventIds.size(), (ps, eventId) -> ps.setString(1, eventId));
+    }
+
+    private String write(OutboxMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message.event());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event " + message.eventId(), e);
+        }
+    }
+
+    private DomainEvent read(String eventType, String payload) {
+        try {
+            return objectMapper.readValue(payload, Class.forName(eventType).asSubclass(DomainEvent.class));
+        } catch (JsonProcessingException | ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to read outbox event of type " + eventType, e);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.msa.commerce.payment.payment;
+
+/**
+ * payments.gateway_provider ENUM 값.
+ */
+public enum GatewayProvider {
+    TOSS,
+    NICE,
+    KCP,
+    PAYPAL,
+    STRIPE
+}
@@ -0,0 +1,40 @@
+package com.msa.commerce.payment.payment;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.msa.commerce.payment.idempotency.IdempotentResult;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/payments")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final PaymentService paymentService;
+
+    /**
+     * 결제를 요청한다. 재시도는 같은 Idempotency-Key 로 보내며, 이미 처리된 키면 처음 응답을 200 으로 돌려준다.
+     */
+    @PostMapping
+    public ResponseEntity<PaymentResponse> requestPayment(
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+        @Valid @RequestBody PaymentRequest request) {
+        IdempotentResult<PaymentResponse> result = paymentService.requestPayment(idempotencyKey, request);
+        return ResponseEntity.status(result.replayed() ? HttpStatus.OK : HttpStatus.CREATED)
+            .header(REPLAYED_HEADER, String.valueOf(result.replayed()))
+            .body(result.value());
+    }
+
+}
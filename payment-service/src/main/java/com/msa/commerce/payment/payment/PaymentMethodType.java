@@ -0,0 +1,13 @@
+package com.msa.commerce.payment.payment;
+
+/**
+ * payments.payment_method_type ENUM 값.
+ */
+public enum PaymentMethodType {
+    CREDIT_CARD,
+    DEBIT_CARD,
+    BANK_TRANSFER,
+    DIGITAL_WALLET,
+    CRYPTOCURRENCY,
+    VIRTUAL_ACCOUNT
+}
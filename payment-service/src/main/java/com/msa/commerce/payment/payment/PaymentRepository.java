@@ -0,0 +1,131 @@
+package com.msa.commerce.payment.payment;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * payments 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO payments (order_id, idempotency_key, gateway_provider, amount, currency, payment_method_type,
+                              status, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String SELECT_BY_IDEMPOTENCY_KEY_SQL = """
+        SELECT id, order_id, amount, currency, gateway_provider, payment_method_type, status, failure_reason, created_at
+        FROM payments
+        WHERE idempotency_key = ?
+        """;
+
+    private static final String MARK_AUTHORIZED_SQL = """
+        UPDATE payments
+        SET status = ?, gateway_transaction_id = ?, gateway_payment_key = ?, processed_at = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
+    private static final String MARK_FAILED_SQL = """
+        UPDATE payments
+        SET status = ?, failure_reason = ?, processed_at = ?, failed_at = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+        INSERT INTO payment_transactions (payment_id, transaction_type, amount, currency, status, processed_at,
+                                          created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * PENDING 결제를 저장하고 ID 를 반환한다. 같은 멱등성 키의 결제가 이미 있으면
+     * {@link org.springframework.dao.DuplicateKeyException} 이다.
+     */
+    public long insertPending(String idempotencyKey, PaymentRequest request, Instant now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp createdAt = Timestamp.from(now);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] {"id"});
+            ps.setLong(1, request.orderId());
+            ps.setString(2, idempotencyKey);
+            ps.setString(3, request.gatewayProvider().name());
+            ps.setBigDecimal(4, request.amount());
+            ps.setString(5, request.currency());
+            ps.setString(6, request.paymentMethodType().name());
+            ps.setString(7, PaymentStatus.PENDING.name());
+            ps.setTimestamp(8, createdAt);
+            ps.setTimestamp(9, createdAt);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("No generated id for payment of order " + request.orderId());
+        }
+        return key.longValue();
+    }
+
+    /**
+     * 멱등성 키로 만든 결제의 현재 상태. 승인 응답을 받기 전에 멈춘 결제는 PENDING 그대로다.
+     */
+    public Optional<PaymentResponse> findByIdempotencyKey(String idempotencyKey) {
+        List<PaymentResponse> payments = jdbcTemplate.query(SELECT_BY_IDEMPOTENCY_KEY_SQL, (rs, rowNum) ->
+            new PaymentResponse(
+                rs.getLong("id"),
+                rs.getLong("order_id"),
+                rs.getBigDecimal("amount"),
+                rs.getString("currency"),
+                GatewayProvider.valueOf(rs.getString("gateway_provider")),
+                PaymentMethodType.valueOf(rs.getString("payment_method_type")),
+                PaymentStatus.valueOf(rs.getString("status")),
+                rs.getString("failure_reason"),
+                rs.getTimestamp("created_at").toInstant()),
+            idempotencyKey);
+        return payments.stream().findFirst();
+    }
+
+    /**
+     * PG 승인을 받은 결제를 매입 대기(PROCESSING)로 바꾸고 AUTHORIZE 거래를 남긴다.
+     */
+    @Transactional
+    public void markAuthorized(long paymentId, PaymentRequest request, String transactionId, String paymentKey,
+        Instant now) {
+        Timestamp processedAt = Timestamp.from(now);
+        jdbcTemplate.update(MARK_AUTHORIZED_SQL, PaymentStatus.PROCESSING.name(), transactionId, paymentKey,
+            processedAt, processedAt, paymentId);
+        insertAuthorization(paymentId, request, PaymentTransactionStatus.SUCCESS, processedAt);
+    }
+
+    /**
+     * 승인이 거절되었거나 PG 를 쓸 수 없었던 결제를 FAILED 로 바꾸고 실패한 AUTHORIZE 거래를 남긴다.
+     */
+    @Transactional
+    public void markFailed(long paymentId, PaymentRequest request, String failureReason, Instant now) {
+        Timestamp processedAt = Timestamp.from(now);
+        jdbcTemplate.update(MARK_FAILED_SQL, PaymentStatus.FAILED.name(), failureReason, processedAt, processedAt,
+            processedAt, paymentId);
+        insertAuthorization(paymentId, request, PaymentTransactionStatus.FAILED, processedAt);
+    }
+
+    private void insertAuthorization(long paymentId, PaymentRequest request, PaymentTransactionStatus status,
+        Timestamp processedAt) {
+        jdbcTemplate.update(INSERT_TRANSACTION_SQL, paymentId, PaymentTransactionType.AUTHORIZE.name(),
+            request.amount(), request.currency(), status.name(), processedAt, processedAt);
+    }
+
+}
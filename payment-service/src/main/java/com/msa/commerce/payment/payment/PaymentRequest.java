@@ -0,0 +1,27 @@
+package com.msa.commerce.payment.payment;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record PaymentRequest(
+    @NotNull(message = "Order id is required.")
+    Long orderId,
+
+    @NotNull(message = "Amount is required.")
+    @DecimalMin(value = "0.01", message = "Amount must be positive.")
+    BigDecimal amount,
+
+    @NotNull(message = "Currency is required.")
+    @Pattern(regexp = "[A-Z]{3}", message = "Currency must be a 3-letter ISO code.")
+    String currency,
+
+    @NotNull(message = "Gateway provider is required.")
+    GatewayProvider gatewayProvider,
+
+    @NotNull(message = "Payment method type is required.")
+    PaymentMethodType paymentMethodType
+) {
+}
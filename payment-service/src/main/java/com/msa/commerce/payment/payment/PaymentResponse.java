@@ -0,0 +1,17 @@
+package com.msa.commerce.payment.payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record PaymentResponse(
+    Long paymentId,
+    Long orderId,
+    BigDecimal amount,
+    String currency,
+    GatewayProvider gatewayProvider,
+    PaymentMethodType paymentMethodType,
+    PaymentStatus status,
+    String failureReason,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,105 @@
+package com.msa.commerce.payment.payment;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import com.msa.commerce.payment.capture.CapturePipeline;
+import com.msa.commerce.payment.capture.PendingCapture;
+import com.msa.commerce.payment.gateway.GatewayAuthorization;
+import com.msa.commerce.payment.gateway.GatewayClient;
+import com.msa.commerce.payment.gateway.GatewayResult;
+import com.msa.commerce.payment.gateway.GatewayUnavailableException;
+import com.msa.commerce.payment.idempotency.IdempotentExecutor;
+import com.msa.commerce.payment.idempotency.IdempotentResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class PaymentService {
+
+    private final PaymentRepository paymentRepository;
+
+    private final IdempotentExecutor idempotentExecutor;
+
+    private final GatewayClient gatewayClient;
+
+    private final CapturePipeline capturePipeline;
+
+    private final Clock clock;
+
+    @Autowired
+    public PaymentService(PaymentRepository paymentRepository, IdempotentExecutor idempotentExecutor,
+        GatewayClient gatewayClient, CapturePipeline capturePipeline) {
+        this(paymentRepository, idempotentExecutor, gatewayClient, capturePipeline, Clock.systemUTC());
+    }
+
+    PaymentService(PaymentRepository paymentRepository, IdempotentExecutor idempotentExecutor,
+        GatewayClient gatewayClient, CapturePipeline capturePipeline, Clock clock) {
+        this.paymentRepository = paymentRepository;
+        this.idempotentExecutor = idempotentExecutor;
+        this.gatewayClient = gatewayClient;
+        this.capturePipeline = capturePipeline;
+        this.clock = clock;
+    }
+
+    /**
+     * 결제를 요청한다. 같은 멱등성 키의 재요청에는 새 결제를 만들지 않고 처음 응답을 돌려준다.
+     * 처리 중 멈춘 요청의 키를 넘겨받았을 때 그 키로 만든 결제가 있으면 PG 를 다시 부르지 않고 그 결제로 응답한다.
+     */
+    public IdempotentResult<PaymentResponse> requestPayment(String idempotencyKey, PaymentRequest request) {
+        return idempotentExecutor.execute(idempotencyKey, idempotentExecutor.fingerprint(request),
+            PaymentResponse.class, () -> authorize(idempotencyKey, request),
+            () -> paymentRepository.findByIdempotencyKey(idempotencyKey));
+    }
+
+    /**
+     * PENDING 결제를 만들고 PG 승인을 받는다. 승인되면 매입 대기(PROCESSING)로 두고 매입은 {@link CapturePipeline}
+     * 에 맡긴 채 바로 응답한다. 거절되거나 PG 를 쓸 수 없으면 FAILED 로 남긴다. 응답을 받지 못한 경우
+     * (GATEWAY_TIMEOUT)는 PG 쪽 승인 여부를 대사로 확인해야 한다.
+     * <p>
+     * 결제는 멱등성 키에 묶여 있어, 선점을 넘겨받은 요청이 앞선 요청과 겹쳐도 같은 키로 승인을 두 번 요청하지 않는다.
+     */
+    private PaymentResponse authorize(String idempotencyKey, PaymentRequest request) {
+        Instant now = clock.instant();
+        long paymentId;
+        try {
+            paymentId = paymentRepository.insertPending(idempotencyKey, request, now);
+        } catch (DuplicateKeyException e) {
+            return paymentRepository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
+        }
+        GatewayAuthorization authorization = new GatewayAuthorization(paymentId, request.orderId(), request.amount(),
+            request.currency(), request.paymentMethodType());
+
+        GatewayResult result;
+        try {
+            result = gatewayClient.authorize(request.gatewayProvider(), authorization);
+        } catch (GatewayUnavailableException e) {
+            log.warn("Payment {} failed: {}", paymentId, e.getMessage());
+            String failureReason = "GATEWAY_" + e.getReason().name();
+            paymentRepository.markFailed(paymentId, request, failureReason, clock.instant());
+            return response(paymentId, request, PaymentStatus.FAILED, failureReason, now);
+        }
+
+        if (!result.approved()) {
+            paymentRepository.markFailed(paymentId, request, result.failureReason(), clock.instant());
+            return response(paymentId, request, PaymentStatus.FAILED, result.failureReason(), now);
+        }
+        paymentRepository.markAuthorized(paymentId, request, result.transactionId(), result.paymentKey(),
+            clock.instant());
+        capturePipeline.submit(new PendingCapture(paymentId, request.orderId(), request.gatewayProvider(),
+            request.paymentMethodType(), result.transactionId(), request.amount(), request.currency()));
+        return response(paymentId, request, PaymentStatus.PROCESSING, null, now);
+    }
+
+    private static PaymentResponse response(long paymentId, PaymentRequest request, PaymentStatus status,
+        String failureReason, Instant createdAt) {
+        return new PaymentResponse(paymentId, request.orderId(), request.amount(), request.currency(),
+            request.gatewayProvider(), request.paymentMethodType(), status, failureReason, createdAt);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.msa.commerce.payment.payment;
+
+/**
+ * payments.status ENUM 값.
+ */
+public enum PaymentStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED,
+    CANCELLED,
+    REFUNDED
+}
@@ -0,0 +1,10 @@
+package com.msa.commerce.payment.payment;
+
+/**
+ * payment_transactions.status ENUM 값.
+ */
+public enum PaymentTransactionStatus {
+    PENDING,
+    SUCCESS,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.msa.commerce.payment.payment;
+
+/**
+ * payment_transactions.transaction_type ENUM 값.
+ */
+public enum PaymentTransactionType {
+    AUTHORIZE,
+    CAPTURE,
+    VOID,
+    REFUND
+}
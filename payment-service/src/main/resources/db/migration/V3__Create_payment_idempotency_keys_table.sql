@@ -0,0 +1,21 @@
+-- ============================================================================
+-- 결제 요청 멱등성 키 (Payment idempotency keys)
+-- 키를 처음 선점(INSERT IGNORE)한 요청만 실행하고, 완료된 응답을 저장해 같은 키의 재요청에 그대로 돌려준다
+-- status: 0 = IN_PROGRESS, 1 = COMPLETED (IdempotencyStatus ordinal)
+-- locked_until 이 지난 IN_PROGRESS 행은 실행 중 죽은 인스턴스의 것으로 보고 다른 요청이 넘겨받는다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS payment_idempotency_keys
+(
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    -- 같은 키로 다른 요청을 보내는 것을 막기 위한 요청 본문 SHA-256
+    request_hash    CHAR(64)     NOT NULL,
+    status          TINYINT      NOT NULL,
+    response_body   JSON         NULL,
+    locked_until    DATETIME(3)  NOT NULL,
+    created_at      DATETIME(3)  NOT NULL,
+
+    INDEX idx_payment_idempotency_keys_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- Payment transactions (db_payment)
+-- 결제 한 건에 대한 승인/매입/취소/환불 요청 기록. 매입은 PG 사별로 모아 배치로 기록한다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS payment_transactions
+(
+    id               BIGINT PRIMARY KEY AUTO_INCREMENT,
+    payment_id       BIGINT                                         NOT NULL,
+    transaction_type ENUM ('AUTHORIZE', 'CAPTURE', 'VOID', 'REFUND') NOT NULL,
+    amount           DECIMAL(10, 2)                                 NOT NULL,
+    currency         VARCHAR(3)                                     NOT NULL DEFAULT 'KRW',
+    status           ENUM ('PENDING', 'SUCCESS', 'FAILED')          NOT NULL DEFAULT 'PENDING',
+    gateway_response JSON,
+    processed_at     DATETIME                                       NULL,
+    created_at       DATETIME                                       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (payment_id) REFERENCES payments (id) ON DELETE CASCADE,
+    INDEX idx_payment_transactions_payment_id (payment_id),
+    INDEX idx_payment_transactions_type (transaction_type),
+    INDEX idx_payment_transactions_status (status),
+    INDEX idx_payment_transactions_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 매입 대기 결제를 복구 스캔에서 승인 시각 순으로 찾는다
+CREATE INDEX idx_payments_status_processed_at ON payments (status, processed_at);
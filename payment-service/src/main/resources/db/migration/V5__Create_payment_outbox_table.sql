@@ -0,0 +1,20 @@
+-- ============================================================================
+-- Payment outbox (db_payment)
+-- 매입 결과와 같은 트랜잭션에서 발행할 이벤트를 남긴다. Kafka 가 받았다고 확인한 행만 지우므로
+-- 발행 전에 인스턴스가 죽거나 전송이 실패해도 릴레이가 created_at 순으로 다시 보낸다
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS payment_outbox
+(
+    id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_id    VARCHAR(36)  NOT NULL UNIQUE,
+    topic       VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100) NOT NULL,
+    event_type  VARCHAR(255) NOT NULL,
+    payload     JSON         NOT NULL,
+    created_at  DATETIME(3)  NOT NULL,
+
+    INDEX idx_payment_outbox_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,9 @@
+-- ============================================================================
+-- 결제를 멱등성 키에 묶는다 (Key payments on the idempotency key)
+-- 멱등성 키 선점이 만료되어 다른 요청이 넘겨받아도 같은 키로 결제를 두 번 만들거나 PG 승인을 다시 요청하지 않는다
+-- 멱등성 키 없이 만든 이전 결제는 NULL 로 남는다
+-- ============================================================================
+
+ALTER TABLE payments
+    ADD COLUMN idempotency_key VARCHAR(100) NULL AFTER order_id,
+    ADD UNIQUE KEY uk_payments_idempotency_key (idempotency_key);
@@ -0,0 +1,185 @@
+package com.msa.commerce.payment.capture;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.msa.commerce.common.events.payment.PaymentCapturedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+import com.msa.commerce.payment.gateway.GatewayCapture;
+import com.msa.commerce.payment.gateway.GatewayCaptureResult;
+import com.msa.commerce.payment.gateway.GatewayClient;
+import com.msa.commerce.payment.gateway.GatewayUnavailableException;
+import com.msa.commerce.payment.outbox.OutboxMessage;
+import com.msa.commerce.payment.outbox.PaymentOutboxRelay;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CapturePipeline 테스트")
+class CapturePipelineTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Mock
+    private GatewayClient gatewayClient;
+
+    @Mock
+    private CaptureRepository captureRepository;
+
+    @Mock
+    private PaymentOutboxRelay outboxRelay;
+
+    private CapturePipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null && pipeline.isRunning()) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("PG 사별로 모아 배치 크기가 차면 바로 매입하고 결과를 기록해 이벤트를 발행한다")
+    void flushesFullBatchPerProvider() {
+        // given
+        pipeline = pipeline(3, 1_000);
+        givenCaptureSucceeds();
+        given(captureRepository.record(anyList(), anyMap(), eq(NOW)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        pipeline.start();
+
+        // when
+        pipeline.submit(capture(1L, GatewayProvider.TOSS));
+        pipeline.submit(capture(2L, GatewayProvider.NICE));
+        pipeline.submit(capture(3L, GatewayProvider.TOSS));
+        pipeline.submit(capture(4L, GatewayProvider.TOSS));
+
+        // then
+        ArgumentCaptor<List<GatewayCapture>> batch = captor();
+        then(gatewayClient).should(timeout(2_000)).capture(eq(GatewayProvider.TOSS), batch.capture());
+        assertThat(batch.getValue()).extracting(GatewayCapture::paymentId).containsExactly(1L, 3L, 4L);
+        ArgumentCaptor<List<OutboxMessage>> messages = captor();
+        then(outboxRelay).should(timeout(2_000).atLeastOnce()).send(messages.capture());
+        assertThat(messages.getAllValues()).filteredOn(sent -> sent.size() == 3).singleElement()
+            .satisfies(sent -> assertThat(sent).allSatisfy(message -> {
+                assertThat(message.topic()).isEqualTo(PaymentEventTopics.PAYMENT_CAPTURED);
+                assertThat(message.event()).isInstanceOf(PaymentCapturedEvent.class);
+            }));
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 flush 간격이 지나면 모인 만큼 매입한다")
+    void flushesPartialBatchAfterInterval() {
+        // given
+        pipeline = pipeline(100, 100);
+        givenCaptureSucceeds();
+        given(captureRepository.record(anyList(), anyMap(), eq(NOW)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        pipeline.start();
+
+        // when
+        pipeline.submit(capture(1L, GatewayProvider.KCP));
+        pipeline.submit(capture(2L, GatewayProvider.KCP));
+
+        // then
+        ArgumentCaptor<List<CaptureOutcome>> outcomes = captor();
+        then(captureRepository).should(timeout(2_000)).record(outcomes.capture(), anyMap(), eq(NOW));
+        assertThat(outcomes.getValue()).extracting(outcome -> outcome.capture().paymentId()).containsExactly(1L, 2L);
+        assertThat(outcomes.getValue()).allMatch(CaptureOutcome::captured);
+    }
+
+    @Test
+    @DisplayName("PG 를 쓸 수 없으면 기록하지 않고 남겨 두며, 같은 결제를 다시 넣을 수 있다")
+    void defersWhenGatewayUnavailable() {
+        // given
+        pipeline = pipeline(1, 10_000);
+        given(gatewayClient.capture(eq(GatewayProvider.PAYPAL), anyList())).willThrow(
+            new GatewayUnavailableException(GatewayProvider.PAYPAL, GatewayUnavailableException.Reason.CIRCUIT_OPEN,
+                null));
+        pipeline.start();
+
+        // when
+        pipeline.submit(capture(1L, GatewayProvider.PAYPAL));
+        then(gatewayClient).should(timeout(2_000)).capture(eq(GatewayProvider.PAYPAL), anyList());
+        pipeline.stop();
+
+        // then
+        then(captureRepository).should(never()).record(anyList(), anyMap(), any());
+        assertThat(pipeline.submit(capture(1L, GatewayProvider.PAYPAL))).isTrue();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 거절하고 복구 스캔에 맡긴다")
+    void rejectsWhenQueueFull() {
+        // given: 시작하지 않아 큐를 비우는 스레드가 없다
+        pipeline = new CapturePipeline(gatewayClient, captureRepository, outboxRelay, new SimpleMeterRegistry(),
+            10, 100, 1, Clock.fixed(NOW, ZoneOffset.UTC));
+        pipeline.submit(capture(1L, GatewayProvider.STRIPE));
+
+        // when
+        boolean accepted = pipeline.submit(capture(2L, GatewayProvider.STRIPE));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(pipeline.submit(capture(3L, GatewayProvider.TOSS))).isTrue();
+    }
+
+    @Test
+    @DisplayName("복구 스캔은 오래 매입되지 않은 결제를 다시 큐에 넣는다")
+    void resubmitsStalledCaptures() {
+        // given
+        pipeline = pipeline(1, 10_000);
+        givenCaptureSucceeds();
+        given(captureRepository.findStalled(NOW.minusMillis(60_000), 1_000))
+            .willReturn(List.of(capture(7L, GatewayProvider.TOSS)));
+        pipeline.start();
+
+        // when
+        pipeline.recoverStalled();
+
+        // then
+        then(gatewayClient).should(timeout(2_000)).capture(eq(GatewayProvider.TOSS), anyList());
+    }
+
+    private CapturePipeline pipeline(int batchSize, long flushIntervalMs) {
+        return new CapturePipeline(gatewayClient, captureRepository, outboxRelay, new SimpleMeterRegistry(),
+            batchSize, flushIntervalMs, 1_000, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void givenCaptureSucceeds() {
+        given(gatewayClient.capture(any(), anyList())).willAnswer(invocation -> {
+            List<GatewayCapture> captures = invocation.getArgument(1);
+            return captures.stream()
+                .map(capture -> new GatewayCaptureResult(capture.paymentId(), true, null))
+                .toList();
+        });
+    }
+
+    private static PendingCapture capture(long paymentId, GatewayProvider provider) {
+        return new PendingCapture(paymentId, 100L + paymentId, provider, PaymentMethodType.CREDIT_CARD,
+            provider + "-tx-" + paymentId, new BigDecimal("10000.00"), "KRW");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentCaptor<List<T>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.msa.commerce.payment.capture;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.msa.commerce.common.events.payment.PaymentCapturedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+import com.msa.commerce.payment.outbox.OutboxMessage;
+import com.msa.commerce.payment.outbox.PaymentOutboxRepository;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CaptureRepository 테스트")
+class CaptureRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    private EmbeddedDatabase dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private CaptureRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE payments (
+                id                     BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id               BIGINT         NOT NULL,
+                gateway_provider       VARCHAR(20)    NOT NULL,
+                payment_method_type    VARCHAR(20)    NOT NULL,
+                gateway_transaction_id VARCHAR(255),
+                amount                 DECIMAL(10, 2) NOT NULL,
+                currency               VARCHAR(3)     NOT NULL,
+                status                 VARCHAR(20)    NOT NULL,
+                failure_reason         VARCHAR(255),
+                processed_at           TIMESTAMP,
+                completed_at           TIMESTAMP,
+                failed_at              TIMESTAMP,
+                updated_at             TIMESTAMP
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE payment_transactions (
+                id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+                payment_id       BIGINT         NOT NULL REFERENCES payments (id),
+                transaction_type VARCHAR(20)    NOT NULL,
+                amount           DECIMAL(10, 2) NOT NULL,
+                currency         VARCHAR(3)     NOT NULL,
+                status           VARCHAR(20)    NOT NULL,
+                processed_at     TIMESTAMP,
+                created_at       TIMESTAMP      NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE payment_outbox (
+                id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+                event_id    VARCHAR(36)  NOT NULL UNIQUE,
+                topic       VARCHAR(100) NOT NULL,
+                message_key VARCHAR(100) NOT NULL,
+                event_type  VARCHAR(255) NOT NULL,
+                payload     CLOB         NOT NULL,
+                created_at  TIMESTAMP    NOT NULL
+            )
+            """);
+        repository = new CaptureRepository(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            new PaymentOutboxRepository(jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("매입 결과로 결제 상태를 바꾸고 CAPTURE 거래와 발행할 이벤트를 남긴다")
+    void recordsOutcomes() {
+        // given
+        PendingCapture captured = insertAuthorized(1L, NOW.minusSeconds(10));
+        PendingCapture declined = insertAuthorized(2L, NOW.minusSeconds(10));
+
+        // when
+        List<CaptureOutcome> applied = record(
+            new CaptureOutcome(captured, true, null),
+            new CaptureOutcome(declined, false, "EXPIRED_AUTHORIZATION"));
+
+        // then
+        assertThat(applied).hasSize(2);
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM payments ORDER BY id", String.class))
+            .containsExactly("COMPLETED", "FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT failure_reason FROM payments WHERE id = ?", String.class,
+            declined.paymentId())).isEqualTo("EXPIRED_AUTHORIZATION");
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT status FROM payment_transactions WHERE transaction_type = 'CAPTURE' ORDER BY payment_id",
+            String.class)).containsExactly("SUCCESS", "FAILED");
+        assertThat(jdbcTemplate.queryForList("SELECT message_key FROM payment_outbox ORDER BY id", String.class))
+            .containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("이미 반영된 결제의 결과가 다시 오면 무시한다")
+    void ignoresAlreadyRecordedPayment() {
+        // given
+        PendingCapture capture = insertAuthorized(1L, NOW.minusSeconds(10));
+        record(new CaptureOutcome(capture, true, null));
+
+        // when
+        List<CaptureOutcome> applied = record(new CaptureOutcome(capture, true, null));
+
+        // then
+        assertThat(applied).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_transactions", Long.class))
+            .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_outbox", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기준 시각 전에 승인되고 아직 매입되지 않은 결제만 오래된 순으로 찾는다")
+    void findsStalledCaptures() {
+        // given
+        insertAuthorized(1L, NOW.minusSeconds(30));
+        insertAuthorized(2L, NOW.minusSeconds(120));
+        insertAuthorized(3L, NOW.minusSeconds(90));
+        PendingCapture done = insertAuthorized(4L, NOW.minusSeconds(200));
+        record(new CaptureOutcome(done, true, null));
+
+        // when
+        List<PendingCapture> stalled = repository.findStalled(NOW.minusSeconds(60), 10);
+
+        // then
+        assertThat(stalled).extracting(PendingCapture::orderId).containsExactly(2L, 3L);
+        assertThat(stalled.get(0).gatewayProvider()).isEqualTo(GatewayProvider.TOSS);
+    }
+
+    /**
+     * 결과마다 발행할 이벤트를 붙여 기록한다. 테스트에서는 결과와 관계없이 매입 이벤트로 남긴다.
+     */
+    private List<CaptureOutcome> record(CaptureOutcome... outcomes) {
+        Map<Long, OutboxMessage> messages = Arrays.stream(outcomes)
+            .map(CaptureOutcome::capture)
+            .collect(Collectors.toMap(PendingCapture::paymentId, CaptureRepositoryTest::message));
+        return repository.record(List.of(outcomes), messages, NOW);
+    }
+
+    private static OutboxMessage message(PendingCapture capture) {
+        return new OutboxMessage(PaymentEventTopics.PAYMENT_CAPTURED, String.valueOf(capture.orderId()),
+            PaymentCapturedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .paymentId(capture.paymentId())
+                .orderId(capture.orderId())
+                .amount(capture.amount())
+                .occurredAt(NOW)
+                .build());
+    }
+
+    private PendingCapture insertAuthorized(long orderId, Instant authorizedAt) {
+        String transactionId = "TOSS-" + orderId;
+        jdbcTemplate.update("""
+                INSERT INTO payments (order_id, gateway_provider, payment_method_type, gateway_transaction_id, amount,
+                                      currency, status, processed_at, updated_at)
+                VALUES (?, 'TOSS', 'CREDIT_CARD', ?, 10000.00, 'KRW', 'PROCESSING', ?, ?)
+                """,
+            orderId, transactionId, Timestamp.from(authorizedAt), Timestamp.from(authorizedAt));
+        long paymentId = jdbcTemplate.queryForObject("SELECT id FROM payments WHERE order_id = ?", Long.class,
+            orderId);
+        return new PendingCapture(paymentId, orderId, GatewayProvider.TOSS, PaymentMethodType.CREDIT_CARD,
+            transactionId, new BigDecimal("10000.00"), "KRW");
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.msa.commerce.payment.gateway;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(10, 4, 50, 1_000, now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채우고 실패율이 기준을 넘으면 서킷을 열어 호출을 거절한다")
+    void opensWhenFailureRateExceeded() {
+        // given
+        call(false);
+        call(true);
+        call(false);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        call(true);
+
+        // then: 4 번 중 2 번 실패 = 50%
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 창 밖으로 밀려나 최근 호출의 실패율만으로 판단한다")
+    void slidesWindow() {
+        // given: 10 번 중 2 번 실패
+        for (boolean fail : new boolean[] {false, false, false, false, true, false, false, false, true, false}) {
+            call(fail);
+        }
+
+        // when: 누적으로는 13 번 중 5 번 실패(38%)지만 최근 10 번만 보면 5 번 실패(50%)다
+        call(true);
+        call(true);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        call(true);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 닫는다")
+    void closesAfterSuccessfulProbe() {
+        // given
+        open();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+
+        // when
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(probe).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열고 열린 시간을 처음부터 센다")
+    void reopensAfterFailedProbe() {
+        // given
+        open();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        // when
+        circuitBreaker.onFailure();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean fail) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (fail) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.msa.commerce.payment.gateway;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+import com.msa.commerce.payment.gateway.GatewayUnavailableException.Reason;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GatewayClient 테스트")
+class GatewayClientTest {
+
+    private static final GatewayPolicy POLICY = new GatewayPolicy(2, 0, 200, 10, 4, 50, 60_000);
+
+    private static final GatewayAuthorization AUTHORIZATION = new GatewayAuthorization(1L, 10L,
+        new BigDecimal("10000.00"), "KRW", PaymentMethodType.CREDIT_CARD);
+
+    private final Map<GatewayProvider, PaymentGateway> gateways = new EnumMap<>(GatewayProvider.class);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private GatewayClient client;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        client.close();
+    }
+
+    @Test
+    @DisplayName("PG 사의 응답을 그대로 돌려준다")
+    void returnsGatewayResult() {
+        // given
+        gateways.put(GatewayProvider.TOSS, gateway(GatewayProvider.TOSS, authorization ->
+            new GatewayResult(true, "tx-1", "pk-1", null)));
+        client = client();
+
+        // when
+        GatewayResult result = client.authorize(GatewayProvider.TOSS, AUTHORIZATION);
+
+        // then
+        assertThat(result.approved()).isTrue();
+        assertThat(result.transactionId()).isEqualTo("tx-1");
+    }
+
+    @Test
+    @DisplayName("매입 배치를 같은 통로로 보내 거래마다 결과를 돌려받는다")
+    void capturesBatch() {
+        // given
+        gateways.put(GatewayProvider.TOSS, gateway(GatewayProvider.TOSS, authorization -> null));
+        client = client();
+        List<GatewayCapture> captures = List.of(
+            new GatewayCapture(1L, "tx-1", new BigDecimal("1000.00"), "KRW"),
+            new GatewayCapture(2L, "tx-2", new BigDecimal("2000.00"), "KRW"));
+
+        // when
+        List<GatewayCaptureResult> results = client.capture(GatewayProvider.TOSS, captures);
+
+        // then
+        assertThat(results).extracting(GatewayCaptureResult::paymentId).containsExactly(1L, 2L);
+        assertThat(results).allMatch(GatewayCaptureResult::captured);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 bulkhead 를 넘으면 기다리지 않고 거절하고, 다른 PG 사는 그대로 호출된다")
+    void rejectsWhenBulkheadFullWithoutAffectingOtherProviders() throws Exception {
+        // given: TOSS 는 응답을 붙잡아 둔다
+        CountDownLatch entered = new CountDownLatch(2);
+        gateways.put(GatewayProvider.TOSS, gateway(GatewayProvider.TOSS, authorization -> {
+            entered.countDown();
+            release.await();
+            return new GatewayResult(true, "tx", "pk", null);
+        }));
+        gateways.put(GatewayProvider.NICE, gateway(GatewayProvider.NICE, authorization ->
+            new GatewayResult(true, "tx-nice", "pk", null)));
+        client = new GatewayClient(gateways, new GatewayPolicies(POLICY.withTimeoutMs(5_000), Map.of()),
+            new SimpleMeterRegistry());
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            callers.submit(() -> client.authorize(GatewayProvider.TOSS, AUTHORIZATION));
+        }
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> client.authorize(GatewayProvider.TOSS, AUTHORIZATION))
+            .isInstanceOf(GatewayUnavailableException.class)
+            .extracting("reason").isEqualTo(Reason.BULKHEAD_FULL);
+        assertThat(client.authorize(GatewayProvider.NICE, AUTHORIZATION).transactionId()).isEqualTo("tx-nice");
+        release.countDown();
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("타임아웃까지 응답이 없으면 호출을 끊고 TIMEOUT 으로 실패한다")
+    void timesOut() {
+        // given
+        gateways.put(GatewayProvider.KCP, gateway(GatewayProvider.KCP, authorization -> {
+            release.await();
+            return new GatewayResult(true, "tx", "pk", null);
+        }));
+        client = client();
+
+        // when
+        long started = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> client.authorize(GatewayProvider.KCP, AUTHORIZATION));
+
+        // then
+        assertThat(thrown).isInstanceOf(GatewayUnavailableException.class)
+            .extracting("reason").isEqualTo(Reason.TIMEOUT);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("실패가 이어지면 서킷을 열어 PG 사를 호출하지 않고 바로 거절한다")
+    void opensCircuitAfterFailures() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        gateways.put(GatewayProvider.PAYPAL, gateway(GatewayProvider.PAYPAL, authorization -> {
+            calls.incrementAndGet();
+            throw new IOException("HTTP 503");
+        }));
+        client = client();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.authorize(GatewayProvider.PAYPAL, AUTHORIZATION))
+                .extracting("reason").isEqualTo(Reason.ERROR);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> client.authorize(GatewayProvider.PAYPAL, AUTHORIZATION))
+            .extracting("reason").isEqualTo(Reason.CIRCUIT_OPEN);
+        assertThat(calls).hasValue(4);
+        assertThat(client.circuitState(GatewayProvider.PAYPAL)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("거절 응답은 장애로 보지 않아 서킷을 열지 않는다")
+    void declinesDoNotOpenCircuit() {
+        // given
+        gateways.put(GatewayProvider.STRIPE, gateway(GatewayProvider.STRIPE, authorization ->
+            new GatewayResult(false, null, null, "EXCEEDS_LIMIT")));
+        client = client();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            client.authorize(GatewayProvider.STRIPE, AUTHORIZATION);
+        }
+
+        // then
+        assertThat(client.circuitState(GatewayProvider.STRIPE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 PG 사는 지원하지 않는다고 거절한다")
+    void rejectsUnconfiguredProvider() {
+        // given
+        client = client();
+
+        // when & then
+        assertThatThrownBy(() -> client.authorize(GatewayProvider.NICE, AUTHORIZATION))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_GATEWAY_NOT_SUPPORTED.getCode());
+    }
+
+    private GatewayClient client() {
+        return new GatewayClient(gateways, new GatewayPolicies(POLICY, Map.of()), new SimpleMeterRegistry());
+    }
+
+    private static PaymentGateway gateway(GatewayProvider provider, Call call) {
+        return new PaymentGateway() {
+            @Override
+            public GatewayProvider provider() {
+                return provider;
+            }
+
+            @Override
+            public GatewayResult authorize(GatewayAuthorization authorization)
+                throws IOException, InterruptedException {
+                return call.authorize(authorization);
+            }
+
+            @Override
+            public List<GatewayCaptureResult> capture(List<GatewayCapture> captures) {
+                return captures.stream()
+                    .map(capture -> new GatewayCaptureResult(capture.paymentId(), true, null))
+                    .toList();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Call {
+
+        GatewayResult authorize(GatewayAuthorization authorization) throws IOException, InterruptedException;
+
+    }
+
+}
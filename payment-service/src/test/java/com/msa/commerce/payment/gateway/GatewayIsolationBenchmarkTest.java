@@ -0,0 +1,195 @@
+package com.msa.commerce.payment.gateway;
+
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.payment.gateway.stub.StubGatewayServer;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한 PG 사(TOSS)의 응답이 5 초로 느려졌을 때 나머지 PG 사의 처리량과 지연 시간을 측정한다.
+ * Tomcat 처럼 고정된 요청 스레드 200 개가 다섯 PG 사에 골고루 요청을 보내며, 격리 없이 PG 를 바로 호출하는 경우와
+ * {@link GatewayClient} 를 거치는 경우를 비교한다.
+ * {@code ./gradlew :payment-service:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("PG 사 격리 벤치마크")
+class GatewayIsolationBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 200;
+
+    private static final long RUN_MS = 20_000;
+
+    private static final long NORMAL_LATENCY_MS = 30;
+
+    private static final long SLOW_LATENCY_MS = 5_000;
+
+    private static final GatewayProvider SLOW = GatewayProvider.TOSS;
+
+    private static final GatewayAuthorization AUTHORIZATION = new GatewayAuthorization(1L, 10L,
+        new BigDecimal("10000.00"), "KRW", PaymentMethodType.CREDIT_CARD);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static StubGatewayServer stub;
+
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void startStub() throws Exception {
+        stub = StubGatewayServer.start(0, OBJECT_MAPPER);
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            stub.setLatencyMs(provider, NORMAL_LATENCY_MS);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("느린 PG 사가 요청 스레드를 점유하지 못해 다른 PG 사의 처리량이 유지된다")
+    void isolatesSlowProvider() throws Exception {
+        // given
+        Map<GatewayProvider, PaymentGateway> gateways = gateways(Duration.ofSeconds(10));
+        Result healthy = run("guarded, all healthy", guarded(gateways));
+        stub.setLatencyMs(SLOW, SLOW_LATENCY_MS);
+        Result unguarded = run("unguarded, TOSS 5s", unguarded(gateways));
+
+        // when
+        Result guarded = run("guarded, TOSS 5s", guarded(gateways(Duration.ofSeconds(1))));
+
+        // then
+        assertThat(guarded.othersPerSecond()).isGreaterThan(healthy.othersPerSecond() * 0.8);
+        assertThat(guarded.othersPerSecond()).isGreaterThan(unguarded.othersPerSecond() * 2);
+        assertThat(guarded.othersP99Ms()).isLessThan(500);
+    }
+
+    private Result run(String label, Caller caller) throws Exception {
+        Map<GatewayProvider, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        Map<GatewayProvider, AtomicLong> failures = new ConcurrentHashMap<>();
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            latencies.put(provider, new ConcurrentLinkedQueue<>());
+            failures.put(provider, new AtomicLong());
+        }
+        GatewayProvider[] providers = GatewayProvider.values();
+        AtomicLong sequence = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MS);
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        for (int t = 0; t < REQUEST_THREADS; t++) {
+            requestThreads.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    GatewayProvider provider = providers[(int) (sequence.getAndIncrement() % providers.length)];
+                    long begin = System.nanoTime();
+                    try {
+                        caller.call(provider);
+                        latencies.get(provider).add(System.nanoTime() - begin);
+                    } catch (Exception e) {
+                        failures.get(provider).incrementAndGet();
+                    }
+                }
+            });
+        }
+        requestThreads.shutdown();
+        requestThreads.awaitTermination(RUN_MS + 30_000, TimeUnit.MILLISECONDS);
+        caller.close();
+
+        long othersCompleted = 0;
+        long[] others = new long[0];
+        System.out.printf("gateway isolation [%s]%n", label);
+        for (GatewayProvider provider : providers) {
+            long[] samples = latencies.get(provider).stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("  %-6s %6d ok (%.0f/s) %6d failed, p50 %.1fms p99 %.1fms%n", provider,
+                samples.length, samples.length * 1000.0 / RUN_MS, failures.get(provider).get(),
+                percentile(samples, 0.50), percentile(samples, 0.99));
+            if (provider != SLOW) {
+                othersCompleted += samples.length;
+                long[] merged = Arrays.copyOf(others, others.length + samples.length);
+                System.arraycopy(samples, 0, merged, others.length, samples.length);
+                others = merged;
+            }
+        }
+        Arrays.sort(others);
+        return new Result(othersCompleted * 1000.0 / RUN_MS, percentile(others, 0.99));
+    }
+
+    private Map<GatewayProvider, PaymentGateway> gateways(Duration requestTimeout) {
+        Map<GatewayProvider, PaymentGateway> gateways = new EnumMap<>(GatewayProvider.class);
+        for (GatewayProvider provider : GatewayProvider.values()) {
+            gateways.put(provider, new HttpPaymentGateway(provider, stub.baseUrl(provider), httpClient, OBJECT_MAPPER,
+                requestTimeout));
+        }
+        return gateways;
+    }
+
+    private static Caller guarded(Map<GatewayProvider, PaymentGateway> gateways) {
+        GatewayClient client = new GatewayClient(gateways,
+            new GatewayPolicies(new GatewayPolicy(32, 20, 1_000, 50, 20, 50, 5_000), Map.of()),
+            new SimpleMeterRegistry());
+        return new Caller() {
+            @Override
+            public void call(GatewayProvider provider) {
+                client.authorize(provider, AUTHORIZATION);
+            }
+
+            @Override
+            public void close() {
+                client.close();
+            }
+        };
+    }
+
+    private static Caller unguarded(Map<GatewayProvider, PaymentGateway> gateways) {
+        return provider -> gateways.get(provider).authorize(AUTHORIZATION);
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.round(quantile * sortedNanos.length))]
+            / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Caller {
+
+        void call(GatewayProvider provider) throws Exception;
+
+        default void close() {
+        }
+
+    }
+
+    private record Result(double othersPerSecond, double othersP99Ms) {
+    }
+
+}
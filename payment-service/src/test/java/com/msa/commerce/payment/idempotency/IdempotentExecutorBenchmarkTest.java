@@ -0,0 +1,213 @@
+package com.msa.commerce.payment.idempotency;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.msa.commerce.payment.payment.GatewayProvider;
+import com.msa.commerce.payment.payment.PaymentMethodType;
+import com.msa.commerce.payment.payment.PaymentRepository;
+import com.msa.commerce.payment.payment.PaymentRequest;
+import com.msa.commerce.payment.payment.PaymentResponse;
+import com.msa.commerce.payment.payment.PaymentStatus;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 중복 요청이 30% 섞인 결제 요청 부하에서 멱등성 처리의 지연 시간과 중복 실행 여부를 측정한다.
+ * 중복 요청은 직전 키나 이전 키를 다시 보내며, 일부는 다른 스레드의 키를 써서 동시에 실행 중인 요청과 겹친다.
+ * {@code ./gradlew :payment-service:test -Pbenchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("IdempotentExecutor 부하 벤치마크")
+class IdempotentExecutorBenchmarkTest {
+
+    private static final int THREADS = 16;
+
+    private static final int REQUESTS_PER_THREAD = 5_000;
+
+    private static final double DUPLICATE_RATIO = 0.3;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+        .withCommand("--innodb-flush-log-at-trx-commit=2", "--max-connections=200");
+
+    private static HikariDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpDataSource() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(MYSQL.getJdbcUrl());
+        config.setUsername(MYSQL.getUsername());
+        config.setPassword(MYSQL.getPassword());
+        config.setMaximumPoolSize(THREADS * 2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(StreamUtils.copyToString(
+            new ClassPathResource("db/migration/V3__Create_payment_idempotency_keys_table.sql").getInputStream(),
+            StandardCharsets.UTF_8).replaceAll("(?m)^\\s*--.*$", ""));
+        jdbcTemplate.execute("""
+            CREATE TABLE payments
+            (
+                id                  BIGINT PRIMARY KEY AUTO_INCREMENT,
+                order_id            BIGINT         NOT NULL,
+                idempotency_key     VARCHAR(100)   NULL UNIQUE,
+                gateway_provider    ENUM ('TOSS', 'NICE', 'KCP', 'PAYPAL', 'STRIPE') NOT NULL,
+                amount              DECIMAL(10, 2) NOT NULL,
+                currency            VARCHAR(3)     NOT NULL DEFAULT 'KRW',
+                payment_method_type ENUM ('CREDIT_CARD', 'DEBIT_CARD', 'BANK_TRANSFER', 'DIGITAL_WALLET',
+                                          'CRYPTOCURRENCY', 'VIRTUAL_ACCOUNT') NOT NULL,
+                status              ENUM ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'CANCELLED', 'REFUNDED')
+                                                   NOT NULL DEFAULT 'PENDING',
+                created_at          DATETIME       NOT NULL,
+                updated_at          DATETIME       NOT NULL
+            )
+            """);
+    }
+
+    @AfterAll
+    static void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("30% 중복 요청에서도 키당 결제는 한 번만 만들어지고 지연 시간이 측정된다")
+    void handlesDuplicateTraffic() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        IdempotentExecutor executor = new IdempotentExecutor(new IdempotencyKeyRepository(jdbcTemplate), objectMapper,
+            new SimpleMeterRegistry(), 100_000);
+        PaymentRepository paymentRepository = new PaymentRepository(jdbcTemplate);
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        long started = System.nanoTime();
+        List<Future<Latencies>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(threads.submit(() -> {
+                Latencies latencies = new Latencies(REQUESTS_PER_THREAD);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int issued = 0;
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    boolean duplicate = issued > 0 && random.nextDouble() < DUPLICATE_RATIO;
+                    int sequence;
+                    if (!duplicate) {
+                        sequence = issued++;
+                    } else if (random.nextBoolean()) {
+                        sequence = issued - 1;
+                    } else {
+                        sequence = random.nextInt(issued);
+                    }
+                    // 중복의 절반은 옆 스레드의 키를 써서 실행 중인 요청과 겹치게 한다
+                    int owner = duplicate && random.nextBoolean() ? (thread + 1) % THREADS : thread;
+                    String key = "pay-" + owner + "-" + sequence;
+                    PaymentRequest request = new PaymentRequest((long) owner * 1_000_000 + sequence,
+                        new BigDecimal("10000.00"), "KRW", GatewayProvider.TOSS, PaymentMethodType.CREDIT_CARD);
+
+                    long begin = System.nanoTime();
+                    IdempotentResult<PaymentResponse> result = executor.execute(key, executor.fingerprint(request),
+                        PaymentResponse.class, () -> {
+                            Instant now = Instant.now();
+                            long id = paymentRepository.insertPending(key, request, now);
+                            return new PaymentResponse(id, request.orderId(), request.amount(), request.currency(),
+                                request.gatewayProvider(), request.paymentMethodType(), PaymentStatus.PENDING, null,
+                                now);
+                        });
+                    latencies.record(result.replayed(), System.nanoTime() - begin);
+                }
+                return latencies;
+            }));
+        }
+        Latencies all = new Latencies(THREADS * REQUESTS_PER_THREAD);
+        for (Future<Latencies> future : futures) {
+            all.merge(future.get());
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        threads.shutdown();
+
+        // then
+        long keys = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_idempotency_keys", Long.class);
+        long payments = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Long.class);
+        long distinctOrders = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT order_id) FROM payments", Long.class);
+        assertThat(payments).isEqualTo(keys).isEqualTo(distinctOrders);
+        assertThat(all.executedCount + all.replayedCount).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+        System.out.printf("idempotent payments: %d requests (%d executed, %d replayed) in %.2fs (%.0f req/s)%n",
+            all.executedCount + all.replayedCount, all.executedCount, all.replayedCount, seconds,
+            (all.executedCount + all.replayedCount) / seconds);
+        System.out.printf("  executed latency p50 %.2fms p99 %.2fms, replayed latency p50 %.3fms p99 %.3fms%n",
+            all.percentile(false, 0.50), all.percentile(false, 0.99),
+            all.percentile(true, 0.50), all.percentile(true, 0.99));
+    }
+
+    private static final class Latencies {
+
+        private final long[] executed;
+
+        private final long[] replayed;
+
+        private int executedCount;
+
+        private int replayedCount;
+
+        private Latencies(int capacity) {
+            this.executed = new long[capacity];
+            this.replayed = new long[capacity];
+        }
+
+        private void record(boolean wasReplayed, long nanos) {
+            if (wasReplayed) {
+                replayed[replayedCount++] = nanos;
+            } else {
+                executed[executedCount++] = nanos;
+            }
+        }
+
+        private void merge(Latencies other) {
+            System.arraycopy(other.executed, 0, executed, executedCount, other.executedCount);
+            executedCount += other.executedCount;
+            System.arraycopy(other.replayed, 0, replayed, replayedCount, other.replayedCount);
+            replayedCount += other.replayedCount;
+        }
+
+        private double percentile(boolean wasReplayed, double quantile) {
+            long[] samples = Arrays.copyOf(wasReplayed ? replayed : executed,
+                wasReplayed ? replayedCount : executedCount);
+            if (samples.length == 0) {
+                return 0;
+            }
+            Arrays.sort(samples);
+            return samples[(int) Math.min(samples.length - 1, Math.round(quantile * samples.length))] / 1_000_000.0;
+        }
+
+    }
+
+}
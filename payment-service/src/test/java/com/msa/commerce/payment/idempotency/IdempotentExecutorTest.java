@@ -0,0 +1,215 @@
+package com.msa.commerce.payment.idempotency;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.commerce.common.exception.BusinessException;
+import com.msa.commerce.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentExecutor 테스트")
+class IdempotentExecutorTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    private IdempotentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new IdempotentExecutor(repository, new ObjectMapper(), new SimpleMeterRegistry(), 1_000,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("처음 요청은 실행하고 같은 키의 재요청은 DB 를 거치지 않고 처음 결과를 돌려준다")
+    void replaysCompletedResultFromCache() {
+        // given
+        given(repository.tryClaim(eq("key-1"), eq("hash"), any(), any())).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        IdempotentResult<Receipt> first = executor.execute("key-1", "hash", Receipt.class,
+            () -> new Receipt(executions.incrementAndGet()));
+        IdempotentResult<Receipt> second = executor.execute("key-1", "hash", Receipt.class,
+            () -> new Receipt(executions.incrementAndGet()));
+
+        // then
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.value()).isEqualTo(first.value());
+        assertThat(executions).hasValue(1);
+        then(repository).should().complete("key-1", "{\"number\":1}");
+        then(repository).should(never()).find(anyString());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 실행 중인 요청의 결과를 기다린다")
+    void joinsInFlightExecution() throws Exception {
+        // given
+        given(repository.tryClaim(eq("key-2"), eq("hash"), any(), any())).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+
+        // when
+        Future<IdempotentResult<Receipt>> owner = threads.submit(() -> executor.execute("key-2", "hash", Receipt.class,
+            () -> {
+                started.countDown();
+                await(release);
+                return new Receipt(executions.incrementAndGet());
+            }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<IdempotentResult<Receipt>>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            duplicates.add(threads.submit(() -> executor.execute("key-2", "hash", Receipt.class,
+                () -> new Receipt(executions.incrementAndGet()))));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(owner.get().replayed()).isFalse();
+        for (Future<IdempotentResult<Receipt>> duplicate : duplicates) {
+            assertThat(duplicate.get().replayed()).isTrue();
+            assertThat(duplicate.get().value()).isEqualTo(new Receipt(1));
+        }
+        assertThat(executions).hasValue(1);
+        threads.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 완료한 키는 저장된 결과를 돌려준다")
+    void replaysResultStoredByAnotherInstance() {
+        // given
+        given(repository.tryClaim(eq("key-3"), eq("hash"), any(), any())).willReturn(false);
+        given(repository.find("key-3")).willReturn(Optional.of(
+            new IdempotencyRecord("key-3", "hash", IdempotencyStatus.COMPLETED, "{\"number\":7}", NOW)));
+
+        // when
+        IdempotentResult<Receipt> result = executor.execute("key-3", "hash", Receipt.class, () -> new Receipt(8));
+
+        // then
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.value()).isEqualTo(new Receipt(7));
+    }
+
+    @Test
+    @DisplayName("lock 이 지난 키를 넘겨받으면 앞선 요청이 남긴 결과가 있는지 먼저 확인하고 다시 실행하지 않는다")
+    void recoversResultLeftByStaleOwner() {
+        // given
+        given(repository.tryClaim(eq("key-6"), eq("hash"), any(), any())).willReturn(false);
+        given(repository.find("key-6")).willReturn(Optional.of(
+            new IdempotencyRecord("key-6", "hash", IdempotencyStatus.IN_PROGRESS, null, NOW.minusSeconds(1))));
+        given(repository.takeOver(eq("key-6"), any(), any())).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        IdempotentResult<Receipt> result = executor.execute("key-6", "hash", Receipt.class,
+            () -> new Receipt(executions.incrementAndGet()), () -> Optional.of(new Receipt(7)));
+
+        // then
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.value()).isEqualTo(new Receipt(7));
+        assertThat(executions).hasValue(0);
+        then(repository).should().complete("key-6", "{\"number\":7}");
+    }
+
+    @Test
+    @DisplayName("넘겨받은 키에 남은 결과가 없으면 다시 실행한다")
+    void rerunsWhenStaleOwnerLeftNothing() {
+        // given
+        given(repository.tryClaim(eq("key-7"), eq("hash"), any(), any())).willReturn(false);
+        given(repository.find("key-7")).willReturn(Optional.of(
+            new IdempotencyRecord("key-7", "hash", IdempotencyStatus.IN_PROGRESS, null, NOW.minusSeconds(1))));
+        given(repository.takeOver(eq("key-7"), any(), any())).willReturn(true);
+
+        // when
+        IdempotentResult<Receipt> result = executor.execute("key-7", "hash", Receipt.class, () -> new Receipt(8),
+            Optional::empty);
+
+        // then
+        assertThat(result.replayed()).isFalse();
+        assertThat(result.value()).isEqualTo(new Receipt(8));
+        then(repository).should().complete("key-7", "{\"number\":8}");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거절한다")
+    void rejectsKeyReusedWithDifferentRequest() {
+        // given
+        given(repository.tryClaim(eq("key-4"), eq("hash"), any(), any())).willReturn(true);
+        executor.execute("key-4", "hash", Receipt.class, () -> new Receipt(1));
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute("key-4", "other-hash", Receipt.class, () -> new Receipt(2)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED.getCode());
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있다")
+    void releasesKeyWhenActionFails() {
+        // given
+        given(repository.tryClaim(eq("key-5"), eq("hash"), any(), any())).willReturn(true);
+
+        // when
+        assertThatThrownBy(() -> executor.execute("key-5", "hash", Receipt.class, () -> {
+            throw new IllegalStateException("gateway down");
+        })).isInstanceOf(IllegalStateException.class);
+        IdempotentResult<Receipt> retried = executor.execute("key-5", "hash", Receipt.class, () -> new Receipt(2));
+
+        // then
+        then(repository).should().release("key-5");
+        assertThat(retried.replayed()).isFalse();
+        assertThat(retried.value()).isEqualTo(new Receipt(2));
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 없으면 실행하지 않는다")
+    void requiresKey() {
+        assertThatThrownBy(() -> executor.execute(" ", "hash", Receipt.class, () -> new Receipt(1)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REQUIRED.getCode());
+        then(repository).shouldHaveNoInteractions();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Receipt(int number) {
+    }
+
+}
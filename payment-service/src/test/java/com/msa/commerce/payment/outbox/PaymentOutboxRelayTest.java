@@ -0,0 +1,89 @@
+package com.msa.commerce.payment.outbox;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.msa.commerce.common.events.payment.PaymentCapturedEvent;
+import com.msa.commerce.common.events.payment.PaymentEventTopics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOutboxRelay 테스트")
+class PaymentOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Mock
+    private PaymentOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private PaymentOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new PaymentOutboxRelay(outboxRepository, kafkaTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("브로커가 받았다고 확인한 이벤트만 outbox 에서 지운다")
+    void deletesOnlyAckedMessages() {
+        // given
+        OutboxMessage acked = message("event-1", 1L);
+        OutboxMessage failed = message("event-2", 2L);
+        given(kafkaTemplate.send(PaymentEventTopics.PAYMENT_CAPTURED, "1", acked.event()))
+            .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        given(kafkaTemplate.send(PaymentEventTopics.PAYMENT_CAPTURED, "2", failed.event()))
+            .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // when
+        int sent = relay.send(List.of(acked, failed));
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        then(outboxRepository).should().delete(List.of("event-1"));
+    }
+
+    @Test
+    @DisplayName("릴레이 스캔은 retry-after 가 지나도록 남아 있는 이벤트를 다시 보낸다")
+    void relaysPendingMessages() {
+        // given
+        OutboxMessage pending = message("event-1", 1L);
+        given(outboxRepository.findCreatedBefore(NOW.minusMillis(30_000), 500)).willReturn(List.of(pending));
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+            .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // when
+        relay.relayPending();
+
+        // then
+        then(kafkaTemplate).should().send(PaymentEventTopics.PAYMENT_CAPTURED, "1", pending.event());
+        then(outboxRepository).should().delete(List.of("event-1"));
+    }
+
+    private static OutboxMessage message(String eventId, long orderId) {
+        return new OutboxMessage(PaymentEventTopics.PAYMENT_CAPTURED, String.valueOf(orderId),
+            PaymentCapturedEvent.builder()
+                .eventId(eventId)
+                .orderId(orderId)
+                .occurredAt(NOW)
+                .build());
+    }
+
+}